@@ -1,9 +1,13 @@
 package study.auth.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -15,11 +19,23 @@ import study.auth.config.EmailProperties;
 import java.io.UnsupportedEncodingException;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * 이메일 발송 서비스
+ * - 플랫폼 스레드 모드(기본): 요청 스레드에서 바로 SMTP 발송 (기존과 동일)
+ * - 가상 스레드 모드: SMTP 발송은 전용 플랫폼 스레드에서 실행하고 요청 스레드는 제한 시간까지 완료를 기다림
+ * (JavaMail 의 SMTPTransport 는 synchronized 안에서 네트워크 I/O → 가상 스레드에서 직접 호출하면 캐리어 스레드를 점유(pinning))
+ * 전용 스레드의 대기열은 제한 (가득 차면 대기 없이 발송 실패)
  */
 @Service
 @Slf4j
@@ -30,6 +46,33 @@ public class EmailService {
     private final TemplateEngine templateEngine;
     private final EmailProperties emailProperties;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final Environment environment;
+
+    // 가상 스레드 모드의 동시 SMTP 발송 수 (= 전용 스레드 수)
+    private static final int MAIL_SEND_THREADS = 4;
+    // 전용 스레드 대기열 크기 (넘으면 대기 없이 거절)
+    private static final int MAIL_SEND_QUEUE_CAPACITY = 100;
+    // 요청 스레드가 발송 완료를 기다리는 최대 시간 (SMTP 연결/읽기/쓰기 제한 시간 5초 × 3 + 대기열 여유)
+    private static final long MAIL_SEND_TIMEOUT_SECONDS = 30;
+
+    private final AtomicInteger mailThreadSequence = new AtomicInteger();
+
+    // 가상 스레드 모드에서만 생성 (플랫폼 스레드 모드는 null)
+    private ExecutorService mailSendExecutor;
+
+    @PostConstruct
+    public void init() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            mailSendExecutor = new ThreadPoolExecutor(
+                    MAIL_SEND_THREADS, MAIL_SEND_THREADS, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(MAIL_SEND_QUEUE_CAPACITY),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "mail-sender-" + mailThreadSequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+    }
 
     /**
      * 인증 코드 생성 및 이메일 발송
@@ -239,7 +282,7 @@ public class EmailService {
             String htmlContent = buildEmailContent(code);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message);
         } catch (MessagingException | UnsupportedEncodingException e) {
             log.error("이메일 발송 중 오류 발생", e);
             throw new RuntimeException("이메일 발송에 실패했습니다", e);
@@ -280,7 +323,7 @@ public class EmailService {
             String htmlContent = buildTemporaryPasswordEmailContent(temporaryPassword);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message);
             log.info("임시 비밀번호 이메일 발송 완료 - email: {}", to);
         } catch (MessagingException | UnsupportedEncodingException e) {
             log.error("임시 비밀번호 이메일 발송 중 오류 발생 - email: {}", to, e);
@@ -301,4 +344,48 @@ public class EmailService {
         return templateEngine.process("temporary-password-email", context);
     }
 
+    /**
+     * 메일 발송 (발송 예외는 그대로 전달)
+     * 가상 스레드 모드에서는 전용 스레드에서 발송하고 제한 시간까지 완료를 기다림
+     *
+     * @param message 발송할 메시지
+     */
+    private void send(MimeMessage message) {
+        if (mailSendExecutor == null) {
+            mailSender.send(message);
+            return;
+        }
+
+        Future<?> future;
+        try {
+            future = mailSendExecutor.submit(() -> mailSender.send(message));
+        } catch (RejectedExecutionException e) {
+            log.warn("메일 발송 대기열 초과 - 대기: {}건", MAIL_SEND_QUEUE_CAPACITY);
+            throw new RuntimeException("메일 발송 요청이 많아 잠시 후 다시 시도해주세요", e);
+        }
+
+        try {
+            future.get(MAIL_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("메일 발송에 실패했습니다", e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RuntimeException("메일 발송 제한 시간을 초과했습니다", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread()
+                    .interrupt();
+            throw new RuntimeException("메일 발송 대기 중 중단되었습니다", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (mailSendExecutor != null) {
+            mailSendExecutor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package study.common.lib.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * 전체 개수/페이지 번호 없이 다음 페이지를 가리키는 불투명 커서만 제공
+ * (offset 페이징과 달리 깊은 페이지에서도 비용이 일정)
+ *
+ * @param <T>
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    /**
+     * 페이지 내용 (실제 데이터)
+     */
+    private List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 커서 응답 생성
+     *
+     * @param content    페이지 내용
+     * @param size       페이지 크기
+     * @param nextCursor 다음 페이지 커서 (없으면 null)
+     * @param <T>
+     * @return CursorPageResponse
+     */
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 기존 응답의 커서 정보를 유지하면서 content만 교체
+     *
+     * @param original   원본 응답
+     * @param newContent 새로운 컨텐츠 리스트
+     * @param <T>        새로운 컨텐츠 타입
+     * @param <R>        원본 컨텐츠 타입
+     * @return 새로운 컨텐츠가 포함된 CursorPageResponse
+     */
+    public static <T, R> CursorPageResponse<T> withNewContent(CursorPageResponse<R> original, List<T> newContent) {
+        return CursorPageResponse.<T>builder()
+                .content(newContent)
+                .size(original.getSize())
+                .hasNext(original.isHasNext())
+                .nextCursor(original.getNextCursor())
+                .build();
+    }
+}
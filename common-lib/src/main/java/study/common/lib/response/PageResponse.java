@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -34,14 +35,19 @@ public class PageResponse<T> {
     private int size;
 
     /**
-     * 전체 요소 개수
+     * 전체 요소 개수 (totalType 이 NONE 이면 null)
      */
-    private long totalElements;
+    private Long totalElements;
 
     /**
-     * 전체 페이지 수
+     * 전체 페이지 수 (totalType 이 NONE 이면 null)
      */
-    private int totalPages;
+    private Integer totalPages;
+
+    /**
+     * 전체 개수의 정확도
+     */
+    private TotalType totalType;
 
     /**
      * 첫 번째 페이지 여부
@@ -77,6 +83,7 @@ public class PageResponse<T> {
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
                 .totalPages(page.getTotalPages())
+                .totalType(TotalType.EXACT)
                 .first(page.isFirst())
                 .last(page.isLast())
                 .hasNext(page.hasNext())
@@ -84,6 +91,56 @@ public class PageResponse<T> {
                 .build();
     }
 
+    /**
+     * Spring Data Slice -> PageResponse 변환 (count 쿼리 없음, 전체 개수 미포함)
+     *
+     * @param slice
+     * @param <T>
+     * @return
+     */
+    public static <T> PageResponse<T> from(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .totalType(TotalType.NONE)
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .build();
+    }
+
+    /**
+     * Slice + 별도로 구한 전체 개수 -> PageResponse 변환
+     * 다음 페이지 여부는 Slice 기준(정확), 전체 개수/페이지 수는 주어진 값 기준
+     *
+     * @param slice         페이지 내용 (size + 1 조회 결과)
+     * @param totalElements 전체 개수
+     * @param totalType     전체 개수 정확도 (EXACT / ESTIMATED)
+     * @param <T>
+     * @return
+     */
+    public static <T> PageResponse<T> from(Slice<T> slice, long totalElements, TotalType totalType) {
+        // 캐시된 개수가 오래되어 현재 페이지보다 작게 나오는 경우 보정
+        long adjustedTotal = Math.max(totalElements, (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements()
+                + (slice.hasNext() ? 1 : 0));
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) adjustedTotal / slice.getSize());
+
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .totalElements(adjustedTotal)
+                .totalPages(totalPages)
+                .totalType(totalType)
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .build();
+    }
+
     /**
      * 빈 페이지 응답 생성
      * 검색 결과가 없거나 데이터가 없을 때 사용
@@ -100,6 +157,7 @@ public class PageResponse<T> {
                 .size(size)
                 .totalElements(0L)
                 .totalPages(0)
+                .totalType(TotalType.EXACT)
                 .first(true)
                 .last(true)
                 .hasNext(false)
@@ -123,6 +181,7 @@ public class PageResponse<T> {
                 .size(originalPage.getSize())
                 .totalElements(originalPage.getTotalElements())
                 .totalPages(originalPage.getTotalPages())
+                .totalType(originalPage.getTotalType())
                 .first(originalPage.isFirst())
                 .last(originalPage.isLast())
                 .hasNext(originalPage.isHasNext())
@@ -130,4 +189,13 @@ public class PageResponse<T> {
                 .build();
     }
 
+    /**
+     * 전체 개수 정확도
+     * - EXACT: 이번 요청에서 센 정확한 값
+     * - ESTIMATED: 캐시된 값 (TTL 동안 다른 인스턴스의 쓰기는 반영되지 않을 수 있음)
+     * - NONE: 세지 않음 (hasNext 로만 다음 페이지 판단)
+     */
+    public enum TotalType {
+        EXACT, ESTIMATED, NONE
+    }
 }
@@ -3,16 +3,19 @@ package study.common.lib.util;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import study.common.lib.response.PageResponse;
 
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * 기본 페이징 유틸리티
  * - 파라미터 검증 및 안전 처리
  * - Pageable 생성 및 응답 변환
  * - 기본적인 정렬 패턴 제공
+ * - count 없는 Slice 모드 / 전체 개수 캐시 모드
  */
 public class BasePagingUtil {
 
@@ -96,6 +99,73 @@ public class BasePagingUtil {
         return PageResponse.from(responsePage);
     }
 
+    /**
+     * count 없는 페이징 (Slice 모드)
+     * Repository 가 Slice 를 반환하면 size + 1 건만 조회해서 다음 페이지 여부 판단 (count 쿼리 없음)
+     * 응답의 totalElements/totalPages 는 비어 있음 (totalType = NONE)
+     *
+     * @param page             페이지 번호(0부터 시작)
+     * @param size             페이지 크기(1-100 사이)
+     * @param sort             정렬 객체
+     * @param repositoryMethod Slice 를 반환하는 Repository 호출 함수
+     * @param responseMapper   Entity -> Response 변환 함수
+     * @param <T>
+     * @param <R>
+     * @return 전체 개수 없는 페이징 응답
+     */
+    public static <T, R> PageResponse<R> createSliceResponse(
+            int page, int size, Sort sort,
+            Function<Pageable, Slice<T>> repositoryMethod,
+            Function<T, R> responseMapper
+    ) {
+        int[] adjustedParams = adjustPagingParams(page, size);
+        Pageable pageable = PageRequest.of(adjustedParams[0], adjustedParams[1], sort);
+
+        Slice<R> responseSlice = repositoryMethod.apply(pageable)
+                .map(responseMapper);
+
+        return PageResponse.from(responseSlice);
+    }
+
+    /**
+     * 전체 개수 캐시 페이징
+     * 내용은 Slice(size + 1)로 조회하고, 전체 개수는 쿼리 형태별로 TTL 동안 캐시된 값을 재사용
+     * - 캐시 적중: totalType = ESTIMATED, 새로 센 값: totalType = EXACT
+     * - 첫 페이지에서 다음 페이지가 없으면 내용 개수가 곧 전체 개수 (count 생략)
+     *
+     * @param page             페이지 번호(0부터 시작)
+     * @param size             페이지 크기(1-100 사이)
+     * @param sort             정렬 객체
+     * @param repositoryMethod Slice 를 반환하는 Repository 호출 함수
+     * @param totalCountCache  전체 개수 캐시
+     * @param shapeKey         쿼리 형태 키 (조건만 포함, 페이지 번호/크기 제외)
+     * @param counter          count 쿼리
+     * @param responseMapper   Entity -> Response 변환 함수
+     * @param <T>
+     * @param <R>
+     * @return 페이징된 응답
+     */
+    public static <T, R> PageResponse<R> createCachedTotalPageResponse(
+            int page, int size, Sort sort,
+            Function<Pageable, Slice<T>> repositoryMethod,
+            TotalCountCache totalCountCache, String shapeKey, LongSupplier counter,
+            Function<T, R> responseMapper
+    ) {
+        int[] adjustedParams = adjustPagingParams(page, size);
+        Pageable pageable = PageRequest.of(adjustedParams[0], adjustedParams[1], sort);
+
+        Slice<R> responseSlice = repositoryMethod.apply(pageable)
+                .map(responseMapper);
+
+        if (responseSlice.isFirst() && !responseSlice.hasNext()) {
+            return PageResponse.from(responseSlice, responseSlice.getNumberOfElements(), PageResponse.TotalType.EXACT);
+        }
+
+        TotalCountCache.CachedTotal total = totalCountCache.get(shapeKey, counter);
+        return PageResponse.from(responseSlice, total.total(),
+                total.cached() ? PageResponse.TotalType.ESTIMATED : PageResponse.TotalType.EXACT);
+    }
+
     // ============================= 헬퍼 메서드들 =============================
 
     /**
@@ -0,0 +1,52 @@
+package study.common.lib.util;
+
+import study.common.lib.response.CursorPageResponse;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 페이징 유틸리티
+ * - skip 없이 "마지막으로 본 (createdAt, id) 이후" 조건으로 조회 → 깊은 페이지도 첫 페이지와 같은 비용
+ * - 페이지 사이에 새 글이 추가되어도 이미 본 항목이 다시 나오거나 건너뛰지 않음
+ * - size + 1 건을 조회해 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+ */
+public class CursorPagingUtil {
+
+    /**
+     * 핵심 커서 페이징 메서드
+     *
+     * @param cursor         이전 응답의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     * @param size           페이지 크기(1-100 사이로 조정)
+     * @param fetcher        (커서, 조회 건수) → 정렬된 목록을 반환하는 Repository 호출 함수
+     * @param keyExtractor   Entity → 커서 위치 (createdAt, id)
+     * @param responseMapper Entity → Response 변환 함수
+     * @param <T>
+     * @param <R>
+     * @return 커서 페이징 응답
+     */
+    public static <T, R> CursorPageResponse<R> createCursorPageResponse(
+            String cursor, int size,
+            BiFunction<KeysetCursor, Integer, List<T>> fetcher,
+            Function<T, KeysetCursor> keyExtractor,
+            Function<T, R> responseMapper
+    ) {
+        // 1. 파라미터 안전 처리 (page 는 사용하지 않음)
+        int adjustedSize = BasePagingUtil.adjustPagingParams(0, size)[1];
+
+        // 2. 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<T> entities = fetcher.apply(KeysetCursor.decode(cursor), adjustedSize + 1);
+        boolean hasNext = entities.size() > adjustedSize;
+        List<T> pageEntities = hasNext ? entities.subList(0, adjustedSize) : entities;
+
+        // 3. 마지막 항목 위치를 다음 커서로
+        String nextCursor = hasNext ? keyExtractor.apply(pageEntities.get(pageEntities.size() - 1))
+                .encode() : null;
+
+        List<R> content = pageEntities.stream()
+                .map(responseMapper)
+                .toList();
+        return CursorPageResponse.of(content, adjustedSize, nextCursor);
+    }
+}
@@ -0,0 +1,61 @@
+package study.common.lib.util;
+
+import study.common.lib.exception.BaseException;
+import study.common.lib.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징 위치
+ * 마지막으로 본 항목의 (createdAt, id) - 같은 생성 시각이면 id 로 순서를 고정
+ * 클라이언트에는 내용을 해석할 필요 없는 불투명 문자열(base64url)로 전달
+ *
+ * @param createdAt 마지막 항목 생성일시
+ * @param id        마지막 항목 ID
+ */
+public record KeysetCursor(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 불투명 커서 문자열로 변환
+     *
+     * @return base64url 문자열
+     */
+    public String encode() {
+        String raw = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (null 또는 빈 값이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder()
+                    .decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("separator");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    raw.substring(separator + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
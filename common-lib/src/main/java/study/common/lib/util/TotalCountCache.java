@@ -0,0 +1,104 @@
+package study.common.lib.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 쿼리 형태(shape)별 전체 개수 캐시
+ * 페이지마다 count 쿼리를 다시 하지 않고 TTL 동안 같은 값을 재사용
+ * <p>
+ * - 키: 조건만 담은 쿼리 형태 (예: "posts:active", "comments:root:{postId}") - 페이지 번호/크기는 제외
+ * - 무효화: 해당 형태에 영향을 주는 쓰기(생성/삭제) 시 호출 측에서 invalidate
+ * - 세는 도중 무효화가 일어나면 그 결과는 저장하지 않음 (무효화 이전 값이 다시 캐시되는 것 방지)
+ * - 인스턴스 로컬 캐시라 다른 인스턴스의 쓰기는 TTL 이 지나야 반영 → 캐시 적중 값은 "추정치"
+ */
+public class TotalCountCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 무효화가 일어날 때마다 증가
+    private final AtomicLong invalidations = new AtomicLong();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    public TotalCountCache(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::currentTimeMillis);
+    }
+
+    public TotalCountCache(Duration ttl, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 전체 개수 조회 (캐시에 없거나 만료되었으면 counter 로 세어서 저장)
+     *
+     * @param key     쿼리 형태 키
+     * @param counter count 쿼리
+     * @return 전체 개수 + 캐시 적중 여부
+     */
+    public CachedTotal get(String key, LongSupplier counter) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return new CachedTotal(entry.total, true);
+        }
+
+        long version = invalidations.get();
+        long total = counter.getAsLong();
+        if (invalidations.get() == version) {
+            if (entries.size() >= maxEntries) {
+                evictExpired(now);
+            }
+            if (entries.size() < maxEntries) {
+                entries.put(key, new Entry(total, now + ttlMillis));
+            }
+        }
+        return new CachedTotal(total, false);
+    }
+
+    /**
+     * 특정 쿼리 형태 무효화
+     *
+     * @param key 쿼리 형태 키
+     */
+    public void invalidate(String key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * 접두사가 같은 쿼리 형태 모두 무효화 (예: 게시글 삭제 시 "comments:author:")
+     *
+     * @param prefix 키 접두사
+     */
+    public void invalidatePrefix(String prefix) {
+        invalidations.incrementAndGet();
+        entries.keySet()
+                .removeIf(key -> key.startsWith(prefix));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.values()
+                .removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    /**
+     * 전체 개수 조회 결과
+     *
+     * @param total  전체 개수
+     * @param cached 캐시 적중 여부 (true 면 추정치)
+     */
+    public record CachedTotal(long total, boolean cached) {
+    }
+
+    private record Entry(long total, long expiresAt) {
+    }
+}
@@ -0,0 +1,205 @@
+package study.content.batch;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.entity.Comment;
+import study.content.entity.Post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 삭제된 게시글/댓글 보관 이동 배치
+ * soft delete 후 보관 기간(retention-days)이 지난 문서를 posts_archive / comments_archive 로 옮기고 원본 컬렉션에서 물리 삭제
+ * → 운영 컬렉션의 인덱스/작업 세트에서 삭제 문서 제거
+ * <p>
+ * - 배치 단위: (updatedAt, _id) 순으로 batch-size 개씩, 실행당 collection 별 최대 max-batches-per-run 배치
+ * - 재개 지점: 배치마다 마지막 (updatedAt, _id) 를 archive_checkpoints 에 저장 → 중단 후 이어서 처리
+ * 끝까지 처리하면 재개 지점을 지워 다음 실행은 처음부터 (시계 차이 등으로 앞쪽에 생긴 문서 누락 방지)
+ * - 처리량 상한: 초당 max-ops-per-second 개 쓰기 (보관 upsert 1 + 원본 삭제 1 = 문서당 2) 를 넘지 않도록 배치 사이 대기
+ * - 스케줄러 스레드를 막지 않도록 전용 스레드에서 실행, 이전 실행이 끝나지 않았으면 건너뜀
+ * <p>
+ * 보관은 _id 기준 upsert, 삭제는 status = DELETED 조건 → 중단/중복 실행되어도 결과가 같음
+ */
+@Slf4j
+@Component
+public class DeletedContentArchiver {
+
+    private static final String CHECKPOINTS = "archive_checkpoints";
+    private static final String ARCHIVE_SUFFIX = "_archive";
+    private static final int WRITES_PER_DOCUMENT = 2;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxOpsPerSecond;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deleted-content-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DeletedContentArchiver(MongoTemplate mongoTemplate,
+                                  @Value("${content.archive.enabled:true}") boolean enabled,
+                                  @Value("${content.archive.retention-days:30}") long retentionDays,
+                                  @Value("${content.archive.batch-size:200}") int batchSize,
+                                  @Value("${content.archive.max-batches-per-run:50}") int maxBatchesPerRun,
+                                  @Value("${content.archive.max-ops-per-second:200}") int maxOpsPerSecond) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxOpsPerSecond = maxOpsPerSecond;
+    }
+
+    /**
+     * 보관 이동 실행 요청 (기본 10분 주기, 이전 실행 중이면 건너뜀)
+     */
+    @Scheduled(initialDelayString = "${content.archive.interval-ms:600000}",
+            fixedDelayString = "${content.archive.interval-ms:600000}")
+    public void requestRun() {
+        if (enabled && running.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    // 게시글 삭제 시 댓글이 먼저 정리되므로 댓글부터
+                    archive(mongoTemplate.getCollectionName(Comment.class));
+                    archive(mongoTemplate.getCollectionName(Post.class));
+                } catch (RuntimeException e) {
+                    log.error("삭제 문서 보관 이동 실패 (다음 주기에 재개 지점부터 재시도): {}", e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 컬렉션의 보관 기간이 지난 삭제 문서를 보관 컬렉션으로 이동
+     *
+     * @param collection 원본 컬렉션
+     * @return 이동한 문서 수
+     */
+    public long archive(String collection) {
+        Date cutoff = new Date(System.currentTimeMillis() - retention.toMillis());
+        Document checkpoint = mongoTemplate.findById(collection, Document.class, CHECKPOINTS);
+        Date lastUpdatedAt = checkpoint != null ? checkpoint.getDate("updatedAt") : null;
+        Object lastId = checkpoint != null ? checkpoint.get("lastId") : null;
+
+        long nanosPerBatch = TimeUnit.SECONDS.toNanos(1) * batchSize * WRITES_PER_DOCUMENT / Math.max(maxOpsPerSecond, 1);
+        long moved = 0;
+        for (int batchCount = 0; batchCount < maxBatchesPerRun; batchCount++) {
+            long start = System.nanoTime();
+
+            List<Document> batch = mongoTemplate.find(page(cutoff, lastUpdatedAt, lastId), Document.class, collection);
+            if (batch.isEmpty()) {
+                // 끝까지 처리 → 다음 실행은 처음부터
+                mongoTemplate.remove(Query.query(Criteria.where("_id")
+                        .is(collection)), CHECKPOINTS);
+                break;
+            }
+            moved += moveToArchive(collection, batch);
+
+            Document tail = batch.get(batch.size() - 1);
+            lastUpdatedAt = tail.getDate("updatedAt");
+            lastId = tail.get("_id");
+            mongoTemplate.upsert(Query.query(Criteria.where("_id")
+                    .is(collection)), new Update()
+                    .set("updatedAt", lastUpdatedAt)
+                    .set("lastId", lastId)
+                    .set("savedAt", new Date()), CHECKPOINTS);
+
+            throttle(start, nanosPerBatch * batch.size() / batchSize);
+        }
+
+        if (moved > 0) {
+            log.info("삭제 문서 보관 이동 - {}: {}개", collection, moved);
+        }
+        return moved;
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 재개 지점 이후의 보관 대상 (status = DELETED, updatedAt < cutoff), (updatedAt, _id) 오름차순
+     */
+    private Query page(Date cutoff, Date lastUpdatedAt, Object lastId) {
+        Criteria criteria = Criteria.where("status")
+                .is("DELETED")
+                .and("updatedAt")
+                .lt(cutoff);
+        if (lastUpdatedAt != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                    Criteria.where("updatedAt")
+                            .gt(lastUpdatedAt),
+                    Criteria.where("updatedAt")
+                            .is(lastUpdatedAt)
+                            .and("_id")
+                            .gt(lastId)));
+        }
+        return new Query(criteria).with(Sort.by(Sort.Direction.ASC, "updatedAt", "_id"))
+                .limit(batchSize);
+    }
+
+    /**
+     * 보관 컬렉션에 upsert (bulkWrite 1회) 후 원본에서 삭제 (deleteMany 1회)
+     *
+     * @return 원본에서 삭제된 문서 수
+     */
+    private long moveToArchive(String collection, List<Document> batch) {
+        Date archivedAt = new Date();
+        List<WriteModel<Document>> writes = new ArrayList<>(batch.size());
+        List<Object> ids = new ArrayList<>(batch.size());
+        for (Document doc : batch) {
+            ids.add(doc.get("_id"));
+            doc.put("archivedAt", archivedAt);
+            writes.add(new ReplaceOneModel<>(Filters.eq("_id", doc.get("_id")), doc, new ReplaceOptions().upsert(true)));
+        }
+        mongoTemplate.getCollection(collection + ARCHIVE_SUFFIX)
+                .bulkWrite(writes, new BulkWriteOptions().ordered(false));
+
+        // 보관 후 삭제, 그 사이 상태가 바뀐 문서는 남김
+        return mongoTemplate.getCollection(collection)
+                .deleteMany(Filters.and(Filters.in("_id", ids), Filters.eq("status", "DELETED")))
+                .getDeletedCount();
+    }
+
+    /**
+     * 배치 처리 시간이 처리량 상한에 따른 최소 시간보다 짧으면 남은 만큼 대기
+     */
+    private void throttle(long startNanos, long minNanos) {
+        long remaining = minNanos - (System.nanoTime() - startNanos);
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+                throw new IllegalStateException("보관 이동 중단", e);
+            }
+        }
+    }
+}
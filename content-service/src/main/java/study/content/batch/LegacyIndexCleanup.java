@@ -0,0 +1,94 @@
+package study.content.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+import study.content.entity.Comment;
+import study.content.entity.Post;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부분 인덱스로 대체된 기존 인덱스 삭제 (명시적 마이그레이션 단계, 기본 비활성)
+ * 새 인덱스는 auto-index-creation 으로 생성되고, 이전 전체 인덱스가 남아 있으면 쓰기마다 갱신 비용이 들고
+ * 쿼리 플래너 후보만 늘리므로 이름으로 찾아 삭제 (없으면 무시)
+ * <p>
+ * 새 인덱스 생성을 확인한 뒤 content.index.drop-legacy-on-startup=true 로 한 번 기동해 실행
+ * 대체할 부분 인덱스가 아직 없으면 해당 기존 인덱스는 삭제하지 않고 남겨 둠 (쿼리가 전체 스캔으로 떨어지지 않도록)
+ */
+@Slf4j
+@Component
+public class LegacyIndexCleanup {
+
+    // 기존 인덱스 이름 → 대체한 부분 인덱스 이름
+    private static final Map<Class<?>, Map<String, String>> LEGACY_INDEXES = Map.of(
+            Post.class, Map.of(
+                    "status_created_id_idx", "active_created_id_idx",
+                    "author_status_created_id_idx", "active_author_created_id_idx"),
+            Comment.class, Map.of(
+                    "post_parent_status_created_id_idx", "active_post_parent_created_id_idx",
+                    "author_status_created_id_idx", "active_author_created_id_idx")
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean dropOnStartup;
+
+    public LegacyIndexCleanup(MongoTemplate mongoTemplate,
+                              @Value("${content.index.drop-legacy-on-startup:false}") boolean dropOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.dropOnStartup = dropOnStartup;
+    }
+
+    /**
+     * 기동 시 기존 인덱스 삭제 (drop-legacy-on-startup=true 일 때만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropOnStartup() {
+        if (!dropOnStartup) {
+            return;
+        }
+        try {
+            drop();
+        } catch (RuntimeException e) {
+            log.error("기존 인덱스 삭제 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 남아 있는 기존 인덱스 삭제 (대체 인덱스가 있는 것만)
+     *
+     * @return 삭제한 인덱스 수
+     */
+    public int drop() {
+        int dropped = 0;
+        for (Map.Entry<Class<?>, Map<String, String>> entry : LEGACY_INDEXES.entrySet()) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entry.getKey());
+            String collection = mongoTemplate.getCollectionName(entry.getKey());
+            List<String> existing = indexOps.getIndexInfo()
+                    .stream()
+                    .map(IndexInfo::getName)
+                    .toList();
+            for (Map.Entry<String, String> legacy : entry.getValue()
+                    .entrySet()) {
+                String name = legacy.getKey();
+                if (!existing.contains(name)) {
+                    continue;
+                }
+                if (!existing.contains(legacy.getValue())) {
+                    log.warn("대체 인덱스가 없어 기존 인덱스 유지 - collection: {}, index: {}, 대체: {}", collection, name, legacy.getValue());
+                    continue;
+                }
+                indexOps.dropIndex(name);
+                dropped++;
+                log.info("기존 인덱스 삭제 - collection: {}, index: {}", collection, name);
+            }
+        }
+        return dropped;
+    }
+}
@@ -0,0 +1,177 @@
+package study.content.batch;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.entity.Comment;
+import study.content.entity.Like.TargetType;
+import study.content.entity.Post;
+import study.content.repository.LikeRepository;
+import study.content.service.LikeCountBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 카운터(Post.likeCount, Comment.likeCount) 백필 및 보정 배치
+ * - 기동 시: likeCount 필드가 없는 기존 문서만 백필
+ * - 주기 실행: 전체 문서를 _id 순으로 배치 단위 순회하며 likes 컬렉션 기준으로 재계산
+ * <p>
+ * 보정 중 들어온 좋아요 $inc를 덮어쓰지 않도록, 읽었던 값과 같을 때만 갱신 (다르면 다음 주기에 보정)
+ * 반영 대기 중인 delta가 있는 대상(LikeCountBuffer)과 카운터 샤드 모드 게시글은 이번 주기에서 제외
+ * <p>
+ * LikeCountBuffer 확인은 이 인스턴스의 버퍼만 봄 → 다른 인스턴스에 아직 flush 되지 않은 delta 가 있으면
+ * 보정값(좋아요 문서 수, 그 delta 포함)에 나중에 flush 된 $inc 가 더해져 이중 반영됨
+ * 따라서 주기 보정은 하나의 인스턴스에서만 실행하고(content.like.reconcile.enabled), 좋아요 트래픽이 적은 시간대에 실행
+ * 여러 인스턴스가 좋아요를 받는 중이라면 다른 인스턴스의 버퍼가 비워진 상태(배포 직후 등)에서만 수동 실행
+ */
+@Slf4j
+@Component
+public class LikeCountReconciler {
+
+    private static final String LIKE_COUNT = "likeCount";
+    private static final String COUNTER_SHARDS = "counterShards";
+
+    private final MongoTemplate mongoTemplate;
+    private final LikeRepository likeRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final int batchSize;
+    private final boolean backfillOnStartup;
+    private final boolean enabled;
+
+    public LikeCountReconciler(MongoTemplate mongoTemplate,
+                               LikeRepository likeRepository,
+                               LikeCountBuffer likeCountBuffer,
+                               @Value("${content.like.reconcile.batch-size:500}") int batchSize,
+                               @Value("${content.like.reconcile.backfill-on-startup:true}") boolean backfillOnStartup,
+                               @Value("${content.like.reconcile.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.likeRepository = likeRepository;
+        this.likeCountBuffer = likeCountBuffer;
+        this.batchSize = batchSize;
+        this.backfillOnStartup = backfillOnStartup;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 기동 시 likeCount 필드가 없는 문서 백필
+     * 필드가 없는 문서(카운터 도입 전 데이터)만 대상이므로 다른 인스턴스의 버퍼와 겹치는 경우는 드묾
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Criteria missing = Criteria.where(LIKE_COUNT)
+                .exists(false);
+        reconcile(TargetType.POST, missing);
+        reconcile(TargetType.COMMENT, missing);
+    }
+
+    /**
+     * 전체 카운터 보정 (기본: 매일 04시)
+     * 여러 인스턴스로 배포할 때는 한 인스턴스만 content.like.reconcile.enabled=true
+     */
+    @Scheduled(cron = "${content.like.reconcile.cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        if (!enabled) {
+            return;
+        }
+        reconcile(TargetType.POST, new Criteria());
+        reconcile(TargetType.COMMENT, new Criteria());
+    }
+
+    /**
+     * 대상 타입별 카운터 재계산
+     *
+     * @param targetType 대상 타입
+     * @param filter     보정 대상 문서 조건
+     * @return 수정된 문서 수
+     */
+    public long reconcile(TargetType targetType, Criteria filter) {
+        Class<?> entityClass = targetType == TargetType.POST ? Post.class : Comment.class;
+        String collection = mongoTemplate.getCollectionName(entityClass);
+
+        long scanned = 0;
+        long modified = 0;
+        String lastId = null;
+
+        while (true) {
+            // 1. _id 순으로 배치 조회 (_id, likeCount만)
+            Query query = new Query(filter).with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize);
+            if (lastId != null) {
+                query.addCriteria(Criteria.where("_id")
+                        .gt(new ObjectId(lastId)));
+            }
+            query.fields()
+                    .include("_id")
+                    .include(LIKE_COUNT)
+                    .include(COUNTER_SHARDS);
+
+            List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // 2. 배치 단위 실제 좋아요 수 집계
+            List<String> ids = batch.stream()
+                    .map(doc -> doc.getObjectId("_id")
+                            .toHexString())
+                    .toList();
+            Map<String, Long> actualCounts = likeRepository.countByTargetIds(ids, targetType);
+
+            // 3. 값이 다른 문서만 조건부 갱신
+            List<WriteModel<Document>> updates = new ArrayList<>();
+            for (Document doc : batch) {
+                String id = doc.getObjectId("_id")
+                        .toHexString();
+                Object stored = doc.get(LIKE_COUNT);
+                long actual = actualCounts.getOrDefault(id, 0L);
+
+                if (stored instanceof Number number && number.longValue() == actual) {
+                    continue;
+                }
+                // 이 인스턴스의 버퍼만 확인 (다른 인스턴스의 버퍼는 클래스 설명 참고)
+                if (likeCountBuffer.hasPending(targetType, id)) {
+                    continue;
+                }
+                if (doc.get(COUNTER_SHARDS) != null) {
+                    // 핫 게시글: 값 일부가 카운터 샤드에 있으므로 강등(샤드 합침) 후 보정
+                    continue;
+                }
+                updates.add(new UpdateOneModel<>(
+                        Filters.and(Filters.eq("_id", doc.getObjectId("_id")), Filters.eq(LIKE_COUNT, stored)),
+                        Updates.set(LIKE_COUNT, actual)
+                ));
+            }
+
+            if (!updates.isEmpty()) {
+                modified += mongoTemplate.getCollection(collection)
+                        .bulkWrite(updates, new BulkWriteOptions().ordered(false))
+                        .getModifiedCount();
+            }
+
+            scanned += batch.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        log.info("좋아요 카운터 보정 완료 - type: {}, 검사: {}개, 수정: {}개", targetType, scanned, modified);
+        return modified;
+    }
+}
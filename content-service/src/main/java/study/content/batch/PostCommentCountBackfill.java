@@ -0,0 +1,136 @@
+package study.content.batch;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import study.content.entity.Comment;
+import study.content.entity.Post;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 댓글 수(commentCount) 백필 배치
+ * 비정규화 카운터 도입 이전 게시글은 댓글 수 필드가 없으므로 기동 시 한 번 채움
+ * <p>
+ * - 댓글 수 = 활성 댓글 수 (대댓글 포함)
+ * - comments 컬렉션 집계 1회(게시글별 group) 결과를 스트리밍하며 배치 단위 bulkWrite
+ * - 댓글 수 필드가 여전히 없을 때만 설정 (도입 이후 게시글은 생성 시 0 으로 시작해 $inc 로만 갱신)
+ * - 댓글이 없는 게시글은 마지막에 0 으로 설정
+ * <p>
+ * 필드가 없는 동안의 댓글 작성/삭제는 $inc 가 건너뛰므로, 집계 이후 ~ 설정 전 사이에 바뀐 댓글만 어긋날 수 있음
+ */
+@Slf4j
+@Component
+public class PostCommentCountBackfill {
+
+    private static final String COMMENT_COUNT = "commentCount";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final boolean backfillOnStartup;
+
+    public PostCommentCountBackfill(MongoTemplate mongoTemplate,
+                                    @Value("${content.post.comment-count.backfill.batch-size:500}") int batchSize,
+                                    @Value("${content.post.comment-count.backfill.on-startup:true}") boolean backfillOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * 기동 시 댓글 수가 없는 게시글 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.error("댓글 수 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 댓글 수가 없는 게시글에 활성 댓글 수 설정
+     *
+     * @return 수정된 문서 수
+     */
+    public long backfill() {
+        String collection = mongoTemplate.getCollectionName(Post.class);
+        Query missing = Query.query(Criteria.where(COMMENT_COUNT)
+                .exists(false));
+        if (!mongoTemplate.exists(missing, Post.class)) {
+            return 0;
+        }
+
+        // 1. 게시글별 활성 댓글 수 집계 1회 (결과는 커서로 스트리밍)
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("status")
+                        .is(Comment.CommentStatus.ACTIVE)),
+                Aggregation.group("postId")
+                        .count()
+                        .as("count")
+        );
+
+        long grouped = 0;
+        long modified = 0;
+        List<WriteModel<Document>> updates = new ArrayList<>(batchSize);
+        try (Stream<Document> counts = mongoTemplate.aggregateStream(aggregation, Comment.class, Document.class)) {
+            Iterator<Document> iterator = counts.iterator();
+            while (iterator.hasNext()) {
+                Document count = iterator.next();
+                String postId = count.getString("_id");
+                if (postId == null || !ObjectId.isValid(postId)) {
+                    continue;
+                }
+                // 2. 댓글 수가 여전히 없을 때만 설정
+                updates.add(new UpdateOneModel<>(
+                        Filters.and(Filters.eq("_id", new ObjectId(postId)), Filters.exists(COMMENT_COUNT, false)),
+                        Updates.set(COMMENT_COUNT, ((Number) count.get("count")).longValue())
+                ));
+                grouped++;
+                if (updates.size() >= batchSize) {
+                    modified += write(collection, updates);
+                }
+            }
+        }
+        modified += write(collection, updates);
+
+        // 3. 댓글이 없는 게시글
+        modified += mongoTemplate.updateMulti(missing, new Update().set(COMMENT_COUNT, 0L), Post.class)
+                .getModifiedCount();
+
+        log.info("댓글 수 백필 완료 - 댓글 있는 게시글: {}개, 수정: {}개", grouped, modified);
+        return modified;
+    }
+
+    private long write(String collection, List<WriteModel<Document>> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        long modified = mongoTemplate.getCollection(collection)
+                .bulkWrite(updates, new BulkWriteOptions().ordered(false))
+                .getModifiedCount();
+        updates.clear();
+        return modified;
+    }
+}
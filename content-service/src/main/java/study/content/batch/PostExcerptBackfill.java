@@ -0,0 +1,114 @@
+package study.content.batch;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import study.content.common.search.PlainText;
+import study.content.entity.Post;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 발췌문(excerpt) 백필 배치
+ * 목록 조회는 본문을 읽지 않고 발췌문만 사용하므로, 발췌문 도입 이전 게시글은 기동 시 한 번 채움
+ * <p>
+ * 백필 중 수정된 게시글의 발췌문을 덮어쓰지 않도록, 발췌문이 여전히 없을 때만 갱신
+ */
+@Slf4j
+@Component
+public class PostExcerptBackfill {
+
+    private static final String EXCERPT = "excerpt";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final boolean backfillOnStartup;
+
+    public PostExcerptBackfill(MongoTemplate mongoTemplate,
+                               @Value("${content.post.excerpt.backfill.batch-size:500}") int batchSize,
+                               @Value("${content.post.excerpt.backfill.on-startup:true}") boolean backfillOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * 기동 시 발췌문이 없는 게시글 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.error("발췌문 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 발췌문이 없는 게시글을 _id 순으로 배치 단위 생성
+     *
+     * @return 수정된 문서 수
+     */
+    public long backfill() {
+        String collection = mongoTemplate.getCollectionName(Post.class);
+
+        long scanned = 0;
+        long modified = 0;
+        ObjectId lastId = null;
+
+        while (true) {
+            // 1. _id 순으로 배치 조회 (_id, 내용만)
+            Query query = new Query(Criteria.where(EXCERPT)
+                    .exists(false)).with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize);
+            if (lastId != null) {
+                query.addCriteria(Criteria.where("_id")
+                        .gt(lastId));
+            }
+            query.fields()
+                    .include("_id")
+                    .include("content");
+
+            List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // 2. 발췌문이 여전히 없을 때만 갱신 (그 사이 수정된 게시글은 이미 최신 발췌문 보유)
+            List<WriteModel<Document>> updates = new ArrayList<>();
+            for (Document doc : batch) {
+                updates.add(new UpdateOneModel<>(
+                        Filters.and(Filters.eq("_id", doc.getObjectId("_id")), Filters.exists(EXCERPT, false)),
+                        Updates.set(EXCERPT, PlainText.excerpt(doc.getString("content"), Post.EXCERPT_LENGTH))
+                ));
+            }
+
+            modified += mongoTemplate.getCollection(collection)
+                    .bulkWrite(updates, new BulkWriteOptions().ordered(false))
+                    .getModifiedCount();
+            scanned += batch.size();
+            lastId = batch.get(batch.size() - 1)
+                    .getObjectId("_id");
+        }
+
+        log.info("발췌문 백필 완료 - 검사: {}개, 수정: {}개", scanned, modified);
+        return modified;
+    }
+}
@@ -0,0 +1,119 @@
+package study.content.batch;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import study.content.common.search.KoreanBigramTokenizer;
+import study.content.entity.Post;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 검색 토큰(titleTokens, contentTokens) 백필 배치
+ * 텍스트 인덱스 도입 이전에 작성된 게시글은 토큰이 없어 검색되지 않으므로 기동 시 한 번 채움
+ * <p>
+ * 백필 중 수정된 게시글의 토큰을 덮어쓰지 않도록, 토큰이 여전히 없을 때만 갱신
+ */
+@Slf4j
+@Component
+public class PostSearchTokenBackfill {
+
+    private static final String TITLE_TOKENS = "titleTokens";
+    private static final String CONTENT_TOKENS = "contentTokens";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final boolean backfillOnStartup;
+
+    public PostSearchTokenBackfill(MongoTemplate mongoTemplate,
+                                   @Value("${content.search.backfill.batch-size:500}") int batchSize,
+                                   @Value("${content.search.backfill.on-startup:true}") boolean backfillOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * 기동 시 검색 토큰이 없는 게시글 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.error("검색 토큰 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 검색 토큰이 없는 게시글을 _id 순으로 배치 단위 토큰화
+     *
+     * @return 수정된 문서 수
+     */
+    public long backfill() {
+        String collection = mongoTemplate.getCollectionName(Post.class);
+
+        long scanned = 0;
+        long modified = 0;
+        ObjectId lastId = null;
+
+        while (true) {
+            // 1. _id 순으로 배치 조회 (_id, 제목, 내용만)
+            Query query = new Query(Criteria.where(TITLE_TOKENS)
+                    .exists(false)).with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize);
+            if (lastId != null) {
+                query.addCriteria(Criteria.where("_id")
+                        .gt(lastId));
+            }
+            query.fields()
+                    .include("_id")
+                    .include("title")
+                    .include("content");
+
+            List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // 2. 토큰이 여전히 없을 때만 갱신 (그 사이 수정된 게시글은 이미 최신 토큰 보유)
+            List<WriteModel<Document>> updates = new ArrayList<>();
+            for (Document doc : batch) {
+                updates.add(new UpdateOneModel<>(
+                        Filters.and(Filters.eq("_id", doc.getObjectId("_id")), Filters.exists(TITLE_TOKENS, false)),
+                        Updates.combine(
+                                Updates.set(TITLE_TOKENS, KoreanBigramTokenizer.indexTokens(doc.getString("title"))),
+                                Updates.set(CONTENT_TOKENS, KoreanBigramTokenizer.indexTokens(doc.getString("content")))
+                        )
+                ));
+            }
+
+            modified += mongoTemplate.getCollection(collection)
+                    .bulkWrite(updates, new BulkWriteOptions().ordered(false))
+                    .getModifiedCount();
+            scanned += batch.size();
+            lastId = batch.get(batch.size() - 1)
+                    .getObjectId("_id");
+        }
+
+        log.info("검색 토큰 백필 완료 - 검사: {}개, 수정: {}개", scanned, modified);
+        return modified;
+    }
+}
@@ -0,0 +1,207 @@
+package study.content.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 세대(generation) 기반 무효화 LRU 캐시 + 동일 키 동시 로딩 합치기(single-flight)
+ * <p>
+ * - 무효화: 쓰기가 일어나면 bump() 로 세대만 올림 (항목을 찾아 지우지 않음)
+ * - 이전 세대 항목: 다음 세대로 바뀐 시점부터 max-staleness 까지만 제공 → 쓰기 이후 결과가 그 이상 남지 않음
+ * (max-staleness = 0 이면 쓰기 즉시 무효)
+ * - TTL: 세대와 무관하게 로딩 후 ttl 이 지나면 만료 (다른 인스턴스의 쓰기처럼 bump 되지 않는 변경 대비)
+ * - single-flight: 같은 키 + 같은 세대의 로딩이 진행 중이면 새로 로딩하지 않고 그 결과를 기다림
+ * (bump 이후 요청은 이전 세대 로딩에 합류하지 않음)
+ * - 로딩 실패는 캐시하지 않고 기다리던 요청 모두에 같은 예외 전달
+ *
+ * @param <K> 키 타입 (equals/hashCode 필요)
+ * @param <V> 값 타입 (캐시된 값은 공유되므로 호출자가 수정하지 말 것)
+ */
+public class GenerationalCache<K, V> {
+
+    // 세대 전환 시각 보관 개수 (이보다 오래된 세대의 항목은 무효 처리)
+    private static final int GENERATION_HISTORY = 1024;
+
+    private final Duration ttl;
+    private final Duration maxStaleness;
+    private final LongSupplier clock;
+
+    // LRU (access-order), lock 으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long generation;
+    // 세대 g 가 시작된 시각 = bumpedAt[g % GENERATION_HISTORY]
+    private final long[] bumpedAt = new long[GENERATION_HISTORY];
+
+    private final Map<Flight<K>, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public GenerationalCache(int maxEntries, Duration ttl, Duration maxStaleness) {
+        this(maxEntries, ttl, maxStaleness, System::currentTimeMillis);
+    }
+
+    public GenerationalCache(int maxEntries, Duration ttl, Duration maxStaleness, LongSupplier clock) {
+        this.ttl = ttl;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없거나 무효하면 로딩 (동일 키 동시 로딩은 1회)
+     *
+     * @param key    키
+     * @param loader 로딩 함수
+     * @return 값
+     */
+    public V get(K key, Supplier<V> loader) {
+        long now = clock.getAsLong();
+        long loadGeneration;
+
+        lock.lock();
+        try {
+            loadGeneration = generation;
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (isServable(entry, now)) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+
+        Flight<K> flight = new Flight<>(key, loadGeneration);
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(flight, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            loads.increment();
+            V value = loader.get();
+            put(key, value, loadGeneration);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, mine);
+        }
+    }
+
+    /**
+     * 세대 증가 (쓰기 발생 시 호출, 이전 세대 항목은 max-staleness 이후 무효)
+     */
+    public void bump() {
+        long now = clock.getAsLong();
+        lock.lock();
+        try {
+            generation++;
+            bumpedAt[(int) (generation % GENERATION_HISTORY)] = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * 실제 로딩 횟수 (합류한 요청 제외)
+     *
+     * @return 로딩 횟수
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 제공 가능 여부 (lock 안에서 호출)
+     */
+    private boolean isServable(Entry<V> entry, long now) {
+        if (now - entry.loadedAt > ttl.toMillis()) {
+            return false;
+        }
+        if (entry.generation == generation) {
+            return true;
+        }
+        if (generation - entry.generation >= GENERATION_HISTORY) {
+            return false;
+        }
+        // 항목 세대 다음 세대가 시작된 시각 = 항목 이후 첫 쓰기 시각
+        long firstWriteAfter = bumpedAt[(int) ((entry.generation + 1) % GENERATION_HISTORY)];
+        return now - firstWriteAfter < maxStaleness.toMillis();
+    }
+
+    private void put(K key, V value, long loadGeneration) {
+        lock.lock();
+        try {
+            Entry<V> existing = entries.get(key);
+            // 더 새로운 세대로 로딩된 값은 덮어쓰지 않음
+            if (existing == null || existing.generation <= loadGeneration) {
+                entries.put(key, new Entry<>(value, loadGeneration, clock.getAsLong()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long generation, long loadedAt) {
+    }
+
+    private record Flight<K>(K key, long generation) {
+        private Flight {
+            Objects.requireNonNull(key);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package study.content.common.concurrent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 증감값(delta)을 메모리에 모았다가 한 번에 내보내는 write-behind 버퍼
+ * <p>
+ * - 쓰기: 키별 LongAdder(스트라이프 카운터)에 누적, 락 없음
+ * - flush: 현재 세그먼트를 새 세그먼트로 교체하고, 교체 전 세그먼트를 배치로 만들어 저장소 응답이 올 때까지 in-flight 로 공개
+ * - 읽기: {@link #snapshot()} 으로 in-flight + 대기분을 한 번만 캡처 (재시도 없음)
+ * <p>
+ * 저장값과 합산하는 단건 조회는 {@link #currentValue(Object, LongSupplier)} 사용
+ * 저장소 반영(sink) 구간과 저장값 조회 구간을 읽기/쓰기 락으로 나눠, 반영된 배치가 저장값과 in-flight 에 두 번 더해지지 않음
+ * (반영 중에 들어온 단건 조회는 bulkWrite 응답까지 대기, 반영 전이면 in-flight 로 한 번, 반영 후면 저장값으로 한 번)
+ * → 같은 키를 연속으로 읽으면 증가만 있는 동안 값이 줄지 않음
+ * <p>
+ * 목록 조회처럼 저장값을 먼저 읽고 스냅샷을 나중에 합산하는 경우는 락을 잡지 않음
+ * 그 사이 flush 가 끝나면 한 배치만큼 일시적으로 어긋날 수 있음 (다음 조회에서 맞춰짐)
+ * <p>
+ * 내보내기(sink)가 반영하지 못한 항목(반환값) 또는 예외 발생 시 배치 전체는 in-flight 로 남겨 다음 flush에서 재시도
+ * 대기분과 in-flight 가 모두 비어 있으면 flush 는 상태를 바꾸지 않음
+ *
+ * @param <K> 카운터 키 타입
+ */
+public class DeltaBuffer<K> {
+
+    private volatile State<K> state = new State<>(Map.of(), null, new Segment<>());
+
+    // flush 끼리만 직렬화 (읽기/쓰기 경로는 락을 잡지 않음)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 저장소 반영(쓰기 락) ↔ 저장값 + 스냅샷 단건 조회(읽기 락)
+    private final ReentrantReadWriteLock applyLock = new ReentrantReadWriteLock();
+
+    /**
+     * 증감값 누적
+     *
+     * @param key   카운터 키
+     * @param delta 증감값
+     * @return 현재 세그먼트의 키 개수 (flush 임계치 판단용)
+     */
+    public int add(K key, long delta) {
+        while (true) {
+            Segment<K> segment = state.current();
+            segment.writers.increment();
+            try {
+                if (segment != state.current()) {
+                    // 방금 flush로 교체됨 → 새 세그먼트에 다시 기록
+                    continue;
+                }
+                segment.counters.computeIfAbsent(key, k -> new LongAdder())
+                        .add(delta);
+                segment.operations.increment();
+                return segment.counters.size();
+            } finally {
+                segment.writers.decrement();
+            }
+        }
+    }
+
+    /**
+     * 아직 저장소에 반영되지 않은 증감값 (반영 중인 in-flight + 대기분)
+     *
+     * @param key 카운터 키
+     * @return 반영되지 않은 증감값
+     */
+    public long pending(K key) {
+        return snapshot().pending(key);
+    }
+
+    /**
+     * 반영되지 않은 증감값 스냅샷 (in-flight 맵과 세그먼트를 한 번만 캡처, 락/재시도 없음)
+     * 여러 키를 같은 시점 기준으로 합산할 때 사용
+     *
+     * @return 스냅샷
+     */
+    public Snapshot<K> snapshot() {
+        return new Snapshot<>(state);
+    }
+
+    /**
+     * 저장값 + 반영되지 않은 증감값 (단건 조회)
+     * 저장소 반영 중이면 응답이 올 때까지 대기 후 조회 → 반영된 배치는 한 번만 합산
+     *
+     * @param key         카운터 키
+     * @param storedValue 저장값 조회 함수 (한 번만 호출)
+     * @return 현재 값
+     */
+    public long currentValue(K key, LongSupplier storedValue) {
+        applyLock.readLock()
+                .lock();
+        try {
+            long stored = storedValue.getAsLong();
+            return stored + snapshot().pending(key);
+        } finally {
+            applyLock.readLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 누적된 증감값을 내보냄
+     *
+     * @param sink 키별 증감값 배치를 저장소에 반영하고, 반영하지 못한 항목을 반환하는 함수 (0인 키는 제외됨)
+     * @return 내보낸 배치 정보
+     */
+    public FlushResult flush(Function<Map<K, Long>, Map<K, Long>> sink) {
+        flushLock.lock();
+        try {
+            State<K> carried = state;
+            if (carried.inFlight()
+                    .isEmpty() && carried.current().counters.isEmpty()) {
+                return FlushResult.EMPTY;
+            }
+
+            // 세그먼트 교체: 교체 전 세그먼트는 배치를 만들 때까지 draining 으로 계속 보임
+            Segment<K> drained = carried.current();
+            Segment<K> next = new Segment<>();
+            state = new State<>(carried.inFlight(), drained, next);
+
+            // 교체 직전에 쓰기를 시작한 스레드가 끝날 때까지 대기 (임계 구역이 매우 짧음)
+            while (drained.writers.sum() != 0) {
+                Thread.onSpinWait();
+            }
+
+            // 이전 flush 에서 반영하지 못한 항목 + 이번 세그먼트
+            Map<K, Long> batch = new HashMap<>(carried.inFlight());
+            drained.counters.forEach((key, adder) -> batch.merge(key, adder.sum(), Long::sum));
+            batch.values()
+                    .removeIf(delta -> delta == 0);
+            Map<K, Long> inFlight = Collections.unmodifiableMap(batch);
+            state = new State<>(inFlight, null, next);
+            if (inFlight.isEmpty()) {
+                return new FlushResult(0, drained.operations.sum());
+            }
+
+            Map<K, Long> unapplied = Map.of();
+            applyLock.writeLock()
+                    .lock();
+            try {
+                Map<K, Long> result = sink.apply(inFlight);
+                if (result != null) {
+                    unapplied = Map.copyOf(result);
+                }
+                // 쓰기 락 안에서 공개 → 락 이후의 단건 조회는 반영된 배치를 저장값으로만 봄
+                state = new State<>(unapplied, null, next);
+            } finally {
+                applyLock.writeLock()
+                        .unlock();
+            }
+            return new FlushResult(inFlight.size() - unapplied.size(), drained.operations.sum());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 반영되지 않은 키 개수 (backlog, in-flight 포함)
+     *
+     * @return 키 개수
+     */
+    public int size() {
+        State<K> current = state;
+        int draining = current.draining() != null ? current.draining().counters.size() : 0;
+        return current.current().counters.size() + draining + current.inFlight()
+                .size();
+    }
+
+    /**
+     * flush 결과
+     *
+     * @param keys       저장소에 반영한 키 개수 (= 쓰기 연산 수)
+     * @param operations 배치에 합쳐진 원본 증감 요청 수
+     */
+    public record FlushResult(int keys, long operations) {
+
+        static final FlushResult EMPTY = new FlushResult(0, 0);
+    }
+
+    /**
+     * 반영되지 않은 증감값 스냅샷
+     * in-flight 맵과 세그먼트 참조는 생성 시점 값으로 고정 (이후 flush 로 상태가 바뀌어도 같은 기준으로 합산)
+     *
+     * @param <K> 카운터 키 타입
+     */
+    public static final class Snapshot<K> {
+
+        private final State<K> state;
+
+        private Snapshot(State<K> state) {
+            this.state = state;
+        }
+
+        /**
+         * 키의 반영되지 않은 증감값
+         *
+         * @param key 카운터 키
+         * @return in-flight + 대기분
+         */
+        public long pending(K key) {
+            long pending = state.inFlight()
+                    .getOrDefault(key, 0L);
+            if (state.draining() != null) {
+                pending += sum(state.draining(), key);
+            }
+            return pending + sum(state.current(), key);
+        }
+
+        private static <K> long sum(Segment<K> segment, K key) {
+            LongAdder adder = segment.counters.get(key);
+            return adder != null ? adder.sum() : 0L;
+        }
+    }
+
+    /**
+     * 버퍼 상태 (바뀔 때마다 새 객체, 읽기는 한 번 읽은 참조만 사용)
+     *
+     * @param inFlight 저장소에 반영 중이거나 반영하지 못해 다음 flush 를 기다리는 증감값
+     * @param draining 배치로 옮기는 중인 이전 세그먼트 (없으면 null)
+     * @param current  쓰기가 누적되는 세그먼트
+     */
+    private record State<K>(Map<K, Long> inFlight, Segment<K> draining, Segment<K> current) {
+    }
+
+    private static final class Segment<K> {
+        private final ConcurrentHashMap<K, LongAdder> counters = new ConcurrentHashMap<>();
+        private final LongAdder writers = new LongAdder();
+        private final LongAdder operations = new LongAdder();
+    }
+}
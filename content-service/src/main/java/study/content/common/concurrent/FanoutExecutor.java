@@ -0,0 +1,75 @@
+package study.content.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 안에서 서로 의존하지 않는 조회를 동시에 실행하기 위한 실행기
+ * 실행 스레드 종류(플랫폼 스레드 풀 / 가상 스레드)는 생성하는 쪽에서 결정
+ * <p>
+ * 실행기가 가득 차 작업을 받지 못할 때
+ * - {@link #submit(Supplier)}: 실패한 future 반환 (빼도 되는 선택 조회용)
+ * - {@link #fork(Supplier)}: 호출 스레드에서 바로 실행 (결과가 꼭 필요한 조회용, 순차 실행으로 후퇴)
+ */
+public class FanoutExecutor implements AutoCloseable {
+
+    private final Executor executor;
+    private final Runnable shutdown;
+
+    /**
+     * @param executor 작업 실행기
+     * @param shutdown 종료 시 실행기 정리 작업
+     */
+    public FanoutExecutor(Executor executor, Runnable shutdown) {
+        this.executor = executor;
+        this.shutdown = shutdown;
+    }
+
+    /**
+     * 선택 조회 실행 (실행기가 가득 차면 RejectedExecutionException 으로 실패한 future)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 필수 조회 실행 (실행기가 가득 차면 호출 스레드에서 실행)
+     */
+    public <T> CompletableFuture<T> fork(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+    }
+
+    /**
+     * 결과 대기, 작업에서 발생한 RuntimeException 은 감싸지 않고 그대로 전달
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        shutdown.run();
+    }
+}
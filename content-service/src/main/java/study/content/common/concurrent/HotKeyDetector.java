@@ -0,0 +1,90 @@
+package study.content.common.concurrent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 초당 요청 수를 세어 임계치를 넘은 키를 "hot"으로 판정
+ * <p>
+ * - 고정 1초 윈도우 카운터 (윈도우가 바뀌면 카운터 초기화)
+ * - 한 번 hot 판정된 키는 마지막 임계치 초과 시점부터 cooldown 동안 hot 유지
+ * - 인스턴스 로컬 판정 (여러 인스턴스 간 공유 상태는 호출 측에서 관리)
+ */
+public class HotKeyDetector<K> {
+
+    private final ConcurrentHashMap<K, Window> windows = new ConcurrentHashMap<>();
+    private final long thresholdPerSecond;
+    private final long cooldownMillis;
+    private final LongSupplier clock;
+
+    public HotKeyDetector(long thresholdPerSecond, long cooldownMillis) {
+        this(thresholdPerSecond, cooldownMillis, System::currentTimeMillis);
+    }
+
+    public HotKeyDetector(long thresholdPerSecond, long cooldownMillis, LongSupplier clock) {
+        this.thresholdPerSecond = thresholdPerSecond;
+        this.cooldownMillis = cooldownMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청 1건 기록
+     *
+     * @param key 대상 키
+     * @return 기록 후 hot 여부
+     */
+    public boolean record(K key) {
+        long now = clock.getAsLong();
+        long second = now / 1000;
+
+        Window window = windows.computeIfAbsent(key, k -> new Window(second));
+        if (window.second != second) {
+            // 윈도우 교체 - 경계에서 몇 건이 이전 윈도우로 세어지는 정도의 오차는 허용
+            window.count.reset();
+            window.second = second;
+        }
+        window.count.increment();
+        window.lastSeenAt = now;
+
+        if (window.count.sum() >= thresholdPerSecond) {
+            window.hotAt = now;
+        }
+        return window.hotAt > 0 && now - window.hotAt < cooldownMillis;
+    }
+
+    /**
+     * hot 여부 조회 (요청 수는 기록하지 않음)
+     *
+     * @param key 대상 키
+     * @return hot 여부
+     */
+    public boolean isHot(K key) {
+        Window window = windows.get(key);
+        return window != null && window.hotAt > 0 && clock.getAsLong() - window.hotAt < cooldownMillis;
+    }
+
+    /**
+     * cooldown 동안 요청이 없던 키 정리 (메모리 상한 관리)
+     *
+     * @return 제거한 키 수
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = windows.size();
+        windows.values()
+                .removeIf(window -> now - window.lastSeenAt >= cooldownMillis);
+        return before - windows.size();
+    }
+
+    private static final class Window {
+        private final LongAdder count = new LongAdder();
+        private volatile long second;
+        private volatile long hotAt;
+        private volatile long lastSeenAt;
+
+        private Window(long second) {
+            this.second = second;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package study.content.common.concurrent;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 키 해시 기반 스트라이프 락
+ * 같은 키에 대한 작업은 항상 같은 락으로 직렬화하고, 다른 키끼리는 (해시 충돌이 없는 한) 병렬로 진행
+ * <p>
+ * 키마다 락을 만들지 않으므로 메모리 사용량이 고정 (stripes 개수)
+ * synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes 락 개수 (2의 거듭제곱으로 올림)
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 키에 해당하는 락을 잡은 상태로 작업 수행
+     *
+     * @param key    직렬화 기준 키
+     * @param action 작업
+     * @param <T>    결과 타입
+     * @return 작업 결과
+     */
+    public <T> T withLock(Object key, Supplier<T> action) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키에 해당하는 락
+     *
+     * @param key 직렬화 기준 키
+     * @return 락
+     */
+    public ReentrantLock lockFor(Object key) {
+        int h = key.hashCode();
+        // 상위 비트를 섞어 하위 비트 분포 개선 (HashMap.hash 와 동일)
+        h ^= (h >>> 16);
+        return locks[h & mask];
+    }
+
+    /**
+     * 락 개수
+     *
+     * @return stripes
+     */
+    public int stripes() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,61 @@
+package study.content.common.enums;
+
+/**
+ * HOT 정렬 집계 구간 enum
+ * <p>
+ * - ALL: 전체 활동을 시간 감쇠(반감기)로 합산한 트렌딩 점수
+ * - DAY / WEEK: 최근 24시간 / 7일 활동만 감쇠 없이 합산
+ */
+public enum HotWindow {
+    ALL("전체(시간 감쇠)", 0),
+    DAY("최근 24시간", 24),
+    WEEK("최근 7일", 168);
+
+    private final String description; // 한글 설명
+    private final int hours; // 집계 구간(시간), 0이면 전체
+
+    HotWindow(String description, int hours) {
+        this.description = description;
+        this.hours = hours;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    public boolean isWindowed() {
+        return hours > 0;
+    }
+
+    /**
+     * 문자열을 HotWindow 로 변환
+     * 대소문자 무관, 24h/7d 별칭 허용, 잘못된 값이면 기본값 반환
+     *
+     * @param windowString 구간 문자열(ALL, DAY, WEEK, 24h, 7d)
+     * @return HotWindow
+     */
+    public static HotWindow fromString(String windowString) {
+        if (windowString == null || windowString.trim()
+                .isEmpty()) {
+            return ALL; // 기본값
+        }
+        String value = windowString.trim()
+                .toUpperCase();
+        switch (value) {
+            case "24H":
+                return DAY;
+            case "7D":
+                return WEEK;
+            default:
+                try {
+                    return HotWindow.valueOf(value);
+                } catch (IllegalArgumentException e) {
+                    return ALL;
+                }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package study.content.common.paging;
+
+/**
+ * 전체 개수 캐시(TotalCountCache) 쿼리 형태 키
+ * 조회와 무효화가 같은 키를 쓰도록 한 곳에서 생성
+ */
+public final class TotalCountKeys {
+
+    public static final String ACTIVE_POSTS = "posts:active";
+    public static final String POSTS_BY_AUTHOR_PREFIX = "posts:author:";
+    public static final String ROOT_COMMENTS_PREFIX = "comments:root:";
+    public static final String COMMENTS_BY_AUTHOR_PREFIX = "comments:author:";
+
+    private TotalCountKeys() {
+    }
+
+    public static String postsByAuthor(String author) {
+        return POSTS_BY_AUTHOR_PREFIX + author;
+    }
+
+    public static String rootComments(String postId) {
+        return ROOT_COMMENTS_PREFIX + postId;
+    }
+
+    public static String commentsByAuthor(String author) {
+        return COMMENTS_BY_AUTHOR_PREFIX + author;
+    }
+}
@@ -0,0 +1,263 @@
+package study.content.common.ranking;
+
+import study.content.common.enums.HotWindow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 감쇠 + 시간 구간별 활동 점수판
+ * <p>
+ * - 전체(ALL) 점수: 가중치 × 2^(-경과시간/반감기) 의 합
+ * 매 조회마다 모든 점수를 다시 감쇠시키지 않도록 기준 시각(epoch) 스케일로 저장
+ * (weight × e^(λ(t - epoch)) 를 더하고, 읽을 때 e^(-λ(now - epoch)) 를 곱함)
+ * 스케일 값이 커지지 않게 기준 시각을 주기적으로 당김 (rebase)
+ * - 구간(DAY/WEEK) 점수: 1시간 단위 링 버퍼(168칸)에 감쇠 없이 합산 → 최근 N시간 합
+ * - 키별 잠금 + rebase 시에만 전체 쓰기 잠금
+ *
+ * @param <K> 키 타입
+ */
+public class HotScoreBoard<K extends Comparable<K>> {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int BUCKETS = HotWindow.WEEK.getHours();
+    // 기준 시각에서 이만큼 멀어지면 rebase (반감기 단위)
+    private static final double REBASE_HALF_LIVES = 8;
+
+    private final ConcurrentHashMap<K, Entry> entries = new ConcurrentHashMap<>();
+    // 이벤트 반영은 읽기 잠금(공유), rebase 는 쓰기 잠금
+    private final ReentrantReadWriteLock epochLock = new ReentrantReadWriteLock();
+    private final double lambda;
+    private final long rebaseAfterMillis;
+    private final LongSupplier clock;
+    private volatile long epoch;
+
+    public HotScoreBoard(double halfLifeHours) {
+        this(halfLifeHours, System::currentTimeMillis);
+    }
+
+    public HotScoreBoard(double halfLifeHours, LongSupplier clock) {
+        if (halfLifeHours <= 0) {
+            throw new IllegalArgumentException("halfLifeHours must be positive");
+        }
+        double halfLifeMillis = halfLifeHours * HOUR_MILLIS;
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.rebaseAfterMillis = (long) (halfLifeMillis * REBASE_HALF_LIVES);
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+    }
+
+    /**
+     * 현재 시각 활동 반영
+     *
+     * @param key    대상 키
+     * @param weight 가중치 (취소는 음수)
+     */
+    public void add(K key, double weight) {
+        add(key, weight, clock.getAsLong());
+    }
+
+    /**
+     * 지정 시각 활동 반영 (기동 시 저장된 누적값 시드용)
+     *
+     * @param key    대상 키
+     * @param weight 가중치
+     * @param atMillis 활동 시각
+     */
+    public void add(K key, double weight, long atMillis) {
+        if (weight == 0) {
+            return;
+        }
+        long hour = Math.floorDiv(atMillis, HOUR_MILLIS);
+
+        epochLock.readLock()
+                .lock();
+        try {
+            double scaled = weight * Math.exp(lambda * (atMillis - epoch));
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+            entry.lock.lock();
+            try {
+                entry.decayed += scaled;
+                entry.addToBucket(hour, weight);
+            } finally {
+                entry.lock.unlock();
+            }
+        } finally {
+            epochLock.readLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 키 제거 (삭제된 게시글 등)
+     *
+     * @param key 대상 키
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 점수
+     *
+     * @param key    대상 키
+     * @param window 집계 구간
+     * @return 점수 (없으면 0)
+     */
+    public double score(K key, HotWindow window) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        return scoreOf(entry, window, now, Math.exp(-lambda * (now - epoch)));
+    }
+
+    /**
+     * 점수 상위 키 목록 (점수 내림차순, 동점이면 키 오름차순, 0 이하 제외)
+     *
+     * @param window 집계 구간
+     * @param limit  최대 개수
+     * @return 순위 목록
+     */
+    public List<Ranked<K>> top(HotWindow window, int limit) {
+        long now = clock.getAsLong();
+        double decay = Math.exp(-lambda * (now - epoch));
+
+        List<Ranked<K>> ranked = new ArrayList<>();
+        for (Map.Entry<K, Entry> item : entries.entrySet()) {
+            double score = scoreOf(item.getValue(), window, now, decay);
+            if (score > 0) {
+                ranked.add(new Ranked<>(item.getKey(), score));
+            }
+        }
+        ranked.sort(Comparator.comparingDouble((Ranked<K> r) -> r.score())
+                .reversed()
+                .thenComparing(Ranked::key));
+        return ranked.size() > limit ? List.copyOf(ranked.subList(0, limit)) : List.copyOf(ranked);
+    }
+
+    /**
+     * 기준 시각 당기기 + 의미 없는 키 정리
+     * 감쇠 점수가 minScore 미만이고 최근 7일 활동이 없는 키 제거
+     *
+     * @param minScore 유지할 최소 감쇠 점수
+     * @return 제거된 키 수
+     */
+    public int maintain(double minScore) {
+        long now = clock.getAsLong();
+        if (now - epoch >= rebaseAfterMillis) {
+            rebase(now);
+        }
+
+        double decay = Math.exp(-lambda * (now - epoch));
+        int removed = 0;
+        for (Map.Entry<K, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            boolean idle;
+            entry.lock.lock();
+            try {
+                idle = entry.decayed * decay < minScore && entry.windowSum(now, BUCKETS) <= 0;
+            } finally {
+                entry.lock.unlock();
+            }
+            if (idle && entries.remove(item.getKey(), entry)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private double scoreOf(Entry entry, HotWindow window, long now, double decay) {
+        entry.lock.lock();
+        try {
+            return window.isWindowed() ? entry.windowSum(now, window.getHours()) : entry.decayed * decay;
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 감쇠 점수를 새 기준 시각 스케일로 변환
+     */
+    private void rebase(long newEpoch) {
+        epochLock.writeLock()
+                .lock();
+        try {
+            double factor = Math.exp(-lambda * (newEpoch - epoch));
+            entries.values()
+                    .forEach(entry -> {
+                        entry.lock.lock();
+                        try {
+                            entry.decayed *= factor;
+                        } finally {
+                            entry.lock.unlock();
+                        }
+                    });
+            epoch = newEpoch;
+        } finally {
+            epochLock.writeLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 순위 항목
+     *
+     * @param key   키
+     * @param score 점수
+     * @param <K>   키 타입
+     */
+    public record Ranked<K>(K key, double score) {
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private double decayed;
+        // 링 버퍼: 칸마다 (시간 번호, 합계)
+        private final long[] bucketHours = new long[BUCKETS];
+        private final double[] bucketSums = new double[BUCKETS];
+
+        private Entry() {
+            Arrays.fill(bucketHours, Long.MIN_VALUE);
+        }
+
+        private void addToBucket(long hour, double weight) {
+            int index = (int) Math.floorMod(hour, (long) BUCKETS);
+            if (bucketHours[index] == hour) {
+                bucketSums[index] += weight;
+            } else if (bucketHours[index] < hour) {
+                // 168시간 전 칸 재사용
+                bucketHours[index] = hour;
+                bucketSums[index] = weight;
+            }
+            // 칸에 더 최근 시간이 있으면 7일보다 오래된 활동 → 구간 점수 대상 아님
+        }
+
+        private double windowSum(long nowMillis, int hours) {
+            long currentHour = Math.floorDiv(nowMillis, HOUR_MILLIS);
+            double sum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                long age = currentHour - bucketHours[i];
+                if (age >= 0 && age < hours) {
+                    sum += bucketSums[i];
+                }
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package study.content.common.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 (자동완성 접두사 비교용)
+ * 완성형 음절을 호환 자모(ㄱ, ㅏ …) 열로 풀어서, 입력 중인 음절도 접두사로 비교할 수 있게 함
+ * <p>
+ * - 겹받침/겹모음도 낱자로 분해: "닭" = ㄷㅏㄹㄱ → "달" 입력 중에도 매칭
+ * - 받침이 다음 음절 초성으로 넘어가는 입력도 매칭: "갑" = ㄱㅏㅂ 은 "가방" = ㄱㅏㅂㅏㅇ 의 접두사
+ * - 된소리(ㄲ, ㄸ …)는 한 키로 입력하므로 분해하지 않음
+ * - 그 외 문자는 소문자로, 연속 공백은 공백 하나로
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 단독으로 입력된 겹자모 → 낱자
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 분해 + 정규화
+     *
+     * @param text 원문 (null 가능)
+     * @return 자모 열 (앞뒤 공백 제거)
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String lowered = text.toLowerCase(Locale.ROOT);
+        StringBuilder jamo = new StringBuilder(lowered.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < lowered.length(); i++) {
+            char ch = lowered.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                pendingSpace = jamo.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                jamo.append(' ');
+                pendingSpace = false;
+            }
+
+            if (ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST) {
+                int offset = ch - SYLLABLE_BASE;
+                jamo.append(INITIALS[offset / (MEDIAL_COUNT * FINAL_COUNT)])
+                        .append(MEDIALS[offset % (MEDIAL_COUNT * FINAL_COUNT) / FINAL_COUNT])
+                        .append(FINALS[offset % FINAL_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(ch);
+            jamo.append(compound >= 0 ? COMPOUND_PARTS[compound] : String.valueOf(ch));
+        }
+        return jamo.toString();
+    }
+}
@@ -0,0 +1,702 @@
+package study.content.common.search;
+
+import study.content.common.search.KoreanBigramTokenizer.Token;
+import study.content.common.search.SearchQuery.Phrase;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 내장 역색인 (제목 + 본문, 위치 포함)
+ * <p>
+ * - 문서 ID: 추가 순서대로 부여하는 int (수정 = 기존 문서 무효화 + 새 ID 로 추가)
+ * - 포스팅: 토큰별 off-heap 블록 체인에 delta + varint 로 저장 (PostingList)
+ * - 삭제: 생존 비트만 끄고, 무효 문서가 쌓이면 compact() 로 포스팅을 새 아레나에 다시 씀
+ * - 동시성: 검색은 읽기 락, 추가/삭제/압축은 쓰기 락 (토큰화는 prepare() 에서 락 밖으로)
+ * - 스냅샷: 메모리 매핑 파일로 저장/로딩 (재시작 시 토큰화 없이 포스팅 바이트만 복사)
+ */
+public class InvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x50534931; // "PSI1"
+    private static final int SNAPSHOT_VERSION = 1;
+    // 제목과 본문 사이 위치 간격 (구문이 제목 끝~본문 시작에 걸쳐 매칭되지 않도록)
+    private static final int FIELD_GAP = 8;
+    private static final double TITLE_BOOST = 5.0;
+    private static final int NO_CATEGORY = -1;
+    private static final int ANY_CATEGORY = -2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private PostingArena arena = new PostingArena();
+    private Map<String, PostingList> terms = new HashMap<>();
+
+    // 문서 테이블 (인덱스 = 문서 ID)
+    private List<String> keys = new ArrayList<>();
+    private int[] categoryOf = new int[1024];
+    private int[] contentStartOf = new int[1024];
+    private long[] versionOf = new long[1024];
+    private BitSet live = new BitSet();
+    private Map<String, Integer> docByKey = new HashMap<>();
+    private int liveDocs;
+
+    private final List<String> categories = new ArrayList<>();
+    private final Map<String, Integer> categoryIds = new HashMap<>();
+
+    // 이 시각 이전에 수정된 문서는 모두 반영됨 (epoch millis, 스냅샷과 함께 저장)
+    private long watermark;
+
+    /**
+     * 색인할 문서 준비 (토큰화, 락 없이 병렬 호출 가능)
+     *
+     * @param key      문서 키 (게시글 ID)
+     * @param version  문서 버전 (수정일시 epoch millis, 더 낮은 버전은 무시)
+     * @param category 카테고리 (null 가능)
+     * @param title    제목
+     * @param content  본문
+     * @return 색인 대기 문서
+     */
+    public static PreparedDocument prepare(String key, long version, String category, String title, String content) {
+        Map<String, Positions> grouped = new LinkedHashMap<>();
+        int contentStart = 0;
+        for (Token token : KoreanBigramTokenizer.positionalIndexTokens(title)) {
+            grouped.computeIfAbsent(token.term(), term -> new Positions())
+                    .add(token.position());
+            contentStart = token.position() + 1 + FIELD_GAP;
+        }
+        for (Token token : KoreanBigramTokenizer.positionalIndexTokens(content)) {
+            grouped.computeIfAbsent(token.term(), term -> new Positions())
+                    .add(contentStart + token.position());
+        }
+
+        Map<String, int[]> postings = new LinkedHashMap<>();
+        grouped.forEach((term, positions) -> postings.put(term, Arrays.copyOf(positions.values, positions.size)));
+        return new PreparedDocument(key, version, category, contentStart, postings);
+    }
+
+    /**
+     * 문서 추가/교체
+     *
+     * @param document 색인 대기 문서
+     * @return 반영 여부 (같거나 더 새로운 버전이 이미 있으면 false)
+     */
+    public boolean add(PreparedDocument document) {
+        lock.writeLock()
+                .lock();
+        try {
+            Integer existing = docByKey.get(document.key());
+            if (existing != null) {
+                if (versionOf[existing] >= document.version()) {
+                    return false;
+                }
+                live.clear(existing);
+                liveDocs--;
+            }
+
+            int doc = keys.size();
+            ensureDocCapacity(doc + 1);
+            keys.add(document.key());
+            categoryOf[doc] = categoryId(document.category());
+            contentStartOf[doc] = document.contentStart();
+            versionOf[doc] = document.version();
+            live.set(doc);
+            liveDocs++;
+            docByKey.put(document.key(), doc);
+
+            document.postings()
+                    .forEach((term, positions) -> terms.computeIfAbsent(term, t -> new PostingList())
+                            .add(arena, doc, positions, positions.length));
+            return true;
+        } finally {
+            lock.writeLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     *
+     * @param key 문서 키
+     * @return 제거 여부
+     */
+    public boolean remove(String key) {
+        lock.writeLock()
+                .lock();
+        try {
+            Integer doc = docByKey.remove(key);
+            if (doc == null) {
+                return false;
+            }
+            live.clear(doc);
+            liveDocs--;
+            return true;
+        } finally {
+            lock.writeLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 검색 (관련도 내림차순, 같으면 나중에 색인된 문서 우선)
+     * 관련도 = 구문별 (제목 등장 × 5 + 본문 등장) × idf 의 합
+     *
+     * @param query    질의
+     * @param category 카테고리 필터 (null 이면 전체)
+     * @param offset   건너뛸 결과 수
+     * @param limit    반환할 결과 수
+     * @return 결과 키 목록과 전체 매칭 수
+     */
+    public SearchHits search(SearchQuery query, String category, int offset, int limit) {
+        if (query.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+
+        lock.readLock()
+                .lock();
+        try {
+            int categoryFilter = ANY_CATEGORY;
+            if (category != null) {
+                Integer id = categoryIds.get(category);
+                if (id == null) {
+                    return SearchHits.EMPTY;
+                }
+                categoryFilter = id;
+            }
+
+            DocScores result = null;
+            for (List<Phrase> clause : query.clauses()) {
+                DocScores any = new DocScores();
+                for (Phrase phrase : clause) {
+                    any = DocScores.union(any, matchPhrase(phrase, categoryFilter));
+                }
+                result = result == null ? any : DocScores.intersect(result, any);
+                if (result.size == 0) {
+                    return SearchHits.EMPTY;
+                }
+            }
+            return topHits(result, offset, limit);
+        } finally {
+            lock.readLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 무효 문서를 제외하고 포스팅을 새 아레나에 다시 씀 (문서 ID 재부여, 순서 유지)
+     */
+    public void compact() {
+        lock.writeLock()
+                .lock();
+        try {
+            if (liveDocs == keys.size()) {
+                return;
+            }
+
+            int[] remap = new int[keys.size()];
+            List<String> newKeys = new ArrayList<>(liveDocs);
+            int[] newCategoryOf = new int[Math.max(liveDocs, 1024)];
+            int[] newContentStartOf = new int[newCategoryOf.length];
+            long[] newVersionOf = new long[newCategoryOf.length];
+            Map<String, Integer> newDocByKey = new HashMap<>();
+            for (int doc = 0; doc < keys.size(); doc++) {
+                if (!live.get(doc)) {
+                    remap[doc] = -1;
+                    continue;
+                }
+                int id = newKeys.size();
+                remap[doc] = id;
+                newKeys.add(keys.get(doc));
+                newCategoryOf[id] = categoryOf[doc];
+                newContentStartOf[id] = contentStartOf[doc];
+                newVersionOf[id] = versionOf[doc];
+                newDocByKey.put(keys.get(doc), id);
+            }
+
+            PostingArena newArena = new PostingArena();
+            Map<String, PostingList> newTerms = new HashMap<>();
+            terms.forEach((term, list) -> {
+                PostingList.Reader reader = list.reader(arena);
+                PostingList compacted = null;
+                for (int doc = reader.nextDoc(); doc != PostingList.NO_MORE_DOCS; doc = reader.nextDoc()) {
+                    if (remap[doc] < 0) {
+                        continue;
+                    }
+                    if (compacted == null) {
+                        compacted = new PostingList();
+                        newTerms.put(term, compacted);
+                    }
+                    compacted.add(newArena, remap[doc], reader.positions(), reader.freq());
+                }
+            });
+
+            BitSet newLive = new BitSet(newKeys.size());
+            newLive.set(0, newKeys.size());
+
+            arena = newArena;
+            terms = newTerms;
+            keys = newKeys;
+            categoryOf = newCategoryOf;
+            contentStartOf = newContentStartOf;
+            versionOf = newVersionOf;
+            live = newLive;
+            docByKey = newDocByKey;
+        } finally {
+            lock.writeLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 메모리 매핑 파일로 스냅샷 저장 (임시 파일에 쓴 뒤 교체)
+     *
+     * @param path 스냅샷 파일 경로
+     * @throws IOException 파일 쓰기 실패
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        Path directory = path.toAbsolutePath()
+                .getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        lock.readLock()
+                .lock();
+        try {
+            List<byte[]> categoryBytes = categories.stream()
+                    .map(InvertedIndex::utf8)
+                    .toList();
+            List<byte[]> keyBytes = keys.stream()
+                    .map(InvertedIndex::utf8)
+                    .toList();
+            List<Map.Entry<String, PostingList>> entries = new ArrayList<>(terms.entrySet());
+            List<byte[]> termBytes = entries.stream()
+                    .map(entry -> utf8(entry.getKey()))
+                    .toList();
+
+            long size = 4 + 4 + 8 + 4 + 4L;
+            for (byte[] bytes : categoryBytes) {
+                size += 4 + bytes.length;
+            }
+            for (byte[] bytes : keyBytes) {
+                size += 1 + 4 + bytes.length + 4 + 4 + 8;
+            }
+            size += 4;
+            for (int i = 0; i < entries.size(); i++) {
+                size += 4 + termBytes.get(i).length + 4 + 4 + 4 + entries.get(i)
+                        .getValue()
+                        .length();
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("snapshot too large: " + size + " bytes");
+            }
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC)
+                        .putInt(SNAPSHOT_VERSION)
+                        .putLong(watermark)
+                        .putInt(categoryBytes.size());
+                categoryBytes.forEach(bytes -> putBytes(buffer, bytes));
+
+                buffer.putInt(keyBytes.size());
+                for (int doc = 0; doc < keyBytes.size(); doc++) {
+                    buffer.put((byte) (live.get(doc) ? 1 : 0));
+                    putBytes(buffer, keyBytes.get(doc));
+                    buffer.putInt(categoryOf[doc])
+                            .putInt(contentStartOf[doc])
+                            .putLong(versionOf[doc]);
+                }
+
+                buffer.putInt(entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    PostingList list = entries.get(i)
+                            .getValue();
+                    putBytes(buffer, termBytes.get(i));
+                    buffer.putInt(list.docFreq())
+                            .putInt(list.lastDoc())
+                            .putInt(list.length());
+                    list.copyTo(arena, buffer, buffer.position());
+                    buffer.position(buffer.position() + list.length());
+                }
+                buffer.force();
+            }
+        } finally {
+            lock.readLock()
+                    .unlock();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 로딩 (메모리 매핑 후 포스팅 바이트를 아레나로 복사)
+     *
+     * @param path 스냅샷 파일 경로
+     * @return 인덱스
+     * @throws IOException 파일이 없거나 손상된 경우
+     */
+    public static InvertedIndex readSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("snapshot too large: " + channel.size() + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IOException("not a search index snapshot: " + path);
+            }
+
+            InvertedIndex index = new InvertedIndex();
+            index.watermark = buffer.getLong();
+
+            int categoryCount = buffer.getInt();
+            for (int i = 0; i < categoryCount; i++) {
+                index.categoryId(getString(buffer));
+            }
+
+            int docCount = buffer.getInt();
+            index.ensureDocCapacity(docCount);
+            for (int doc = 0; doc < docCount; doc++) {
+                boolean alive = buffer.get() == 1;
+                String key = getString(buffer);
+                index.keys.add(key);
+                index.categoryOf[doc] = buffer.getInt();
+                index.contentStartOf[doc] = buffer.getInt();
+                index.versionOf[doc] = buffer.getLong();
+                if (alive) {
+                    index.live.set(doc);
+                    index.liveDocs++;
+                    index.docByKey.put(key, doc);
+                }
+            }
+
+            int termCount = buffer.getInt();
+            for (int i = 0; i < termCount; i++) {
+                String term = getString(buffer);
+                int docFreq = buffer.getInt();
+                int lastDoc = buffer.getInt();
+                int length = buffer.getInt();
+                PostingList list = new PostingList();
+                list.load(index.arena, buffer, buffer.position(), length, docFreq, lastDoc);
+                buffer.position(buffer.position() + length);
+                index.terms.put(term, list);
+            }
+            return index;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("corrupted search index snapshot: " + path, e);
+        }
+    }
+
+    public long watermark() {
+        lock.readLock()
+                .lock();
+        try {
+            return watermark;
+        } finally {
+            lock.readLock()
+                    .unlock();
+        }
+    }
+
+    /**
+     * 반영 완료 시각 갱신 (뒤로 가지 않음)
+     *
+     * @param epochMillis 반영 완료 시각
+     */
+    public void advanceWatermark(long epochMillis) {
+        lock.writeLock()
+                .lock();
+        try {
+            watermark = Math.max(watermark, epochMillis);
+        } finally {
+            lock.writeLock()
+                    .unlock();
+        }
+    }
+
+    public int liveDocs() {
+        lock.readLock()
+                .lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock()
+                    .unlock();
+        }
+    }
+
+    public int deadDocs() {
+        lock.readLock()
+                .lock();
+        try {
+            return keys.size() - liveDocs;
+        } finally {
+            lock.readLock()
+                    .unlock();
+        }
+    }
+
+    public long offHeapBytes() {
+        lock.readLock()
+                .lock();
+        try {
+            return arena.reservedBytes();
+        } finally {
+            lock.readLock()
+                    .unlock();
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 구문 매칭 (가장 드문 토큰 기준으로 교집합 후 위치 확인)
+     */
+    private DocScores matchPhrase(Phrase phrase, int categoryFilter) {
+        List<Token> tokens = phrase.tokens();
+        PostingList.Reader[] readers = new PostingList.Reader[tokens.size()];
+        int[] offsets = new int[tokens.size()];
+        int lead = 0;
+        int leadFreq = Integer.MAX_VALUE;
+        for (int i = 0; i < tokens.size(); i++) {
+            PostingList list = terms.get(tokens.get(i)
+                    .term());
+            if (list == null) {
+                return new DocScores();
+            }
+            readers[i] = list.reader(arena);
+            offsets[i] = tokens.get(i)
+                    .position() - tokens.get(0)
+                    .position();
+            if (list.docFreq() < leadFreq) {
+                lead = i;
+                leadFreq = list.docFreq();
+            }
+        }
+
+        DocScores matches = new DocScores();
+        int candidate = readers[lead].nextDoc();
+        while (candidate != PostingList.NO_MORE_DOCS) {
+            int next = candidate;
+            for (int i = 0; i < readers.length && next == candidate; i++) {
+                if (i != lead) {
+                    next = readers[i].advance(candidate);
+                }
+            }
+            if (next != candidate) {
+                candidate = readers[lead].advance(next);
+                continue;
+            }
+
+            if (live.get(candidate) && (categoryFilter == ANY_CATEGORY || categoryOf[candidate] == categoryFilter)) {
+                double score = phraseScore(candidate, readers, offsets);
+                if (score > 0) {
+                    matches.add(candidate, score);
+                }
+            }
+            candidate = readers[lead].nextDoc();
+        }
+
+        // 드문 구문일수록 가중치 (OR 결합 시 흔한 토큰이 순위를 독점하지 않도록)
+        double idf = Math.log(1 + (double) liveDocs / (1 + matches.size));
+        for (int i = 0; i < matches.size; i++) {
+            matches.scores[i] *= idf;
+        }
+        return matches;
+    }
+
+    /**
+     * 모든 토큰이 상대 위치대로 등장하는 시작 위치 수 (제목 가중치 적용)
+     */
+    private double phraseScore(int doc, PostingList.Reader[] readers, int[] offsets) {
+        int[] starts = readers[0].positions();
+        int startCount = readers[0].freq();
+        double score = 0;
+        for (int s = 0; s < startCount; s++) {
+            int start = starts[s];
+            boolean matched = true;
+            for (int i = 1; i < readers.length && matched; i++) {
+                matched = Arrays.binarySearch(readers[i].positions(), 0, readers[i].freq(), start + offsets[i]) >= 0;
+            }
+            if (matched) {
+                score += start < contentStartOf[doc] ? TITLE_BOOST : 1.0;
+            }
+        }
+        return score;
+    }
+
+    private SearchHits topHits(DocScores result, int offset, int limit) {
+        int total = result.size;
+        int wanted = (int) Math.min(total, (long) offset + limit);
+        if (offset >= wanted) {
+            return new SearchHits(List.of(), total);
+        }
+
+        // 상위 wanted 개만 유지하는 최소 힙
+        PriorityQueue<Integer> heap = new PriorityQueue<>(wanted, (a, b) -> compareHits(result, a, b));
+        for (int i = 0; i < total; i++) {
+            if (heap.size() < wanted) {
+                heap.add(i);
+            } else if (compareHits(result, i, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        String[] ranked = new String[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = keys.get(result.docs[heap.poll()]);
+        }
+        return new SearchHits(List.of(ranked)
+                .subList(offset, ranked.length), total);
+    }
+
+    private static int compareHits(DocScores result, int a, int b) {
+        int byScore = Double.compare(result.scores[a], result.scores[b]);
+        return byScore != 0 ? byScore : Integer.compare(result.docs[a], result.docs[b]);
+    }
+
+    private int categoryId(String category) {
+        if (category == null) {
+            return NO_CATEGORY;
+        }
+        return categoryIds.computeIfAbsent(category, c -> {
+            categories.add(c);
+            return categories.size() - 1;
+        });
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > categoryOf.length) {
+            int grown = Math.max(capacity, categoryOf.length * 2);
+            categoryOf = Arrays.copyOf(categoryOf, grown);
+            contentStartOf = Arrays.copyOf(contentStartOf, grown);
+            versionOf = Arrays.copyOf(versionOf, grown);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length)
+                .put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 색인 대기 문서 (토큰별 등장 위치)
+     *
+     * @param key          문서 키
+     * @param version      문서 버전
+     * @param category     카테고리 (null 가능)
+     * @param contentStart 본문 시작 위치 (이보다 앞은 제목)
+     * @param postings     토큰 → 등장 위치 (오름차순)
+     */
+    public record PreparedDocument(String key, long version, String category, int contentStart,
+                                   Map<String, int[]> postings) {
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param keys  순위순 문서 키 (요청 구간만)
+     * @param total 전체 매칭 문서 수
+     */
+    public record SearchHits(List<String> keys, int total) {
+        public static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+    }
+
+    /**
+     * 위치 누적 버퍼
+     */
+    private static final class Positions {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+    }
+
+    /**
+     * 문서 ID 오름차순 매칭 결과 (병합용)
+     */
+    private static final class DocScores {
+        private int[] docs = new int[16];
+        private double[] scores = new double[16];
+        private int size;
+
+        private void add(int doc, double score) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            docs[size] = doc;
+            scores[size++] = score;
+        }
+
+        private static DocScores union(DocScores a, DocScores b) {
+            if (a.size == 0) {
+                return b;
+            }
+            if (b.size == 0) {
+                return a;
+            }
+            DocScores merged = new DocScores();
+            int i = 0;
+            int j = 0;
+            while (i < a.size || j < b.size) {
+                if (j == b.size || (i < a.size && a.docs[i] < b.docs[j])) {
+                    merged.add(a.docs[i], a.scores[i++]);
+                } else if (i == a.size || b.docs[j] < a.docs[i]) {
+                    merged.add(b.docs[j], b.scores[j++]);
+                } else {
+                    merged.add(a.docs[i], a.scores[i++] + b.scores[j++]);
+                }
+            }
+            return merged;
+        }
+
+        private static DocScores intersect(DocScores a, DocScores b) {
+            DocScores merged = new DocScores();
+            int i = 0;
+            int j = 0;
+            while (i < a.size && j < b.size) {
+                if (a.docs[i] < b.docs[j]) {
+                    i++;
+                } else if (b.docs[j] < a.docs[i]) {
+                    j++;
+                } else {
+                    merged.add(a.docs[i], a.scores[i++] + b.scores[j++]);
+                }
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package study.content.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 검색용 토크나이저 (문자 bigram)
+ * 한국어는 조사/어미가 붙어 공백 단위 토큰으로는 "게시판에서" 가 "게시판" 과 매칭되지 않으므로
+ * 한글/한자/가나 구간은 2글자씩 겹쳐 자른 bigram 으로, 그 외 문자(영문/숫자)는 단어 단위로 토큰화
+ * <p>
+ * - 정규화: NFKC + 소문자 (전각 문자, 대소문자 차이 제거)
+ * - 색인: bigram + 1글자(unigram) → 1글자 검색어도 매칭
+ * - 검색: 2글자 이상이면 bigram 만, 1글자 구간이면 unigram
+ * 예) "스프링부트 Spring" → 색인 [스, 프, 링, 부, 트, 스프, 프링, 링부, 부트, spring]
+ */
+public final class KoreanBigramTokenizer {
+
+    // 문서 하나당 색인 토큰 상한 (매우 긴 본문의 인덱스 크기 제한)
+    public static final int MAX_INDEX_TOKENS = 4_000;
+
+    private KoreanBigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (중복 제거, 등장 순서 유지)
+     *
+     * @param text 원문 (null 가능)
+     * @return 토큰 목록
+     */
+    public static List<String> indexTokens(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거)
+     *
+     * @param keyword 검색어 (null 가능)
+     * @return 토큰 목록 (검색 가능한 문자가 없으면 빈 목록)
+     */
+    public static List<String> queryTokens(String keyword) {
+        return tokenize(keyword, false);
+    }
+
+    /**
+     * bigram 대상 문자 여부 (한글 음절/자모, 한자, 가나)
+     *
+     * @param ch 문자
+     * @return bigram 대상 여부
+     */
+    public static boolean isBigramChar(char ch) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(ch);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_JAMO
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+                || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || block == Character.UnicodeBlock.HIRAGANA
+                || block == Character.UnicodeBlock.KATAKANA;
+    }
+
+    /**
+     * 검색용 정규화 (NFKC + 소문자)
+     *
+     * @param text 원문
+     * @return 정규화된 문자열
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 위치 포함 색인 토큰 (구문 검색용, 중복 포함)
+     * 한글 등은 글자마다 위치 1 증가 (그 위치에서 시작하는 unigram, bigram 을 같은 위치에 기록),
+     * 영문/숫자는 단어마다 위치 1 증가, 공백/기호는 위치를 차지하지 않음
+     *
+     * @param text 원문 (null 가능)
+     * @return 위치순 토큰 목록
+     */
+    public static List<Token> positionalIndexTokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        scan(text, (run, bigramRun, position) -> {
+            if (!bigramRun) {
+                tokens.add(new Token(run, position));
+                return;
+            }
+            for (int i = 0; i < run.length(); i++) {
+                tokens.add(new Token(run.substring(i, i + 1), position + i));
+                if (i + 1 < run.length()) {
+                    tokens.add(new Token(run.substring(i, i + 2), position + i));
+                }
+            }
+        });
+        return tokens;
+    }
+
+    /**
+     * 위치 포함 검색어 토큰 (구문 검색용)
+     * 2글자 이상 구간은 bigram 만, 1글자 구간은 unigram
+     *
+     * @param phrase 검색 구문 (null 가능)
+     * @return 위치순 토큰 목록
+     */
+    public static List<Token> positionalQueryTokens(String phrase) {
+        List<Token> tokens = new ArrayList<>();
+        scan(phrase, (run, bigramRun, position) -> {
+            if (!bigramRun || run.length() == 1) {
+                tokens.add(new Token(run.substring(0, bigramRun ? 1 : run.length()), position));
+                return;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(new Token(run.substring(i, i + 2), position + i));
+            }
+        });
+        return tokens;
+    }
+
+    /**
+     * 위치 포함 토큰
+     *
+     * @param term     토큰
+     * @param position 위치 (한글은 글자 단위, 영문/숫자는 단어 단위)
+     */
+    public record Token(String term, int position) {
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        Set<String> tokens = new LinkedHashSet<>();
+        scan(text, (run, bigramRun, position) -> {
+            if (tokens.size() >= MAX_INDEX_TOKENS) {
+                return;
+            }
+            if (bigramRun) {
+                addBigrams(run, forIndex, tokens);
+            } else {
+                tokens.add(run);
+            }
+        });
+
+        List<String> result = new ArrayList<>(tokens);
+        return result.size() > MAX_INDEX_TOKENS ? result.subList(0, MAX_INDEX_TOKENS) : result;
+    }
+
+    /**
+     * 정규화된 문자열을 구간(bigram 대상 문자 연속 구간 / 영문·숫자 단어) 단위로 순회
+     *
+     * @param text    원문 (null 가능)
+     * @param visitor 구간 처리
+     */
+    private static void scan(String text, RunVisitor visitor) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int position = 0;
+        int i = 0;
+
+        while (i < length) {
+            char ch = normalized.charAt(i);
+            if (isBigramChar(ch)) {
+                int end = i;
+                while (end < length && isBigramChar(normalized.charAt(end))) {
+                    end++;
+                }
+                visitor.visit(normalized.substring(i, end), true, position);
+                position += end - i;
+                i = end;
+            } else if (Character.isLetterOrDigit(ch)) {
+                int end = i;
+                while (end < length && Character.isLetterOrDigit(normalized.charAt(end))
+                        && !isBigramChar(normalized.charAt(end))) {
+                    end++;
+                }
+                visitor.visit(normalized.substring(i, end), false, position);
+                position++;
+                i = end;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void addBigrams(String run, boolean forIndex, Set<String> tokens) {
+        if (run.length() == 1 || forIndex) {
+            for (int i = 0; i < run.length(); i++) {
+                tokens.add(run.substring(i, i + 1));
+            }
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunVisitor {
+        void visit(String run, boolean bigramRun, int position);
+    }
+}
@@ -0,0 +1,106 @@
+package study.content.common.search;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문(에디터 HTML) → 평문 변환
+ * 목록용 발췌문(excerpt)과 검색 스니펫이 태그/엔티티 없이 읽히도록 사용
+ * <p>
+ * - script/style 블록 제거, 나머지 태그는 공백으로 치환 (블록 경계에서 단어가 붙지 않도록)
+ * - 자주 쓰는 이름 엔티티와 숫자 엔티티만 복원
+ * - 연속 공백은 하나로
+ */
+public final class PlainText {
+
+    private static final String ELLIPSIS = "…";
+    // 발췌문을 단어 경계에서 자를 때 뒤로 물러날 수 있는 최대 글자 수
+    private static final int WORD_BOUNDARY_SLACK = 20;
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)\\b[^>]*>.*?</\\1\\s*>");
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern ENTITY = Pattern.compile("&(#[0-9]{1,7}|#[xX][0-9a-fA-F]{1,6}|[a-zA-Z]{2,6});");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\u00A0]+");
+
+    private PlainText() {
+    }
+
+    /**
+     * HTML → 평문
+     *
+     * @param html 본문 (null 가능)
+     * @return 평문 (null 이면 빈 문자열)
+     */
+    public static String of(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        String text = SCRIPT_OR_STYLE.matcher(html)
+                .replaceAll(" ");
+        text = TAG.matcher(text)
+                .replaceAll(" ");
+        text = decodeEntities(text);
+        return WHITESPACE.matcher(text)
+                .replaceAll(" ")
+                .trim();
+    }
+
+    /**
+     * 평문 발췌문 (앞부분 maxLength 글자, 넘으면 단어 경계에서 자르고 … 추가)
+     *
+     * @param html      본문 (null 가능)
+     * @param maxLength 최대 글자 수 (… 제외)
+     * @return 발췌문
+     */
+    public static String excerpt(String html, int maxLength) {
+        String text = of(html);
+        if (text.length() <= maxLength) {
+            return text;
+        }
+
+        int end = maxLength;
+        // 서로게이트 쌍(이모지 등) 중간에서 자르지 않음
+        if (Character.isLowSurrogate(text.charAt(end)) && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        int space = text.lastIndexOf(' ', end);
+        if (space > 0 && end - space <= WORD_BOUNDARY_SLACK) {
+            end = space;
+        }
+        return text.substring(0, end)
+                .stripTrailing() + ELLIPSIS;
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private static String decodeEntities(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        Matcher matcher = ENTITY.matcher(text);
+        StringBuilder decoded = new StringBuilder(text.length());
+        while (matcher.find()) {
+            String replacement = decodeEntity(matcher.group(1));
+            matcher.appendReplacement(decoded, Matcher.quoteReplacement(replacement != null ? replacement : matcher.group()));
+        }
+        matcher.appendTail(decoded);
+        return decoded.toString();
+    }
+
+    private static String decodeEntity(String name) {
+        if (name.charAt(0) == '#') {
+            boolean hex = name.length() > 1 && (name.charAt(1) == 'x' || name.charAt(1) == 'X');
+            int codePoint = Integer.parseInt(name.substring(hex ? 2 : 1), hex ? 16 : 10);
+            return Character.isValidCodePoint(codePoint) ? new String(Character.toChars(codePoint)) : null;
+        }
+        return switch (name) {
+            case "amp" -> "&";
+            case "lt" -> "<";
+            case "gt" -> ">";
+            case "quot" -> "\"";
+            case "apos" -> "'";
+            case "nbsp" -> " ";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package study.content.common.search;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포스팅 리스트 저장용 off-heap 메모리 (1MB direct ByteBuffer 슬랩)
+ * 블록 단위 bump 할당만 지원하고 개별 해제는 없음 (압축 시 새 아레나에 다시 씀)
+ * <p>
+ * 주소(int) = 슬랩 번호 &lt;&lt; 20 | 슬랩 내 오프셋 → 최대 2GB
+ * 할당은 InvertedIndex 쓰기 락 안에서만, 읽기는 절대 위치 get 만 사용 (동시 읽기 안전)
+ */
+final class PostingArena {
+
+    static final int SLAB_BITS = 20;
+    static final int SLAB_SIZE = 1 << SLAB_BITS;
+    private static final int OFFSET_MASK = SLAB_SIZE - 1;
+    private static final int MAX_SLABS = Integer.MAX_VALUE >>> SLAB_BITS;
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private int slabUsed = SLAB_SIZE;
+
+    /**
+     * 연속 영역 할당
+     *
+     * @param bytes 크기 (슬랩 크기 이하)
+     * @return 주소
+     */
+    int allocate(int bytes) {
+        if (bytes > SLAB_SIZE) {
+            throw new IllegalArgumentException("block larger than slab: " + bytes);
+        }
+        if (slabUsed + bytes > SLAB_SIZE) {
+            if (slabs.size() >= MAX_SLABS) {
+                throw new IllegalStateException("posting arena is full");
+            }
+            slabs.add(ByteBuffer.allocateDirect(SLAB_SIZE));
+            slabUsed = 0;
+        }
+        int address = ((slabs.size() - 1) << SLAB_BITS) | slabUsed;
+        slabUsed += bytes;
+        return address;
+    }
+
+    byte get(int address) {
+        return slabs.get(address >>> SLAB_BITS)
+                .get(address & OFFSET_MASK);
+    }
+
+    void put(int address, byte value) {
+        slabs.get(address >>> SLAB_BITS)
+                .put(address & OFFSET_MASK, value);
+    }
+
+    int getInt(int address) {
+        return slabs.get(address >>> SLAB_BITS)
+                .getInt(address & OFFSET_MASK);
+    }
+
+    void putInt(int address, int value) {
+        slabs.get(address >>> SLAB_BITS)
+                .putInt(address & OFFSET_MASK, value);
+    }
+
+    /**
+     * 외부 버퍼 → 아레나 복사 (같은 슬랩 안의 연속 영역이어야 함)
+     */
+    void copyFrom(ByteBuffer source, int sourceOffset, int address, int length) {
+        slabs.get(address >>> SLAB_BITS)
+                .put(address & OFFSET_MASK, source, sourceOffset, length);
+    }
+
+    /**
+     * 아레나 → 외부 버퍼 복사 (같은 슬랩 안의 연속 영역이어야 함)
+     */
+    void copyTo(int address, ByteBuffer target, int targetOffset, int length) {
+        target.put(targetOffset, slabs.get(address >>> SLAB_BITS), address & OFFSET_MASK, length);
+    }
+
+    /**
+     * 확보한 off-heap 메모리 크기
+     *
+     * @return 바이트 수
+     */
+    long reservedBytes() {
+        return (long) slabs.size() * SLAB_SIZE;
+    }
+}
@@ -0,0 +1,254 @@
+package study.content.common.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 단일 토큰의 포스팅 리스트 (off-heap 블록 체인)
+ * 문서 ID 는 증가 순으로만 추가되므로 차이값(delta)을 varint 로 저장
+ * <p>
+ * - 항목: varint(문서 ID 차이) · varint(등장 횟수) · 등장 횟수만큼 varint(위치 차이)
+ * - 블록: [다음 블록 주소 int][용량 int][데이터] → 16B 부터 두 배씩, 최대 4KB
+ * - 힙에는 블록 위치와 길이 등 메타데이터만 유지
+ */
+final class PostingList {
+
+    static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+
+    private static final int HEADER = 8;
+    private static final int FIRST_BLOCK = 16;
+    private static final int MAX_BLOCK = 4096;
+
+    private int head = -1;
+    private int tail = -1;
+    private int tailUsed;
+    private int tailCapacity;
+    private int length;
+    private int docFreq;
+    private int lastDoc = -1;
+
+    /**
+     * 문서 추가 (문서 ID 는 직전 문서보다 커야 함)
+     *
+     * @param arena     저장 아레나
+     * @param doc       문서 ID
+     * @param positions 등장 위치 (오름차순)
+     * @param count     positions 중 유효 개수
+     */
+    void add(PostingArena arena, int doc, int[] positions, int count) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("doc ids must increase: " + doc + " <= " + lastDoc);
+        }
+        writeVarint(arena, doc - lastDoc);
+        writeVarint(arena, count);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            writeVarint(arena, positions[i] - previous);
+            previous = positions[i];
+        }
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    /**
+     * 인코딩된 바이트를 그대로 이어 붙임 (스냅샷 로딩용, 빈 리스트에만 호출)
+     *
+     * @param arena   저장 아레나
+     * @param source  인코딩된 포스팅 바이트
+     * @param offset  시작 위치
+     * @param bytes   길이
+     * @param docFreq 문서 수
+     * @param lastDoc 마지막 문서 ID
+     */
+    void load(PostingArena arena, ByteBuffer source, int offset, int bytes, int docFreq, int lastDoc) {
+        int copied = 0;
+        while (copied < bytes) {
+            if (tail < 0 || tailUsed == tailCapacity) {
+                newBlock(arena, Math.min(bytes - copied, PostingArena.SLAB_SIZE - HEADER));
+            }
+            int chunk = Math.min(bytes - copied, tailCapacity - tailUsed);
+            arena.copyFrom(source, offset + copied, tail + HEADER + tailUsed, chunk);
+            tailUsed += chunk;
+            copied += chunk;
+        }
+        this.length = bytes;
+        this.docFreq = docFreq;
+        this.lastDoc = lastDoc;
+    }
+
+    /**
+     * 인코딩된 바이트를 외부 버퍼에 복사 (스냅샷 저장용)
+     *
+     * @param arena  저장 아레나
+     * @param target 대상 버퍼
+     * @param offset 대상 시작 위치
+     */
+    void copyTo(PostingArena arena, ByteBuffer target, int offset) {
+        int block = head;
+        int remaining = length;
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, arena.getInt(block + 4));
+            arena.copyTo(block + HEADER, target, offset, chunk);
+            offset += chunk;
+            remaining -= chunk;
+            block = arena.getInt(block);
+        }
+    }
+
+    int length() {
+        return length;
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    int lastDoc() {
+        return lastDoc;
+    }
+
+    Reader reader(PostingArena arena) {
+        return new Reader(arena, head, length);
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private void writeVarint(PostingArena arena, int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte(arena, (byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte(arena, (byte) value);
+    }
+
+    private void writeByte(PostingArena arena, byte value) {
+        if (tail < 0 || tailUsed == tailCapacity) {
+            newBlock(arena, tail < 0 ? FIRST_BLOCK : Math.min(tailCapacity * 2, MAX_BLOCK));
+        }
+        arena.put(tail + HEADER + tailUsed++, value);
+        length++;
+    }
+
+    private void newBlock(PostingArena arena, int capacity) {
+        int block = arena.allocate(HEADER + capacity);
+        arena.putInt(block, -1);
+        arena.putInt(block + 4, capacity);
+        if (tail >= 0) {
+            arena.putInt(tail, block);
+        } else {
+            head = block;
+        }
+        tail = block;
+        tailCapacity = capacity;
+        tailUsed = 0;
+    }
+
+    /**
+     * 포스팅 순회 (문서 ID 오름차순, 위치는 필요할 때만 디코딩)
+     */
+    static final class Reader {
+
+        private final PostingArena arena;
+        private int block;
+        private int blockOffset;
+        private int blockCapacity;
+        private int remaining;
+
+        private int doc = -1;
+        private int freq;
+        private boolean positionsRead = true;
+        private int[] positions = new int[8];
+
+        private Reader(PostingArena arena, int head, int length) {
+            this.arena = arena;
+            this.block = head;
+            this.blockCapacity = head >= 0 ? arena.getInt(head + 4) : 0;
+            this.remaining = length;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int freq() {
+            return freq;
+        }
+
+        /**
+         * 다음 문서
+         *
+         * @return 문서 ID (끝이면 NO_MORE_DOCS)
+         */
+        int nextDoc() {
+            if (!positionsRead) {
+                for (int i = 0; i < freq; i++) {
+                    readVarint();
+                }
+                positionsRead = true;
+            }
+            if (remaining == 0) {
+                doc = NO_MORE_DOCS;
+                return doc;
+            }
+            doc += readVarint();
+            freq = readVarint();
+            positionsRead = false;
+            return doc;
+        }
+
+        /**
+         * target 이상인 첫 문서까지 이동
+         *
+         * @param target 목표 문서 ID
+         * @return 문서 ID (끝이면 NO_MORE_DOCS)
+         */
+        int advance(int target) {
+            while (doc < target) {
+                nextDoc();
+            }
+            return doc;
+        }
+
+        /**
+         * 현재 문서의 등장 위치 (오름차순, 앞의 freq 개만 유효, 다음 호출 시 재사용되는 배열)
+         *
+         * @return 위치 배열
+         */
+        int[] positions() {
+            if (!positionsRead) {
+                if (positions.length < freq) {
+                    positions = Arrays.copyOf(positions, Integer.highestOneBit(freq) << 1);
+                }
+                int position = 0;
+                for (int i = 0; i < freq; i++) {
+                    position += readVarint();
+                    positions[i] = position;
+                }
+                positionsRead = true;
+            }
+            return positions;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = readByte();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private byte readByte() {
+            if (blockOffset == blockCapacity) {
+                block = arena.getInt(block);
+                blockCapacity = arena.getInt(block + 4);
+                blockOffset = 0;
+            }
+            remaining--;
+            return arena.get(block + HEADER + blockOffset++);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package study.content.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 자동완성용 불변 압축 접두사 트리 (radix trie, 자모 단위 키)
+ * 노드마다 하위 항목 중 가중치 상위 N개를 미리 계산해 두므로 조회는 접두사 길이만큼의 탐색으로 끝남
+ * <p>
+ * - 키: 제목의 각 단어 시작 위치부터의 자모 열 (제목 중간 단어로도 검색, 항목당 최대 MAX_KEYS_PER_ENTRY 개)
+ * - 간선: 분기 없는 구간은 한 간선(char[])으로 압축
+ * - 갱신 없음: 변경은 호출자가 별도로 모았다가 주기적으로 새로 빌드해서 교체
+ */
+public final class PrefixSuggestIndex {
+
+    public static final int MAX_KEYS_PER_ENTRY = 8;
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingLong(Entry::weight)
+            .reversed()
+            .thenComparing(Entry::title);
+    private static final Node EMPTY_NODE = new Node(new char[0], new char[0], new Node[0], new Entry[0]);
+
+    private final Node root;
+    private final int size;
+
+    private PrefixSuggestIndex(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static PrefixSuggestIndex empty() {
+        return new PrefixSuggestIndex(EMPTY_NODE, 0);
+    }
+
+    /**
+     * 빌드
+     *
+     * @param entries    항목 (ID 중복 없음)
+     * @param topPerNode 노드별로 미리 계산할 상위 항목 수
+     * @return 인덱스
+     */
+    public static PrefixSuggestIndex build(Collection<Entry> entries, int topPerNode) {
+        List<Key> keys = new ArrayList<>();
+        for (Entry entry : entries) {
+            for (String key : keysOf(entry.title())) {
+                keys.add(new Key(key, entry));
+            }
+        }
+        if (keys.isEmpty()) {
+            return empty();
+        }
+        keys.sort(Comparator.comparing(Key::jamo));
+        return new PrefixSuggestIndex(build(keys, 0, keys.size(), 0, new char[0], topPerNode), entries.size());
+    }
+
+    /**
+     * 제목의 검색 키 (단어 시작 위치마다 자모 열)
+     *
+     * @param title 제목
+     * @return 자모 키 목록 (중복 제거)
+     */
+    public static List<String> keysOf(String title) {
+        String jamo = HangulJamo.decompose(title);
+        Set<String> keys = new LinkedHashSet<>();
+        int start = 0;
+        while (start < jamo.length() && keys.size() < MAX_KEYS_PER_ENTRY) {
+            keys.add(jamo.substring(start));
+            int space = jamo.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * 접두사로 시작하는 키를 가진 항목 (가중치 내림차순, 최대 topPerNode 개)
+     *
+     * @param jamoPrefix 자모 분해된 접두사 (HangulJamo.decompose)
+     * @return 항목 목록
+     */
+    public List<Entry> lookup(String jamoPrefix) {
+        Node node = root;
+        int i = 0;
+        while (i < jamoPrefix.length()) {
+            int child = Arrays.binarySearch(node.firstChars, jamoPrefix.charAt(i));
+            if (child < 0) {
+                return List.of();
+            }
+            node = node.children[child];
+            for (int j = 0; j < node.label.length && i < jamoPrefix.length(); j++, i++) {
+                if (node.label[j] != jamoPrefix.charAt(i)) {
+                    return List.of();
+                }
+            }
+        }
+        return Arrays.asList(node.top);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * [from, to) 범위의 키(정렬됨, depth 까지 공통)로 노드 생성
+     */
+    private static Node build(List<Key> keys, int from, int to, int depth, char[] label, int topPerNode) {
+        List<Entry> candidates = new ArrayList<>();
+        List<Character> firstChars = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+
+        int i = from;
+        // 이 노드에서 끝나는 키 (정렬상 앞쪽)
+        while (i < to && keys.get(i).jamo.length() == depth) {
+            candidates.add(keys.get(i).entry);
+            i++;
+        }
+        while (i < to) {
+            char first = keys.get(i).jamo.charAt(depth);
+            int end = i + 1;
+            while (end < to && keys.get(end).jamo.charAt(depth) == first) {
+                end++;
+            }
+            // 정렬된 범위의 공통 접두사 = 첫 키와 마지막 키의 공통 접두사
+            int common = commonPrefix(keys.get(i).jamo, keys.get(end - 1).jamo, depth);
+            Node child = build(keys, i, end, common, keys.get(i).jamo.substring(depth, common)
+                    .toCharArray(), topPerNode);
+            firstChars.add(first);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top));
+            i = end;
+        }
+
+        char[] firsts = new char[firstChars.size()];
+        for (int c = 0; c < firsts.length; c++) {
+            firsts[c] = firstChars.get(c);
+        }
+        Entry[] top = candidates.stream()
+                .distinct()
+                .sorted(BY_WEIGHT)
+                .limit(topPerNode)
+                .toArray(Entry[]::new);
+        return new Node(label, firsts, children.toArray(new Node[0]), top);
+    }
+
+    private static int commonPrefix(String a, String b, int from) {
+        int limit = Math.min(a.length(), b.length());
+        int i = from;
+        while (i < limit && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 자동완성 항목
+     *
+     * @param id     게시글 ID
+     * @param title  제목
+     * @param weight 인기 가중치 (클수록 앞)
+     */
+    public record Entry(String id, String title, long weight) {
+    }
+
+    private record Key(String jamo, Entry entry) {
+    }
+
+    private record Node(char[] label, char[] firstChars, Node[] children, Entry[] top) {
+    }
+}
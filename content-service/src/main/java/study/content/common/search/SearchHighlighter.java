@@ -0,0 +1,98 @@
+package study.content.common.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 하이라이트
+ * 검색어 토큰이 등장하는 구간을 &lt;em&gt; 으로 감싸고, 나머지는 HTML 이스케이프
+ * 본문은 첫 매칭 위치 주변만 잘라서 스니펫으로 제공
+ */
+public final class SearchHighlighter {
+
+    private static final String ELLIPSIS = "…";
+
+    private SearchHighlighter() {
+    }
+
+    /**
+     * 하이라이트 적용
+     *
+     * @param text        원문 (null 가능)
+     * @param queryTokens 검색어 토큰 (KoreanBigramTokenizer.queryTokens)
+     * @param maxLength   결과 최대 길이 (원문 기준 글자 수, 넘으면 첫 매칭 주변만)
+     * @return 하이라이트된 HTML (매칭이 없으면 null)
+     */
+    public static String highlight(String text, List<String> queryTokens, int maxLength) {
+        if (text == null || text.isEmpty() || queryTokens.isEmpty()) {
+            return null;
+        }
+
+        // 글자 수를 유지하는 소문자 변환 (위치 계산용)
+        char[] lowered = text.toCharArray();
+        for (int i = 0; i < lowered.length; i++) {
+            lowered[i] = Character.toLowerCase(lowered[i]);
+        }
+        String haystack = new String(lowered);
+
+        boolean[] marked = new boolean[text.length()];
+        int firstMatch = -1;
+        for (String token : queryTokens) {
+            int from = 0;
+            int index;
+            while ((index = haystack.indexOf(token, from)) >= 0) {
+                for (int i = index; i < index + token.length(); i++) {
+                    marked[i] = true;
+                }
+                if (firstMatch < 0 || index < firstMatch) {
+                    firstMatch = index;
+                }
+                from = index + 1;
+            }
+        }
+        if (firstMatch < 0) {
+            return null;
+        }
+
+        // 첫 매칭이 앞쪽 1/4 지점에 오도록 구간 선택
+        int start = 0;
+        int end = text.length();
+        if (text.length() > maxLength) {
+            start = Math.max(0, Math.min(firstMatch - maxLength / 4, text.length() - maxLength));
+            end = start + maxLength;
+        }
+
+        StringBuilder html = new StringBuilder();
+        if (start > 0) {
+            html.append(ELLIPSIS);
+        }
+        boolean open = false;
+        for (int i = start; i < end; i++) {
+            if (marked[i] && !open) {
+                html.append("<em>");
+                open = true;
+            } else if (!marked[i] && open) {
+                html.append("</em>");
+                open = false;
+            }
+            appendEscaped(html, text.charAt(i));
+        }
+        if (open) {
+            html.append("</em>");
+        }
+        if (end < text.length()) {
+            html.append(ELLIPSIS);
+        }
+        return html.toString();
+    }
+
+    private static void appendEscaped(StringBuilder html, char ch) {
+        switch (ch) {
+            case '<' -> html.append("&lt;");
+            case '>' -> html.append("&gt;");
+            case '&' -> html.append("&amp;");
+            case '"' -> html.append("&quot;");
+            case '\'' -> html.append("&#39;");
+            default -> html.append(ch);
+        }
+    }
+}
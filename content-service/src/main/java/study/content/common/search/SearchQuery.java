@@ -0,0 +1,107 @@
+package study.content.common.search;
+
+import study.content.common.search.KoreanBigramTokenizer.Token;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 내장 검색 인덱스 질의
+ * <p>
+ * - 공백으로 구분된 항목은 모두 포함 (AND)
+ * - 항목 사이의 대문자 OR 는 둘 중 하나 (OR 가 AND 보다 먼저 묶임: "a b OR c" = a AND (b OR c))
+ * - 큰따옴표로 감싼 구문은 순서대로 붙어 있어야 매칭 (phrase)
+ * - 따옴표 없는 항목도 항목 안의 토큰은 붙어 있어야 함 (예: "게시판" 은 "게시"+"시판" 연속)
+ *
+ * @param clauses AND 로 묶인 절 목록 (각 절은 OR 로 묶인 구문 목록)
+ */
+public record SearchQuery(List<List<Phrase>> clauses) {
+
+    private static final String OR = "OR";
+
+    /**
+     * 질의 문자열 해석
+     *
+     * @param query 질의 문자열 (null 가능)
+     * @return 질의 (검색 가능한 토큰이 없으면 빈 질의)
+     */
+    public static SearchQuery parse(String query) {
+        List<List<Phrase>> clauses = new ArrayList<>();
+        if (query == null) {
+            return new SearchQuery(clauses);
+        }
+
+        boolean pendingOr = false;
+        int i = 0;
+        while (i < query.length()) {
+            char ch = query.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                i++;
+                continue;
+            }
+
+            String text;
+            boolean quoted = ch == '"';
+            if (quoted) {
+                int close = query.indexOf('"', i + 1);
+                int end = close < 0 ? query.length() : close;
+                text = query.substring(i + 1, end);
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end)) && query.charAt(end) != '"') {
+                    end++;
+                }
+                text = query.substring(i, end);
+                i = end;
+            }
+
+            if (!quoted && OR.equals(text)) {
+                pendingOr = !clauses.isEmpty();
+                continue;
+            }
+
+            List<Token> tokens = KoreanBigramTokenizer.positionalQueryTokens(text);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            Phrase phrase = new Phrase(tokens);
+            if (pendingOr) {
+                clauses.get(clauses.size() - 1)
+                        .add(phrase);
+            } else {
+                List<Phrase> clause = new ArrayList<>();
+                clause.add(phrase);
+                clauses.add(clause);
+            }
+            pendingOr = false;
+        }
+        return new SearchQuery(clauses);
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    /**
+     * 하이라이트용 토큰 (모든 구문의 토큰, 중복 제거)
+     *
+     * @return 토큰 목록
+     */
+    public List<String> terms() {
+        Set<String> terms = new LinkedHashSet<>();
+        clauses.forEach(clause -> clause.forEach(phrase -> phrase.tokens()
+                .forEach(token -> terms.add(token.term()))));
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 연속으로 등장해야 하는 토큰 목록
+     *
+     * @param tokens 위치 포함 토큰 (위치는 구문 안의 상대 위치로 사용)
+     */
+    public record Phrase(List<Token> tokens) {
+    }
+}
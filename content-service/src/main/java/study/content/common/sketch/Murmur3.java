@@ -0,0 +1,123 @@
+package study.content.common.sketch;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MurmurHash3 x64 128비트 중 하위 64비트
+ * 스케치 입력용 비암호화 해시 (분포가 균등하고 빠름)
+ */
+public final class Murmur3 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private Murmur3() {
+    }
+
+    /**
+     * 문자열 해시 (UTF-8)
+     *
+     * @param value 문자열
+     * @return 64비트 해시
+     */
+    public static long hash64(String value) {
+        return hash64(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 바이트 배열 해시 (seed 0)
+     *
+     * @param data 입력
+     * @return 64비트 해시
+     */
+    public static long hash64(byte[] data) {
+        long h1 = 0;
+        long h2 = 0;
+        int length = data.length;
+        int blocks = length / 16;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLong(data, i * 16);
+            long k2 = getLong(data, i * 16 + 8);
+
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        // tail
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        switch (length & 15) {
+            case 15: k2 ^= (data[tail + 14] & 0xFFL) << 48;
+            case 14: k2 ^= (data[tail + 13] & 0xFFL) << 40;
+            case 13: k2 ^= (data[tail + 12] & 0xFFL) << 32;
+            case 12: k2 ^= (data[tail + 11] & 0xFFL) << 24;
+            case 11: k2 ^= (data[tail + 10] & 0xFFL) << 16;
+            case 10: k2 ^= (data[tail + 9] & 0xFFL) << 8;
+            case 9:
+                k2 ^= data[tail + 8] & 0xFFL;
+                k2 *= C2;
+                k2 = Long.rotateLeft(k2, 33);
+                k2 *= C1;
+                h2 ^= k2;
+            case 8: k1 ^= (data[tail + 7] & 0xFFL) << 56;
+            case 7: k1 ^= (data[tail + 6] & 0xFFL) << 48;
+            case 6: k1 ^= (data[tail + 5] & 0xFFL) << 40;
+            case 5: k1 ^= (data[tail + 4] & 0xFFL) << 32;
+            case 4: k1 ^= (data[tail + 3] & 0xFFL) << 24;
+            case 3: k1 ^= (data[tail + 2] & 0xFFL) << 16;
+            case 2: k1 ^= (data[tail + 1] & 0xFFL) << 8;
+            case 1:
+                k1 ^= data[tail] & 0xFFL;
+                k1 *= C1;
+                k1 = Long.rotateLeft(k1, 31);
+                k1 *= C2;
+                h1 ^= k1;
+            default:
+                break;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        return h1;
+    }
+
+    private static long getLong(byte[] data, int offset) {
+        return (data[offset] & 0xFFL)
+                | (data[offset + 1] & 0xFFL) << 8
+                | (data[offset + 2] & 0xFFL) << 16
+                | (data[offset + 3] & 0xFFL) << 24
+                | (data[offset + 4] & 0xFFL) << 32
+                | (data[offset + 5] & 0xFFL) << 40
+                | (data[offset + 6] & 0xFFL) << 48
+                | (data[offset + 7] & 0xFFL) << 56;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,22 @@
+package study.content.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import study.common.lib.util.TotalCountCache;
+
+import java.time.Duration;
+
+/**
+ * 페이징 설정
+ * - 목록 전체 개수 캐시: 페이지마다 count 쿼리를 반복하지 않도록 쿼리 형태별로 TTL 동안 재사용
+ */
+@Configuration
+public class PagingConfig {
+
+    @Bean
+    public TotalCountCache totalCountCache(@Value("${content.paging.total-cache.ttl-ms:30000}") long ttlMillis,
+                                           @Value("${content.paging.total-cache.max-entries:10000}") int maxEntries) {
+        return new TotalCountCache(Duration.ofMillis(ttlMillis), maxEntries);
+    }
+}
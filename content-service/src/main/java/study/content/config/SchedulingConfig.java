@@ -0,0 +1,13 @@
+package study.content.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 카운터 보정 등 주기적으로 실행되는 배치 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
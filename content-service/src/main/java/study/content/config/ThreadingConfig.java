@@ -0,0 +1,53 @@
+package study.content.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import study.content.common.concurrent.FanoutExecutor;
+
+/**
+ * 스레드 설정
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행하면 가상 스레드 모드
+ * (Tomcat 요청 처리는 Spring Boot 가 전환, 요청 내부 병렬 조회는 여기서 전환)
+ * - 그 외에는 기존처럼 플랫폼 스레드 (Java 17 에서는 설정을 켜도 무시됨)
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final String FANOUT_THREAD_PREFIX = "fanout-";
+
+    /**
+     * 요청 내부 병렬 조회 실행기
+     * - 가상 스레드: 작업마다 새 가상 스레드, 동시 실행 수 상한(virtual-concurrency-limit)을 넘으면 대기열 없이 즉시 거절
+     * (스레드는 싸지만 Mongo 커넥션 풀은 유한하므로 커넥션 대기만 쌓이지 않도록)
+     * - 플랫폼 스레드: 고정 크기 풀(platform-threads) + 제한된 대기열, 가득 차면 거절
+     * 두 모드 모두 상한에서 제출 스레드를 블로킹하지 않음 (블로킹하면 PostPageService 의 제한 시간이 제출 단계에서 무력화됨)
+     * 거절된 작업은 FanoutExecutor 가 처리: 선택 조회는 실패한 future, 필수 조회는 호출 스레드에서 실행
+     */
+    @Bean
+    public FanoutExecutor fanoutExecutor(Environment environment,
+                                         @Value("${content.fanout.platform-threads:32}") int platformThreads,
+                                         @Value("${content.fanout.virtual-concurrency-limit:1000}") int virtualConcurrencyLimit) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(FANOUT_THREAD_PREFIX);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setRejectTasksWhenLimitReached(true);
+            return new FanoutExecutor(executor, executor::close);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(FANOUT_THREAD_PREFIX);
+        executor.setCorePoolSize(platformThreads);
+        executor.setMaxPoolSize(platformThreads);
+        executor.setQueueCapacity(platformThreads * 4);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        executor.initialize();
+        return new FanoutExecutor(executor, executor::shutdown);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import study.common.lib.exception.BaseException;
 import study.common.lib.exception.ErrorCode;
+import study.common.lib.response.CursorPageResponse;
 import study.common.lib.response.PageResponse;
 import study.common.lib.response.ResponseVO;
 import study.content.dto.comment.CommentRequest;
@@ -129,6 +130,64 @@ public class CommentController {
         return ResponseVO.ok(comments);
     }
 
+    /**
+     * 특정 게시글의 최상위 댓글 목록 조회 (커서 페이징)
+     * cursor 파라미터가 있으면 커서 모드 (빈 값이면 첫 페이지)
+     *
+     * @param postId      게시글 ID
+     * @param cursor      이전 응답의 nextCursor
+     * @param size        페이지 크기
+     * @param sort        정렬 방식 (LATEST, OLDEST)
+     * @param httpRequest HTTP 요청(username이 있으면 작성자 여부 확인)
+     * @return 최상위 댓글 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping(value = "/posts/{postId}/comments", params = "cursor")
+    public ResponseVO<CursorPageResponse<CommentResponse>> getRootCommentsByCursor(@PathVariable String postId,
+                                                                                   @RequestParam String cursor,
+                                                                                   @RequestParam(defaultValue = "10") int size,
+                                                                                   @RequestParam(defaultValue = "LATEST") String sort,
+                                                                                   HttpServletRequest httpRequest
+    ) {
+        String currentUsername = (String) httpRequest.getAttribute("username");
+
+        log.debug("최상위 댓글 목록 커서 조회 - postId: {}, size: {}, sort: {}", postId, size, sort);
+
+        CursorPageResponse<CommentResponse> comments = commentService.getRootCommentsByCursor(
+                postId, cursor, size, sort, currentUsername);
+        return ResponseVO.ok(comments);
+    }
+
+    /**
+     * 특정 게시글의 댓글 스레드 조회 (페이징)
+     * 최상위 댓글마다 대댓글 수와 앞쪽 대댓글 미리보기를 포함 (댓글마다 대댓글을 따로 조회하지 않도록)
+     * 전체 개수 없이 다음 페이지 여부만 제공 (전체 댓글 수는 게시글의 commentCount)
+     *
+     * @param postId      게시글 ID
+     * @param page        페이지 번호(0부터 시작)
+     * @param size        페이지 크기
+     * @param sort        정렬 방식 (LATEST, OLDEST)
+     * @param replies     댓글별 대댓글 미리보기 개수 (최대 10)
+     * @param httpRequest HTTP 요청(username이 있으면 좋아요 여부 포함)
+     * @return 댓글 스레드 목록
+     */
+    @GetMapping("/posts/{postId}/comments/thread")
+    public ResponseVO<PageResponse<CommentResponse>> getCommentThreads(@PathVariable String postId,
+                                                                       @RequestParam(defaultValue = "0") int page,
+                                                                       @RequestParam(defaultValue = "10") int size,
+                                                                       @RequestParam(defaultValue = "LATEST") String sort,
+                                                                       @RequestParam(defaultValue = "3") int replies,
+                                                                       HttpServletRequest httpRequest
+    ) {
+        String currentUsername = (String) httpRequest.getAttribute("username");
+
+        log.debug("댓글 스레드 조회 - postId: {}, page: {}, size: {}, sort: {}, replies: {}",
+                postId, page, size, sort, replies);
+
+        PageResponse<CommentResponse> threads = commentService.getCommentThreads(
+                postId, page, size, sort, replies, currentUsername);
+        return ResponseVO.ok(threads);
+    }
+
     /**
      * 특정 댓글의 대댓글 목록 조회 (페이징)
      *
@@ -156,6 +215,32 @@ public class CommentController {
         return ResponseVO.ok(replies);
     }
 
+    /**
+     * 특정 댓글의 대댓글 목록 조회 (커서 페이징, 작성순)
+     *
+     * @param postId      게시글 ID
+     * @param commentId   부모 댓글 ID
+     * @param cursor      이전 응답의 nextCursor (빈 값이면 첫 페이지)
+     * @param size        페이지 크기
+     * @param httpRequest HTTP 요청
+     * @return 대댓글 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping(value = "/posts/{postId}/comments/{commentId}/replies", params = "cursor")
+    public ResponseVO<CursorPageResponse<CommentResponse>> getRepliesByCursor(@PathVariable String postId,
+                                                                              @PathVariable String commentId,
+                                                                              @RequestParam String cursor,
+                                                                              @RequestParam(defaultValue = "10") int size,
+                                                                              HttpServletRequest httpRequest
+    ) {
+        String currentUsername = (String) httpRequest.getAttribute("username");
+
+        log.debug("대댓글 목록 커서 조회 - postId: {}, commentId: {}, size: {}", postId, commentId, size);
+
+        CursorPageResponse<CommentResponse> replies = commentService.getRepliesByCursor(
+                postId, commentId, cursor, size, currentUsername);
+        return ResponseVO.ok(replies);
+    }
+
     // ======================= Private 헬퍼 메서드 =======================
 
     /**
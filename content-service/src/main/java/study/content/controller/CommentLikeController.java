@@ -3,8 +3,10 @@ package study.content.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import study.common.lib.exception.BaseException;
@@ -39,14 +41,67 @@ public class CommentLikeController {
             HttpServletRequest httpRequest
     ) {
         // 1. 인증 확인 (로그인 필수)
-        String username = (String) httpRequest.getAttribute("username");
+        String username = extractUsername(httpRequest);
+        log.info("댓글 좋아요 토글 요청: commentId: {}, username: {}", commentId, username);
+
+        LikeResponse response = likeService.toggleLikeAndGetInfo(commentId, Like.TargetType.COMMENT, username);
+        return ResponseVO.ok(response);
+    }
+
+    /**
+     * 댓글 좋아요 설정 (멱등)
+     * 이미 좋아요 상태여도 200, 좋아요 수는 변하지 않음
+     *
+     * @param commentId   댓글 ID
+     * @param httpRequest HTTP 요청 (JWT 에서 username 추출)
+     * @return CommentLikeResponse (좋아요 상태 + 개수)
+     */
+    @PutMapping("/comments/{commentId}/like")
+    public ResponseVO<LikeResponse> likeComment(
+            @PathVariable String commentId,
+            HttpServletRequest httpRequest
+    ) {
+        String username = extractUsername(httpRequest);
+        log.info("댓글 좋아요 요청: commentId: {}, username: {}", commentId, username);
+
+        LikeResponse response = likeService.likeAndGetInfo(commentId, Like.TargetType.COMMENT, username);
+        return ResponseVO.ok(response);
+    }
+
+    /**
+     * 댓글 좋아요 해제 (멱등)
+     * 좋아요가 없어도 200, 좋아요 수는 변하지 않음
+     *
+     * @param commentId   댓글 ID
+     * @param httpRequest HTTP 요청 (JWT 에서 username 추출)
+     * @return CommentLikeResponse (좋아요 상태 + 개수)
+     */
+    @DeleteMapping("/comments/{commentId}/like")
+    public ResponseVO<LikeResponse> unlikeComment(
+            @PathVariable String commentId,
+            HttpServletRequest httpRequest
+    ) {
+        String username = extractUsername(httpRequest);
+        log.info("댓글 좋아요 해제 요청: commentId: {}, username: {}", commentId, username);
+
+        LikeResponse response = likeService.unlikeAndGetInfo(commentId, Like.TargetType.COMMENT, username);
+        return ResponseVO.ok(response);
+    }
+
+    /**
+     * HTTP 요청에서 username 추출 및 검증
+     *
+     * @param request HTTP 요청
+     * @return username
+     */
+    private String extractUsername(HttpServletRequest request) {
+        String username = (String) request.getAttribute("username");
+
         if (username == null) {
             log.warn("인증되지 않은 좋아요 요청");
             throw new BaseException(ErrorCode.UNAUTHORIZED);
         }
-        log.info("댓글 좋아요 토글 요청: commentId: {}, username: {}", commentId, username);
 
-        LikeResponse response = likeService.toggleLikeAndGetInfo(commentId, Like.TargetType.COMMENT, username);
-        return ResponseVO.ok(response);
+        return username;
     }
 }
@@ -7,12 +7,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import study.common.lib.exception.BaseException;
 import study.common.lib.exception.ErrorCode;
+import study.common.lib.response.CursorPageResponse;
 import study.common.lib.response.PageResponse;
 import study.common.lib.response.ResponseVO;
+import study.content.common.enums.HotWindow;
+import study.content.dto.post.PostDeletionResponse;
+import study.content.dto.post.PostPageResponse;
 import study.content.dto.post.PostRequest;
 import study.content.dto.post.PostResponse;
+import study.content.dto.post.PostSummaryResponse;
+import study.content.dto.post.PostSuggestionResponse;
 import study.content.entity.Post;
+import study.content.service.PostPageService;
 import study.content.service.PostService;
+import study.content.service.UniqueViewerCounter;
 
 import java.util.List;
 
@@ -27,6 +35,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostPageService postPageService;
 
     /**
      * 게시글 생성
@@ -58,12 +67,50 @@ public class PostController {
      * @return 게시글 목록 (페이지 정보 포함)
      */
     @GetMapping
-    public ResponseVO<PageResponse<PostResponse>> getPosts(
+    public ResponseVO<PageResponse<PostSummaryResponse>> getPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         log.info("게시글 목록 조회 - page: {}, size: {}", page, size);
 
-        PageResponse<PostResponse> posts = postService.getPosts(page, size);
+        PageResponse<PostSummaryResponse> posts = postService.getPosts(page, size);
+        return ResponseVO.ok(posts);
+    }
+
+    /**
+     * 게시글 목록 조회(커서 페이징)
+     * cursor 파라미터가 있으면 커서 모드 (빈 값이면 첫 페이지), 최신순으로 정렬
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param size   페이지 크기
+     * @return 게시글 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping(params = {"cursor", "!sort"})
+    public ResponseVO<CursorPageResponse<PostSummaryResponse>> getPostsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("게시글 목록 커서 조회 - size: {}", size);
+
+        CursorPageResponse<PostSummaryResponse> posts = postService.getPostsByCursor(cursor, size);
+        return ResponseVO.ok(posts);
+    }
+
+    /**
+     * HOT(트렌딩) 게시글 목록 조회(커서 페이징)
+     * 조회/좋아요/댓글 활동에 시간 감쇠를 적용한 점수순
+     *
+     * @param window 집계 구간 (all: 시간 감쇠, 24h: 최근 24시간, 7d: 최근 7일)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기
+     * @return 게시글 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping(params = "sort=HOT")
+    public ResponseVO<CursorPageResponse<PostSummaryResponse>> getHotPosts(
+            @RequestParam(defaultValue = "all") String window,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("HOT 게시글 목록 조회 - window: {}, size: {}", window, size);
+
+        CursorPageResponse<PostSummaryResponse> posts = postService.getHotPosts(HotWindow.fromString(window), cursor, size);
         return ResponseVO.ok(posts);
     }
 
@@ -84,32 +131,70 @@ public class PostController {
         log.info("게시글 상세 조회 - postId: {}, viewer: {}",
                 id, username != null ? username : "비로그인");
 
-        PostResponse post = postService.getPost(id, username);
+        PostResponse post = postService.getPost(id, username, resolveViewerKey(username, httpRequest));
         return ResponseVO.ok(post);
     }
 
+    /**
+     * 게시글 상세 화면 조회
+     * 게시글 + 좋아요 정보 + 첫 댓글 페이지를 한 번에 반환 (조회수 1 증가)
+     * 좋아요 정보/댓글이 제한 시간 안에 조회되지 않으면 빼고 반환 (missingSections)
+     *
+     * @param id          게시글 ID
+     * @param httpRequest HTTP 요청(username이 있으면 로그인 사용자)
+     * @return 게시글 상세 화면 정보
+     */
+    @GetMapping("/{id}/page")
+    public ResponseVO<PostPageResponse> getPostPage(@PathVariable String id, HttpServletRequest httpRequest) {
+
+        String username = (String) httpRequest.getAttribute("username");
+
+        log.info("게시글 상세 화면 조회 - postId: {}, viewer: {}",
+                id, username != null ? username : "비로그인");
+
+        return ResponseVO.ok(postPageService.getPostPage(id, username, resolveViewerKey(username, httpRequest)));
+    }
+
     /**
      * 게시글 검색
-     * 제목과 내용에서 키워드 검색
+     * 제목과 내용에서 키워드 검색 (공백 = AND, OR, "구문" 지원)
      *
-     * @param keyword 검색 키워드
-     * @param page    페이지 번호
-     * @param size    페이지 크기
+     * @param keyword  검색 키워드
+     * @param category 카테고리 (선택)
+     * @param page     페이지 번호
+     * @param size     페이지 크기
      * @return 검색된 게시글 목록
      */
     @GetMapping("/search")
-    public ResponseVO<PageResponse<PostResponse>> searchPosts(
+    public ResponseVO<PageResponse<PostSummaryResponse>> searchPosts(
             @RequestParam String keyword,
+            @RequestParam(required = false) String category,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        log.info("게시글 검색 - keyword: {}, page: {}, size: {}",
-                keyword, page, size);
+        log.info("게시글 검색 - keyword: {}, category: {}, page: {}, size: {}",
+                keyword, category, page, size);
 
-        PageResponse<PostResponse> posts = postService.searchPosts(keyword, page, size);
+        PageResponse<PostSummaryResponse> posts = postService.searchPosts(keyword, category, page, size);
         return ResponseVO.ok(posts);
     }
 
+    /**
+     * 제목 자동완성
+     * 입력 중인 검색어(자모 단위 접두사 포함)로 시작하는 제목을 인기순으로 반환
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size   최대 개수 (기본 10)
+     * @return 자동완성 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseVO<List<PostSuggestionResponse>> suggestTitles(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseVO.ok(postService.suggestTitles(prefix, size));
+    }
+
     /**
      * 인기 게시글 조회
      * 조회수 기준 상위 10개 게시글을 반환
@@ -117,10 +202,10 @@ public class PostController {
      * @return 인기 게시글 목록(최대 10개)
      */
     @GetMapping("/popular")
-    public ResponseVO<List<PostResponse>> getPopularPosts() {
+    public ResponseVO<List<PostSummaryResponse>> getPopularPosts() {
         log.info("인기 게시글 조회");
 
-        List<PostResponse> posts = postService.getPopularPosts();
+        List<PostSummaryResponse> posts = postService.getPopularPosts();
         return ResponseVO.ok(posts);
     }
 
@@ -151,20 +236,37 @@ public class PostController {
      * 게시글 삭제(소프트 삭제)
      * 작성자만 삭제 가능
      * 실제로는 상태만 DELETED로 변경되며 데이터는 유지됨
+     * 댓글이 많으면 댓글 정리는 백그라운드로 진행 (status = RUNNING, 진행 상황은 /{id}/deletion 으로 조회)
      *
      * @param id          게시글 ID
      * @param httpRequest HTTP 요청(username 포함)
-     * @return 삭제 완료 응답
+     * @return 삭제 결과
      */
     @DeleteMapping("/{id}")
-    public ResponseVO<Void> deletePost(@PathVariable String id, HttpServletRequest httpRequest) {
+    public ResponseVO<PostDeletionResponse> deletePost(@PathVariable String id, HttpServletRequest httpRequest) {
 
         String username = extractUsername(httpRequest);
 
         log.info("게시글 삭제 요청 - postId: {}, author: {}", id, username);
 
-        postService.deletePost(id, username);
-        return ResponseVO.deleteOk();
+        PostDeletionResponse result = postService.deletePost(id, username);
+        return ResponseVO.ok("삭제되었습니다.", result);
+    }
+
+    /**
+     * 게시글 삭제 진행 상황 조회
+     * 백그라운드로 넘어간 댓글 정리의 진행 상황 (작성자만 조회 가능)
+     *
+     * @param id          게시글 ID
+     * @param httpRequest HTTP 요청(username 포함)
+     * @return 진행 상황
+     */
+    @GetMapping("/{id}/deletion")
+    public ResponseVO<PostDeletionResponse> getDeletionProgress(@PathVariable String id, HttpServletRequest httpRequest) {
+
+        String username = extractUsername(httpRequest);
+
+        return ResponseVO.ok(postService.getDeletionProgress(id, username));
     }
 
     /**
@@ -186,4 +288,21 @@ public class PostController {
 
         return username;
     }
+
+    /**
+     * 고유 조회자 키 생성
+     * 로그인 사용자는 username, 비로그인은 클라이언트 IP + User-Agent 해시
+     * 클라이언트 IP 는 신뢰하는 프록시의 X-Forwarded-For 만 반영된 remoteAddr 사용 (server.forward-headers-strategy)
+     *
+     * @param username 사용자명 (비로그인 시 null)
+     * @param request  HTTP 요청
+     * @return 조회자 키
+     */
+    private String resolveViewerKey(String username, HttpServletRequest request) {
+        if (username != null) {
+            return UniqueViewerCounter.userViewerKey(username);
+        }
+
+        return UniqueViewerCounter.anonymousViewerKey(request.getRemoteAddr(), request.getHeader("User-Agent"));
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import study.common.lib.exception.BaseException;
 import study.common.lib.exception.ErrorCode;
 import study.common.lib.response.ResponseVO;
+import study.content.dto.comment.BulkLikeResponse;
 import study.content.dto.comment.LikeResponse;
 import study.content.entity.Like;
 import study.content.service.LikeService;
@@ -47,6 +48,48 @@ public class PostLikeController {
         return ResponseVO.ok(response);
     }
 
+    /**
+     * 게시글 좋아요 설정 (멱등)
+     * 이미 좋아요 상태여도 200, 좋아요 수는 변하지 않음
+     *
+     * @param postId      게시글 ID
+     * @param httpRequest 사용자명 추출
+     * @return 좋아요 정보
+     */
+    @PutMapping("/{postId}/like")
+    public ResponseVO<LikeResponse> likePost(
+            @PathVariable String postId,
+            HttpServletRequest httpRequest
+    ) {
+        String username = extractUsername(httpRequest);
+
+        log.info("게시글 좋아요 요청: postId: {}, username: {}", postId, username);
+
+        LikeResponse response = likeService.likeAndGetInfo(postId, Like.TargetType.POST, username);
+        return ResponseVO.ok(response);
+    }
+
+    /**
+     * 게시글 좋아요 해제 (멱등)
+     * 좋아요가 없어도 200, 좋아요 수는 변하지 않음
+     *
+     * @param postId      게시글 ID
+     * @param httpRequest 사용자명 추출
+     * @return 좋아요 정보
+     */
+    @DeleteMapping("/{postId}/like")
+    public ResponseVO<LikeResponse> unlikePost(
+            @PathVariable String postId,
+            HttpServletRequest httpRequest
+    ) {
+        String username = extractUsername(httpRequest);
+
+        log.info("게시글 좋아요 해제 요청: postId: {}, username: {}", postId, username);
+
+        LikeResponse response = likeService.unlikeAndGetInfo(postId, Like.TargetType.POST, username);
+        return ResponseVO.ok(response);
+    }
+
     /**
      * 여러 개의 좋아요 개수 일괄 조회
      *
@@ -65,6 +108,30 @@ public class PostLikeController {
         return ResponseVO.ok(likeCounts);
     }
 
+    /**
+     * 여러 게시글의 좋아요 개수 + 현재 사용자 좋아요 여부 일괄 조회
+     * 목록 한 페이지를 한 번의 호출로 렌더링하기 위한 용도
+     *
+     * @param postIds     게시글 ID 목록
+     * @param httpRequest 사용자명 (비로그인 시 좋아요 여부 맵 생략)
+     * @return 게시글 ID별 좋아요 개수 및 좋아요 여부
+     */
+    @PostMapping("/bulk-like-info")
+    public ResponseVO<BulkLikeResponse> getBulkPostLikeInfo(
+            @RequestBody List<String> postIds,
+            HttpServletRequest httpRequest
+    ) {
+        validatePostIds(postIds);
+
+        String username = (String) httpRequest.getAttribute("username");
+
+        log.debug("게시글 좋아요 정보 일괄 조회 - count: {}, user: {}",
+                postIds.size(), username != null ? username : "비로그인");
+
+        BulkLikeResponse response = likeService.getBulkLikeInfo(postIds, Like.TargetType.POST, username);
+        return ResponseVO.ok(response);
+    }
+
     /**
      * 특정 게시글의 좋아요 정보 조회
      *
@@ -9,10 +9,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import study.common.lib.exception.BaseException;
 import study.common.lib.exception.ErrorCode;
+import study.common.lib.response.CursorPageResponse;
 import study.common.lib.response.PageResponse;
 import study.common.lib.response.ResponseVO;
 import study.content.dto.comment.CommentResponse;
-import study.content.dto.post.PostResponse;
+import study.content.dto.post.PostSummaryResponse;
 import study.content.dto.user.UserStatsResponse;
 import study.content.service.UserService;
 
@@ -56,7 +57,7 @@ public class UserController {
      * @return 내가 쓴 게시글 목록
      */
     @GetMapping("/my-posts")
-    public ResponseVO<PageResponse<PostResponse>> getMyPosts(
+    public ResponseVO<PageResponse<PostSummaryResponse>> getMyPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             HttpServletRequest httpRequest
@@ -66,7 +67,7 @@ public class UserController {
 
         log.info("내가 쓴 글 조회: username: {}, page: {}, size: {}", username, page, size);
 
-        PageResponse<PostResponse> myPosts = userService.getMyPosts(username, page, size);
+        PageResponse<PostSummaryResponse> myPosts = userService.getMyPosts(username, page, size);
         return ResponseVO.ok(myPosts);
     }
 
@@ -92,6 +93,47 @@ public class UserController {
         return ResponseVO.ok(myComments);
     }
 
+    /**
+     * 내가 작성한 게시글 목록 조회(커서 페이징)
+     * cursor 파라미터가 있으면 커서 모드 (빈 값이면 첫 페이지)
+     *
+     * @param cursor      이전 응답의 nextCursor
+     * @param size        페이지 크기
+     * @param httpRequest HTTP 요청(username 포함)
+     * @return 내가 쓴 게시글 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping(value = "/my-posts", params = "cursor")
+    public ResponseVO<CursorPageResponse<PostSummaryResponse>> getMyPostsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest httpRequest
+    ) {
+        String username = extractUsername(httpRequest);
+
+        CursorPageResponse<PostSummaryResponse> myPosts = userService.getMyPostsByCursor(username, cursor, size);
+        return ResponseVO.ok(myPosts);
+    }
+
+    /**
+     * 내가 작성한 댓글 목록 조회(커서 페이징)
+     *
+     * @param cursor      이전 응답의 nextCursor (빈 값이면 첫 페이지)
+     * @param size        페이지 크기
+     * @param httpRequest HTTP 요청(username 포함)
+     * @return 내가 쓴 댓글 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping(value = "/my-comments", params = "cursor")
+    public ResponseVO<CursorPageResponse<CommentResponse>> getMyCommentsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest httpRequest
+    ) {
+        String username = extractUsername(httpRequest);
+
+        CursorPageResponse<CommentResponse> myComments = userService.getMyCommentsByCursor(username, cursor, size);
+        return ResponseVO.ok(myComments);
+    }
+
     /**
      * HTTP 요청에서 username 추출 및 검증
      *
@@ -0,0 +1,31 @@
+package study.content.dto.comment;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 좋아요 일괄 조회 응답 DTO
+ * 목록 화면 한 페이지의 좋아요 개수 + 현재 사용자 좋아요 여부를 한 번에 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkLikeResponse {
+
+    /**
+     * 대상 ID별 좋아요 개수 (좋아요가 없으면 0)
+     */
+    private Map<String, Long> likeCounts;
+
+    /**
+     * 대상 ID별 현재 사용자 좋아요 여부 (비로그인 시 null)
+     */
+    private Map<String, Boolean> likedByCurrentUser;
+}
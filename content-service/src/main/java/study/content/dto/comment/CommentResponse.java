@@ -1,11 +1,14 @@
 package study.content.dto.comment;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import study.content.entity.Comment;
 
+import java.util.List;
+
 /**
  * 댓글 응답 DTO
  */
@@ -41,6 +44,19 @@ public class CommentResponse {
      */
     private Boolean isReply;
 
+    // ======================= 스레드 조회 정보 (최상위 댓글만) =======================
+    /**
+     * 활성 대댓글 수
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long replyCount;
+
+    /**
+     * 앞쪽 대댓글 미리보기 (작성순)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentResponse> replies;
+
     // ======================= 변환 메서드 =======================
 
     /**
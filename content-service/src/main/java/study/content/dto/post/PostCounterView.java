@@ -0,0 +1,18 @@
+package study.content.dto.post;
+
+/**
+ * 실시간 카운터(반영 대기 조회수, 샤드 합계)를 합산할 수 있는 게시글 응답
+ * 상세(PostResponse)와 목록(PostSummaryResponse)에 같은 합산 로직을 적용하기 위한 공통 타입
+ */
+public interface PostCounterView {
+
+    String getId();
+
+    Integer getViewCount();
+
+    void setViewCount(Integer viewCount);
+
+    Long getLikeCount();
+
+    void setLikeCount(Long likeCount);
+}
@@ -0,0 +1,47 @@
+package study.content.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import study.content.entity.PostDeletionJob;
+import study.content.entity.PostDeletionJob.JobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제 결과 / 진행 상황
+ * 댓글이 적으면 삭제 요청 안에서 끝나므로 COMPLETED, 많으면 RUNNING 으로 응답하고 진행 상황 API 로 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostDeletionResponse {
+
+    private String postId;
+    private JobStatus status;
+    private long expectedComments;
+    private long deletedComments;
+    private long deletedCommentLikes;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * 백그라운드 작업 → 응답 DTO
+     *
+     * @param job 삭제 작업
+     * @return 응답 DTO
+     */
+    public static PostDeletionResponse from(PostDeletionJob job) {
+        return PostDeletionResponse.builder()
+                .postId(job.getPostId())
+                .status(job.getStatus())
+                .expectedComments(job.getExpectedComments())
+                .deletedComments(job.getDeletedComments())
+                .deletedCommentLikes(job.getDeletedCommentLikes())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
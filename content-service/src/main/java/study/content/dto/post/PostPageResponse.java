@@ -0,0 +1,45 @@
+package study.content.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import study.common.lib.response.PageResponse;
+import study.content.dto.comment.CommentResponse;
+import study.content.dto.comment.LikeResponse;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면 응답 (게시글 + 좋아요 정보 + 첫 댓글 페이지)
+ * 좋아요 정보/댓글은 선택 구간 → 제한 시간 안에 못 받으면 null 로 두고 missingSections 에 표시
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostPageResponse {
+
+    public static final String LIKE_INFO = "likeInfo";
+    public static final String COMMENTS = "comments";
+
+    /**
+     * 게시글 (댓글 수 commentCount 포함)
+     */
+    private PostResponse post;
+
+    /**
+     * 좋아요 수 + 현재 사용자 좋아요 여부
+     */
+    private LikeResponse likeInfo;
+
+    /**
+     * 첫 댓글 페이지 (댓글 스레드, 대댓글 미리보기 포함)
+     */
+    private PageResponse<CommentResponse> comments;
+
+    /**
+     * 제한 시간 초과/실패로 빠진 구간 (비어 있으면 전체 응답)
+     */
+    private List<String> missingSections;
+}
@@ -7,17 +7,19 @@ import study.content.entity.Post;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class PostResponse {
+public class PostResponse implements PostCounterView {
 
     private String id;
     private String title;
     private String content;
     private String author;
     private Integer viewCount;
+    private Long likeCount;
     private String category;
     private String createdAt;
     private String updatedAt;
     private Long commentCount;
+    private Long uniqueViewers; // 고유 조회자 수 추정값 (HyperLogLog)
 
     // Entity -> DTO 변환 메서드
     public static PostResponse from(Post post, String currentUser) {
@@ -27,6 +29,8 @@ public class PostResponse {
                 .content(post.getContent())
                 .author(post.getAuthor())
                 .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
                 .category(post.getCategory())
                 .createdAt(post.getCreatedAt()
                         .toString())
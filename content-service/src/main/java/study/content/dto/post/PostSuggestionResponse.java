@@ -0,0 +1,19 @@
+package study.content.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제목 자동완성 항목
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSuggestionResponse {
+
+    private String id;
+    private String title;
+}
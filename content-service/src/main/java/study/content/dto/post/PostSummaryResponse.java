@@ -0,0 +1,53 @@
+package study.content.dto.post;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import study.content.entity.Post;
+
+/**
+ * 게시글 목록 응답 (본문 대신 작성 시 생성한 평문 발췌문만 포함)
+ * 목록 조회는 본문을 제외한 projection 으로 읽으므로 content 필드가 없음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PostSummaryResponse implements PostCounterView {
+
+    private String id;
+    private String title;
+    private String excerpt;
+    private String author;
+    private Integer viewCount;
+    private Long likeCount;
+    private String category;
+    private String createdAt;
+    private String updatedAt;
+    private Long commentCount;
+    private Long uniqueViewers; // 고유 조회자 수 추정값 (HyperLogLog)
+
+    // 검색 결과 하이라이트 (HTML 이스케이프 + 매칭 구간 <em>, 검색 응답에서만 포함)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlightedTitle;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlightedContent;
+
+    // Entity -> DTO 변환 메서드
+    public static PostSummaryResponse from(Post post) {
+        return PostSummaryResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .excerpt(post.getExcerpt())
+                .author(post.getAuthor())
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .category(post.getCategory())
+                .createdAt(post.getCreatedAt()
+                        .toString())
+                .updatedAt(post.getUpdatedAt()
+                        .toString())
+                .build();
+    }
+
+}
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,33 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Document(collection = "comments")
+// 활성 댓글만 조회하는 쿼리용 인덱스는 status: ACTIVE 부분 인덱스 (삭제된 댓글은 인덱스에 넣지 않음)
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "active_post_parent_created_id_idx",
+                def = "{'postId': 1, 'parentCommentId': 1, 'createdAt': -1, '_id': -1}", // 댓글/대댓글 페이징/키셋(양방향)/개수, 게시글별 전체 활성 댓글
+                partialFilter = "{'status': 'ACTIVE'}"
+        ),
+        @CompoundIndex(
+                name = "active_author_created_id_idx",
+                def = "{'author': 1, 'createdAt': -1, '_id': -1}", // 내가 쓴 댓글 (페이징/키셋/개수)
+                partialFilter = "{'status': 'ACTIVE'}"
+        ),
+        @CompoundIndex(
+                name = "active_parent_idx",
+                def = "{'parentCommentId': 1}", // 부모 댓글 삭제 시 대댓글 조회
+                partialFilter = "{'status': 'ACTIVE', 'parentCommentId': {$exists: true}}" // 최상위 댓글(부모 없음)은 제외
+        ),
+        @CompoundIndex(
+                name = "deleted_status_updated_id_idx",
+                def = "{'status': 1, 'updatedAt': 1, '_id': 1}", // 보관 기간이 지난 삭제 문서 보관 이동 (DeletedContentArchiver)
+                partialFilter = "{'status': 'DELETED'}"
+        ),
+        @CompoundIndex(
+                name = "post_idx",
+                def = "{'postId': 1}" // 삭제된 댓글 포함 게시글별 조회 (관리용)
+        )
+})
 public class Comment {
 
     @Id
@@ -58,6 +87,11 @@ public class Comment {
      */
     private String parentCommentId;
 
+    /**
+     * 좋아요 수 (likes 컬렉션 기준 비정규화 카운터, $inc로만 갱신)
+     */
+    private Long likeCount;
+
     public enum CommentStatus {
         ACTIVE, DELETED;
     }
@@ -65,7 +99,8 @@ public class Comment {
     // 빌더 패턴용 기본값 설정
     public static CommentBuilder builder() {
         return new CommentBuilder()
-                .status(CommentStatus.ACTIVE);
+                .status(CommentStatus.ACTIVE)
+                .likeCount(0L);
     }
 
     // =========================================== 비즈니스 메서드 ==============================================
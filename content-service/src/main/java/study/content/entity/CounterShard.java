@@ -0,0 +1,67 @@
+package study.content.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 핫 게시글 카운터 샤드
+ * 트래픽이 몰린 게시글의 조회수/좋아요 수 증가를 N개 문서로 분산 (단일 문서 쓰기 경합 회피)
+ * 게시글 문서의 카운터 + 샤드 value 합계 = 실제 값
+ */
+@Document(collection = "counter_shards")
+@CompoundIndex(
+        name = "post_field_shard_unique_idx",
+        def = "{'postId': 1, 'field': 1, 'shard': 1}", // 샤드 합산 조회 + upsert 대상 식별
+        unique = true
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CounterShard {
+
+    @Id
+    private String id;
+
+    /**
+     * 게시글 ID
+     */
+    private String postId;
+
+    /**
+     * 카운터 종류
+     */
+    private CounterField field;
+
+    /**
+     * 샤드 번호 (0 ~ N-1)
+     */
+    private int shard;
+
+    /**
+     * 샤드에 누적된 증감값
+     */
+    private long value;
+
+    public enum CounterField {
+        VIEW_COUNT("viewCount"),
+        LIKE_COUNT("likeCount");
+
+        private final String postField;
+
+        CounterField(String postField) {
+            this.postField = postField;
+        }
+
+        /**
+         * 게시글 문서의 대응 필드명
+         *
+         * @return 필드명
+         */
+        public String getPostField() {
+            return postField;
+        }
+    }
+}
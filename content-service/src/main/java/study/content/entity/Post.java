@@ -7,17 +7,59 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import study.content.common.search.KoreanBigramTokenizer;
+import study.content.common.search.PlainText;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Document(collection = "posts")
+@Document(collection = "posts", language = "none") // 텍스트 인덱스는 bigram 토큰을 그대로 사용 (형태소/불용어 처리 없음)
+// 활성 게시글만 조회하는 쿼리용 인덱스는 status: ACTIVE 부분 인덱스 (삭제된 글은 인덱스에 넣지 않음)
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "active_created_id_idx",
+                def = "{'createdAt': -1, '_id': -1}", // 게시글 목록 (페이징/키셋), HOT 시드
+                partialFilter = "{'status': 'ACTIVE'}"
+        ),
+        @CompoundIndex(
+                name = "active_author_created_id_idx",
+                def = "{'author': 1, 'createdAt': -1, '_id': -1}", // 내가 쓴 글 (페이징/키셋/개수)
+                partialFilter = "{'status': 'ACTIVE'}"
+        ),
+        @CompoundIndex(
+                name = "active_category_created_id_idx",
+                def = "{'category': 1, 'createdAt': -1, '_id': -1}", // 카테고리별 목록
+                partialFilter = "{'status': 'ACTIVE'}"
+        ),
+        @CompoundIndex(
+                name = "active_status_view_count_idx",
+                def = "{'status': 1, 'viewCount': -1}", // 인기 게시글 시드(조회수순), 활성 게시글 수 (COUNT_SCAN)
+                partialFilter = "{'status': 'ACTIVE'}"
+        ),
+        @CompoundIndex(
+                name = "deleted_status_updated_id_idx",
+                def = "{'status': 1, 'updatedAt': 1, '_id': 1}", // 보관 기간이 지난 삭제 문서 보관 이동 (DeletedContentArchiver)
+                partialFilter = "{'status': 'DELETED'}"
+        ),
+        @CompoundIndex(
+                name = "updated_id_idx",
+                def = "{'updatedAt': 1, '_id': 1}" // 검색 인덱스 증분 동기화 (삭제된 글도 포함해야 하므로 전체)
+        )
+})
 public class Post {
 
+    // 목록용 발췌문 최대 글자 수
+    public static final int EXCERPT_LENGTH = 150;
+
     @Id
     private String id;
 
@@ -25,16 +67,39 @@ public class Post {
 
     private String content;
 
+    // 본문 평문 발췌문 (작성/수정 시 생성, 목록 조회는 본문 대신 이 필드만 읽음)
+    private String excerpt;
+
     private String author; // JWT 토큰에서 추출한 사용자명
 
     private Integer viewCount;
 
+    // 좋아요 수 (likes 컬렉션 기준 비정규화 카운터, $inc로만 갱신)
+    private Long likeCount;
+
+    // 활성 댓글 수 (대댓글 포함, comments 컬렉션 기준 비정규화 카운터, CommentService 가 $inc로만 갱신)
+    private Long commentCount;
+
+    // 카운터 샤드 수 (핫 게시글일 때만 설정, 조회수/좋아요 수 = 필드값 + counter_shards 합계)
+    @Indexed(sparse = true)
+    private Integer counterShards;
+
+    // 샤드 모드 유지 기한 (트래픽이 계속되면 연장, 지나면 단일 카운터로 복귀)
+    private LocalDateTime counterHotUntil;
+
     // 게시글 상태(ACTIVE, DELETED)
     private PostStatus status;
 
     // 카테고리
     private String category;
 
+    // 검색 토큰 (제목/내용의 bigram, 텍스트 인덱스 대상 - 응답에는 포함하지 않음)
+    @TextIndexed(weight = 5)
+    private List<String> titleTokens;
+
+    @TextIndexed
+    private List<String> contentTokens;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -49,6 +114,8 @@ public class Post {
     public static PostBuilder builder() {
         return new PostBuilder()
                 .viewCount(0)
+                .likeCount(0L)
+                .commentCount(0L)
                 .status(PostStatus.ACTIVE);
     }
 
@@ -66,14 +133,23 @@ public class Post {
         this.content = content;
         this.category = category;
         this.updatedAt = LocalDateTime.now();
+        refreshSearchTokens();
+        refreshExcerpt();
     }
 
     /**
-     * 조회수 증가
+     * 검색 토큰 재생성 (제목/내용이 바뀔 때마다 호출)
      */
-    public void increaseViewCount() {
-        this.viewCount++;
-        this.updatedAt = LocalDateTime.now();
+    public void refreshSearchTokens() {
+        this.titleTokens = KoreanBigramTokenizer.indexTokens(this.title);
+        this.contentTokens = KoreanBigramTokenizer.indexTokens(this.content);
+    }
+
+    /**
+     * 목록용 발췌문 재생성 (내용이 바뀔 때마다 호출)
+     */
+    public void refreshExcerpt() {
+        this.excerpt = PlainText.excerpt(this.content, EXCERPT_LENGTH);
     }
 
     /**
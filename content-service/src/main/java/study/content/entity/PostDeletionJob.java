@@ -0,0 +1,71 @@
+package study.content.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제 후속 작업 (댓글/댓글 좋아요 정리)
+ * 댓글이 많은 게시글은 삭제 요청에서 게시글만 삭제하고 나머지는 백그라운드에서 배치 단위로 처리
+ * 진행 상황 조회 + 재기동 시 이어서 처리하기 위해 저장 (완료 후 7일 뒤 TTL 삭제)
+ */
+@Document(collection = "post_deletion_jobs")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostDeletionJob {
+
+    /**
+     * 게시글 ID (게시글당 작업 1개)
+     */
+    @Id
+    private String postId;
+
+    /**
+     * 게시글 작성자 (진행 상황 조회 권한 확인용)
+     */
+    private String author;
+
+    private JobStatus status;
+
+    /**
+     * 삭제 시점의 게시글 댓글 수 (진행률 계산용 예상치)
+     */
+    private long expectedComments;
+
+    /**
+     * 삭제 상태로 바뀐 댓글 수
+     */
+    private long deletedComments;
+
+    /**
+     * 삭제된 댓글 좋아요 수
+     */
+    private long deletedCommentLikes;
+
+    /**
+     * 마지막 실패 사유 (실패 시)
+     */
+    private String error;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    @Indexed(name = "finished_at_ttl_idx", expireAfter = "7d")
+    private LocalDateTime finishedAt;
+
+    public enum JobStatus {
+        RUNNING,    // 처리 중 (재기동 시 이어서 처리)
+        COMPLETED,  // 완료
+        FAILED      // 실패 (주기적으로, 그리고 재기동 시 재시도)
+    }
+}
@@ -0,0 +1,40 @@
+package study.content.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 고유 조회자 HyperLogLog 스케치 (게시글당 1개, 12KB)
+ * 여러 인스턴스가 각자 모은 스케치를 레지스터별 max 로 병합해 저장 (version 으로 낙관적 잠금)
+ */
+@Document(collection = "post_viewer_sketches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewerSketch {
+
+    /**
+     * 게시글 ID
+     */
+    @Id
+    private String postId;
+
+    /**
+     * 패킹된 HyperLogLog 레지스터
+     */
+    private byte[] registers;
+
+    /**
+     * 병합 저장 시 충돌 감지용 버전
+     */
+    private long version;
+
+    /**
+     * 마지막 병합 저장 시간
+     */
+    private LocalDateTime updatedAt;
+}
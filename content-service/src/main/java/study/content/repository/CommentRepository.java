@@ -1,7 +1,7 @@
 package study.content.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,12 +11,12 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends MongoRepository<Comment, String> {
+public interface CommentRepository extends MongoRepository<Comment, String>, CommentRepositoryCustom {
 
     // ======================= 기본 댓글 조회 =======================
 
     /**
-     * 특정 게시글의 활성 댓글 조회 (페이징)
+     * 특정 게시글의 활성 댓글 조회 (페이징, count 없이 size + 1 조회)
      * 최상위 댓글만 조회 (대댓글 제외)
      *
      * @param postId
@@ -24,13 +24,13 @@ public interface CommentRepository extends MongoRepository<Comment, String> {
      * @return
      */
     @Query("{'postId': ?0, 'status': 'ACTIVE', 'parentCommentId': null}")
-    Page<Comment> findRootCommentByPostId(String postId, Pageable pageable);
+    Slice<Comment> findRootCommentByPostId(String postId, Pageable pageable);
 
     /**
-     * 특정 게시글의 특정 댓글에 달린 대댓글들 조회(페이징)
+     * 특정 게시글의 특정 댓글에 달린 대댓글들 조회(페이징, count 없이 size + 1 조회)
      */
     @Query("{'postId': ?0, 'parentCommentId': ?1, 'status': 'ACTIVE'}")
-    Page<Comment> findRepliesByParentId(String postId, String parentCommentId, Pageable pageable);
+    Slice<Comment> findRepliesByParentId(String postId, String parentCommentId, Pageable pageable);
 
     // ======================= 댓글 개별 조회 =======================
 
@@ -46,14 +46,14 @@ public interface CommentRepository extends MongoRepository<Comment, String> {
     // ======================= 기타 조회 =======================
 
     /**
-     * 작성자별 댓글 조회 (활성상태만)
+     * 작성자별 댓글 조회 (활성상태만, count 없이 size + 1 조회)
      *
      * @param author
      * @param pageable
      * @return
      */
     @Query("{'author': ?0, 'status': 'ACTIVE'}")
-    Page<Comment> findByAuthor(String author, Pageable pageable);
+    Slice<Comment> findByAuthor(String author, Pageable pageable);
 
     /**
      * 특정 사용자가 작성한 활성 댓글 수
@@ -66,34 +66,25 @@ public interface CommentRepository extends MongoRepository<Comment, String> {
     long countByAuthorAndStatus(String author, String status);
 
     /**
-     * 특정 부모 댓글의 활성 대댓글 조회 - 삭제용
+     * 특정 부모 댓글의 활성 대댓글 조회 - 삭제용 (ID 만 projection)
      *
      * @param parentCommentId
      * @return
      */
-    @Query("{'parentCommentId':  ?0, 'status': 'ACTIVE'}")
+    @Query(value = "{'parentCommentId':  ?0, 'status': 'ACTIVE'}", fields = "{'_id': 1}")
     List<Comment> findActiveRepliesByParentId(String parentCommentId);
 
     // ======================= 통계용 쿼리 조회 =======================
 
     /**
-     * 특정 게시글의 댓글 개수 (대댓글 미포함)
+     * 특정 게시글의 최상위 댓글 개수 (대댓글 미포함, 최상위 댓글 페이징의 전체 개수용)
+     * 게시글에 표시하는 댓글 수(대댓글 포함)는 Post.commentCount 사용
      *
      * @param postId
      * @return
      */
     @Query(value = "{'postId': ?0, 'status': 'ACTIVE', 'parentCommentId': null}", count = true)
-    long countByPostId(String postId);
-
-    /**
-     * 특정 게시글의 특정 댓글에 달린 대댓글 개수
-     *
-     * @param postId
-     * @param parentCommentId
-     * @return
-     */
-    @Query(value = "{'postId': ?0, 'parentCommentId': ?1, 'status': 'ACTIVE'}", count = true)
-    long countRepliesByPostIdAndParentId(String postId, String parentCommentId);
+    long countRootCommentsByPostId(String postId);
 
     // ======================= 관리용 쿼리 조회 =======================
 
@@ -0,0 +1,111 @@
+package study.content.repository;
+
+import org.springframework.data.domain.Sort;
+import study.common.lib.util.KeysetCursor;
+import study.content.entity.Comment;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CommentRepository 커스텀 쿼리 (MongoTemplate 기반)
+ * 문서 전체를 덮어쓰는 save() 대신 필요한 필드만 원자적으로 갱신
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * 좋아요 수만 조회 (projection)
+     *
+     * @param commentId 댓글 ID
+     * @return 좋아요 수 (댓글이 없으면 null)
+     */
+    Long findLikeCountById(String commentId);
+
+    /**
+     * 여러 댓글의 좋아요 수만 일괄 조회 (_id $in + projection)
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 댓글 ID별 좋아요 수 (없는 댓글은 포함되지 않음)
+     */
+    Map<String, Long> findLikeCountsByIds(Collection<String> commentIds);
+
+    /**
+     * 댓글 수정 내용 저장 (내용, 수정일시만 $set)
+     * 카운터 필드를 덮어쓰지 않도록 save() 대신 사용
+     *
+     * @param comment 수정된 댓글 엔티티
+     */
+    void updateContent(Comment comment);
+
+    /**
+     * 활성 댓글 일괄 soft delete (상태, 수정일시만 $set)
+     * 이미 삭제된 댓글은 건너뛰므로 동시에 삭제 요청이 와도 실제로 바뀐 수만 반환
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 삭제 상태로 바뀐 댓글 수
+     */
+    long softDeleteActive(Collection<String> commentIds);
+
+    /**
+     * 게시글의 활성 댓글 ID 조회 (부모댓글 + 대댓글, _id 만 projection)
+     * 게시글 삭제 시 배치 단위로 좋아요 삭제/soft delete 대상 수집용 (정렬 없음)
+     *
+     * @param postId 게시글 ID
+     * @param limit  최대 개수
+     * @return 댓글 ID 목록
+     */
+    List<String> findActiveCommentIdsByPostId(String postId, int limit);
+
+    /**
+     * 여러 부모 댓글의 활성 대댓글 수 + 앞쪽 대댓글 일괄 조회 (작성순, 부모별 최대 limit 개)
+     * 부모 댓글마다 $lookup 하위 파이프라인에서 인덱스 범위 탐색 후 $facet 으로 개수와 앞쪽 limit 개를 함께 계산 → 집계 1회
+     *
+     * @param postId         게시글 ID
+     * @param parentIds      부모 댓글 ID 목록
+     * @param limitPerParent 부모별 미리보기 최대 개수 (0이면 개수만)
+     * @return 부모 댓글 ID별 대댓글 수 + 미리보기 (대댓글이 없는 ID는 포함되지 않음)
+     */
+    Map<String, ReplyThread> findReplyThreads(String postId, Collection<String> parentIds, int limitPerParent);
+
+    /**
+     * 특정 게시글의 활성 최상위 댓글 키셋 페이징
+     *
+     * @param postId    게시글 ID
+     * @param direction 정렬 방향 (DESC: 최신순, ASC: 오래된순)
+     * @param cursor    마지막으로 본 위치 (첫 페이지면 null)
+     * @param limit     조회 건수
+     * @return 댓글 목록
+     */
+    List<Comment> findRootCommentsByCursor(String postId, Sort.Direction direction, KeysetCursor cursor, int limit);
+
+    /**
+     * 특정 댓글의 활성 대댓글 키셋 페이징 (작성순)
+     *
+     * @param postId          게시글 ID
+     * @param parentCommentId 부모 댓글 ID
+     * @param cursor          마지막으로 본 위치 (첫 페이지면 null)
+     * @param limit           조회 건수
+     * @return 대댓글 목록
+     */
+    List<Comment> findRepliesByCursor(String postId, String parentCommentId, KeysetCursor cursor, int limit);
+
+    /**
+     * 작성자별 활성 댓글 키셋 페이징 (최신순)
+     *
+     * @param author 작성자
+     * @param cursor 마지막으로 본 위치 (첫 페이지면 null)
+     * @param limit  조회 건수
+     * @return 댓글 목록
+     */
+    List<Comment> findByAuthorByCursor(String author, KeysetCursor cursor, int limit);
+
+    /**
+     * 부모 댓글 하나의 대댓글 수 + 앞쪽 대댓글
+     *
+     * @param replyCount 활성 대댓글 수
+     * @param previews   앞쪽 대댓글 (작성순)
+     */
+    record ReplyThread(long replyCount, List<Comment> previews) {
+    }
+}
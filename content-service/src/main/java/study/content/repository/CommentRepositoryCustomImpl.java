@@ -0,0 +1,182 @@
+package study.content.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import study.common.lib.util.KeysetCursor;
+import study.content.entity.Comment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Long findLikeCountById(String commentId) {
+        Query query = byId(commentId);
+        query.fields()
+                .include("likeCount");
+
+        Comment comment = mongoTemplate.findOne(query, Comment.class);
+        if (comment == null) {
+            return null;
+        }
+        return comment.getLikeCount() != null ? comment.getLikeCount() : 0L;
+    }
+
+    @Override
+    public Map<String, Long> findLikeCountsByIds(Collection<String> commentIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return result;
+        }
+
+        Query query = Query.query(Criteria.where("_id")
+                .in(commentIds));
+        query.fields()
+                .include("likeCount");
+
+        mongoTemplate.find(query, Comment.class)
+                .forEach(comment -> result.put(comment.getId(), comment.getLikeCount() != null ? comment.getLikeCount() : 0L));
+        return result;
+    }
+
+    @Override
+    public void updateContent(Comment comment) {
+        Update update = new Update()
+                .set("content", comment.getContent())
+                .set("updatedAt", comment.getUpdatedAt());
+
+        mongoTemplate.updateFirst(byId(comment.getId()), update, Comment.class);
+    }
+
+    @Override
+    public long softDeleteActive(Collection<String> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        Query query = Query.query(Criteria.where("_id")
+                .in(commentIds)
+                .and("status")
+                .is(Comment.CommentStatus.ACTIVE));
+        Update update = new Update()
+                .set("status", Comment.CommentStatus.DELETED)
+                .set("updatedAt", LocalDateTime.now());
+
+        return mongoTemplate.updateMulti(query, update, Comment.class)
+                .getModifiedCount();
+    }
+
+    @Override
+    public List<String> findActiveCommentIdsByPostId(String postId, int limit) {
+        Query query = Query.query(Criteria.where("postId")
+                        .is(postId)
+                        .and("status")
+                        .is(Comment.CommentStatus.ACTIVE))
+                .limit(limit);
+        query.fields()
+                .include("_id");
+
+        return mongoTemplate.find(query, Comment.class)
+                .stream()
+                .map(Comment::getId)
+                .toList();
+    }
+
+    @Override
+    public Map<String, ReplyThread> findReplyThreads(String postId, Collection<String> parentIds, int limitPerParent) {
+        Map<String, ReplyThread> result = new HashMap<>();
+        if (parentIds.isEmpty()) {
+            return result;
+        }
+
+        // 부모 댓글(_id 인덱스) 기준으로 부모마다 대댓글 개수 + limit 개 조회, parentCommentId 는 문자열로 저장됨
+        List<Object> ids = parentIds.stream()
+                .map(id -> ObjectId.isValid(id) ? (Object) new ObjectId(id) : id)
+                .toList();
+        Document replyMatch = new Document("postId", postId)
+                .append("status", Comment.CommentStatus.ACTIVE.name())
+                .append("$expr", new Document("$eq", List.of("$parentCommentId", "$$parentId")));
+        Document facets = new Document("count", List.of(new Document("$count", "n")));
+        if (limitPerParent > 0) {
+            facets.append("previews", List.of(new Document("$limit", limitPerParent)));
+        }
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("_id", new Document("$in", ids))),
+                new Document("$project", new Document("_id", 1)),
+                new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(Comment.class))
+                        .append("let", new Document("parentId", new Document("$toString", "$_id")))
+                        .append("pipeline", List.of(
+                                new Document("$match", replyMatch),
+                                new Document("$sort", new Document("createdAt", 1).append("_id", 1)),
+                                new Document("$facet", facets)))
+                        .append("as", "thread")),
+                new Document("$unwind", "$thread"),
+                new Document("$project", new Document("replyCount",
+                        new Document("$ifNull", List.of(new Document("$arrayElemAt", List.of("$thread.count.n", 0)), 0)))
+                        .append("previews", "$thread.previews")),
+                new Document("$match", new Document("replyCount", new Document("$gt", 0)))
+        );
+
+        for (Document doc : mongoTemplate.getCollection(mongoTemplate.getCollectionName(Comment.class))
+                .aggregate(pipeline)) {
+            List<Document> previewDocs = doc.getList("previews", Document.class);
+            List<Comment> previews = previewDocs == null
+                    ? List.of()
+                    : previewDocs.stream()
+                    .map(reply -> mongoTemplate.getConverter()
+                            .read(Comment.class, reply))
+                    .toList();
+            result.put(doc.get("_id")
+                    .toString(), new ReplyThread(((Number) doc.get("replyCount")).longValue(), previews));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByCursor(String postId, Sort.Direction direction, KeysetCursor cursor, int limit) {
+        Criteria filter = Criteria.where("postId")
+                .is(postId)
+                .and("status")
+                .is(Comment.CommentStatus.ACTIVE)
+                .and("parentCommentId")
+                .is(null);
+        return mongoTemplate.find(KeysetQueries.page(filter, cursor, direction, limit), Comment.class);
+    }
+
+    @Override
+    public List<Comment> findRepliesByCursor(String postId, String parentCommentId, KeysetCursor cursor, int limit) {
+        Criteria filter = Criteria.where("postId")
+                .is(postId)
+                .and("parentCommentId")
+                .is(parentCommentId)
+                .and("status")
+                .is(Comment.CommentStatus.ACTIVE);
+        return mongoTemplate.find(KeysetQueries.page(filter, cursor, Sort.Direction.ASC, limit), Comment.class);
+    }
+
+    @Override
+    public List<Comment> findByAuthorByCursor(String author, KeysetCursor cursor, int limit) {
+        Criteria filter = Criteria.where("author")
+                .is(author)
+                .and("status")
+                .is(Comment.CommentStatus.ACTIVE);
+        return mongoTemplate.find(KeysetQueries.page(filter, cursor, Sort.Direction.DESC, limit), Comment.class);
+    }
+
+    private Query byId(String commentId) {
+        return Query.query(Criteria.where("_id")
+                .is(commentId));
+    }
+}
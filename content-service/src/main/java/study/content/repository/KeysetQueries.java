@@ -0,0 +1,54 @@
+package study.content.repository;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import study.common.lib.util.KeysetCursor;
+
+/**
+ * 키셋 페이징 쿼리 생성 (createdAt, _id 복합 정렬)
+ * 커서 이후 조건: createdAt 이 커서보다 뒤이거나, 같으면 _id 가 커서보다 뒤
+ * 같은 방향의 (…, createdAt, _id) 복합 인덱스가 있으면 skip 없이 인덱스 범위 탐색
+ */
+final class KeysetQueries {
+
+    private KeysetQueries() {
+    }
+
+    /**
+     * 필터 + 커서 조건 + 정렬 + limit 이 적용된 쿼리
+     *
+     * @param filter    기본 조건 (status, author 등)
+     * @param cursor    마지막으로 본 위치 (첫 페이지면 null)
+     * @param direction 정렬 방향 (createdAt, _id 동일)
+     * @param limit     조회 건수
+     * @return 쿼리
+     */
+    static Query page(Criteria filter, KeysetCursor cursor, Sort.Direction direction, int limit) {
+        Criteria criteria = filter;
+        if (cursor != null) {
+            Object cursorId = ObjectId.isValid(cursor.id()) ? new ObjectId(cursor.id()) : cursor.id();
+            Criteria after = direction.isDescending()
+                    ? new Criteria().orOperator(
+                    Criteria.where("createdAt")
+                            .lt(cursor.createdAt()),
+                    Criteria.where("createdAt")
+                            .is(cursor.createdAt())
+                            .and("_id")
+                            .lt(cursorId))
+                    : new Criteria().orOperator(
+                    Criteria.where("createdAt")
+                            .gt(cursor.createdAt()),
+                    Criteria.where("createdAt")
+                            .is(cursor.createdAt())
+                            .and("_id")
+                            .gt(cursorId));
+            criteria = new Criteria().andOperator(filter, after);
+        }
+
+        return Query.query(criteria)
+                .with(Sort.by(direction, "createdAt", "_id"))
+                .limit(limit);
+    }
+}
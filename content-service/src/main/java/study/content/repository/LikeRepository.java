@@ -6,7 +6,7 @@ import study.content.entity.Like;
 import study.content.entity.Like.TargetType;
 
 @Repository
-public interface LikeRepository extends MongoRepository<Like, String> {
+public interface LikeRepository extends MongoRepository<Like, String>, LikeRepositoryCustom {
 
     /**
      * 특정 사용자가 특정 대상에 좋아요 했는지 확인
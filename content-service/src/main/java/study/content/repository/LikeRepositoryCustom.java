@@ -0,0 +1,55 @@
+package study.content.repository;
+
+import study.content.entity.Like.TargetType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LikeRepository 커스텀 쿼리 (MongoTemplate 기반)
+ * 목록 화면용 일괄 조회를 한 번의 round trip으로 처리
+ */
+public interface LikeRepositoryCustom {
+
+    /**
+     * 여러 대상의 좋아요 개수 일괄 집계 ($match targetId $in + $group)
+     *
+     * @param targetIds  대상 ID 목록
+     * @param targetType 대상 타입
+     * @return 대상 ID별 좋아요 개수 (좋아요가 없는 ID는 포함되지 않음)
+     */
+    Map<String, Long> countByTargetIds(Collection<String> targetIds, TargetType targetType);
+
+    /**
+     * 여러 대상 중 특정 사용자가 좋아요 한 대상 ID 조회
+     * target_user_unique_idx 를 사용하는 단일 $in 쿼리
+     *
+     * @param targetIds  대상 ID 목록
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     * @return 좋아요 한 대상 ID 집합
+     */
+    Set<String> findLikedTargetIds(Collection<String> targetIds, TargetType targetType, String username);
+
+    /**
+     * 좋아요가 없을 때만 생성 (단일 upsert, $setOnInsert)
+     * target_user_unique_idx 조건으로 매칭하므로 이미 있으면 아무것도 바꾸지 않음
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     * @return 새로 생성되었으면 true, 이미 있었으면 false
+     */
+    boolean insertIfAbsent(String targetId, TargetType targetType, String username);
+
+    /**
+     * 여러 대상의 좋아요 일괄 삭제 (단일 deleteMany, targetId $in)
+     * 게시글/댓글 삭제 시 대상마다 삭제 명령을 보내지 않도록 사용
+     *
+     * @param targetIds  대상 ID 목록
+     * @param targetType 대상 타입
+     * @return 삭제된 좋아요 개수
+     */
+    long deleteByTargetIds(Collection<String> targetIds, TargetType targetType);
+}
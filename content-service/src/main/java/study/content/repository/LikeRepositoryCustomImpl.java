@@ -0,0 +1,105 @@
+package study.content.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import study.content.entity.Like;
+import study.content.entity.Like.TargetType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<String, Long> countByTargetIds(Collection<String> targetIds, TargetType targetType) {
+        Map<String, Long> result = new HashMap<>();
+        if (targetIds.isEmpty()) {
+            return result;
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("targetId")
+                        .in(targetIds)
+                        .and("targetType")
+                        .is(targetType)),
+                Aggregation.group("targetId")
+                        .count()
+                        .as("count")
+        );
+
+        mongoTemplate.aggregate(aggregation, Like.class, Document.class)
+                .forEach(doc -> result.put(doc.getString("_id"), ((Number) doc.get("count")).longValue()));
+        return result;
+    }
+
+    @Override
+    public Set<String> findLikedTargetIds(Collection<String> targetIds, TargetType targetType, String username) {
+        Set<String> result = new HashSet<>();
+        if (targetIds.isEmpty() || username == null) {
+            return result;
+        }
+
+        // 인덱스 필드만 projection → covered query
+        Query query = Query.query(Criteria.where("targetId")
+                .in(targetIds)
+                .and("targetType")
+                .is(targetType)
+                .and("username")
+                .is(username));
+        query.fields()
+                .include("targetId")
+                .exclude("_id");
+
+        mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Like.class))
+                .forEach(doc -> result.add(doc.getString("targetId")));
+        return result;
+    }
+
+    @Override
+    public boolean insertIfAbsent(String targetId, TargetType targetType, String username) {
+        Query query = Query.query(Criteria.where("targetId")
+                .is(targetId)
+                .and("targetType")
+                .is(targetType)
+                .and("username")
+                .is(username));
+        Update update = new Update()
+                .setOnInsert("createdAt", LocalDateTime.now());
+
+        try {
+            UpdateResult result = mongoTemplate.upsert(query, update, Like.class);
+            return result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스의 동시 upsert가 먼저 생성 (유니크 인덱스) → 이미 있는 것과 동일
+            return false;
+        }
+    }
+
+    @Override
+    public long deleteByTargetIds(Collection<String> targetIds, TargetType targetType) {
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+        Query query = Query.query(Criteria.where("targetId")
+                .in(targetIds)
+                .and("targetType")
+                .is(targetType));
+
+        return mongoTemplate.remove(query, Like.class)
+                .getDeletedCount();
+    }
+}
@@ -2,42 +2,57 @@ package study.content.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import study.content.entity.Post;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostRepository extends MongoRepository<Post, String> {
+public interface PostRepository extends MongoRepository<Post, String>, PostRepositoryCustom {
 
-    // 활성 상태인 게시글만 조회(삭제된 글 제외)
-    @Query("{status:  'ACTIVE'}")
-    Page<Post> findAllActivePosts(Pageable pageable);
+    // 목록 조회 projection: 본문과 검색 토큰 제외 (목록은 발췌문만 사용)
+    String SUMMARY_FIELDS = "{'content': 0, 'titleTokens': 0, 'contentTokens': 0}";
+    // 검색 결과 projection: 스니펫 생성용 본문은 포함, 검색 토큰만 제외
+    String WITHOUT_TOKENS_FIELDS = "{'titleTokens': 0, 'contentTokens': 0}";
 
-    // 제목이나 내용으로 검색(활성 상태만)
-    @Query("{'status': 'ACTIVE', '$or': [{'title': {$regex: ?0, $options: 'i'}}, {'content': {$regex: ?0, $options: 'i'}}]}")
-    Page<Post> findByTitleOrContentContaining(String keyword, Pageable pageable);
+    // 활성 상태인 게시글만 조회(삭제된 글 제외, count 없이 size + 1 조회, 본문 제외)
+    @Query(value = "{status:  'ACTIVE'}", fields = SUMMARY_FIELDS)
+    Slice<Post> findAllActivePosts(Pageable pageable);
 
-    // 카테고리별 게시글 조회(활성 상태만)
-    @Query("{'category': ?0, 'status':  'ACTIVE'}")
+    // 활성 게시글 수
+    @Query(value = "{status:  'ACTIVE'}", count = true)
+    long countActivePosts();
+
+    // 카테고리별 게시글 조회(활성 상태만, 본문 제외)
+    @Query(value = "{'category': ?0, 'status':  'ACTIVE'}", fields = SUMMARY_FIELDS)
     Page<Post> findByCategory(String category, Pageable pageable);
 
     // ID로 활성 게시글 조회
     @Query("{'_id': ?0, 'status':  'ACTIVE'}")
     Optional<Post> findActivePostById(String id);
 
-    // 조회수 상위 게시글
-    @Query("{'status': 'ACTIVE'}")
-    List<Post> findTop10ByOrderByViewCountDesc();
+    // 활성 게시글 목록 (정렬/개수는 Pageable 로 지정, 예: 조회수 상위 N개, 본문 제외)
+    @Query(value = "{'status': 'ACTIVE'}", fields = SUMMARY_FIELDS)
+    List<Post> findActivePosts(Pageable pageable);
+
+    // ID 목록 중 활성 게시글 (본문 제외)
+    @Query(value = "{'_id': {$in: ?0}, 'status': 'ACTIVE'}", fields = SUMMARY_FIELDS)
+    List<Post> findActivePostsByIds(Collection<String> ids);
+
+    // ID 목록 중 활성 게시글 (검색 스니펫용 본문 포함, 검색 토큰 제외)
+    @Query(value = "{'_id': {$in: ?0}, 'status': 'ACTIVE'}", fields = WITHOUT_TOKENS_FIELDS)
+    List<Post> findActivePostsWithContentByIds(Collection<String> ids);
 
     // 특정 사용자가 작성한 활성 게시글 수
     @Query(value = "{'author': ?0, 'status': 'ACTIVE'}", count = true)
     long countByAuthorAndStatus(String author, String status);
 
-    // 작성자별 게시글 조회(활성 상태만)
-    @Query("{'author': ?0, 'status':  'ACTIVE'}")
-    Page<Post> findByAuthor(String author, Pageable pageable);
+    // 작성자별 게시글 조회(활성 상태만, count 없이 size + 1 조회, 본문 제외)
+    @Query(value = "{'author': ?0, 'status':  'ACTIVE'}", fields = SUMMARY_FIELDS)
+    Slice<Post> findByAuthor(String author, Pageable pageable);
 }
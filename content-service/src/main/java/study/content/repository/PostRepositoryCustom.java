@@ -0,0 +1,98 @@
+package study.content.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import study.common.lib.util.KeysetCursor;
+import study.content.entity.Post;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostRepository 커스텀 쿼리 (MongoTemplate 기반)
+ * 문서 전체를 덮어쓰는 save() 대신 필요한 필드만 원자적으로 갱신
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 좋아요 수만 조회 (projection)
+     *
+     * @param postId 게시글 ID
+     * @return 좋아요 수 (게시글이 없으면 null)
+     */
+    Long findLikeCountById(String postId);
+
+    /**
+     * 여러 게시글의 좋아요 수만 일괄 조회 (_id $in + projection)
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID별 좋아요 수 (없는 게시글은 포함되지 않음)
+     */
+    Map<String, Long> findLikeCountsByIds(Collection<String> postIds);
+
+    /**
+     * 게시글 수정 내용 저장 (제목, 내용, 발췌문, 카테고리, 검색 토큰, 수정일시만 $set)
+     * 카운터 필드를 덮어쓰지 않도록 save() 대신 사용
+     *
+     * @param post 수정된 게시글 엔티티
+     */
+    void updateContent(Post post);
+
+    /**
+     * 댓글 수 증감 ($inc)
+     * 댓글 수 필드가 없는 문서(백필 전 게시글)는 건너뜀 → PostCommentCountBackfill 이 댓글 컬렉션 기준으로 채움
+     *
+     * @param postId 게시글 ID
+     * @param delta  증감량 (삭제 시 음수)
+     */
+    void incrementCommentCount(String postId, long delta);
+
+    /**
+     * 활성 게시글 soft delete (상태, 수정일시만 $set)
+     * 카운터 필드를 덮어쓰지 않도록 save() 대신 사용, 이미 삭제된 게시글은 건너뜀
+     *
+     * @param postId 게시글 ID
+     * @return 삭제 상태로 바뀌었으면 true (동시에 다른 요청이 먼저 삭제했으면 false)
+     */
+    boolean softDeleteActive(String postId);
+
+    /**
+     * 활성 게시글 키셋 페이징 (최신순, createdAt/_id 내림차순)
+     *
+     * @param cursor 마지막으로 본 위치 (첫 페이지면 null)
+     * @param limit  조회 건수
+     * @return 게시글 목록 (본문, 검색 토큰 제외)
+     */
+    List<Post> findActivePostsByCursor(KeysetCursor cursor, int limit);
+
+    /**
+     * 작성자별 활성 게시글 키셋 페이징 (최신순)
+     *
+     * @param author 작성자
+     * @param cursor 마지막으로 본 위치 (첫 페이지면 null)
+     * @param limit  조회 건수
+     * @return 게시글 목록 (본문, 검색 토큰 제외)
+     */
+    List<Post> findByAuthorByCursor(String author, KeysetCursor cursor, int limit);
+
+    /**
+     * 활성 게시글 제목/인기 지표만 키셋 페이징 (자동완성 빌드용, 본문 제외 projection)
+     *
+     * @param cursor 마지막으로 본 위치 (첫 페이지면 null)
+     * @param limit  조회 건수
+     * @return 게시글 목록 (id, title, viewCount, likeCount, createdAt 만 채워짐)
+     */
+    List<Post> findActiveTitlesByCursor(KeysetCursor cursor, int limit);
+
+    /**
+     * 활성 게시글 전문 검색 (텍스트 인덱스, count 없이 size + 1 조회)
+     * 모든 토큰을 포함하는 게시글만 (AND), 관련도(제목 가중치 5) → 최신순 정렬
+     *
+     * @param tokens   검색어 토큰 (KoreanBigramTokenizer.queryTokens, 비어 있으면 안 됨)
+     * @param category 카테고리 (null 이면 전체)
+     * @param pageable 페이지 정보 (정렬은 무시)
+     * @return 게시글 목록 (검색 토큰 제외)
+     */
+    Slice<Post> searchActivePosts(List<String> tokens, String category, Pageable pageable);
+}
@@ -0,0 +1,162 @@
+package study.content.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import study.common.lib.util.KeysetCursor;
+import study.content.entity.Post;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Long findLikeCountById(String postId) {
+        Query query = byId(postId);
+        query.fields()
+                .include("likeCount");
+
+        Post post = mongoTemplate.findOne(query, Post.class);
+        if (post == null) {
+            return null;
+        }
+        return post.getLikeCount() != null ? post.getLikeCount() : 0L;
+    }
+
+    @Override
+    public Map<String, Long> findLikeCountsByIds(Collection<String> postIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+
+        Query query = Query.query(Criteria.where("_id")
+                .in(postIds));
+        query.fields()
+                .include("likeCount");
+
+        mongoTemplate.find(query, Post.class)
+                .forEach(post -> result.put(post.getId(), post.getLikeCount() != null ? post.getLikeCount() : 0L));
+        return result;
+    }
+
+    @Override
+    public void updateContent(Post post) {
+        Update update = new Update()
+                .set("title", post.getTitle())
+                .set("content", post.getContent())
+                .set("excerpt", post.getExcerpt())
+                .set("category", post.getCategory())
+                .set("titleTokens", post.getTitleTokens())
+                .set("contentTokens", post.getContentTokens())
+                .set("updatedAt", post.getUpdatedAt());
+
+        mongoTemplate.updateFirst(byId(post.getId()), update, Post.class);
+    }
+
+    @Override
+    public void incrementCommentCount(String postId, long delta) {
+        Query query = byId(postId).addCriteria(Criteria.where("commentCount")
+                .exists(true));
+        mongoTemplate.updateFirst(query, new Update().inc("commentCount", delta), Post.class);
+    }
+
+    @Override
+    public boolean softDeleteActive(String postId) {
+        Query query = byId(postId).addCriteria(Criteria.where("status")
+                .is(Post.PostStatus.ACTIVE));
+        Update update = new Update()
+                .set("status", Post.PostStatus.DELETED)
+                .set("updatedAt", LocalDateTime.now());
+
+        return mongoTemplate.updateFirst(query, update, Post.class)
+                .getModifiedCount() > 0;
+    }
+
+    @Override
+    public List<Post> findActivePostsByCursor(KeysetCursor cursor, int limit) {
+        Criteria filter = Criteria.where("status")
+                .is(Post.PostStatus.ACTIVE);
+        return mongoTemplate.find(withoutBody(KeysetQueries.page(filter, cursor, Sort.Direction.DESC, limit)), Post.class);
+    }
+
+    @Override
+    public List<Post> findByAuthorByCursor(String author, KeysetCursor cursor, int limit) {
+        Criteria filter = Criteria.where("author")
+                .is(author)
+                .and("status")
+                .is(Post.PostStatus.ACTIVE);
+        return mongoTemplate.find(withoutBody(KeysetQueries.page(filter, cursor, Sort.Direction.DESC, limit)), Post.class);
+    }
+
+    @Override
+    public List<Post> findActiveTitlesByCursor(KeysetCursor cursor, int limit) {
+        Criteria filter = Criteria.where("status")
+                .is(Post.PostStatus.ACTIVE);
+        Query query = KeysetQueries.page(filter, cursor, Sort.Direction.DESC, limit);
+        query.fields()
+                .include("title")
+                .include("viewCount")
+                .include("likeCount")
+                .include("createdAt");
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    @Override
+    public Slice<Post> searchActivePosts(List<String> tokens, String category, Pageable pageable) {
+        // 각 토큰을 phrase 로 지정 → 인덱스로 후보를 찾은 뒤 모든 토큰을 포함하는 문서만 남김 (AND)
+        TextCriteria text = TextCriteria.forLanguage("none");
+        tokens.forEach(text::matchingPhrase);
+
+        Query query = TextQuery.queryText(text)
+                .sortByScore()
+                .addCriteria(Criteria.where("status")
+                        .is(Post.PostStatus.ACTIVE))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+        if (category != null) {
+            query.addCriteria(Criteria.where("category")
+                    .is(category));
+        }
+        // 스니펫 생성용 본문은 포함, 검색 토큰은 제외
+        query.fields()
+                .exclude("titleTokens")
+                .exclude("contentTokens");
+
+        List<Post> posts = mongoTemplate.find(query, Post.class);
+        boolean hasNext = posts.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? posts.subList(0, pageable.getPageSize()) : posts, pageable, hasNext);
+    }
+
+    /**
+     * 목록 조회 projection (본문, 검색 토큰 제외)
+     */
+    private Query withoutBody(Query query) {
+        query.fields()
+                .exclude("content")
+                .exclude("titleTokens")
+                .exclude("contentTokens");
+        return query;
+    }
+
+    private Query byId(String postId) {
+        return Query.query(Criteria.where("_id")
+                .is(postId));
+    }
+}
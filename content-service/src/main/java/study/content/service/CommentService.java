@@ -2,24 +2,35 @@ package study.content.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import study.common.lib.exception.BaseException;
 import study.common.lib.exception.ErrorCode;
+import study.common.lib.response.CursorPageResponse;
 import study.common.lib.response.PageResponse;
 import study.common.lib.util.BasePagingUtil;
+import study.common.lib.util.CursorPagingUtil;
+import study.common.lib.util.KeysetCursor;
+import study.common.lib.util.TotalCountCache;
 import study.common.lib.util.StringUtil;
 import study.content.common.enums.CommentSortType;
+import study.content.common.paging.TotalCountKeys;
 import study.content.dto.comment.CommentRequest;
 import study.content.dto.comment.CommentResponse;
 import study.content.dto.comment.CommentUpdateRequest;
 import study.content.entity.Comment;
 import study.content.entity.Like;
 import study.content.repository.CommentRepository;
+import study.content.repository.CommentRepositoryCustom.ReplyThread;
 import study.content.repository.LikeRepository;
 import study.content.repository.PostRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 댓글 비즈니스 로직 처리 Service
@@ -31,9 +42,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // 스레드 조회 시 댓글별 대댓글 미리보기 최대 개수
+    private static final int MAX_REPLY_PREVIEW_SIZE = 10;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final LikeRepository likeRepository;
+    private final LikeService likeService;
+    private final HotPostRanking hotPostRanking;
+    private final TotalCountCache totalCountCache;
 
     // -----------------------------------------------------------------------------------------------------------------
     //                                                  생성/수정/삭제
@@ -67,7 +84,13 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(savedComment.getPostId(), 1);
         log.info("댓글 생성 완료 - commentId: {}", savedComment.getId());
+        hotPostRanking.onCommentCreated(savedComment.getPostId());
+        if (!savedComment.isReply()) {
+            totalCountCache.invalidate(TotalCountKeys.rootComments(savedComment.getPostId()));
+        }
+        totalCountCache.invalidate(TotalCountKeys.commentsByAuthor(author));
 
         return CommentResponse.from(savedComment);
     }
@@ -91,20 +114,21 @@ public class CommentService {
         // 2. 권한 검증
         validateAuthor(comment, author);
 
-        // 3. 수정 및 저장
+        // 3. 수정 및 저장 (수정 필드만 $set - 좋아요 카운터 보존)
         comment.updateContent(request.getContent());
-        Comment updatedComment = commentRepository.save(comment);
+        commentRepository.updateContent(comment);
 
-        log.info("댓글 수정 완료 - commentId: {}", updatedComment.getId());
-        return CommentResponse.from(updatedComment);
+        log.info("댓글 수정 완료 - commentId: {}", comment.getId());
+        return CommentResponse.from(comment);
     }
 
     /**
      * 댓글 삭제 (Soft Delete + 연관 데이터 정리)
      * 삭제 순서:
      * 부모 댓글인 경우: 모든 대댓글도 함께 삭제
-     * 각 댓글의 좋아요 물리 삭제
-     * 댓글 소프트 삭제
+     * 원본 + 대댓글 좋아요 물리 삭제 (한 번에)
+     * 댓글 소프트 삭제 (원본 + 대댓글 한 번에)
+     * 게시글 댓글 수 차감 (실제로 삭제 상태로 바뀐 댓글 수만큼)
      *
      * @param commentId 댓글 ID
      * @param author    요청자
@@ -119,41 +143,36 @@ public class CommentService {
         // 2. 권한 검증
         validateAuthor(comment, author);
 
-        long totalLikesDeleted = 0;
+        List<String> deleteIds = new ArrayList<>();
 
-        // 3. 부모 댓글인 경우 모든 대댓글 처리
+        // 3. 부모 댓글인 경우 모든 대댓글 포함
         if (!comment.isReply()) {
-            List<Comment> replies = commentRepository.findActiveRepliesByParentId(commentId);
-
-            log.debug("삭제 대상 대댓글 수: {}", replies.size());
+            commentRepository.findActiveRepliesByParentId(commentId)
+                    .forEach(reply -> deleteIds.add(reply.getId()));
 
-            for (Comment reply : replies) {
-                // 각 대댓글의 좋아요 물리 삭제
-                totalLikesDeleted += likeRepository.deleteByTargetIdAndTargetType(
-                        reply.getId(),
-                        Like.TargetType.COMMENT
-                );
-                reply.delete();
-            }
+            log.debug("삭제 대상 대댓글 수: {}", deleteIds.size());
+        }
+        deleteIds.add(commentId);
 
-            if (!replies.isEmpty()) {
-                commentRepository.saveAll(replies);
-            }
+        // 4. 원본 + 대댓글 좋아요 물리 삭제 (단일 deleteMany)
+        long totalLikesDeleted = likeRepository.deleteByTargetIds(deleteIds, Like.TargetType.COMMENT);
 
-            log.debug("대댓글 처리 완료 - 댓글: {}개, 좋아요: {}개",
-                    replies.size(), totalLikesDeleted);
+        // 5. 원본 + 대댓글 soft delete (단일 updateMany, 동시에 삭제된 댓글은 제외하고 센 수만큼 댓글 수 차감)
+        long commentsDeleted = commentRepository.softDeleteActive(deleteIds);
+        if (commentsDeleted > 0) {
+            postRepository.incrementCommentCount(comment.getPostId(), -commentsDeleted);
         }
 
-        // 4. 원본 댓글 좋아요 물리 삭제
-        long commentLikesDeleted = likeRepository.deleteByTargetIdAndTargetType(commentId, Like.TargetType.COMMENT);
-        totalLikesDeleted += commentLikesDeleted;
-
-        // 5. 원본 댓글 soft delete
-        comment.delete();
-        commentRepository.save(comment);
+        if (!comment.isReply()) {
+            totalCountCache.invalidate(TotalCountKeys.rootComments(comment.getPostId()));
+            // 함께 삭제된 대댓글 작성자들의 댓글 수도 바뀌므로 작성자별 댓글 수는 모두 무효화
+            totalCountCache.invalidatePrefix(TotalCountKeys.COMMENTS_BY_AUTHOR_PREFIX);
+        } else {
+            totalCountCache.invalidate(TotalCountKeys.commentsByAuthor(author));
+        }
 
-        log.info("댓글 삭제 완료 - commentId: {}, 총 좋아요 삭제: {}개",
-                commentId, totalLikesDeleted);
+        log.info("댓글 삭제 완료 - commentId: {}, 댓글: {}개, 총 좋아요 삭제: {}개",
+                commentId, commentsDeleted, totalLikesDeleted);
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -183,17 +202,15 @@ public class CommentService {
         CommentSortType sortType = CommentSortType.fromString(sort);
 
         // 3. 기본 댓글 목록 조회
-        PageResponse<CommentResponse> basicComments = BasePagingUtil.createPageResponse(
+        PageResponse<Comment> basicComments = BasePagingUtil.createCachedTotalPageResponse(
                 page, size, sortType.toMongoSort(),
                 pageable -> commentRepository.findRootCommentByPostId(postId, pageable),
-                CommentResponse::from
+                totalCountCache, TotalCountKeys.rootComments(postId), () -> commentRepository.countRootCommentsByPostId(postId),
+                Function.identity()
         );
 
-        // 4. 각 댓글에 좋아요 정보 추가
-        List<CommentResponse> commentsWithLikes = basicComments.getContent()
-                .stream()
-                .map(comment -> enrichCommentWithLikeInfo(comment, currentUsername))
-                .toList();
+        // 4. 페이지 단위로 좋아요 정보 추가
+        List<CommentResponse> commentsWithLikes = enrichCommentsWithLikeInfo(basicComments.getContent(), currentUsername);
 
         // 5. PageResponse 재구성
         return PageResponse.withNewContent(basicComments, commentsWithLikes);
@@ -219,23 +236,147 @@ public class CommentService {
         // 1. 게시글 존재 및 부모 댓글 존재 확인
         validateParentCommentExists(postId, parentCommentId);
 
-        // 2. 기본 대댓글 목록 조회
-        PageResponse<CommentResponse> basicReplies = BasePagingUtil.createUnsortedPageResponse(
-                page, size,
+        // 2. 기본 대댓글 목록 조회 (전체 개수 없이 다음 페이지 여부만)
+        PageResponse<Comment> basicReplies = BasePagingUtil.createSliceResponse(
+                page, size, Sort.unsorted(),
                 pageable -> commentRepository.findRepliesByParentId(postId, parentCommentId, pageable),
-                CommentResponse::from
+                Function.identity()
         );
 
-        // 3. 각 댓글에 좋아요 정보 추가
-        List<CommentResponse> repliesWithLikes = basicReplies.getContent()
-                .stream()
-                .map(comment -> enrichCommentWithLikeInfo(comment, currentUsername))
-                .toList();
+        // 3. 페이지 단위로 좋아요 정보 추가
+        List<CommentResponse> repliesWithLikes = enrichCommentsWithLikeInfo(basicReplies.getContent(), currentUsername);
 
         // 4. PageResponse 재구성
         return PageResponse.withNewContent(basicReplies, repliesWithLikes);
     }
 
+    /**
+     * 특정 게시글의 최상위 댓글 목록 조회 (커서 페이징 + 정렬 + 좋아요 정보)
+     *
+     * @param postId          게시글 ID
+     * @param cursor          이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size            페이지 크기
+     * @param sort            정렬 방식 (LATEST, OLDEST)
+     * @param currentUsername 현재 사용자(null 가능)
+     * @return 댓글 목록 (좋아요 정보, 다음 페이지 커서 포함)
+     */
+    public CursorPageResponse<CommentResponse> getRootCommentsByCursor(
+            String postId, String cursor, int size, String sort, String currentUsername
+    ) {
+        log.debug("최상위 댓글 커서 조회 - postId: {}, cursor: {}, size: {}, sort: {}", postId, cursor, size, sort);
+
+        validatePostExists(postId);
+        Sort.Direction direction = Sort.Direction.fromString(CommentSortType.fromString(sort)
+                .getDirection());
+
+        CursorPageResponse<Comment> basicComments = CursorPagingUtil.createCursorPageResponse(
+                cursor, size,
+                (keyset, limit) -> commentRepository.findRootCommentsByCursor(postId, direction, keyset, limit),
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()),
+                Function.identity()
+        );
+
+        List<CommentResponse> commentsWithLikes = enrichCommentsWithLikeInfo(basicComments.getContent(), currentUsername);
+        return CursorPageResponse.withNewContent(basicComments, commentsWithLikes);
+    }
+
+    /**
+     * 특정 댓글의 대댓글 목록 조회 (커서 페이징 + 좋아요 정보, 작성순)
+     *
+     * @param postId          게시글 ID
+     * @param parentCommentId 부모 댓글 ID
+     * @param cursor          이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size            페이지 크기
+     * @param currentUsername 현재 사용자(null 가능)
+     * @return 대댓글 목록 (좋아요 정보, 다음 페이지 커서 포함)
+     */
+    public CursorPageResponse<CommentResponse> getRepliesByCursor(
+            String postId, String parentCommentId, String cursor, int size, String currentUsername) {
+
+        log.debug("대댓글 커서 조회 - postId: {}, parentId: {}, cursor: {}, size: {}", postId, parentCommentId, cursor, size);
+
+        validateParentCommentExists(postId, parentCommentId);
+
+        CursorPageResponse<Comment> basicReplies = CursorPagingUtil.createCursorPageResponse(
+                cursor, size,
+                (keyset, limit) -> commentRepository.findRepliesByCursor(postId, parentCommentId, keyset, limit),
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()),
+                Function.identity()
+        );
+
+        List<CommentResponse> repliesWithLikes = enrichCommentsWithLikeInfo(basicReplies.getContent(), currentUsername);
+        return CursorPageResponse.withNewContent(basicReplies, repliesWithLikes);
+    }
+
+    /**
+     * 특정 게시글의 댓글 스레드 조회 (최상위 댓글 페이징 + 댓글별 대댓글 수 + 앞쪽 대댓글 미리보기)
+     * 댓글마다 대댓글/좋아요를 따로 조회하지 않고 페이지 단위로 한 번에 조회
+     * - 최상위 댓글 페이지 1 (Slice, 전체 개수 없이 다음 페이지 여부만)
+     * - 대댓글 수 + 미리보기 집계 1 (부모별 $lookup + $facet)
+     * - 좋아요 수는 문서의 likeCount + 반영 대기 delta, 좋아요 여부는 로그인 시 $in 1
+     * 게시글 존재 확인은 댓글이 없을 때만 (없는 게시글과 댓글 없는 게시글 구분)
+     *
+     * @param postId           게시글 ID
+     * @param page             페이지 번호
+     * @param size             페이지 크기
+     * @param sort             정렬 방식 (LATEST, OLDEST)
+     * @param replyPreviewSize 댓글별 대댓글 미리보기 개수 (0 ~ 10)
+     * @param currentUsername  현재 사용자(null 가능)
+     * @return 댓글 스레드 목록
+     */
+    public PageResponse<CommentResponse> getCommentThreads(
+            String postId, int page, int size, String sort, int replyPreviewSize, String currentUsername
+    ) {
+        log.debug("댓글 스레드 조회 - postId: {}, page: {}, size: {}, sort: {}, replies: {}",
+                postId, page, size, sort, replyPreviewSize);
+
+        CommentSortType sortType = CommentSortType.fromString(sort);
+        int previewSize = Math.max(0, Math.min(replyPreviewSize, MAX_REPLY_PREVIEW_SIZE));
+
+        // 1. 최상위 댓글 페이지 (전체 개수 없이 다음 페이지 여부만)
+        PageResponse<Comment> roots = BasePagingUtil.createSliceResponse(
+                page, size, sortType.toMongoSort(),
+                pageable -> commentRepository.findRootCommentByPostId(postId, pageable),
+                Function.identity()
+        );
+        if (roots.getContent()
+                .isEmpty()) {
+            validatePostExists(postId);
+            return PageResponse.withNewContent(roots, List.of());
+        }
+
+        // 2. 댓글별 대댓글 수 + 미리보기 (집계 한 번)
+        List<String> rootIds = roots.getContent()
+                .stream()
+                .map(Comment::getId)
+                .toList();
+        Map<String, ReplyThread> replyThreads = commentRepository.findReplyThreads(postId, rootIds, previewSize);
+
+        // 3. 현재 사용자 좋아요 여부 (댓글 + 미리보기 대댓글 한 번에)
+        List<String> allIds = new ArrayList<>(rootIds);
+        replyThreads.values()
+                .forEach(thread -> thread.previews()
+                        .forEach(reply -> allIds.add(reply.getId())));
+        Set<String> likedIds = findLikedCommentIds(allIds, currentUsername);
+
+        List<CommentResponse> threads = roots.getContent()
+                .stream()
+                .map(root -> {
+                    ReplyThread thread = replyThreads.get(root.getId());
+                    CommentResponse response = toResponseWithLikes(root, likedIds);
+                    response.setReplyCount(thread != null ? thread.replyCount() : 0L);
+                    response.setReplies(thread != null
+                            ? thread.previews()
+                            .stream()
+                            .map(reply -> toResponseWithLikes(reply, likedIds))
+                            .toList()
+                            : List.of());
+                    return response;
+                })
+                .toList();
+        return PageResponse.withNewContent(roots, threads);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     //                                             프라이빗 헬퍼 메서드
     // -----------------------------------------------------------------------------------------------------------------
@@ -301,27 +442,52 @@ public class CommentService {
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * 댓글에 좋아요 정보를 추가하는 헬퍼 메서드
-     * 기존 CommentResponse에 좋아요 개수와 현재 사용자의 좋아요 여부 추가
+     * 댓글 목록에 좋아요 정보를 추가하는 헬퍼 메서드
+     * 좋아요 수는 문서의 likeCount + 반영 대기 delta (추가 조회 없음, 스레드 조회와 같은 기준)
+     * 좋아요 여부는 로그인 시 페이지 전체를 $in 1회로 조회
      *
-     * @param comment         기본 댓글 정보
+     * @param comments        댓글 엔티티 목록
      * @param currentUsername 현재 사용자명(null 가능)
-     * @return 좋아요 정보가 포함된 댓글 응답
+     * @return 좋아요 정보가 포함된 댓글 응답 목록
      */
-    private CommentResponse enrichCommentWithLikeInfo(CommentResponse comment, String currentUsername) {
+    private List<CommentResponse> enrichCommentsWithLikeInfo(List<Comment> comments, String currentUsername) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> commentIds = comments.stream()
+                .map(Comment::getId)
+                .toList();
+        Set<String> likedIds = findLikedCommentIds(commentIds, currentUsername);
 
-        // 1. 해당 댓글의 좋아요 개수 조회
-        long likeCount = likeRepository.countByTargetIdAndTargetType(comment.getId(), Like.TargetType.COMMENT);
+        return comments.stream()
+                .map(comment -> toResponseWithLikes(comment, likedIds))
+                .toList();
+    }
 
-        // 2. 현재 사용자의 좋아요 여부 확인 (로그인한 경우만)
-        boolean isLikedByCurrentUser = false;
-        if (currentUsername != null) {
-            isLikedByCurrentUser = likeRepository.existsByTargetIdAndTargetTypeAndUsername(comment.getId(), Like.TargetType.COMMENT, currentUsername);
+    /**
+     * 현재 사용자가 좋아요 한 댓글 ID 조회 (비로그인이면 조회하지 않음)
+     *
+     * @param commentIds      댓글 ID 목록
+     * @param currentUsername 현재 사용자명(null 가능)
+     * @return 좋아요 한 댓글 ID
+     */
+    private Set<String> findLikedCommentIds(List<String> commentIds, String currentUsername) {
+        if (currentUsername == null) {
+            return Set.of();
         }
+        return likeRepository.findLikedTargetIds(commentIds, Like.TargetType.COMMENT, currentUsername);
+    }
 
-        // 3. 기존 CommentResponse에 좋아요 정보 추가
-        comment.setLikeCount(likeCount);
-        comment.setIsLikedByCurrentUser(isLikedByCurrentUser);
-        return comment;
+    /**
+     * 문서에 저장된 좋아요 수(+ 반영 대기 delta)와 좋아요 여부로 응답 생성 (추가 조회 없음)
+     *
+     * @param comment  댓글 엔티티
+     * @param likedIds 현재 사용자가 좋아요 한 댓글 ID
+     * @return 좋아요 정보가 포함된 CommentResponse
+     */
+    private CommentResponse toResponseWithLikes(Comment comment, Set<String> likedIds) {
+        long likeCount = likeService.getLikeCount(comment.getId(), Like.TargetType.COMMENT, comment.getLikeCount());
+        return CommentResponse.withLikes(comment, likeCount, likedIds.contains(comment.getId()));
     }
 }
@@ -0,0 +1,279 @@
+package study.content.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.common.lib.exception.BaseException;
+import study.common.lib.exception.ErrorCode;
+import study.common.lib.util.BasePagingUtil;
+import study.content.common.enums.HotWindow;
+import study.content.common.ranking.HotScoreBoard;
+import study.content.entity.Comment;
+import study.content.entity.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * HOT(트렌딩) 게시글 랭킹
+ * 조회/좋아요/댓글 활동을 가중 합산하고 시간 감쇠를 적용한 점수를 쓰기 경로에서 점진적으로 갱신
+ * 요청 시에는 주기적으로 만든 정렬 스냅샷을 잘라서 반환만 함 (요청마다 재계산하지 않음)
+ * <p>
+ * - 활동 반영: 조회수(ViewCountBuffer flush 후 반영분), 좋아요/취소(LikeService), 댓글 작성(CommentService)
+ * - 구간: ALL(반감기 감쇠), DAY(최근 24시간), WEEK(최근 7일)
+ * - 스냅샷: refresh 주기마다 구간별 상위 max-ranked 개 ID 목록을 세대(generation) 번호와 함께 교체
+ * - 커서: 인스턴스 ID + 세대 + offset → 페이지를 넘기는 동안 순위가 바뀌어도 같은 스냅샷 기준으로 중복/누락 없음
+ * (랭킹은 인스턴스마다 다르므로 다른 인스턴스가 발급했거나 보관 세대가 지난 커서는 잘못된 요청으로 거절)
+ * - 기동 시 최근 7일 게시글의 저장된 누적값을 작성 시각 활동으로 시드 (인스턴스 로컬 랭킹)
+ */
+@Slf4j
+@Component
+public class HotPostRanking {
+
+    // 이전 세대 스냅샷 보관 개수 (기본 5초 주기 → 약 1분간 커서 유효)
+    private static final int RETAINED_GENERATIONS = 12;
+    // 감쇠 점수가 이보다 작고 최근 7일 활동이 없으면 정리
+    private static final double MIN_SCORE = 0.01;
+
+    private final MongoTemplate mongoTemplate;
+    private final HotScoreBoard<String> scoreBoard;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final int maxRanked;
+
+    // 커서 발급 인스턴스 식별 (재기동하면 바뀜)
+    private final String instanceId = Long.toHexString(ThreadLocalRandom.current()
+            .nextLong());
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+    private final Map<Long, Snapshot> retained = new ConcurrentHashMap<>();
+
+    public HotPostRanking(MongoTemplate mongoTemplate,
+                          @Value("${content.hot.half-life-hours:12}") double halfLifeHours,
+                          @Value("${content.hot.weight.view:1}") double viewWeight,
+                          @Value("${content.hot.weight.like:5}") double likeWeight,
+                          @Value("${content.hot.weight.comment:10}") double commentWeight,
+                          @Value("${content.hot.max-ranked:1000}") int maxRanked) {
+        this.mongoTemplate = mongoTemplate;
+        this.scoreBoard = new HotScoreBoard<>(halfLifeHours);
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.maxRanked = maxRanked;
+    }
+
+    /**
+     * 반영된 조회수 증가분 적용
+     *
+     * @param deltas 게시글 ID별 증가분
+     */
+    public void onViewsApplied(Map<String, Long> deltas) {
+        deltas.forEach((postId, delta) -> scoreBoard.add(postId, viewWeight * delta));
+    }
+
+    /**
+     * 게시글 좋아요/취소 반영
+     *
+     * @param postId 게시글 ID
+     * @param delta  +1(좋아요) / -1(취소)
+     */
+    public void onPostLiked(String postId, int delta) {
+        scoreBoard.add(postId, likeWeight * delta);
+    }
+
+    /**
+     * 댓글 작성 반영
+     *
+     * @param postId 게시글 ID
+     */
+    public void onCommentCreated(String postId) {
+        scoreBoard.add(postId, commentWeight);
+    }
+
+    /**
+     * 게시글 삭제 시 랭킹에서 제외 (다음 스냅샷부터)
+     *
+     * @param postId 게시글 ID
+     */
+    public void remove(String postId) {
+        scoreBoard.remove(postId);
+    }
+
+    /**
+     * 랭킹 페이지 조회
+     *
+     * @param window 집계 구간
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (BasePagingUtil 기준으로 조정)
+     * @return 순위 순서의 게시글 ID + 다음 커서
+     * @throws BaseException 형식이 잘못되었거나, 다른 인스턴스가 발급했거나, 만료된 커서
+     */
+    public RankingPage page(HotWindow window, String cursor, int size) {
+        int adjustedSize = BasePagingUtil.adjustPagingParams(0, size)[1];
+        Snapshot snapshot = current.get();
+        int offset = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            RankingCursor decoded = decodeCursor(cursor);
+            if (!instanceId.equals(decoded.instanceId())) {
+                throw new BaseException(ErrorCode.INVALID_REQUEST, "다른 서버에서 발급된 커서입니다: " + cursor);
+            }
+            snapshot = retained.get(decoded.generation());
+            if (snapshot == null) {
+                throw new BaseException(ErrorCode.INVALID_REQUEST, "만료된 커서입니다: " + cursor);
+            }
+            offset = decoded.offset();
+        }
+
+        List<String> ranking = snapshot.rankings()
+                .getOrDefault(window, List.of());
+        int from = Math.min(offset, ranking.size());
+        int to = Math.min(from + adjustedSize, ranking.size());
+        String nextCursor = to < ranking.size() ? encodeCursor(instanceId, snapshot.generation(), to) : null;
+        return new RankingPage(ranking.subList(from, to), nextCursor);
+    }
+
+    /**
+     * 구간별 정렬 스냅샷 교체 + 오래된 키 정리 (기본 5초 주기)
+     */
+    @Scheduled(fixedDelayString = "${content.hot.refresh-interval-ms:5000}")
+    public void refresh() {
+        int pruned = scoreBoard.maintain(MIN_SCORE);
+
+        Map<HotWindow, List<String>> rankings = new EnumMap<>(HotWindow.class);
+        for (HotWindow window : HotWindow.values()) {
+            rankings.put(window, scoreBoard.top(window, maxRanked)
+                    .stream()
+                    .map(HotScoreBoard.Ranked::key)
+                    .toList());
+        }
+
+        Snapshot next = new Snapshot(current.get()
+                .generation() + 1, rankings);
+        retained.put(next.generation(), next);
+        retained.remove(next.generation() - RETAINED_GENERATIONS);
+        current.set(next);
+
+        if (pruned > 0) {
+            log.debug("HOT 랭킹 정리 - 제거: {}개, 추적 중: {}개", pruned, scoreBoard.size());
+        }
+    }
+
+    /**
+     * 기동 시 최근 7일 게시글 시드
+     * 저장된 누적 조회수/좋아요/댓글 수를 작성 시각의 활동으로 간주 (이후 활동은 실시간 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            LocalDateTime since = LocalDateTime.now()
+                    .minusHours(HotWindow.WEEK.getHours());
+            Query query = Query.query(Criteria.where("status")
+                    .is("ACTIVE")
+                    .and("createdAt")
+                    .gte(since));
+            query.fields()
+                    .include("viewCount", "likeCount", "createdAt");
+            List<Post> posts = mongoTemplate.find(query, Post.class);
+
+            Map<String, Long> comments = commentCounts(posts.stream()
+                    .map(Post::getId)
+                    .toList());
+            ZoneId zone = ZoneId.systemDefault();
+            for (Post post : posts) {
+                double weight = viewWeight * (post.getViewCount() != null ? post.getViewCount() : 0)
+                        + likeWeight * (post.getLikeCount() != null ? post.getLikeCount() : 0)
+                        + commentWeight * comments.getOrDefault(post.getId(), 0L);
+                scoreBoard.add(post.getId(), weight, post.getCreatedAt()
+                        .atZone(zone)
+                        .toInstant()
+                        .toEpochMilli());
+            }
+            refresh();
+            log.info("HOT 랭킹 시드 - 최근 게시글: {}개", posts.size());
+        } catch (RuntimeException e) {
+            log.error("HOT 랭킹 시드 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 게시글별 활성 댓글 수 (집계 1회)
+     */
+    private Map<String, Long> commentCounts(List<String> postIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("postId")
+                        .in(postIds)
+                        .and("status")
+                        .is("ACTIVE")),
+                Aggregation.group("postId")
+                        .count()
+                        .as("count")
+        );
+        mongoTemplate.aggregate(aggregation, Comment.class, Document.class)
+                .forEach(doc -> result.put(doc.getString("_id"), ((Number) doc.get("count")).longValue()));
+        return result;
+    }
+
+    private static String encodeCursor(String instanceId, long generation, int offset) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((instanceId + ":" + generation + ":" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RankingCursor decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder()
+                    .decode(cursor.trim()), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || parts[0].isEmpty()) {
+                throw new IllegalArgumentException("parts");
+            }
+            long generation = Long.parseLong(parts[1]);
+            long offset = Long.parseLong(parts[2]);
+            if (offset < 0 || offset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("offset");
+            }
+            return new RankingCursor(parts[0], generation, (int) offset);
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 랭킹 페이지
+     *
+     * @param postIds    순위 순서의 게시글 ID
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record RankingPage(List<String> postIds, String nextCursor) {
+    }
+
+    private record RankingCursor(String instanceId, long generation, int offset) {
+    }
+
+    private record Snapshot(long generation, Map<HotWindow, List<String>> rankings) {
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of());
+    }
+}
@@ -0,0 +1,251 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.common.concurrent.DeltaBuffer;
+import study.content.entity.Comment;
+import study.content.entity.CounterShard.CounterField;
+import study.content.entity.Like.TargetType;
+import study.content.entity.Post;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 카운터 write-behind 버퍼
+ * 좋아요 클릭마다 대상 문서에 $inc 하지 않고 메모리에 모았다가
+ * 주기적으로(또는 키 개수 임계치 도달 시) 컬렉션별 unordered bulkWrite 한 번으로 반영
+ * <p>
+ * - 좋아요 문서(likes) 자체의 생성/삭제는 기존대로 동기 처리 (멱등성/유니크 인덱스 보장)
+ * - 조회 시 저장된 likeCount + 반영 대기 중인 delta를 합산
+ * - 정상 종료 시 남은 delta를 모두 반영
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final ShardedPostCounter shardedPostCounter;
+    private final DeltaBuffer<LikeTarget> buffer = new DeltaBuffer<>();
+    private final int flushThreshold;
+
+    // 임계치 도달 시 요청 스레드 대신 flush를 수행할 전용 스레드
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "like-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSize;
+
+    public LikeCountBuffer(MongoTemplate mongoTemplate,
+                           ShardedPostCounter shardedPostCounter,
+                           MeterRegistry meterRegistry,
+                           @Value("${content.like.write-behind.flush-threshold:1000}") int flushThreshold) {
+        this.mongoTemplate = mongoTemplate;
+        this.shardedPostCounter = shardedPostCounter;
+        this.flushThreshold = flushThreshold;
+
+        this.flushTimer = Timer.builder("content.like.buffer.flush.latency")
+                .description("좋아요 카운터 bulkWrite 소요 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("content.like.buffer.flush.batch.size")
+                .description("flush 1회당 반영한 대상 수")
+                .register(meterRegistry);
+        Gauge.builder("content.like.buffer.backlog", buffer, DeltaBuffer::size)
+                .description("반영 대기 중인 대상 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 수 증감 요청 누적
+     *
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @param delta      증감값
+     */
+    public void increment(TargetType targetType, String targetId, long delta) {
+        if (targetType == TargetType.POST) {
+            // 핫 게시글 감지 (flush 시 샤드로 분산할지 결정)
+            shardedPostCounter.recordWrite(targetId);
+        }
+        int backlog = buffer.add(new LikeTarget(targetType, targetId), delta);
+
+        if (backlog >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 반영 대기 중인 delta가 있는지 확인 (카운터 보정 시 제외용)
+     *
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @return 대기 중인 delta 존재 여부
+     */
+    public boolean hasPending(TargetType targetType, String targetId) {
+        return buffer.pending(new LikeTarget(targetType, targetId)) != 0;
+    }
+
+    /**
+     * 반영 대기 중인 delta 스냅샷 (샤드 합계 제외, 한 번만 캡처)
+     * 여러 대상의 저장된 likeCount 를 먼저 읽은 뒤 같은 시점 기준으로 합산할 때 사용
+     *
+     * @param targetType 대상 타입
+     * @return 대상 ID → 대기 중인 delta
+     */
+    public ToLongFunction<String> pendingSnapshot(TargetType targetType) {
+        DeltaBuffer.Snapshot<LikeTarget> snapshot = buffer.snapshot();
+        return targetId -> snapshot.pending(new LikeTarget(targetType, targetId));
+    }
+
+    /**
+     * 저장된 좋아요 수에 대기 중인 delta를 합산 (핫 게시글은 샤드 합계 포함)
+     * 저장소 반영 중이면 bulkWrite 응답까지 기다린 뒤 한 번만 조회 → 반영된 delta 를 두 번 더하지 않음
+     * (같은 대상을 연속으로 조회하면 좋아요만 늘어나는 동안 값이 줄지 않음)
+     *
+     * @param targetType  대상 타입
+     * @param targetId    대상 ID
+     * @param storedCount 저장된 좋아요 수 조회 함수
+     * @return 현재 좋아요 수
+     */
+    public long currentCount(TargetType targetType, String targetId, LongSupplier storedCount) {
+        long count = buffer.currentValue(new LikeTarget(targetType, targetId), () -> {
+            long shardTotal = targetType == TargetType.POST
+                    ? shardedPostCounter.shardTotal(targetId, CounterField.LIKE_COUNT)
+                    : 0L;
+            return storedCount.getAsLong() + shardTotal;
+        });
+        return Math.max(0L, count);
+    }
+
+    /**
+     * 대기 중인 delta를 대상 컬렉션에 반영 (기본 1초 주기)
+     */
+    @Scheduled(fixedDelayString = "${content.like.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            DeltaBuffer.FlushResult result = flushTimer.record(() -> buffer.flush(this::writeBatch));
+            if (result != null && result.keys() > 0) {
+                batchSize.record(result.keys());
+                log.debug("좋아요 카운터 반영 - 대상: {}개, 요청: {}건", result.keys(), result.operations());
+            }
+        } catch (RuntimeException e) {
+            log.error("좋아요 카운터 반영 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 delta 반영
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+        log.info("좋아요 카운터 버퍼 종료 - 잔여 대상: {}개", buffer.size());
+    }
+
+    /**
+     * 배치를 대상 타입별 unordered bulkWrite로 반영
+     *
+     * @param batch 대상별 증감값
+     * @return 반영하지 못한 대상별 증감값 (다음 flush에서 재시도)
+     */
+    private Map<LikeTarget, Long> writeBatch(Map<LikeTarget, Long> batch) {
+        Map<TargetType, List<Map.Entry<LikeTarget, Long>>> byType = batch.entrySet()
+                .stream()
+                .collect(Collectors.groupingBy(entry -> entry.getKey()
+                        .targetType()));
+
+        Map<LikeTarget, Long> unapplied = new HashMap<>();
+
+        // 핫 게시글은 게시글 문서 대신 카운터 샤드에 반영
+        List<Map.Entry<LikeTarget, Long>> postEntries = byType.get(TargetType.POST);
+        if (postEntries != null) {
+            Map<String, Long> shardDeltas = new HashMap<>();
+            List<Map.Entry<LikeTarget, Long>> documentEntries = new ArrayList<>();
+            for (Map.Entry<LikeTarget, Long> entry : postEntries) {
+                String postId = entry.getKey()
+                        .targetId();
+                if (shardedPostCounter.isSharded(postId)) {
+                    shardDeltas.put(postId, entry.getValue());
+                } else {
+                    documentEntries.add(entry);
+                }
+            }
+            shardedPostCounter.incrementShards(shardDeltas, CounterField.LIKE_COUNT)
+                    .forEach((postId, delta) -> unapplied.put(new LikeTarget(TargetType.POST, postId), delta));
+
+            if (documentEntries.isEmpty()) {
+                byType.remove(TargetType.POST);
+            } else {
+                byType.put(TargetType.POST, documentEntries);
+            }
+        }
+
+        byType.forEach((targetType, entries) -> {
+            Class<?> entityClass = targetType == TargetType.POST ? Post.class : Comment.class;
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+
+            for (Map.Entry<LikeTarget, Long> entry : entries) {
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id")
+                                .is(entry.getKey()
+                                        .targetId())),
+                        new Update().inc("likeCount", entry.getValue())
+                );
+            }
+
+            try {
+                bulkOps.execute();
+            } catch (BulkOperationException e) {
+                // unordered: 실패한 연산만 재시도 대상
+                e.getErrors()
+                        .forEach(error -> {
+                            Map.Entry<LikeTarget, Long> failed = entries.get(error.getIndex());
+                            unapplied.put(failed.getKey(), failed.getValue());
+                        });
+                log.warn("좋아요 카운터 일부 반영 실패 - type: {}, 실패: {}건", targetType, e.getErrors()
+                        .size());
+            } catch (RuntimeException e) {
+                entries.forEach(entry -> unapplied.put(entry.getKey(), entry.getValue()));
+                log.warn("좋아요 카운터 반영 실패 - type: {}, error: {}", targetType, e.getMessage());
+            }
+        });
+        return unapplied;
+    }
+
+    /**
+     * 버퍼 키 (대상 타입 + 대상 ID)
+     */
+    private record LikeTarget(TargetType targetType, String targetId) {
+    }
+}
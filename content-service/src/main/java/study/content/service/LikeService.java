@@ -6,29 +6,50 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import study.common.lib.exception.BaseException;
 import study.common.lib.exception.ErrorCode;
+import study.content.common.concurrent.FanoutExecutor;
+import study.content.common.concurrent.StripedLock;
+import study.content.dto.comment.BulkLikeResponse;
 import study.content.dto.comment.LikeResponse;
-import study.content.entity.Like;
+import study.content.entity.Comment;
 import study.content.entity.Like.TargetType;
+import study.content.entity.Post;
 import study.content.repository.CommentRepository;
 import study.content.repository.LikeRepository;
 import study.content.repository.PostRepository;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LikeService {
+    private static final int LIKE_LOCK_STRIPES = 1024;
+
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final HotPostRanking hotPostRanking;
+    private final FanoutExecutor fanoutExecutor;
+
+    // 같은 (대상, 사용자)에 대한 좋아요 변경 직렬화
+    private final StripedLock likeLocks = new StripedLock(LIKE_LOCK_STRIPES);
 
     /**
      * 단순 게시글 좋아요 토글 (생성/삭제)
-     * 이미 좋아요가 있으면 삭제, 없으면 생성
+     * 먼저 삭제를 시도하고, 지운 것이 없을 때만 대상 존재 확인 후 생성
+     * - 해제: delete 1회 (이미 좋아요한 대상이므로 존재 확인 생략)
+     * - 생성: delete 1회 + 대상 조회 1회 + upsert 1회
+     * 좋아요 문서를 삭제하거나 생성하는 단일 조건부 쓰기는 Mongo 에 없으므로 (플래그 필드로 바꾸면 개수/여부 조회가 모두 바뀜)
+     * 같은 (사용자, 대상)에 대한 요청은 스트라이프 락으로 직렬화하고, 존재 확인도 락 안에서 수행
+     * 좋아요 문서가 실제로 생성/삭제된 경우에만 대상 문서의 likeCount 증감
+     * (카운터 $inc는 LikeCountBuffer가 모아서 일괄 반영)
      *
      * @param targetId   대상 ID (게시글 또는 댓글)
      * @param targetType 대상 타입 (POST, COMMENT)
@@ -40,26 +61,46 @@ public class LikeService {
         log.debug("좋아요 토글 - targetId: {}, targetType: {}, username: {}",
                 targetId, targetType, username);
 
-        // 1. 대상 존재 여부 확인
-        validateTargetExists(targetId, targetType);
-
-        // 2. 이미 좋아요가 있는지 확인
-        boolean alreadyLiked = likeRepository.existsByTargetIdAndTargetTypeAndUsername(targetId, targetType, username);
+        return likeLocks.withLock(new LikeKey(targetType, targetId, username), () -> {
+            if (removeLike(targetId, targetType, username)) {
+                return false;
+            }
+            validateTargetExists(targetId, targetType);
+            addLike(targetId, targetType, username);
+            return true;
+        });
+    }
 
-        if (alreadyLiked) {
-            // 이미 좋아요가 있으므로 삭제
-            long deletedCount = likeRepository.deleteByTargetIdAndTargetTypeAndUsername(targetId, targetType, username);
-            log.info("좋아요 삭제 - targetId: {}, targetType: {}, username: {}, deletedCount: {}",
-                    targetId, targetType, username, deletedCount);
-            return false;
-        } else {
-            Like newLike = Like.create(targetId, targetType, username);
-            Like savedLike = likeRepository.save(newLike);
+    /**
+     * 좋아요 설정 (멱등)
+     * 이미 좋아요 상태면 아무것도 바뀌지 않음 - 단일 upsert
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     */
+    @Transactional
+    public void like(String targetId, TargetType targetType, String username) {
+        likeLocks.withLock(new LikeKey(targetType, targetId, username), () -> {
+            validateTargetExists(targetId, targetType);
+            return addLike(targetId, targetType, username);
+        });
+    }
 
-            log.info("좋아요 생성 - id: {}, targetId: {}, targetType: {}, username: {}",
-                    savedLike.getId(), targetId, targetType, username);
-            return true;
-        }
+    /**
+     * 좋아요 해제 (멱등)
+     * 좋아요가 없으면 아무것도 바뀌지 않음 - 단일 delete
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     */
+    @Transactional
+    public void unlike(String targetId, TargetType targetType, String username) {
+        likeLocks.withLock(new LikeKey(targetType, targetId, username), () -> {
+            validateTargetExists(targetId, targetType);
+            return removeLike(targetId, targetType, username);
+        });
     }
 
     /**
@@ -78,65 +119,136 @@ public class LikeService {
         // 1. 좋아요 토글
         boolean isLiked = toggleLike(targetId, targetType, username);
 
-        // 2. 좋아요 개수 조회
-        long likeCount = getLikeCount(targetId, targetType);
-
-        // 3. 응답 생성
-        LikeResponse response = LikeResponse.builder()
-                .id(targetId)
-                .likeCount(likeCount)
-                .isLikedByCurrentUser(isLiked)
-                .build();
+        // 2. 좋아요 개수 조회 + 응답 생성
+        LikeResponse response = buildLikeResponse(targetId, targetType, isLiked);
 
         log.info("좋아요 토글 완료 - targetId: {}, targetType: {}, isLiked: {}, likeCount: {}",
-                targetId, targetType, isLiked, likeCount);
+                targetId, targetType, isLiked, response.getLikeCount());
 
         return response;
     }
 
+    /**
+     * 좋아요 설정 + 결과 정보 반환 (PUT)
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     * @return 좋아요여부(항상 true) + 좋아요개수
+     */
+    @Transactional
+    public LikeResponse likeAndGetInfo(String targetId, TargetType targetType, String username) {
+        like(targetId, targetType, username);
+        return buildLikeResponse(targetId, targetType, true);
+    }
+
+    /**
+     * 좋아요 해제 + 결과 정보 반환 (DELETE)
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     * @return 좋아요여부(항상 false) + 좋아요개수
+     */
+    @Transactional
+    public LikeResponse unlikeAndGetInfo(String targetId, TargetType targetType, String username) {
+        unlike(targetId, targetType, username);
+        return buildLikeResponse(targetId, targetType, false);
+    }
+
     /**
      * 특정 게시글의 좋아요 개수 조회
+     * likes 컬렉션을 count 하지 않고 대상 문서의 likeCount 카운터 + 반영 대기 중인 delta를 읽음
      *
      * @param targetId   대상 ID
      * @param targetType 대상 타입
      * @return 좋아요 개수
      */
     public long getLikeCount(String targetId, TargetType targetType) {
-        long likeCount = likeRepository.countByTargetIdAndTargetType(targetId, targetType);
+        long likeCount = likeCountBuffer.currentCount(targetType, targetId, () -> {
+            Long storedCount = targetType == TargetType.POST
+                    ? postRepository.findLikeCountById(targetId)
+                    : commentRepository.findLikeCountById(targetId);
+            return storedCount != null ? storedCount : 0L;
+        });
         log.debug("좋아요 개수 조회 - targetId: {}, targetType: {}, count: {}",
                 targetId, targetType, likeCount);
         return likeCount;
     }
 
+    /**
+     * 이미 읽은 대상 문서의 likeCount 에 반영 대기 중인 delta 합산 (추가 조회 없음)
+     * 목록 조회에서 문서와 함께 읽은 카운터를 그대로 사용할 때
+     *
+     * @param targetId    대상 ID
+     * @param targetType  대상 타입
+     * @param storedCount 문서에 저장된 likeCount (백필 전이면 null)
+     * @return 좋아요 개수
+     */
+    public long getLikeCount(String targetId, TargetType targetType, Long storedCount) {
+        return likeCountBuffer.currentCount(targetType, targetId, () -> storedCount != null ? storedCount : 0L);
+    }
+
     /**
      * 여러 대상의 좋아요 개수 일괄 조회
      * 게시판 목록에서 각 게시판별 좋아요 개수 구하기
+     * 단건 조회와 같은 카운터 기준: 대상 문서의 likeCount($in projection 1회) + 반영 대기 delta
      *
      * @param targetIds  대상 ID 목록
      * @param targetType 대상 타입
-     * @return 대상 ID를 키로 하는 좋아요 개수 맵
+     * @return 대상 ID를 키로 하는 좋아요 개수 맵 (좋아요가 없는 대상은 0)
      */
     public Map<String, Long> getBulkLikeCount(List<String> targetIds, TargetType targetType) {
         log.debug("좋아요 일괄 조회 - targets: {}개, type: {}",
                 targetIds.size(), targetType);
 
-        Map<String, Long> result = new HashMap<>();
+        Set<String> uniqueIds = new LinkedHashSet<>(targetIds);
+        Map<String, Long> storedCounts = targetType == TargetType.POST
+                ? postRepository.findLikeCountsByIds(uniqueIds)
+                : commentRepository.findLikeCountsByIds(uniqueIds);
 
-        // 각 대상의 좋아요 개수 조회
-        for (String targetId : targetIds) {
-            try {
-                long likeCount = likeRepository.countByTargetIdAndTargetType(targetId, targetType);
-                result.put(targetId, likeCount);
-            } catch (Exception e) {
-                log.warn("Failed to get like count for target: {}, error: {}", targetId, e.getMessage());
-                result.put(targetId, 0L); // 실패한 경우 0으로 설정
-            }
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String targetId : uniqueIds) {
+            result.put(targetId, getLikeCount(targetId, targetType, storedCounts.get(targetId)));
         }
 
         log.debug("좋아요 일괄 조회 완료 - 결과: {}개", result.size());
         return result;
     }
 
+    /**
+     * 여러 대상의 좋아요 개수 + 현재 사용자 좋아요 여부 일괄 조회
+     * 목록 한 페이지를 한 번의 API 호출로 렌더링하기 위한 용도
+     * 좋아요 수 $in 1회 + (로그인 시) 좋아요 여부 $in 1회, 두 쿼리는 동시에 실행
+     *
+     * @param targetIds  대상 ID 목록
+     * @param targetType 대상 타입
+     * @param username   현재 사용자명(null 가능)
+     * @return 좋아요 개수 맵 + 좋아요 여부 맵(비로그인 시 null)
+     */
+    public BulkLikeResponse getBulkLikeInfo(List<String> targetIds, TargetType targetType, String username) {
+        // 두 쿼리는 서로 의존하지 않으므로 좋아요 여부 조회를 별도 스레드에서 동시에 실행
+        CompletableFuture<Set<String>> likedIdsFuture = username != null
+                ? fanoutExecutor.fork(() -> likeRepository.findLikedTargetIds(new LinkedHashSet<>(targetIds), targetType, username))
+                : null;
+        Map<String, Long> likeCounts = getBulkLikeCount(targetIds, targetType);
+
+        Map<String, Boolean> likedByCurrentUser = null;
+        if (likedIdsFuture != null) {
+            Set<String> likedIds = FanoutExecutor.join(likedIdsFuture);
+
+            likedByCurrentUser = new LinkedHashMap<>();
+            for (String targetId : likeCounts.keySet()) {
+                likedByCurrentUser.put(targetId, likedIds.contains(targetId));
+            }
+        }
+
+        return BulkLikeResponse.builder()
+                .likeCounts(likeCounts)
+                .likedByCurrentUser(likedByCurrentUser)
+                .build();
+    }
+
     /**
      * 좋아요 정보 조회 (개수 + 현재 사용자 좋아요 여부)
      * 상세화면에서 조회하는 용도
@@ -150,11 +262,8 @@ public class LikeService {
         log.debug("좋아요 정보 조회 - targetId: {}, targetType: {}, user: {}",
                 targetId, targetType, username != null ? username : "비로그인");
 
-        // 1. 대상 존재 확인
-        validateTargetExists(targetId, targetType);
-
-        // 2. 좋아요 개수 조회
-        long likeCount = getLikeCount(targetId, targetType);
+        // 1. 대상 존재 확인 + 좋아요 개수 (대상 문서의 카운터)
+        long likeCount = getActiveTargetLikeCount(targetId, targetType);
 
         // 3. 현재 사용자 좋아요 여부 (로그인한 경우만)
         boolean isLiked = false;
@@ -177,6 +286,114 @@ public class LikeService {
 
     // ======================= Private 헬퍼 메서드 =======================
 
+    /**
+     * 좋아요 생성 (upsert) - 실제로 생성된 경우에만 카운터 +1
+     * 호출 측에서 likeLocks 를 잡고 있어야 함
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     * @return 새로 생성되었는지 여부
+     */
+    private boolean addLike(String targetId, TargetType targetType, String username) {
+        boolean inserted = likeRepository.insertIfAbsent(targetId, targetType, username);
+        if (inserted) {
+            adjustLikeCount(targetId, targetType, 1);
+            log.info("좋아요 생성 - targetId: {}, targetType: {}, username: {}",
+                    targetId, targetType, username);
+        }
+        return inserted;
+    }
+
+    /**
+     * 좋아요 삭제 - 실제로 삭제된 경우에만 카운터 감소
+     * 호출 측에서 likeLocks 를 잡고 있어야 함
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param username   사용자명
+     * @return 삭제되었는지 여부
+     */
+    private boolean removeLike(String targetId, TargetType targetType, String username) {
+        long deletedCount = likeRepository.deleteByTargetIdAndTargetTypeAndUsername(targetId, targetType, username);
+        if (deletedCount > 0) {
+            adjustLikeCount(targetId, targetType, -deletedCount);
+            log.info("좋아요 삭제 - targetId: {}, targetType: {}, username: {}, deletedCount: {}",
+                    targetId, targetType, username, deletedCount);
+        }
+        return deletedCount > 0;
+    }
+
+    /**
+     * 좋아요 변경 후 응답 생성 (좋아요 개수 조회 포함)
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param isLiked    변경 후 좋아요 상태
+     * @return 좋아요 정보
+     */
+    private LikeResponse buildLikeResponse(String targetId, TargetType targetType, boolean isLiked) {
+        return LikeResponse.builder()
+                .id(targetId)
+                .likeCount(getLikeCount(targetId, targetType))
+                .isLikedByCurrentUser(isLiked)
+                .build();
+    }
+
+    /**
+     * 대상 문서의 likeCount 증감 (write-behind 버퍼에 누적)
+     * 게시글 좋아요는 HOT 랭킹 점수에도 반영
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @param delta      증감값
+     */
+    private void adjustLikeCount(String targetId, TargetType targetType, long delta) {
+        likeCountBuffer.increment(targetType, targetId, delta);
+        if (targetType == TargetType.POST) {
+            hotPostRanking.onPostLiked(targetId, (int) delta);
+        }
+    }
+
+    /**
+     * 활성 대상 조회 후 likeCount 반환 (존재 확인과 개수 조회를 한 번에)
+     * 반영 대기 중인 delta 포함
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @return 좋아요 개수
+     */
+    private long getActiveTargetLikeCount(String targetId, TargetType targetType) {
+        return likeCountBuffer.currentCount(targetType, targetId, () -> findActiveTargetStoredLikeCount(targetId, targetType));
+    }
+
+    /**
+     * 활성 대상 조회 후 저장된 likeCount 반환
+     *
+     * @param targetId   대상 ID
+     * @param targetType 대상 타입
+     * @return 저장된 좋아요 개수
+     */
+    private long findActiveTargetStoredLikeCount(String targetId, TargetType targetType) {
+        Long likeCount = null;
+        if (targetType == TargetType.POST) {
+            Post post = postRepository.findActivePostById(targetId)
+                    .orElseThrow(() -> {
+                        log.warn("게시글 없음 - postId: {}", targetId);
+                        return new BaseException(ErrorCode.POST_NOT_FOUND);
+                    });
+            likeCount = post.getLikeCount();
+        } else if (targetType == TargetType.COMMENT) {
+            Comment comment = commentRepository.findActiveCommentById(targetId)
+                    .orElseThrow(() -> {
+                        log.warn("댓글 없음 - commentId: {}", targetId);
+                        return new BaseException(ErrorCode.COMMENT_NOT_FOUND);
+                    });
+            likeCount = comment.getLikeCount();
+        }
+        return likeCount != null ? likeCount : 0L;
+    }
+
     /**
      * 대상(게시글/댓글) 존재 여부 확인
      *
@@ -198,4 +415,10 @@ public class LikeService {
                     });
         }
     }
+
+    /**
+     * 좋아요 락 키 (대상 + 사용자)
+     */
+    private record LikeKey(TargetType targetType, String targetId, String username) {
+    }
 }
@@ -0,0 +1,477 @@
+package study.content.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.dto.post.PostSummaryResponse;
+import study.content.entity.CounterShard.CounterField;
+import study.content.entity.Post;
+import study.content.repository.PostRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 게시글(조회수 상위 K개) 리더보드
+ * 요청마다 정렬 쿼리를 하지 않고, 조회수 반영(flush) 시점에 메모리에서 갱신한 불변 스냅샷을 제공
+ * <p>
+ * - 후보 풀: 조회수 상위 pool-size 개 게시글 (K보다 넉넉하게 유지해 순위 변동 흡수)
+ * - 갱신: ViewCountBuffer 가 반영에 성공한 조회수 증가분을 전달 → 후보 점수 갱신 후 스냅샷 교체
+ * - 풀 밖의 게시글: 조회수 상한(모르면 시드 시점 풀 최저 점수, 한 번 조회했으면 그 값) + 이후 증가분이
+ * 현재 풀 최저 점수를 넘을 수 있을 때만 조회해서 편입 → 풀 밖 게시글 조회는 게시글당 드물게 발생
+ * - 조회: AtomicReference 의 불변 리스트를 그대로 반환 (락 없음)
+ * - 시드: 기동 시 + 주기적으로 Mongo 에서 다시 읽어 누적 오차(좋아요 수, 수정 내용 등) 보정
+ * <p>
+ * Mongo 조회(시드, 풀 밖 게시글, 고유 조회자 수)는 updateLock 밖에서 수행하고 결과 반영만 락 안에서 함
+ * 조회하는 동안 반영된 증가분/삭제는 변경 기록(journal)에 남겼다가 조회 결과에 더함 (누락/되살아남 방지)
+ */
+@Slf4j
+@Component
+public class PopularPostLeaderboard {
+
+    // 풀 밖 게시글 추적 상한 (넘으면 초기화 - 상한을 다시 보수적으로 잡으므로 정확도는 유지)
+    private static final int MAX_TRACKED_OUTSIDERS = 100_000;
+    // 비활성(삭제 등) 게시글 표시 - 증가분을 더해도 후보가 되지 않음
+    private static final long EXCLUDED = Long.MIN_VALUE / 2;
+
+    private final PostRepository postRepository;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final ShardedPostCounter shardedPostCounter;
+    private final int size;
+    private final int poolSize;
+
+    // 아래 상태는 updateLock 으로 보호 (락 안에서는 Mongo 조회를 하지 않음), 조회는 snapshot 만 읽음
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final Map<String, Candidate> pool = new HashMap<>();
+    // 풀 밖 게시글 ID → 조회수 상한
+    private final Map<String, Long> outsiderBounds = new HashMap<>();
+    // 편입 여부를 조회 중인 풀 밖 게시글 (중복 조회 방지)
+    private final Set<String> loading = new HashSet<>();
+    private long seedFloor;
+
+    // 변경(증가분 반영/삭제) 번호와, 진행 중인 락 밖 조회가 있는 동안의 변경 기록
+    private long changeVersion;
+    private final ArrayDeque<Change> journal = new ArrayDeque<>();
+    // 진행 중인 락 밖 조회의 시작 시점 변경 번호
+    private final List<Long> openReads = new ArrayList<>();
+    private long publishVersion;
+
+    private final AtomicReference<Published> snapshot = new AtomicReference<>(new Published(0L, List.of()));
+
+    public PopularPostLeaderboard(PostRepository postRepository,
+                                  UniqueViewerCounter uniqueViewerCounter,
+                                  ShardedPostCounter shardedPostCounter,
+                                  @Value("${content.popular.size:10}") int size,
+                                  @Value("${content.popular.pool-size:100}") int poolSize) {
+        this.postRepository = postRepository;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.shardedPostCounter = shardedPostCounter;
+        this.size = size;
+        this.poolSize = Math.max(size, poolSize);
+    }
+
+    /**
+     * 현재 인기 게시글 (불변 스냅샷, 응답 객체를 수정하지 말 것)
+     *
+     * @return 조회수 상위 게시글
+     */
+    public List<PostSummaryResponse> snapshot() {
+        return snapshot.get()
+                .responses();
+    }
+
+    /**
+     * Mongo 기준으로 후보 풀 재구성 (기동 시 + 기본 10분 주기)
+     * 조회 중에 반영된 증가분/삭제는 변경 기록으로 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${content.popular.reseed-interval-ms:600000}",
+            fixedDelayString = "${content.popular.reseed-interval-ms:600000}")
+    public void seed() {
+        try {
+            long readVersion = openRead();
+            Ranking top;
+            List<Post> posts;
+            try {
+                posts = postRepository.findActivePosts(PageRequest.of(0, poolSize, Sort.by(Sort.Direction.DESC, "viewCount")));
+                Map<String, Long> views = viewCountsOf(posts);
+
+                updateLock.lock();
+                try {
+                    pool.clear();
+                    outsiderBounds.clear();
+                    posts.forEach(post -> {
+                        if (removedSince(readVersion, post.getId())) {
+                            outsiderBounds.put(post.getId(), EXCLUDED);
+                            return;
+                        }
+                        pool.put(post.getId(), new Candidate(post, views.get(post.getId()) + appliedSince(readVersion, post.getId())));
+                    });
+                    seedFloor = pool.size() < poolSize ? 0 : floor();
+                    top = topCandidates();
+                } finally {
+                    updateLock.unlock();
+                }
+            } finally {
+                closeRead(readVersion);
+            }
+            publish(top);
+            log.info("인기 게시글 리더보드 시드 - 후보: {}개", posts.size());
+        } catch (RuntimeException e) {
+            log.error("인기 게시글 리더보드 시드 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 반영된 조회수 증가분 적용
+     * 풀 밖 게시글 편입 조회는 락 밖에서 수행
+     *
+     * @param deltas 게시글 ID별 증가분 (Mongo 반영 완료된 값)
+     */
+    public void onViewsApplied(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> contenders = new ArrayList<>();
+        long readVersion = -1;
+        Ranking top = null;
+
+        updateLock.lock();
+        try {
+            long floor = pool.size() < poolSize ? 0 : floor();
+
+            deltas.forEach((postId, delta) -> {
+                Candidate candidate = pool.get(postId);
+                if (candidate != null) {
+                    candidate.views += delta;
+                    return;
+                }
+                // 처음 보는 게시글의 상한 = 시드 시점 풀 최저 점수 (그보다 높았다면 시드 때 풀에 들어왔음)
+                long bound = outsiderBounds.merge(postId, seedFloor + delta, (previous, ignored) -> previous + delta);
+                if (bound > floor && loading.add(postId)) {
+                    contenders.add(postId);
+                }
+            });
+            recordChange(new Change(++changeVersion, deltas, null));
+
+            if (outsiderBounds.size() > MAX_TRACKED_OUTSIDERS) {
+                outsiderBounds.clear();
+            }
+
+            if (contenders.isEmpty()) {
+                top = topCandidates();
+            } else {
+                readVersion = openReadLocked();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+
+        if (!contenders.isEmpty()) {
+            top = admit(contenders, readVersion);
+        }
+        publish(top);
+    }
+
+    /**
+     * 게시글 삭제 시 리더보드에서 제외
+     *
+     * @param postId 게시글 ID
+     */
+    public void remove(String postId) {
+        Ranking top = null;
+        updateLock.lock();
+        try {
+            outsiderBounds.put(postId, EXCLUDED);
+            recordChange(new Change(++changeVersion, Map.of(), postId));
+            if (pool.remove(postId) != null) {
+                top = topCandidates();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+        if (top != null) {
+            publish(top);
+        }
+    }
+
+    /**
+     * 게시글 수정 시 표시 내용(제목 등) 갱신
+     *
+     * @param post 수정된 게시글
+     */
+    public void update(Post post) {
+        Ranking top = null;
+        updateLock.lock();
+        try {
+            Candidate candidate = pool.get(post.getId());
+            if (candidate != null) {
+                candidate.post = post;
+                top = topCandidates();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+        if (top != null) {
+            publish(top);
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 풀 밖 게시글을 조회해 편입 (조회는 락 밖, 반영은 락 안)
+     * 조회 결과에 없는 게시글은 비활성으로 표시
+     *
+     * @param contenders  편입 후보 게시글 ID
+     * @param readVersion 조회 시작 시점 변경 번호
+     * @return 편입 후 상위 K개
+     */
+    private Ranking admit(List<String> contenders, long readVersion) {
+        List<Post> posts;
+        Map<String, Long> views;
+        try {
+            posts = postRepository.findActivePostsByIds(contenders);
+            views = viewCountsOf(posts);
+        } catch (RuntimeException e) {
+            updateLock.lock();
+            try {
+                contenders.forEach(loading::remove);
+                closeReadLocked(readVersion);
+            } finally {
+                updateLock.unlock();
+            }
+            throw e;
+        }
+
+        updateLock.lock();
+        try {
+            contenders.forEach(loading::remove);
+            contenders.forEach(postId -> outsiderBounds.put(postId, EXCLUDED));
+            for (Post post : posts) {
+                String postId = post.getId();
+                if (removedSince(readVersion, postId)) {
+                    continue;
+                }
+                outsiderBounds.remove(postId);
+                // 조회하는 동안 시드로 이미 풀에 들어왔으면 그대로 둠
+                pool.putIfAbsent(postId, new Candidate(post, views.get(postId) + appliedSince(readVersion, postId)));
+            }
+            trimPool();
+            closeReadLocked(readVersion);
+            return topCandidates();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 상위 K개 복사본 (updateLock 안에서 호출)
+     *
+     * @return 점수 순 상위 K개
+     */
+    private Ranking topCandidates() {
+        List<Ranked> top = pool.values()
+                .stream()
+                .sorted(Comparator.comparingLong((Candidate candidate) -> candidate.views)
+                        .reversed())
+                .limit(size)
+                .map(candidate -> new Ranked(candidate.post, candidate.views))
+                .toList();
+        return new Ranking(++publishVersion, top);
+    }
+
+    /**
+     * 상위 K개로 새 스냅샷 생성 후 교체 (updateLock 밖에서 호출, 고유 조회자 수 조회 포함)
+     * 더 나중에 만든 순위가 이미 게시되었으면 버림
+     *
+     * @param top 상위 K개
+     */
+    private void publish(Ranking top) {
+        Map<String, Long> uniqueViewers = top.entries()
+                .isEmpty()
+                ? Map.of()
+                : uniqueViewerCounter.estimates(top.entries()
+                .stream()
+                .map(ranked -> ranked.post()
+                        .getId())
+                .toList());
+
+        List<PostSummaryResponse> responses = top.entries()
+                .stream()
+                .map(ranked -> {
+                    PostSummaryResponse response = PostSummaryResponse.from(ranked.post());
+                    response.setViewCount((int) ranked.views());
+                    response.setUniqueViewers(uniqueViewers.getOrDefault(ranked.post()
+                            .getId(), 0L));
+                    return response;
+                })
+                .toList();
+        snapshot.accumulateAndGet(new Published(top.version(), responses),
+                (current, next) -> current.version() > next.version() ? current : next);
+    }
+
+    /**
+     * 풀 크기 상한 유지 (최저 점수부터 제외, 제외된 게시글은 정확한 조회수를 상한으로 기억)
+     */
+    private void trimPool() {
+        while (pool.size() > poolSize) {
+            pool.values()
+                    .stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.views))
+                    .ifPresent(lowest -> {
+                        pool.remove(lowest.post.getId());
+                        outsiderBounds.put(lowest.post.getId(), lowest.views);
+                    });
+        }
+    }
+
+    private long floor() {
+        return pool.values()
+                .stream()
+                .mapToLong(candidate -> candidate.views)
+                .min()
+                .orElse(0L);
+    }
+
+    /**
+     * 락 밖 조회 시작 (이후 변경을 기록하도록 표시)
+     *
+     * @return 조회 시작 시점 변경 번호
+     */
+    private long openRead() {
+        updateLock.lock();
+        try {
+            return openReadLocked();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private long openReadLocked() {
+        openReads.add(changeVersion);
+        return changeVersion;
+    }
+
+    private void closeRead(long readVersion) {
+        updateLock.lock();
+        try {
+            closeReadLocked(readVersion);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 락 밖 조회 종료 후 더 이상 필요 없는 변경 기록 정리
+     */
+    private void closeReadLocked(long readVersion) {
+        openReads.remove(Long.valueOf(readVersion));
+        long oldest = openReads.stream()
+                .mapToLong(Long::longValue)
+                .min()
+                .orElse(Long.MAX_VALUE);
+        while (!journal.isEmpty() && journal.peekFirst()
+                .version() <= oldest) {
+            journal.pollFirst();
+        }
+    }
+
+    /**
+     * 진행 중인 락 밖 조회가 있을 때만 변경 기록
+     */
+    private void recordChange(Change change) {
+        if (!openReads.isEmpty()) {
+            journal.addLast(change);
+        }
+    }
+
+    /**
+     * 조회 시작 이후 반영된 증가분 합계
+     */
+    private long appliedSince(long readVersion, String postId) {
+        long total = 0L;
+        for (Change change : journal) {
+            if (change.version() > readVersion) {
+                total += change.deltas()
+                        .getOrDefault(postId, 0L);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 조회 시작 이후 삭제되었는지 여부
+     */
+    private boolean removedSince(long readVersion, String postId) {
+        for (Change change : journal) {
+            if (change.version() > readVersion && postId.equals(change.removed())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장된 조회수 (핫 게시글은 샤드 합계 포함)
+     *
+     * @param posts 게시글 목록
+     * @return 게시글 ID별 조회수
+     */
+    private Map<String, Long> viewCountsOf(List<Post> posts) {
+        Map<String, Map<CounterField, Long>> shardTotals = shardedPostCounter.shardTotals(posts.stream()
+                .map(Post::getId)
+                .toList());
+
+        Map<String, Long> views = new HashMap<>();
+        for (Post post : posts) {
+            long viewCount = post.getViewCount() != null ? post.getViewCount() : 0L;
+            viewCount += shardTotals.getOrDefault(post.getId(), Map.of())
+                    .getOrDefault(CounterField.VIEW_COUNT, 0L);
+            views.put(post.getId(), viewCount);
+        }
+        return views;
+    }
+
+    private static final class Candidate {
+        private Post post;
+        private long views;
+
+        private Candidate(Post post, long views) {
+            this.post = post;
+            this.views = views;
+        }
+    }
+
+    /**
+     * 락 밖 조회 중에 일어난 변경 (증가분 반영 또는 삭제)
+     */
+    private record Change(long version, Map<String, Long> deltas, String removed) {
+    }
+
+    /**
+     * 스냅샷용 상위 K개 (publishVersion 이 큰 쪽이 최신)
+     */
+    private record Ranking(long version, List<Ranked> entries) {
+    }
+
+    private record Ranked(Post post, long views) {
+    }
+
+    private record Published(long version, List<PostSummaryResponse> responses) {
+    }
+}
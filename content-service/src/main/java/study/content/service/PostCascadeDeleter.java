@@ -0,0 +1,268 @@
+package study.content.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.common.lib.util.TotalCountCache;
+import study.content.common.paging.TotalCountKeys;
+import study.content.dto.post.PostDeletionResponse;
+import study.content.entity.Like;
+import study.content.entity.Post;
+import study.content.entity.PostDeletionJob;
+import study.content.entity.PostDeletionJob.JobStatus;
+import study.content.repository.CommentRepository;
+import study.content.repository.LikeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 게시글 삭제 시 댓글/댓글 좋아요 일괄 정리
+ * 배치마다 활성 댓글 ID 조회 1회 + 좋아요 deleteMany($in) 1회 + 댓글 updateMany 1회 (댓글 수와 무관하게 배치 수만큼만 왕복)
+ * <p>
+ * - 댓글 수 async-threshold 이하: 삭제 요청 안에서 처리 (batch-size 이하면 배치 1번)
+ * - 초과 또는 댓글 수 미상: 작업(PostDeletionJob)을 저장하고 백그라운드에서 처리, 배치마다 진행 상황 기록
+ * - 즉시 처리 중 실패하면 FAILED 작업을 저장해 백그라운드 재시도 대상으로 남김 (게시글은 이미 삭제 상태이므로)
+ * - 재기동 시 끝나지 않은(RUNNING/FAILED) 작업 재개, 실행 중에는 FAILED 작업을 주기적으로 재시도
+ * 삭제는 활성 댓글만 대상으로 하고 실제로 바뀐 수만 세므로 같은 작업이 중복 실행되어도 결과/집계가 같음
+ */
+@Slf4j
+@Component
+public class PostCascadeDeleter {
+
+    private final MongoTemplate mongoTemplate;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final TotalCountCache totalCountCache;
+    private final int batchSize;
+    private final long asyncThreshold;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-cascade-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostCascadeDeleter(MongoTemplate mongoTemplate,
+                              CommentRepository commentRepository,
+                              LikeRepository likeRepository,
+                              TotalCountCache totalCountCache,
+                              @Value("${content.post.cascade.batch-size:1000}") int batchSize,
+                              @Value("${content.post.cascade.async-threshold:1000}") long asyncThreshold) {
+        this.mongoTemplate = mongoTemplate;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.totalCountCache = totalCountCache;
+        this.batchSize = batchSize;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    /**
+     * 삭제된 게시글의 댓글 정리 (댓글 수에 따라 즉시 또는 백그라운드)
+     * 게시글은 호출 전에 삭제 상태여야 함 (처리 중 새 댓글이 붙지 않도록)
+     *
+     * @param post 삭제된 게시글 (삭제 직전에 읽은 값)
+     * @return 삭제 결과 (백그라운드면 RUNNING, 즉시 처리 중 실패하면 FAILED)
+     */
+    public PostDeletionResponse delete(Post post) {
+        Long commentCount = post.getCommentCount();
+        if (commentCount != null && commentCount <= asyncThreshold) {
+            LocalDateTime startedAt = LocalDateTime.now();
+            BatchResult result;
+            try {
+                result = cascade(post.getId(), null);
+            } catch (RuntimeException e) {
+                return saveFailedJob(post, commentCount, startedAt, e);
+            }
+            return PostDeletionResponse.builder()
+                    .postId(post.getId())
+                    .status(JobStatus.COMPLETED)
+                    .expectedComments(commentCount)
+                    .deletedComments(result.comments())
+                    .deletedCommentLikes(result.likes())
+                    .startedAt(startedAt)
+                    .finishedAt(LocalDateTime.now())
+                    .build();
+        }
+
+        PostDeletionJob job = PostDeletionJob.builder()
+                .postId(post.getId())
+                .author(post.getAuthor())
+                .status(JobStatus.RUNNING)
+                .expectedComments(commentCount != null ? commentCount : 0L)
+                .startedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        mongoTemplate.save(job);
+        log.info("게시글 댓글 정리 백그라운드 처리 - postId: {}, 예상 댓글: {}개", post.getId(), job.getExpectedComments());
+
+        executor.execute(() -> runJob(post.getId()));
+        return PostDeletionResponse.from(job);
+    }
+
+    /**
+     * 백그라운드 삭제 작업 조회
+     *
+     * @param postId 게시글 ID
+     * @return 작업 (즉시 처리된 삭제는 작업이 없음)
+     */
+    public Optional<PostDeletionJob> findJob(String postId) {
+        return Optional.ofNullable(mongoTemplate.findById(postId, PostDeletionJob.class));
+    }
+
+    /**
+     * 기동 시 끝나지 않은 작업 재개 (처리 중 종료/실패)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        try {
+            Query query = Query.query(Criteria.where("status")
+                    .in(JobStatus.RUNNING, JobStatus.FAILED));
+            query.fields()
+                    .include("_id");
+
+            List<PostDeletionJob> jobs = mongoTemplate.find(query, PostDeletionJob.class);
+            jobs.forEach(job -> executor.execute(() -> runJob(job.getPostId())));
+            if (!jobs.isEmpty()) {
+                log.info("게시글 댓글 정리 작업 재개: {}개", jobs.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("게시글 댓글 정리 작업 재개 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 실패한 작업 주기적 재시도 (기본 1분)
+     * FAILED → RUNNING 으로 바꾼 인스턴스만 실행 (여러 인스턴스가 같은 작업을 동시에 잡지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${content.post.cascade.retry-interval-ms:60000}")
+    public void retryFailedJobs() {
+        try {
+            Query query = Query.query(Criteria.where("status")
+                    .is(JobStatus.FAILED));
+            query.fields()
+                    .include("_id");
+
+            int retried = 0;
+            for (PostDeletionJob failed : mongoTemplate.find(query, PostDeletionJob.class)) {
+                long claimed = mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id")
+                                .is(failed.getPostId())
+                                .and("status")
+                                .is(JobStatus.FAILED)),
+                        new Update().set("status", JobStatus.RUNNING)
+                                .set("updatedAt", LocalDateTime.now()),
+                        PostDeletionJob.class
+                ).getModifiedCount();
+                if (claimed > 0) {
+                    executor.execute(() -> runJob(failed.getPostId()));
+                    retried++;
+                }
+            }
+            if (retried > 0) {
+                log.info("게시글 댓글 정리 실패 작업 재시도: {}개", retried);
+            }
+        } catch (RuntimeException e) {
+            log.error("게시글 댓글 정리 실패 작업 재시도 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 즉시 처리 중 실패한 정리를 FAILED 작업으로 저장 (주기 재시도/재기동 시 이어서 처리)
+     *
+     * @param post         삭제된 게시글
+     * @param commentCount 삭제 시점의 댓글 수
+     * @param startedAt    정리 시작 시각
+     * @param e            실패 원인
+     * @return 삭제 결과 (FAILED)
+     */
+    private PostDeletionResponse saveFailedJob(Post post, long commentCount, LocalDateTime startedAt, RuntimeException e) {
+        log.error("게시글 댓글 정리 실패 (백그라운드 재시도) - postId: {}: {}", post.getId(), e.getMessage(), e);
+        PostDeletionJob job = PostDeletionJob.builder()
+                .postId(post.getId())
+                .author(post.getAuthor())
+                .status(JobStatus.FAILED)
+                .expectedComments(commentCount)
+                .error(String.valueOf(e.getMessage()))
+                .startedAt(startedAt)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        mongoTemplate.save(job);
+        return PostDeletionResponse.from(job);
+    }
+
+    private void runJob(String postId) {
+        Query job = Query.query(Criteria.where("_id")
+                .is(postId));
+        try {
+            mongoTemplate.updateFirst(job, new Update()
+                    .set("status", JobStatus.RUNNING)
+                    .unset("error"), PostDeletionJob.class);
+
+            BatchResult result = cascade(postId, job);
+
+            mongoTemplate.updateFirst(job, new Update()
+                    .set("status", JobStatus.COMPLETED)
+                    .set("updatedAt", LocalDateTime.now())
+                    .set("finishedAt", LocalDateTime.now()), PostDeletionJob.class);
+            // 처리 중 바뀐 작성자별 댓글 수 다시 무효화
+            totalCountCache.invalidatePrefix(TotalCountKeys.COMMENTS_BY_AUTHOR_PREFIX);
+            log.info("게시글 댓글 정리 완료 - postId: {}, 댓글: {}개, 댓글좋아요: {}개",
+                    postId, result.comments(), result.likes());
+        } catch (RuntimeException e) {
+            log.error("게시글 댓글 정리 실패 (다음 재시도 주기에 재시도) - postId: {}: {}", postId, e.getMessage(), e);
+            mongoTemplate.updateFirst(job, new Update()
+                    .set("status", JobStatus.FAILED)
+                    .set("error", String.valueOf(e.getMessage()))
+                    .set("updatedAt", LocalDateTime.now()), PostDeletionJob.class);
+        }
+    }
+
+    /**
+     * 활성 댓글이 남지 않을 때까지 배치 단위로 좋아요 삭제 + 댓글 soft delete
+     *
+     * @param postId 게시글 ID
+     * @param job    진행 상황을 기록할 작업 (즉시 처리면 null)
+     * @return 이번 실행에서 삭제한 댓글/좋아요 수
+     */
+    private BatchResult cascade(String postId, Query job) {
+        long comments = 0;
+        long likes = 0;
+        while (true) {
+            List<String> ids = commentRepository.findActiveCommentIdsByPostId(postId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long likesDeleted = likeRepository.deleteByTargetIds(ids, Like.TargetType.COMMENT);
+            long commentsDeleted = commentRepository.softDeleteActive(ids);
+            likes += likesDeleted;
+            comments += commentsDeleted;
+
+            if (job != null) {
+                mongoTemplate.updateFirst(job, new Update()
+                        .inc("deletedComments", commentsDeleted)
+                        .inc("deletedCommentLikes", likesDeleted)
+                        .set("updatedAt", LocalDateTime.now()), PostDeletionJob.class);
+            }
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return new BatchResult(comments, likes);
+    }
+
+    private record BatchResult(long comments, long likes) {
+    }
+}
@@ -0,0 +1,60 @@
+package study.content.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import study.content.dto.post.PostCounterView;
+import study.content.entity.CounterShard.CounterField;
+import study.content.entity.Like;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게시글 응답의 저장된 카운터에 아직 게시글 문서에 반영되지 않은 값 합산
+ * 게시글 목록/검색/상세/HOT, 마이페이지 내가 쓴 글이 같은 기준으로 조회수/좋아요 수를 보여주기 위한 공통 로직
+ * - 핫 게시글(카운터 샤드 모드)의 샤드 합계 (샤드 모드 게시글이 있을 때만 집계 1회)
+ * - 반영 대기 중인 조회수 (ViewCountBuffer)
+ * - 반영 대기 중인 좋아요 수 (LikeCountBuffer, 좋아요 API 의 likeCount 와 같은 값)
+ * <p>
+ * 게시글 문서는 호출 전에 한 번만 읽고 다시 읽지 않음 (flush 와 겹쳐도 재조회 없음)
+ * 반영 대기 delta 는 버퍼마다 스냅샷 한 번으로 합산 (목록 안의 게시글이 같은 시점 기준)
+ * 문서를 읽은 직후 flush 가 끝나면 한 배치만큼 일시적으로 어긋날 수 있음 (다음 조회에서 맞춰짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostLiveCounters {
+
+    private final ShardedPostCounter shardedPostCounter;
+    private final ViewCountBuffer viewCountBuffer;
+    private final LikeCountBuffer likeCountBuffer;
+
+    /**
+     * 저장된 카운터에 샤드 합계 + 반영 대기 delta 합산
+     *
+     * @param responses 게시글 문서로 만든 응답 목록 (조회수/좋아요 수를 덮어씀)
+     */
+    public void apply(List<? extends PostCounterView> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<CounterField, Long>> totals = shardedPostCounter.shardTotals(responses.stream()
+                .map(PostCounterView::getId)
+                .toList());
+        ToLongFunction<String> pendingViews = viewCountBuffer.pendingSnapshot();
+        ToLongFunction<String> pendingLikes = likeCountBuffer.pendingSnapshot(Like.TargetType.POST);
+
+        for (PostCounterView response : responses) {
+            Map<CounterField, Long> shardTotal = totals.getOrDefault(response.getId(), Map.of());
+
+            long viewCount = response.getViewCount() != null ? response.getViewCount() : 0L;
+            viewCount += shardTotal.getOrDefault(CounterField.VIEW_COUNT, 0L) + pendingViews.applyAsLong(response.getId());
+            response.setViewCount((int) viewCount);
+
+            long likeCount = response.getLikeCount() != null ? response.getLikeCount() : 0L;
+            likeCount += shardTotal.getOrDefault(CounterField.LIKE_COUNT, 0L) + pendingLikes.applyAsLong(response.getId());
+            response.setLikeCount(Math.max(0L, likeCount));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import study.common.lib.response.PageResponse;
+import study.content.common.concurrent.FanoutExecutor;
+import study.content.common.enums.CommentSortType;
+import study.content.dto.comment.CommentResponse;
+import study.content.dto.comment.LikeResponse;
+import study.content.dto.post.PostPageResponse;
+import study.content.dto.post.PostResponse;
+import study.content.entity.Like;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글 상세 화면 조회 (게시글 + 좋아요 정보 + 첫 댓글 페이지를 한 번에)
+ * 서로 의존하지 않는 조회를 동시에 실행 → 응답 시간 = 가장 느린 조회 (순차 합계가 아님)
+ * <p>
+ * - 게시글(필수): 요청 스레드에서 조회 (조회수 기록 포함), 없으면 예외 → 나머지 작업 취소
+ * - 좋아요 정보/댓글(선택): FanoutExecutor 에서 조회, 요청 시작부터 deadline-ms 안에 끝나지 않거나 실패하면 빼고 응답
+ * - 댓글 수는 게시글 문서의 commentCount (별도 조회 없음)
+ * - 실행기가 가득 차면 선택 구간을 바로 빼서 과부하 시 대기가 쌓이지 않도록 함
+ */
+@Slf4j
+@Service
+public class PostPageService {
+
+    // 첫 댓글 페이지의 댓글별 대댓글 미리보기 개수
+    private static final int REPLY_PREVIEW_SIZE = 3;
+
+    private final PostService postService;
+    private final LikeService likeService;
+    private final CommentService commentService;
+    private final FanoutExecutor fanoutExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long deadlineNanos;
+    private final int commentPageSize;
+
+    public PostPageService(PostService postService,
+                           LikeService likeService,
+                           CommentService commentService,
+                           FanoutExecutor fanoutExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${content.post.page.deadline-ms:300}") long deadlineMs,
+                           @Value("${content.post.page.comment-page-size:10}") int commentPageSize) {
+        this.postService = postService;
+        this.likeService = likeService;
+        this.commentService = commentService;
+        this.fanoutExecutor = fanoutExecutor;
+        this.meterRegistry = meterRegistry;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        this.commentPageSize = commentPageSize;
+    }
+
+    /**
+     * 게시글 상세 화면 조회
+     *
+     * @param id          게시글 ID
+     * @param currentUser 현재 사용자 (비로그인 시 null)
+     * @param viewerKey   고유 조회자 키 (null 이면 고유 조회자 미기록)
+     * @return 게시글 + 좋아요 정보 + 첫 댓글 페이지 (제한 시간 초과 구간은 null)
+     */
+    public PostPageResponse getPostPage(String id, String currentUser, String viewerKey) {
+        long deadline = System.nanoTime() + deadlineNanos;
+
+        CompletableFuture<LikeResponse> likeInfo = fanoutExecutor.submit(() -> likeService.getLikeInfo(id, Like.TargetType.POST, currentUser));
+        CompletableFuture<PageResponse<CommentResponse>> comments = fanoutExecutor.submit(() -> commentService.getCommentThreads(
+                id, 0, commentPageSize, CommentSortType.LATEST.name(), REPLY_PREVIEW_SIZE, currentUser));
+
+        PostResponse post;
+        try {
+            post = postService.getPost(id, currentUser, viewerKey);
+        } catch (RuntimeException e) {
+            likeInfo.cancel(true);
+            comments.cancel(true);
+            throw e;
+        }
+
+        List<String> missingSections = new ArrayList<>();
+        return PostPageResponse.builder()
+                .post(post)
+                .likeInfo(await(likeInfo, deadline, PostPageResponse.LIKE_INFO, id, missingSections))
+                .comments(await(comments, deadline, PostPageResponse.COMMENTS, id, missingSections))
+                .missingSections(missingSections)
+                .build();
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 남은 제한 시간만큼 기다려 결과 반환, 초과/실패 시 null + 빠진 구간 기록
+     */
+    private <T> T await(CompletableFuture<T> future, long deadline, String section, String postId, List<String> missingSections) {
+        String reason;
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            reason = "timeout";
+            log.warn("게시글 상세 {} 제한 시간 초과 - postId: {}", section, postId);
+        } catch (ExecutionException e) {
+            reason = "error";
+            log.warn("게시글 상세 {} 조회 실패 - postId: {}: {}", section, postId, e.getCause()
+                    .getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            future.cancel(true);
+            reason = "interrupted";
+        }
+        missingSections.add(section);
+        meterRegistry.counter("content.post.page.partial", "section", section, "reason", reason)
+                .increment();
+        return null;
+    }
+}
@@ -0,0 +1,441 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.common.search.InvertedIndex;
+import study.content.common.search.InvertedIndex.PreparedDocument;
+import study.content.common.search.InvertedIndex.SearchHits;
+import study.content.common.search.SearchQuery;
+import study.content.entity.Post;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 내장 검색 인덱스 (외부 검색 클러스터 없이 content-service 안에서 역색인 유지)
+ * <p>
+ * - 기동: 스냅샷 파일이 있으면 메모리 매핑으로 로딩, 없거나 손상됐으면 Mongo 에서 _id 구간별 병렬 재색인
+ * (준비되기 전까지 검색은 Mongo 텍스트 인덱스로 대체)
+ * - 증분 반영: 게시글 작성/수정/삭제 시 즉시 반영 + 주기적으로 updatedAt 이 워터마크 이후인 게시글 동기화
+ * (다른 인스턴스의 쓰기, 스냅샷 이후 변경분 반영, 같은 버전은 건너뜀)
+ * - 유지보수: 무효 문서 비율이 높으면 압축, 변경이 있으면 주기적으로 스냅샷 저장 (종료 시에도 저장)
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    // 인스턴스 간 시계 차이/진행 중인 쓰기를 흡수하기 위한 동기화 겹침 구간
+    private static final long SYNC_OVERLAP_MS = 5_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Path snapshotPath;
+    private final int rebuildThreads;
+    private final int batchSize;
+    private final double compactDeadRatio;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    // 마지막 스냅샷 이후 변경 횟수
+    private final AtomicLong changes = new AtomicLong();
+
+    private final ExecutorService startupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostSearchIndex(MongoTemplate mongoTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${content.search.index.enabled:true}") boolean enabled,
+                           @Value("${content.search.index.snapshot-path:./data/post-search-index.bin}") String snapshotPath,
+                           @Value("${content.search.index.rebuild-threads:4}") int rebuildThreads,
+                           @Value("${content.search.index.batch-size:1000}") int batchSize,
+                           @Value("${content.search.index.compact-dead-ratio:0.3}") double compactDeadRatio) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.rebuildThreads = Math.max(1, rebuildThreads);
+        this.batchSize = batchSize;
+        this.compactDeadRatio = compactDeadRatio;
+
+        Gauge.builder("content.search.index.docs", this, searchIndex -> searchIndex.index.liveDocs())
+                .description("검색 인덱스에 색인된 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("content.search.index.offheap.bytes", this, searchIndex -> searchIndex.index.offHeapBytes())
+                .description("검색 인덱스 포스팅 리스트가 사용하는 off-heap 메모리")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 스냅샷 로딩 또는 재색인 (요청 처리를 막지 않도록 별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        startupExecutor.execute(() -> {
+            try {
+                if (!loadSnapshot()) {
+                    rebuild();
+                }
+                sync();
+                ready = true;
+                log.info("검색 인덱스 준비 완료 - 게시글: {}개", index.liveDocs());
+            } catch (RuntimeException e) {
+                log.error("검색 인덱스 준비 실패 (Mongo 텍스트 검색으로 대체): {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 검색 가능 여부
+     *
+     * @return 준비 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색
+     *
+     * @param query    질의
+     * @param category 카테고리 필터 (null 이면 전체)
+     * @param offset   건너뛸 결과 수
+     * @param limit    반환할 결과 수
+     * @return 결과 (아직 준비되지 않았으면 empty)
+     */
+    public Optional<SearchHits> search(SearchQuery query, String category, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(query, category, offset, limit));
+    }
+
+    /**
+     * 게시글 작성/수정 반영
+     *
+     * @param post 저장된 게시글
+     */
+    public void onPostSaved(Post post) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (index.add(InvertedIndex.prepare(post.getId(), versionOf(post.getUpdatedAt()), post.getCategory(), post.getTitle(), post.getContent()))) {
+                changes.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            // 다음 동기화 주기에 다시 반영됨
+            log.warn("검색 인덱스 반영 실패 - postId: {}, error: {}", post.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 삭제 반영
+     *
+     * @param postId 게시글 ID
+     */
+    public void onPostDeleted(String postId) {
+        if (enabled && index.remove(postId)) {
+            changes.incrementAndGet();
+        }
+    }
+
+    /**
+     * 워터마크 이후 수정된 게시글 동기화 (기본 5초 주기)
+     */
+    @Scheduled(fixedDelayString = "${content.search.index.sync-interval-ms:5000}")
+    public void scheduledSync() {
+        if (!ready) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("검색 인덱스 동기화 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 무효 문서가 많으면 압축 후, 변경이 있으면 스냅샷 저장 (기본 5분 주기)
+     */
+    @Scheduled(initialDelayString = "${content.search.index.snapshot-interval-ms:300000}",
+            fixedDelayString = "${content.search.index.snapshot-interval-ms:300000}")
+    public void maintain() {
+        if (!ready) {
+            return;
+        }
+        InvertedIndex current = index;
+        int dead = current.deadDocs();
+        if (dead > 0 && dead >= compactDeadRatio * (dead + current.liveDocs())) {
+            current.compact();
+            log.info("검색 인덱스 압축 - 제거한 무효 문서: {}개", dead);
+        }
+        if (changes.get() > 0) {
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * 종료 시 스냅샷 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        startupExecutor.shutdownNow();
+        if (ready && changes.get() > 0) {
+            saveSnapshot();
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try {
+            long start = System.nanoTime();
+            InvertedIndex loaded = InvertedIndex.readSnapshot(snapshotPath);
+            // 로딩 중 반영된 증분은 워터마크 이후 동기화로 다시 반영됨
+            index = loaded;
+            log.info("검색 인덱스 스냅샷 로딩 - 게시글: {}개, {}ms", loaded.liveDocs(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (IOException e) {
+            log.warn("검색 인덱스 스냅샷 로딩 실패 (재색인): {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void saveSnapshot() {
+        long pending = changes.get();
+        try {
+            index.writeSnapshot(snapshotPath);
+            changes.addAndGet(-pending);
+            log.debug("검색 인덱스 스냅샷 저장 - 게시글: {}개", index.liveDocs());
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 인덱스 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Mongo 에서 활성 게시글 전체 재색인
+     * 최소~최대 _id 의 생성 시각 구간을 rebuild-threads 개로 나눠 병렬로 읽고 토큰화 (추가만 인덱스 락 안에서)
+     */
+    private void rebuild() {
+        long start = System.nanoTime();
+        // 재색인 중 수정된 게시글은 이후 동기화에서 반영
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex rebuilt = new InvertedIndex();
+        index = rebuilt;
+
+        String collection = mongoTemplate.getCollectionName(Post.class);
+        Optional<ObjectId> first = boundaryId(collection, Sort.Direction.ASC);
+        Optional<ObjectId> last = boundaryId(collection, Sort.Direction.DESC);
+        if (first.isEmpty() || last.isEmpty()) {
+            rebuilt.advanceWatermark(startedAt);
+            return;
+        }
+
+        long from = first.get()
+                .getTimestamp();
+        long to = last.get()
+                .getTimestamp() + 1L;
+        long step = Math.max(1, (to - from + rebuildThreads - 1) / rebuildThreads);
+
+        ExecutorService workers = Executors.newFixedThreadPool(rebuildThreads, new IndexThreadFactory());
+        try {
+            AtomicInteger indexed = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (long lower = from; lower < to; lower += step) {
+                ObjectId lowerId = boundary(lower);
+                ObjectId upperId = boundary(Math.min(lower + step, to));
+                futures.add(workers.submit(() -> indexRange(rebuilt, collection, lowerId, upperId, indexed)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            rebuilt.advanceWatermark(startedAt - SYNC_OVERLAP_MS);
+            changes.incrementAndGet();
+            log.info("검색 인덱스 재색인 완료 - 게시글: {}개, 스레드: {}개, {}ms", indexed.get(), rebuildThreads,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            throw new IllegalStateException("search index rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("search index rebuild failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * [lower, upper) _id 구간의 활성 게시글 색인
+     */
+    private void indexRange(InvertedIndex target, String collection, ObjectId lower, ObjectId upper, AtomicInteger indexed) {
+        ObjectId lastId = null;
+        while (true) {
+            Criteria range = lastId == null
+                    ? Criteria.where("_id")
+                    .gte(lower)
+                    .lt(upper)
+                    : Criteria.where("_id")
+                    .gt(lastId)
+                    .lt(upper);
+            Query query = new Query(range.and("status")
+                    .is(Post.PostStatus.ACTIVE))
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize);
+            includeIndexedFields(query);
+
+            List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                return;
+            }
+            batch.forEach(doc -> target.add(prepare(doc)));
+            indexed.addAndGet(batch.size());
+            lastId = batch.get(batch.size() - 1)
+                    .getObjectId("_id");
+        }
+    }
+
+    /**
+     * 워터마크(- 겹침 구간) 이후 수정된 게시글을 (updatedAt, _id) 순으로 읽어 반영
+     * 활성 게시글은 재색인(같은 버전이면 건너뜀), 삭제된 게시글은 제거
+     */
+    private void sync() {
+        InvertedIndex current = index;
+        String collection = mongoTemplate.getCollectionName(Post.class);
+        Date since = new Date(current.watermark() - SYNC_OVERLAP_MS);
+        Date lastUpdatedAt = null;
+        ObjectId lastId = null;
+        int applied = 0;
+
+        while (true) {
+            Criteria criteria = lastUpdatedAt == null
+                    ? Criteria.where("updatedAt")
+                    .gte(since)
+                    : new Criteria().orOperator(
+                    Criteria.where("updatedAt")
+                            .gt(lastUpdatedAt),
+                    Criteria.where("updatedAt")
+                            .is(lastUpdatedAt)
+                            .and("_id")
+                            .gt(lastId));
+            Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "updatedAt", "_id"))
+                    .limit(batchSize);
+            includeIndexedFields(query);
+            query.fields()
+                    .include("status");
+
+            List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Document doc : batch) {
+                boolean changed = Post.PostStatus.ACTIVE.name()
+                        .equals(doc.getString("status"))
+                        ? current.add(prepare(doc))
+                        : current.remove(doc.getObjectId("_id")
+                        .toHexString());
+                if (changed) {
+                    applied++;
+                }
+            }
+
+            Document tail = batch.get(batch.size() - 1);
+            lastUpdatedAt = tail.getDate("updatedAt");
+            lastId = tail.getObjectId("_id");
+            current.advanceWatermark(lastUpdatedAt.getTime());
+        }
+
+        if (applied > 0) {
+            changes.addAndGet(applied);
+            log.debug("검색 인덱스 동기화 - 반영: {}개", applied);
+        }
+    }
+
+    private Optional<ObjectId> boundaryId(String collection, Sort.Direction direction) {
+        Query query = new Query().with(Sort.by(direction, "_id"))
+                .limit(1);
+        query.fields()
+                .include("_id");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Document.class, collection))
+                .map(doc -> doc.getObjectId("_id"));
+    }
+
+    private static void includeIndexedFields(Query query) {
+        query.fields()
+                .include("_id")
+                .include("title")
+                .include("content")
+                .include("category")
+                .include("updatedAt");
+    }
+
+    private static PreparedDocument prepare(Document doc) {
+        Date updatedAt = doc.getDate("updatedAt");
+        return InvertedIndex.prepare(doc.getObjectId("_id")
+                        .toHexString(), updatedAt != null ? updatedAt.getTime() : 0L,
+                doc.getString("category"), doc.getString("title"), doc.getString("content"));
+    }
+
+    /**
+     * 게시글 버전 (Mongo 에 저장되는 정밀도(ms)와 맞춤)
+     */
+    private static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli() : 0L;
+    }
+
+    /**
+     * 생성 시각(초) 기준 _id 경계
+     */
+    private static ObjectId boundary(long timestampSeconds) {
+        return new ObjectId(String.format("%08x%016x", timestampSeconds, 0L));
+    }
+
+    private static final class IndexThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "post-search-rebuild-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
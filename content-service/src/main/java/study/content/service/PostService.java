@@ -2,22 +2,41 @@ package study.content.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import study.common.lib.response.CursorPageResponse;
 import study.common.lib.response.PageResponse;
+import study.common.lib.util.BasePagingUtil;
+import study.common.lib.util.CursorPagingUtil;
+import study.common.lib.util.KeysetCursor;
+import study.common.lib.util.TotalCountCache;
+import study.content.common.enums.HotWindow;
+import study.content.common.paging.TotalCountKeys;
+import study.content.common.search.InvertedIndex.SearchHits;
+import study.content.common.search.PlainText;
+import study.content.common.search.SearchHighlighter;
+import study.content.common.search.SearchQuery;
+import study.content.dto.post.PostCounterView;
+import study.content.dto.post.PostDeletionResponse;
 import study.content.dto.post.PostRequest;
 import study.content.dto.post.PostResponse;
-import study.content.entity.Comment;
+import study.content.dto.post.PostSuggestionResponse;
+import study.content.dto.post.PostSummaryResponse;
 import study.content.entity.Like;
 import study.content.entity.Post;
+import study.content.entity.PostDeletionJob;
 import study.content.repository.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 비즈니스 로직 처리 Service
@@ -29,9 +48,23 @@ import java.util.function.Function;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final Sort LATEST_SORT = Sort.by("createdAt")
+            .descending();
+    // 검색 결과 본문 스니펫 길이 (글자 수)
+    private static final int SEARCH_SNIPPET_LENGTH = 120;
+
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
+    private final PostLiveCounters postLiveCounters;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final PopularPostLeaderboard popularPostLeaderboard;
+    private final HotPostRanking hotPostRanking;
+    private final TotalCountCache totalCountCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTitleSuggester postTitleSuggester;
+    private final SearchResultCache searchResultCache;
+    private final PostCascadeDeleter postCascadeDeleter;
 
     /**
      * 게시글 생성
@@ -50,8 +83,15 @@ public class PostService {
                 .author(author)
                 .category(request.getCategory())
                 .build();
+        post.refreshSearchTokens();
+        post.refreshExcerpt();
 
         Post savedPost = postRepository.save(post);
+        postSearchIndex.onPostSaved(savedPost);
+        postTitleSuggester.onPostSaved(savedPost);
+        searchResultCache.onPostChanged();
+        totalCountCache.invalidate(TotalCountKeys.ACTIVE_POSTS);
+        totalCountCache.invalidate(TotalCountKeys.postsByAuthor(author));
         log.info("게시글 생성 완료 - postId: {}", savedPost.getId());
 
         return PostResponse.from(savedPost);
@@ -65,37 +105,80 @@ public class PostService {
      * @param size 페이지 크기
      * @return 게시글 목록
      */
-    public PageResponse<PostResponse> getPosts(int page, int size) {
+    public PageResponse<PostSummaryResponse> getPosts(int page, int size) {
         log.debug("게시글 목록 조회 - page: {}, size: {}", page, size);
 
-        return getPostsWithPaging(page, size, postRepository::findAllActivePosts);
+        // 목록 첫 화면마다 count 를 하지 않도록 전체 개수는 캐시 (생성/삭제 시 무효화)
+        return getPostsWithPaging(() -> BasePagingUtil.createCachedTotalPageResponse(
+                page, size, LATEST_SORT,
+                postRepository::findAllActivePosts,
+                totalCountCache, TotalCountKeys.ACTIVE_POSTS, postRepository::countActivePosts,
+                PostSummaryResponse::from
+        ));
+    }
+
+    /**
+     * 게시글 목록 조회(커서 페이징)
+     * 최신순(createdAt, id 내림차순), skip 없이 마지막으로 본 위치 이후를 조회
+     * 깊은 페이지도 첫 페이지와 비용이 같고, 새 글이 추가되어도 중복/누락 없음
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 게시글 목록 (다음 페이지 커서 포함)
+     */
+    public CursorPageResponse<PostSummaryResponse> getPostsByCursor(String cursor, int size) {
+        log.debug("게시글 목록 커서 조회 - cursor: {}, size: {}", cursor, size);
+
+        CursorPageResponse<PostSummaryResponse> current = CursorPagingUtil.createCursorPageResponse(
+                cursor, size,
+                postRepository::findActivePostsByCursor,
+                post -> new KeysetCursor(post.getCreatedAt(), post.getId()),
+                PostSummaryResponse::from
+        );
+        postLiveCounters.apply(current.getContent());
+        return current;
     }
 
     /**
      * 게시글 상세 조회(조회수 증가)
+     * 게시글 문서는 읽기만 하고, 조회수 증가는 ViewCountBuffer 에 누적 (주기적으로 bulkWrite)
+     * 응답 조회수 = 저장된 viewCount + 샤드 합계 + 반영 대기 중인 조회수
      *
      * @param id          게시글 ID
      * @param currentUser 현재 사용자 (비로그인 시 null)
      * @return 게시글 상세 정보
      */
-    @Transactional
     public PostResponse getPost(String id, String currentUser) {
+        return getPost(id, currentUser, currentUser != null ? UniqueViewerCounter.userViewerKey(currentUser) : null);
+    }
+
+    /**
+     * 게시글 상세 조회(조회수 + 고유 조회자 기록)
+     *
+     * @param id          게시글 ID
+     * @param currentUser 현재 사용자 (비로그인 시 null)
+     * @param viewerKey   고유 조회자 키 (null 이면 고유 조회자 미기록)
+     * @return 게시글 상세 정보
+     */
+    public PostResponse getPost(String id, String currentUser, String viewerKey) {
         log.debug("게시글 상세 조회 - postId: {}, viewer: {}",
                 id, currentUser != null ? currentUser : "비로그인");
 
-        Post post = findActivePostById(id);
-
-        // 조회수 증가
-        post.increaseViewCount();
-        postRepository.save(post);
+        // 증가 전에 읽어야 이번 조회가 pending 으로 중복 합산되지 않음
+        PostResponse response = PostResponse.from(findActivePostById(id), currentUser);
+        postLiveCounters.apply(List.of(response));
 
-        log.debug("조회수 증가 - postId: {}, viewCount: {}", id, post.getViewCount());
+        // 조회수 증가 (메모리 누적, 조회 응답은 쓰기를 기다리지 않음)
+        viewCountBuffer.record(id);
+        response.setViewCount(response.getViewCount() + 1);
 
-        PostResponse response = PostResponse.from(post, currentUser);
+        log.debug("조회수 증가 - postId: {}, viewCount: {}", id, response.getViewCount());
 
-        // 댓글 수 조회
-        long commentCount = commentRepository.countByPostId(id);
-        response.setCommentCount(commentCount);
+        // 고유 조회자 (HyperLogLog)
+        if (viewerKey != null) {
+            uniqueViewerCounter.record(id, viewerKey);
+        }
+        response.setUniqueViewers(uniqueViewerCounter.estimate(id));
 
         return response;
     }
@@ -109,25 +192,110 @@ public class PostService {
      * @param size    페이지 크기
      * @return 검색된 게시글 목록
      */
-    public PageResponse<PostResponse> searchPosts(String keyword, int page, int size) {
-        log.info("게시글 검색 - keyword: {}, page: {}, size: {}", keyword, page, size);
+    public PageResponse<PostSummaryResponse> searchPosts(String keyword, int page, int size) {
+        return searchPosts(keyword, null, page, size);
+    }
+
+    /**
+     * 게시글 검색 (카테고리 필터)
+     * 내장 검색 인덱스로 검색 (공백 = AND, OR, "구문" 지원, 관련도순, 전체 개수 포함)
+     * 인덱스가 준비되기 전(기동 직후 재색인 중)에는 Mongo 텍스트 인덱스로 대체 (모든 토큰 AND, 전체 개수 없음)
+     * 결과에 매칭 구간을 표시한 제목/본문 스니펫 포함
+     * 결과 페이지는 SearchResultCache 에 보관 (게시글 쓰기 후 max-staleness 이내 무효화), 실시간 카운터는 매 요청 합산
+     *
+     * @param keyword  검색 키워드
+     * @param category 카테고리 (null 이면 전체)
+     * @param page     페이지 번호
+     * @param size     페이지 크기
+     * @return 검색된 게시글 목록
+     */
+    public PageResponse<PostSummaryResponse> searchPosts(String keyword, String category, int page, int size) {
+        log.info("게시글 검색 - keyword: {}, category: {}, page: {}, size: {}", keyword, category, page, size);
 
-        return getPostsWithPaging(page, size, pageable -> postRepository.findByTitleOrContentContaining(keyword, pageable));
+        SearchQuery query = SearchQuery.parse(keyword);
+        if (query.isEmpty()) {
+            // 검색 가능한 문자가 없는 키워드(기호만 등)는 조회 없이 빈 결과
+            return PageResponse.empty(page, size);
+        }
+
+        int[] adjusted = BasePagingUtil.adjustPagingParams(page, size);
+        PageResponse<PostSummaryResponse> cached = searchResultCache.get(query, category, adjusted[0], adjusted[1],
+                () -> loadSearchPage(query, category, adjusted[0], adjusted[1]));
+
+        // 캐시 값은 공유되므로 복사본에 실시간 카운터 합산
+        List<PostSummaryResponse> copies = cached.getContent()
+                .stream()
+                .map(response -> response.toBuilder()
+                        .build())
+                .toList();
+        return getPostsWithPaging(() -> PageResponse.withNewContent(cached, copies));
+    }
+
+    /**
+     * 제목 자동완성
+     * 검색창 입력마다 호출되므로 DB 조회 없이 메모리 접두사 트리에서 인기순 상위 제목만 반환
+     * 입력 중인 음절도 자모 단위로 비교 (예: "달" → "닭갈비 맛집")
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size   최대 개수
+     * @return 자동완성 목록
+     */
+    public List<PostSuggestionResponse> suggestTitles(String prefix, int size) {
+        return postTitleSuggester.suggest(prefix, size)
+                .stream()
+                .map(entry -> PostSuggestionResponse.builder()
+                        .id(entry.id())
+                        .title(entry.title())
+                        .build())
+                .toList();
     }
 
     /**
      * 인기 게시글 조회(조회수 기준 Top10)
+     * 요청마다 정렬 쿼리를 하지 않고 메모리 리더보드의 스냅샷 반환 (조회수 반영 주기만큼 지연)
+     * 고유 조회자 수 추정값 포함 (새로고침 반복과 실제 도달 구분용)
      *
      * @return 인기 게시글 목록 최대 10개
      */
-    public List<PostResponse> getPopularPosts() {
+    public List<PostSummaryResponse> getPopularPosts() {
         log.debug("인기 게시글 조회");
 
-        List<Post> popularPosts = postRepository.findTop10ByOrderByViewCountDesc();
+        return popularPostLeaderboard.snapshot();
+    }
+
+    /**
+     * HOT(트렌딩) 게시글 조회(커서 페이징)
+     * 조회/좋아요/댓글 활동의 시간 감쇠 점수로 미리 정렬된 랭킹 스냅샷을 잘라서 반환
+     * 같은 커서로 이어지는 페이지는 같은 스냅샷 기준 (중간에 순위가 바뀌어도 중복/누락 없음)
+     *
+     * @param window 집계 구간 (ALL: 감쇠 점수, DAY: 최근 24시간, WEEK: 최근 7일)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return HOT 게시글 목록
+     */
+    public CursorPageResponse<PostSummaryResponse> getHotPosts(HotWindow window, String cursor, int size) {
+        log.debug("HOT 게시글 조회 - window: {}, cursor: {}, size: {}", window, cursor, size);
+
+        int adjustedSize = BasePagingUtil.adjustPagingParams(0, size)[1];
+        HotPostRanking.RankingPage page = hotPostRanking.page(window, cursor, adjustedSize);
+        if (page.postIds()
+                .isEmpty()) {
+            return CursorPageResponse.of(List.of(), adjustedSize, page.nextCursor());
+        }
 
-        return popularPosts.stream()
-                .map(PostResponse::from)
+        // 스냅샷 이후 삭제된 게시글은 빠짐, $in 결과는 순서가 없으므로 랭킹 순서로 정렬
+        Map<String, Post> posts = postRepository.findActivePostsByIds(page.postIds())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostSummaryResponse> responses = page.postIds()
+                .stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(PostSummaryResponse::from)
                 .toList();
+        postLiveCounters.apply(responses);
+
+        return CursorPageResponse.of(responses, adjustedSize, page.nextCursor());
     }
 
     /**
@@ -148,83 +316,142 @@ public class PostService {
 
         post.updatePost(request.getTitle(), request.getContent(), request.getCategory());
 
-        Post updatedPost = postRepository.save(post);
-        log.info("게시글 수정 완료 - postId: {}", updatedPost.getId());
+        // 수정 필드만 $set (save() 시 동시에 증가한 카운터가 덮어써짐)
+        postRepository.updateContent(post);
+        popularPostLeaderboard.update(post);
+        postSearchIndex.onPostSaved(post);
+        postTitleSuggester.onPostSaved(post);
+        searchResultCache.onPostChanged();
+        log.info("게시글 수정 완료 - postId: {}", post.getId());
 
-        return PostResponse.from(updatedPost);
+        return PostResponse.from(post);
     }
 
     /**
      * 게시글 삭제 (Soft Delete)
      * - 순서
-     * 댓글 좋아요 delete -> 댓글 전체 soft delete -> 게시글 좋아요 delete -> 게시글 soft delete
+     * 게시글 soft delete -> 게시글 좋아요 delete -> 댓글 좋아요 delete + 댓글 전체 soft delete (PostCascadeDeleter)
+     * 게시글을 먼저 삭제해 목록/상세에서 바로 빠지고 정리 중에 새 댓글이 붙지 않음
+     * 댓글 정리는 배치 단위 일괄 처리 (좋아요 deleteMany $in + 댓글 updateMany), 댓글이 많으면 백그라운드로 넘기고 바로 응답
      *
      * @param id
      * @param author
+     * @return 삭제 결과 (백그라운드 처리 중이면 RUNNING)
      */
     @Transactional
-    public void deletePost(String id, String author) {
+    public PostDeletionResponse deletePost(String id, String author) {
         log.info("게시글 삭제 시작 - postId: {}, author: {}", id, author);
 
         // 1. 게시글 존재 및 권한 확인
         Post post = findActivePostById(id);
         validateAuthor(post, author);
 
-        // 2. 모든 댓글 조회 (부모댓글 + 대댓글)
-        List<Comment> allComments = commentRepository.findAllActiveCommentsByPostId(id);
-        log.debug("삭제 대상 댓글 수: {}", allComments.size());
-
-        // 3. 각 댓글의 좋아요 물리 삭제
-        long totalCommentLikesDeleted = 0;
-        for (Comment comment : allComments) {
-
-            // 3-1. 댓글 좋아요 물리 삭제
-            long deleted = likeRepository.deleteByTargetIdAndTargetType(comment.getId(), Like.TargetType.COMMENT);
-            totalCommentLikesDeleted += deleted;
-
-            // 3-2. 댓글 소프트 삭제
-            comment.delete();
+        // 2. 게시글 soft delete (상태만 $set, 동시에 다른 요청이 먼저 삭제했으면 중단)
+        if (!postRepository.softDeleteActive(id)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다: " + id);
         }
+        popularPostLeaderboard.remove(id);
+        hotPostRanking.remove(id);
+        postSearchIndex.onPostDeleted(id);
+        postTitleSuggester.onPostDeleted(id);
+        searchResultCache.onPostChanged();
 
-        // 3-3. 댓글 일괄 저장
-        if (!allComments.isEmpty()) {
-            commentRepository.saveAll(allComments);
-        }
-
-        log.debug("댓글 및 댓글 좋아요 처리 완료 - 댓글: {}개, 좋아요: {}개",
-                allComments.size(), totalCommentLikesDeleted);
-
-        // 4. 게시글 좋아요 물리 삭제
+        // 3. 게시글 좋아요 물리 삭제
         long postLikesDeleted = likeRepository.deleteByTargetIdAndTargetType(id, Like.TargetType.POST);
-
         log.debug("게시글 좋아요 삭제 완료: {}개", postLikesDeleted);
 
-        // 5. 게시글 soft delete
-        post.delete();
-        postRepository.save(post);
+        // 4. 댓글 + 댓글 좋아요 일괄 정리
+        PostDeletionResponse result = postCascadeDeleter.delete(post);
 
-        log.info("게시글 삭제 완료 - postId: {}, 댓글: {}개, 댓글좋아요: {}개, 게시글좋아요: {}개",
-                id, allComments.size(), totalCommentLikesDeleted, postLikesDeleted);
+        totalCountCache.invalidate(TotalCountKeys.ACTIVE_POSTS);
+        totalCountCache.invalidate(TotalCountKeys.postsByAuthor(author));
+        totalCountCache.invalidate(TotalCountKeys.rootComments(id));
+        // 댓글 작성자가 여러 명이므로 작성자별 댓글 수는 모두 무효화
+        totalCountCache.invalidatePrefix(TotalCountKeys.COMMENTS_BY_AUTHOR_PREFIX);
+
+        log.info("게시글 삭제 완료 - postId: {}, 댓글 정리: {}, 댓글: {}개, 댓글좋아요: {}개, 게시글좋아요: {}개",
+                id, result.getStatus(), result.getDeletedComments(), result.getDeletedCommentLikes(), postLikesDeleted);
+        return result;
+    }
+
+    /**
+     * 게시글 삭제 후속 작업 진행 상황 조회
+     * 작성자만 조회 가능, 삭제 요청 안에서 끝난 삭제는 작업이 없음
+     *
+     * @param id     게시글 ID
+     * @param author 요청자
+     * @return 진행 상황
+     */
+    public PostDeletionResponse getDeletionProgress(String id, String author) {
+        PostDeletionJob job = postCascadeDeleter.findJob(id)
+                .orElseThrow(() -> new RuntimeException("게시글 삭제 작업을 찾을 수 없습니다: " + id));
+        if (!Objects.equals(job.getAuthor(), author)) {
+            throw new IllegalArgumentException("게시글에 대한 권한이 없습니다");
+        }
+        return PostDeletionResponse.from(job);
     }
 
     // ==================================================== 프라이빗 헬퍼 메서드 ====================================================
 
+    /**
+     * 검색 결과 페이지 로딩 (검색 결과 캐시 미스 시, 실시간 카운터 합산 전)
+     * 인덱스가 준비되지 않았으면 Mongo 텍스트 인덱스로 대체
+     *
+     * @param query    파싱된 검색어
+     * @param category 카테고리 (null 이면 전체)
+     * @param page     페이지 번호 (보정된 값)
+     * @param size     페이지 크기 (보정된 값)
+     * @return 검색 결과 페이지
+     */
+    private PageResponse<PostSummaryResponse> loadSearchPage(SearchQuery query, String category, int page, int size) {
+        List<String> terms = query.terms();
+        // 본문은 스니펫 생성에만 사용하고 응답에는 발췌문/스니펫만 포함
+        Function<Post, PostSummaryResponse> toResponse = post -> {
+            PostSummaryResponse response = PostSummaryResponse.from(post);
+            response.setHighlightedTitle(SearchHighlighter.highlight(post.getTitle(), terms, Integer.MAX_VALUE));
+            response.setHighlightedContent(SearchHighlighter.highlight(PlainText.of(post.getContent()), terms, SEARCH_SNIPPET_LENGTH));
+            return response;
+        };
+
+        long offset = (long) page * size;
+        Optional<SearchHits> hits = offset <= Integer.MAX_VALUE
+                ? postSearchIndex.search(query, category, (int) offset, size)
+                : Optional.of(SearchHits.EMPTY);
+
+        if (hits.isPresent()) {
+            List<String> rankedIds = hits.get()
+                    .keys();
+            Map<String, Post> posts = postRepository.findActivePostsWithContentByIds(rankedIds)
+                    .stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            List<PostSummaryResponse> content = rankedIds.stream()
+                    .map(posts::get)
+                    .filter(Objects::nonNull)
+                    .map(toResponse)
+                    .toList();
+            return PageResponse.from(new PageImpl<>(content, PageRequest.of(page, size), hits.get()
+                    .total()));
+        }
+
+        // 전체 개수 없이 다음 페이지 여부만 제공 (정렬은 저장소에서 관련도 기준으로 지정)
+        return BasePagingUtil.createSliceResponse(
+                page, size, Sort.unsorted(),
+                pageable -> postRepository.searchActivePosts(terms, category, pageable),
+                toResponse
+        );
+    }
+
     /**
      * 페이징 처리 공통 로직(함수형 인터페이스 활용)
+     * 게시글 문서를 한 번 조회한 뒤 실시간 카운터 합산
      *
-     * @param page
-     * @param size
-     * @param repositoryMethod
+     * @param pagingQuery BasePagingUtil 페이징 호출
      * @return
      */
-    private PageResponse<PostResponse> getPostsWithPaging(int page, int size,
-                                                          Function<Pageable, Page<Post>> repositoryMethod) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by("createdAt")
-                .descending());
-        Page<Post> postPage = repositoryMethod.apply(pageable);
-        Page<PostResponse> responsePage = postPage.map(PostResponse::from);
-
-        return PageResponse.from(responsePage);
+    private <T extends PostCounterView> PageResponse<T> getPostsWithPaging(Supplier<PageResponse<T>> pagingQuery) {
+        PageResponse<T> current = pagingQuery.get();
+        postLiveCounters.apply(current.getContent());
+        return current;
     }
 
     /**
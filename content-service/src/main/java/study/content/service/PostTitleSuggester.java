@@ -0,0 +1,233 @@
+package study.content.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.common.lib.util.KeysetCursor;
+import study.content.common.search.HangulJamo;
+import study.content.common.search.PrefixSuggestIndex;
+import study.content.common.search.PrefixSuggestIndex.Entry;
+import study.content.entity.Post;
+import study.content.repository.PostRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 제목 자동완성
+ * 활성 게시글 제목의 자모 단위 압축 접두사 트리(PrefixSuggestIndex)를 메모리에 두고 조회
+ * <p>
+ * - 빌드: 기동 시 + 주기적으로 PostRepository 에서 제목/인기 지표만 키셋 페이징으로 읽어 백그라운드에서 새로 빌드 후 교체
+ * - 증분 반영: 작성/수정/삭제는 작은 변경분(overlay)에 기록하고 조회 시 트리 결과와 병합
+ * (변경분이 상한을 넘으면 재빌드 요청, 재빌드 시작 이후 변경분만 새 트리와 함께 유지)
+ * - 조회: 트리 + 변경분을 담은 불변 상태 객체를 AtomicReference 로 교체 → 조회는 락 없음
+ * - 인기 가중치: 조회수 + 좋아요 수 × like-weight (빌드 시점 값)
+ */
+@Slf4j
+@Component
+public class PostTitleSuggester {
+
+    // 트리 노드별 후보 수 = 최대 결과 수 × 이 값 (변경분에서 삭제/수정된 항목을 걸러도 결과가 모자라지 않도록)
+    private static final int CANDIDATE_SLACK = 2;
+
+    private final PostRepository postRepository;
+    private final int maxResults;
+    private final int overlayLimit;
+    private final int batchSize;
+    private final long likeWeight;
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(PrefixSuggestIndex.empty(), Map.of()));
+    // 변경분 기록은 직렬화 (조회는 state 만 읽음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long sequence;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-title-suggest-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+
+    public PostTitleSuggester(PostRepository postRepository,
+                              @Value("${content.suggest.max-results:10}") int maxResults,
+                              @Value("${content.suggest.overlay-limit:1000}") int overlayLimit,
+                              @Value("${content.suggest.batch-size:1000}") int batchSize,
+                              @Value("${content.suggest.weight.like:5}") long likeWeight) {
+        this.postRepository = postRepository;
+        this.maxResults = maxResults;
+        this.overlayLimit = overlayLimit;
+        this.batchSize = batchSize;
+        this.likeWeight = likeWeight;
+    }
+
+    /**
+     * 접두사로 시작하는 제목 (인기순)
+     *
+     * @param prefix 입력 중인 검색어 (자모 단위 접두사 허용)
+     * @param size   최대 개수 (max-results 이하)
+     * @return 자동완성 항목
+     */
+    public List<Entry> suggest(String prefix, int size) {
+        String key = HangulJamo.decompose(prefix);
+        int limit = Math.min(Math.max(size, 1), maxResults);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        State current = state.get();
+        List<Entry> candidates = new ArrayList<>();
+        for (Entry entry : current.index.lookup(key)) {
+            // 변경분에 있는 항목은 변경분 기준 (수정/삭제)
+            if (!current.overlay.containsKey(entry.id())) {
+                candidates.add(entry);
+            }
+        }
+        current.overlay.values()
+                .forEach(change -> {
+                    if (change.entry != null && change.keys.stream()
+                            .anyMatch(k -> k.startsWith(key))) {
+                        candidates.add(change.entry);
+                    }
+                });
+
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(Entry::weight)
+                        .reversed()
+                        .thenComparing(Entry::title))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 게시글 작성/수정 반영
+     *
+     * @param post 저장된 게시글
+     */
+    public void onPostSaved(Post post) {
+        record(post.getId(), entryOf(post));
+    }
+
+    /**
+     * 게시글 삭제 반영
+     *
+     * @param postId 게시글 ID
+     */
+    public void onPostDeleted(String postId) {
+        record(postId, null);
+    }
+
+    /**
+     * 전체 재빌드 (기동 시 + 기본 10분 주기)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${content.suggest.rebuild-interval-ms:600000}",
+            fixedDelayString = "${content.suggest.rebuild-interval-ms:600000}")
+    public void requestRebuild() {
+        if (rebuildRequested.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildRequested.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * PostRepository 에서 활성 게시글 제목을 읽어 새 트리 빌드 후 교체
+     */
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            long startSequence = currentSequence();
+
+            List<Entry> entries = new ArrayList<>();
+            KeysetCursor cursor = null;
+            while (true) {
+                List<Post> posts = postRepository.findActiveTitlesByCursor(cursor, batchSize);
+                posts.forEach(post -> entries.add(entryOf(post)));
+                if (posts.size() < batchSize) {
+                    break;
+                }
+                Post last = posts.get(posts.size() - 1);
+                cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+            }
+            PrefixSuggestIndex index = PrefixSuggestIndex.build(entries, maxResults * CANDIDATE_SLACK);
+
+            writeLock.lock();
+            try {
+                // 읽기 시작 이후 변경분은 새 트리에 없을 수 있으므로 유지
+                Map<String, Change> remaining = new HashMap<>();
+                state.get().overlay.forEach((postId, change) -> {
+                    if (change.sequence > startSequence) {
+                        remaining.put(postId, change);
+                    }
+                });
+                state.set(new State(index, Map.copyOf(remaining)));
+            } finally {
+                writeLock.unlock();
+            }
+            log.info("자동완성 트리 빌드 - 게시글: {}개, {}ms", index.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.error("자동완성 트리 빌드 실패 (기존 트리 유지): {}", e.getMessage(), e);
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private void record(String postId, Entry entry) {
+        int overlaySize;
+        writeLock.lock();
+        try {
+            State current = state.get();
+            Map<String, Change> overlay = new HashMap<>(current.overlay);
+            overlay.put(postId, new Change(++sequence, entry, entry != null ? PrefixSuggestIndex.keysOf(entry.title()) : List.of()));
+            state.set(new State(current.index, Map.copyOf(overlay)));
+            overlaySize = overlay.size();
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (overlaySize > overlayLimit) {
+            requestRebuild();
+        }
+    }
+
+    private long currentSequence() {
+        writeLock.lock();
+        try {
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Entry entryOf(Post post) {
+        long views = post.getViewCount() != null ? post.getViewCount() : 0L;
+        long likes = post.getLikeCount() != null ? post.getLikeCount() : 0L;
+        return new Entry(post.getId(), post.getTitle(), views + likes * likeWeight);
+    }
+
+    /**
+     * 조회용 불변 상태 (트리 + 변경분)
+     */
+    private record State(PrefixSuggestIndex index, Map<String, Change> overlay) {
+    }
+
+    /**
+     * 변경분 (entry 가 null 이면 삭제)
+     */
+    private record Change(long sequence, Entry entry, List<String> keys) {
+    }
+}
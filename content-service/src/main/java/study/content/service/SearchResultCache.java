@@ -0,0 +1,93 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import study.common.lib.response.PageResponse;
+import study.content.common.cache.GenerationalCache;
+import study.content.common.search.SearchQuery;
+import study.content.dto.post.PostSummaryResponse;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 페이지 캐시
+ * 같은 검색어/페이지가 몰릴 때 인덱스 조회 + 게시글 하이드레이션 + 하이라이트를 반복하지 않도록 페이지 단위로 보관
+ * <p>
+ * - 키: 파싱된 검색어(SearchQuery) + 카테고리 + 페이지 + 크기 → 대소문자/공백/전각 차이는 같은 키
+ * - 무효화: 이 인스턴스의 게시글 작성/수정/삭제마다 세대 증가 → 캐시된 결과는 쓰기 이후 max-staleness 를 넘겨 제공되지 않음
+ * (다른 인스턴스의 쓰기는 ttl 로만 제한)
+ * - 동일 키 동시 요청은 로딩 1회를 공유
+ * - 캐시 값에는 실시간 카운터(조회수/좋아요 대기분)가 합산되지 않음 → 호출자가 복사본에 합산
+ */
+@Component
+public class SearchResultCache {
+
+    private final GenerationalCache<Key, PageResponse<PostSummaryResponse>> cache;
+    private final Timer loadTimer;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${content.search.cache.max-entries:1000}") int maxEntries,
+                             @Value("${content.search.cache.ttl-ms:30000}") long ttlMs,
+                             @Value("${content.search.cache.max-staleness-ms:1000}") long maxStalenessMs) {
+        this.cache = new GenerationalCache<>(maxEntries, Duration.ofMillis(ttlMs), Duration.ofMillis(maxStalenessMs));
+
+        this.loadTimer = Timer.builder("content.search.cache.load.latency")
+                .description("캐시 미스 시 검색 결과 페이지 로딩 소요 시간")
+                .register(meterRegistry);
+        FunctionCounter.builder("content.search.cache.requests", cache, GenerationalCache::hits)
+                .tag("result", "hit")
+                .description("검색 결과 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("content.search.cache.requests", cache, GenerationalCache::misses)
+                .tag("result", "miss")
+                .description("검색 결과 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("content.search.cache.loads", cache, GenerationalCache::loads)
+                .description("실제 로딩 수 (동시 요청 합류 제외)")
+                .register(meterRegistry);
+        Gauge.builder("content.search.cache.hit.ratio", cache, SearchResultCache::hitRatio)
+                .description("누적 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("content.search.cache.size", cache, GenerationalCache::size)
+                .description("캐시된 검색 결과 페이지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검색 결과 페이지 조회, 없으면 로딩
+     *
+     * @param query    파싱된 검색어
+     * @param category 카테고리 (null 이면 전체)
+     * @param page     페이지 번호 (보정된 값)
+     * @param size     페이지 크기 (보정된 값)
+     * @param loader   검색 결과 로딩 (실시간 카운터 합산 전 값)
+     * @return 검색 결과 페이지 (공유 객체이므로 수정 금지)
+     */
+    public PageResponse<PostSummaryResponse> get(SearchQuery query, String category, int page, int size,
+                                          Supplier<PageResponse<PostSummaryResponse>> loader) {
+        return cache.get(new Key(query, category, page, size), () -> loadTimer.record(loader));
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 반영 (세대 증가)
+     */
+    public void onPostChanged() {
+        cache.bump();
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    private static double hitRatio(GenerationalCache<?, ?> cache) {
+        long hits = cache.hits();
+        long total = hits + cache.misses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private record Key(SearchQuery query, String category, int page, int size) {
+    }
+}
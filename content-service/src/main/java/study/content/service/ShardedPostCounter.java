@@ -0,0 +1,433 @@
+package study.content.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.common.concurrent.HotKeyDetector;
+import study.content.entity.CounterShard;
+import study.content.entity.CounterShard.CounterField;
+import study.content.entity.Post;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 핫 게시글 카운터 샤딩
+ * 초당 쓰기(조회/좋아요)가 임계치를 넘은 게시글은 게시글 문서 대신 counter_shards 의 N개 문서 중 하나에 $inc
+ * <p>
+ * - 승격: 로컬 감지는 메모리에만 기록하고, Post.counterShards / counterHotUntil 은 flush 스레드(샤드에 쓰기 직전) 또는 compact 에서 저장
+ * (요청 스레드는 Mongo 에 쓰지 않음, 다른 인스턴스는 이 필드로 샤드 모드를 인식)
+ * - 조회: 게시글 필드값 + 샤드 합계 (postId 인덱스 기반 집계 1회, 샤드 모드 게시글만)
+ * - 강등: counterHotUntil 이 지나면 샤드 값을 게시글 문서로 합치고 필드 해제
+ * 승격/강등 직후 다른 인스턴스가 인식하기까지(compact 주기) 일부 쓰기가 샤드에 남을 수 있으나,
+ * 다음 compact 에서 합쳐지므로 값은 유실되지 않음
+ * 강등된 게시글은 남은 샤드가 합쳐질 때까지(다음 compact) 조회 시 샤드 합계를 계속 더함 (강등 직후 값이 줄어들지 않도록)
+ */
+@Slf4j
+@Component
+public class ShardedPostCounter {
+
+    private static final String SHARD_COLLECTION = "counter_shards";
+
+    private final MongoTemplate mongoTemplate;
+    private final HotKeyDetector<String> detector;
+    private final int shardCount;
+    private final long cooldownMillis;
+
+    // 샤드 모드 게시글 ID (Mongo 기준으로 주기적 갱신 + 로컬 승격 즉시 반영)
+    private volatile Set<String> shardedPostIds = ConcurrentHashMap.newKeySet();
+
+    // 강등됐지만 남은 샤드가 아직 합쳐지지 않았을 수 있는 게시글 (조회 시에만 샤드 합계 포함)
+    private final Set<String> demotedPostIds = ConcurrentHashMap.newKeySet();
+
+    // 게시글별 마지막 기한 연장 시각 (연장 쓰기 횟수 제한)
+    private final ConcurrentHashMap<String, Long> leaseRenewedAt = new ConcurrentHashMap<>();
+
+    // 아직 게시글 문서에 저장하지 않은 승격/기한 연장 (게시글 ID → 유지 기한)
+    private final ConcurrentHashMap<String, LocalDateTime> pendingLeases = new ConcurrentHashMap<>();
+
+    public ShardedPostCounter(MongoTemplate mongoTemplate,
+                              @Value("${content.counter.hot.threshold-per-second:200}") long thresholdPerSecond,
+                              @Value("${content.counter.hot.shards:16}") int shardCount,
+                              @Value("${content.counter.hot.cooldown-ms:300000}") long cooldownMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.detector = new HotKeyDetector<>(thresholdPerSecond, cooldownMillis);
+        this.shardCount = shardCount;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    /**
+     * 게시글 쓰기 1건 기록 후 샤드 모드 여부 반환
+     * 임계치를 넘으면 샤드 모드로 승격하고, 계속 hot 이면 유지 기한을 연장 (메모리에만 기록, Mongo 쓰기 없음)
+     *
+     * @param postId 게시글 ID
+     * @return 샤드에 써야 하면 true
+     */
+    public boolean recordWrite(String postId) {
+        if (detector.record(postId)) {
+            renewLease(postId);
+            return true;
+        }
+        return shardedPostIds.contains(postId);
+    }
+
+    /**
+     * 샤드 모드 여부
+     *
+     * @param postId 게시글 ID
+     * @return 샤드 모드면 true
+     */
+    public boolean isSharded(String postId) {
+        return shardedPostIds.contains(postId);
+    }
+
+    /**
+     * 여러 게시글의 카운터 증감값을 샤드에 일괄 반영 (unordered bulk upsert 1회)
+     *
+     * @param deltas 게시글 ID별 증감값
+     * @param field  카운터 종류
+     * @return 반영하지 못한 게시글 ID별 증감값
+     */
+    public Map<String, Long> incrementShards(Map<String, Long> deltas, CounterField field) {
+        Map<String, Long> unapplied = new HashMap<>();
+        if (deltas.isEmpty()) {
+            return unapplied;
+        }
+
+        // 샤드에 쓰기 전에 승격을 저장 → 다른 인스턴스가 샤드 모드를 인식하기 전에 샤드 값이 생기지 않음
+        persistLeases();
+
+        List<Map.Entry<String, Long>> entries = List.copyOf(deltas.entrySet());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CounterShard.class);
+        for (Map.Entry<String, Long> entry : entries) {
+            bulkOps.upsert(shardQuery(entry.getKey(), field, randomShard()), new Update().inc("value", entry.getValue()));
+        }
+
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors()
+                    .forEach(error -> {
+                        Map.Entry<String, Long> failed = entries.get(error.getIndex());
+                        unapplied.put(failed.getKey(), failed.getValue());
+                    });
+        } catch (RuntimeException e) {
+            entries.forEach(entry -> unapplied.put(entry.getKey(), entry.getValue()));
+            log.warn("카운터 샤드 반영 실패 - field: {}, error: {}", field, e.getMessage());
+        }
+        return unapplied;
+    }
+
+    /**
+     * 단일 게시글의 샤드 합계
+     * 샤드 모드가 아니면 쿼리하지 않고 0
+     *
+     * @param postId 게시글 ID
+     * @param field  카운터 종류
+     * @return 샤드 합계
+     */
+    public long shardTotal(String postId, CounterField field) {
+        if (!hasShards(postId)) {
+            return 0L;
+        }
+        return shardTotals(List.of(postId)).getOrDefault(postId, Map.of())
+                .getOrDefault(field, 0L);
+    }
+
+    /**
+     * 여러 게시글의 샤드 합계 ($match postId $in + $group, 집계 1회)
+     * 샤드 모드 게시글이 없으면 쿼리하지 않음
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID → 카운터 종류별 합계 (샤드 모드 게시글만 포함)
+     */
+    public Map<String, Map<CounterField, Long>> shardTotals(Collection<String> postIds) {
+        Set<String> sharded = new HashSet<>();
+        for (String postId : postIds) {
+            if (hasShards(postId)) {
+                sharded.add(postId);
+            }
+        }
+
+        Map<String, Map<CounterField, Long>> result = new HashMap<>();
+        if (sharded.isEmpty()) {
+            return result;
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("postId")
+                        .in(sharded)),
+                Aggregation.group("postId", "field")
+                        .sum("value")
+                        .as("total")
+        );
+
+        mongoTemplate.aggregate(aggregation, SHARD_COLLECTION, Document.class)
+                .forEach(doc -> {
+                    Document id = doc.get("_id", Document.class);
+                    CounterField field = CounterField.valueOf(id.getString("field"));
+                    result.computeIfAbsent(id.getString("postId"), k -> new EnumMap<>(CounterField.class))
+                            .put(field, ((Number) doc.get("total")).longValue());
+                });
+        return result;
+    }
+
+    /**
+     * 기동 시 샤드 모드 게시글 목록 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadShardedPosts() {
+        refreshShardedPosts();
+    }
+
+    /**
+     * 샤드 정리 (기본 10초 주기)
+     * 1. 아직 저장하지 않은 승격/기한 연장 저장
+     * 2. 샤드 모드 게시글 목록 갱신 (다른 인스턴스의 승격/강등 반영)
+     * 3. 유지 기한이 지난 게시글: 샤드 값을 게시글 문서로 합친 뒤 샤드 모드 해제
+     * 4. 샤드 모드가 아닌데 남아 있는 샤드(강등 직후 늦게 도착한 쓰기)도 합침
+     * 이전 주기까지 강등된 게시글은 4 에서 합쳐졌으므로 조회 대상에서 제외
+     */
+    @Scheduled(fixedDelayString = "${content.counter.hot.compact-interval-ms:10000}")
+    public void compact() {
+        try {
+            detector.evictIdle();
+            leaseRenewedAt.keySet()
+                    .removeIf(postId -> !detector.isHot(postId));
+            persistLeases();
+
+            // 이번 주기 전에 강등된 게시글 (늦게 도착한 샤드 쓰기는 아래 orphan 합치기에서 처리)
+            Set<String> settled = new HashSet<>(demotedPostIds);
+
+            Map<String, LocalDateTime> hotUntil = refreshShardedPosts();
+            LocalDateTime now = LocalDateTime.now();
+
+            hotUntil.forEach((postId, until) -> {
+                if (until != null && until.isAfter(now)) {
+                    return;
+                }
+                foldShards(postId);
+                demote(postId, now);
+            });
+
+            Set<String> orphaned = new HashSet<>(mongoTemplate.findDistinct(new Query(), "postId", SHARD_COLLECTION, String.class));
+            orphaned.removeAll(shardedPostIds);
+            orphaned.forEach(this::foldShards);
+            demotedPostIds.removeAll(settled);
+        } catch (RuntimeException e) {
+            log.error("카운터 샤드 정리 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 샤드 모드 승격 또는 유지 기한 연장 (게시글당 cooldown/2 에 최대 1회)
+     * 요청 스레드에서 호출되므로 메모리에만 기록하고 저장은 persistLeases 에서
+     *
+     * @param postId 게시글 ID
+     */
+    private void renewLease(String postId) {
+        long now = System.currentTimeMillis();
+        Long renewed = leaseRenewedAt.get(postId);
+        if (renewed != null && now - renewed < cooldownMillis / 2) {
+            return;
+        }
+        boolean acquired = renewed == null
+                ? leaseRenewedAt.putIfAbsent(postId, now) == null
+                : leaseRenewedAt.replace(postId, renewed, now);
+        if (!acquired) {
+            // 다른 스레드가 먼저 연장
+            return;
+        }
+
+        demotedPostIds.remove(postId);
+        pendingLeases.put(postId, LocalDateTime.now()
+                .plus(Duration.ofMillis(cooldownMillis)));
+        if (shardedPostIds.add(postId)) {
+            log.info("핫 게시글 카운터 샤드 모드 전환 - postId: {}, shards: {}", postId, shardCount);
+        }
+    }
+
+    /**
+     * 메모리에 기록된 승격/기한 연장을 게시글 문서에 저장 (unordered bulk 1회, flush 스레드/compact 에서 호출)
+     * 저장하지 못한 항목은 다음 호출에서 재시도
+     */
+    private void persistLeases() {
+        if (pendingLeases.isEmpty()) {
+            return;
+        }
+
+        Map<String, LocalDateTime> leases = new HashMap<>();
+        pendingLeases.forEach((postId, until) -> {
+            if (pendingLeases.remove(postId, until)) {
+                leases.put(postId, until);
+            }
+        });
+        if (leases.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, LocalDateTime>> entries = List.copyOf(leases.entrySet());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+        for (Map.Entry<String, LocalDateTime> entry : entries) {
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id")
+                            .is(entry.getKey())),
+                    new Update().set("counterShards", shardCount)
+                            .max("counterHotUntil", entry.getValue())
+            );
+        }
+
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors()
+                    .forEach(error -> {
+                        Map.Entry<String, LocalDateTime> failed = entries.get(error.getIndex());
+                        pendingLeases.putIfAbsent(failed.getKey(), failed.getValue());
+                    });
+        } catch (RuntimeException e) {
+            entries.forEach(entry -> pendingLeases.putIfAbsent(entry.getKey(), entry.getValue()));
+            log.warn("카운터 샤드 모드 저장 실패 (다음 flush/compact 에서 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드 모드 게시글 목록을 Mongo 기준으로 갱신
+     *
+     * @return 게시글 ID → 유지 기한
+     */
+    private Map<String, LocalDateTime> refreshShardedPosts() {
+        Query query = Query.query(Criteria.where("counterShards")
+                .exists(true));
+        query.fields()
+                .include("_id")
+                .include("counterHotUntil");
+
+        Map<String, LocalDateTime> hotUntil = new HashMap<>();
+        mongoTemplate.find(query, Post.class)
+                .forEach(post -> hotUntil.put(post.getId(), post.getCounterHotUntil()));
+
+        Set<String> refreshed = ConcurrentHashMap.newKeySet();
+        refreshed.addAll(hotUntil.keySet());
+        // 방금 로컬에서 승격했지만 아직 조회 결과에 없는 게시글 유지
+        leaseRenewedAt.keySet()
+                .forEach(refreshed::add);
+
+        // 다른 인스턴스가 강등한 게시글도 남은 샤드가 합쳐질 때까지 조회 대상에 유지
+        shardedPostIds.stream()
+                .filter(postId -> !refreshed.contains(postId))
+                .forEach(demotedPostIds::add);
+        shardedPostIds = refreshed;
+        return hotUntil;
+    }
+
+    /**
+     * 샤드 값을 게시글 문서로 합침
+     * 게시글에 먼저 $inc 한 뒤, 샤드 값이 그대로일 때만 샤드 삭제 (그 사이 쓰기가 있었으면 옮긴 만큼만 차감)
+     * 두 쓰기 사이에 읽으면 잠깐 많게 보일 수 있으나 줄어들지 않음
+     * 두 쓰기 사이에 중단되면 값이 중복 반영될 수 있으나 유실되지는 않음 (좋아요 수는 LikeCountReconciler 가 보정)
+     *
+     * @param postId 게시글 ID
+     */
+    private void foldShards(String postId) {
+        Query query = Query.query(Criteria.where("postId")
+                .is(postId));
+        for (CounterShard shard : mongoTemplate.find(query, CounterShard.class)) {
+            long value = shard.getValue();
+            if (value != 0) {
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id")
+                                .is(postId)),
+                        new Update().inc(shard.getField()
+                                .getPostField(), value),
+                        Post.class
+                );
+            }
+
+            long removed = mongoTemplate.remove(Query.query(Criteria.where("_id")
+                    .is(shard.getId())
+                    .and("value")
+                    .is(value)), CounterShard.class).getDeletedCount();
+            if (removed == 0 && value != 0) {
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id")
+                                .is(shard.getId())),
+                        new Update().inc("value", -value),
+                        CounterShard.class
+                );
+            }
+        }
+    }
+
+    /**
+     * 샤드 모드 해제 (그 사이 다른 인스턴스가 기한을 연장했으면 유지)
+     *
+     * @param postId 게시글 ID
+     * @param now    기준 시각
+     */
+    private void demote(String postId, LocalDateTime now) {
+        long modified = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id")
+                        .is(postId)
+                        .orOperator(Criteria.where("counterHotUntil")
+                                .lte(now), Criteria.where("counterHotUntil")
+                                .exists(false))),
+                new Update().unset("counterShards")
+                        .unset("counterHotUntil"),
+                Post.class
+        ).getModifiedCount();
+
+        if (modified > 0) {
+            // 강등 직전에 샤드를 고른 flush 쓰기가 남을 수 있으므로 다음 compact 에서 합칠 때까지 조회 대상 유지
+            demotedPostIds.add(postId);
+            shardedPostIds.remove(postId);
+            log.info("핫 게시글 카운터 단일 모드 복귀 - postId: {}", postId);
+        }
+    }
+
+    /**
+     * 조회 시 샤드 합계를 더해야 하는지 (샤드 모드 또는 남은 샤드가 아직 합쳐지지 않은 강등 게시글)
+     *
+     * @param postId 게시글 ID
+     * @return 샤드 합계 조회 대상이면 true
+     */
+    private boolean hasShards(String postId) {
+        return shardedPostIds.contains(postId) || demotedPostIds.contains(postId);
+    }
+
+    private Query shardQuery(String postId, CounterField field, int shard) {
+        return Query.query(Criteria.where("postId")
+                .is(postId)
+                .and("field")
+                .is(field)
+                .and("shard")
+                .is(shard));
+    }
+
+    private int randomShard() {
+        return ThreadLocalRandom.current()
+                .nextInt(shardCount);
+    }
+}
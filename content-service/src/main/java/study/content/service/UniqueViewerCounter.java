@@ -0,0 +1,406 @@
+package study.content.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.common.sketch.HyperLogLog;
+import study.content.common.sketch.Murmur3;
+import study.content.entity.PostViewerSketch;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 고유 조회자 수 추정 (HyperLogLog)
+ * <p>
+ * - 조회자 키: 로그인 사용자는 username, 비로그인은 IP + User-Agent 의 SHA-256 (원문은 저장하지 않음)
+ * - 게시글별 스케치를 메모리 LRU(최대 max-sketches 개, 개당 12KB)에 유지
+ * - LRU 는 게시글 ID 해시로 나눈 세그먼트별 락으로 보호 (다른 게시글 조회끼리 경합하지 않음)
+ * - 추정값 계산(16384 레지스터 순회)은 락 밖에서 스케치 복사본으로 수행
+ * - 주기적으로 변경된 스케치를 Mongo 에 저장된 스케치와 병합(max) 후 저장 → 여러 인스턴스 결과가 합쳐짐
+ * - 병합 저장은 version 조건부 갱신 (충돌 시 다시 읽어 병합 후 재시도)
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+
+    private static final int MAX_SAVE_ATTEMPTS = 5;
+    private static final int SEGMENTS = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final String collection;
+
+    // 게시글 ID 해시 기준 세그먼트 (세그먼트마다 LRU + 락)
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    public UniqueViewerCounter(MongoTemplate mongoTemplate,
+                               @Value("${content.view.unique.max-sketches:2000}") int maxSketches) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = mongoTemplate.getCollectionName(PostViewerSketch.class);
+        int perSegment = Math.max(1, (maxSketches + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * 로그인 사용자 조회자 키
+     *
+     * @param username 사용자명
+     * @return 조회자 키
+     */
+    public static String userViewerKey(String username) {
+        return "user:" + username;
+    }
+
+    /**
+     * 비로그인 조회자 키 (클라이언트 지문의 SHA-256)
+     *
+     * @param clientIp  클라이언트 IP
+     * @param userAgent User-Agent (null 가능)
+     * @return 조회자 키
+     */
+    public static String anonymousViewerKey(String clientIp, String userAgent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((clientIp + "|" + (userAgent != null ? userAgent : ""))
+                    .getBytes(StandardCharsets.UTF_8));
+            return "anon:" + HexFormat.of()
+                    .formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 조회 기록
+     *
+     * @param postId    게시글 ID
+     * @param viewerKey 조회자 키
+     */
+    public void record(String postId, String viewerKey) {
+        long hash = Murmur3.hash64(viewerKey);
+        Segment segment = segmentFor(postId);
+        segment.lock.lock();
+        try {
+            Entry entry = segment.sketches.computeIfAbsent(postId, k -> new Entry());
+            if (entry.sketch.offer(hash)) {
+                entry.dirty = true;
+                entry.changed();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 단일 게시글 고유 조회자 수 추정
+     *
+     * @param postId 게시글 ID
+     * @return 추정값
+     */
+    public long estimate(String postId) {
+        return estimates(Set.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 여러 게시글 고유 조회자 수 추정
+     * 메모리에 없거나 저장본과 병합되지 않은 게시글만 $in 쿼리 1회로 로딩
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID별 추정값
+     */
+    public Map<String, Long> estimates(Collection<String> postIds) {
+        Map<String, Long> result = new HashMap<>();
+        Map<String, Snapshot> stale = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+
+        for (String postId : postIds) {
+            Segment segment = segmentFor(postId);
+            segment.lock.lock();
+            try {
+                Entry entry = segment.sketches.get(postId);
+                if (entry == null || !entry.loaded) {
+                    missing.add(postId);
+                } else if (entry.estimate >= 0) {
+                    result.put(postId, entry.estimate);
+                } else {
+                    stale.put(postId, entry.snapshot());
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, HyperLogLog> stored = loadStored(missing);
+            for (String postId : missing) {
+                Segment segment = segmentFor(postId);
+                segment.lock.lock();
+                try {
+                    Entry entry = segment.sketches.computeIfAbsent(postId, k -> new Entry());
+                    HyperLogLog persisted = stored.get(postId);
+                    if (persisted != null && entry.sketch.merge(persisted)) {
+                        entry.changed();
+                    }
+                    entry.loaded = true;
+                    stale.put(postId, entry.snapshot());
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+        }
+
+        // 락 밖에서 계산, 그 사이 레지스터가 바뀌지 않았을 때만 캐시
+        stale.forEach((postId, snapshot) -> {
+            long estimate = snapshot.sketch()
+                    .estimate();
+            result.put(postId, estimate);
+
+            Segment segment = segmentFor(postId);
+            segment.lock.lock();
+            try {
+                Entry entry = segment.sketches.get(postId);
+                if (entry != null && entry.version == snapshot.version()) {
+                    entry.estimate = estimate;
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 변경된 스케치를 저장본과 병합해 저장 (기본 1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${content.view.unique.persist-interval-ms:60000}")
+    public void persist() {
+        Map<String, HyperLogLog> dirty = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.sketches.forEach((postId, entry) -> {
+                    if (entry.dirty) {
+                        dirty.put(postId, entry.sketch.copy());
+                        entry.dirty = false;
+                    }
+                });
+                segment.evictedDirty.forEach((postId, sketch) -> dirty.merge(postId, sketch, (a, b) -> {
+                    a.merge(b);
+                    return a;
+                }));
+                segment.evictedDirty.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+
+        int saved = 0;
+        for (Map.Entry<String, HyperLogLog> item : dirty.entrySet()) {
+            String postId = item.getKey();
+            try {
+                HyperLogLog merged = mergeAndSave(postId, item.getValue());
+                applyMerged(postId, merged);
+                saved++;
+            } catch (RuntimeException e) {
+                log.warn("고유 조회자 스케치 저장 실패 (다음 주기에 재시도) - postId: {}, error: {}", postId, e.getMessage());
+                requeue(postId, item.getValue());
+            }
+        }
+
+        if (saved > 0) {
+            log.debug("고유 조회자 스케치 저장 - {}개", saved);
+        }
+    }
+
+    /**
+     * 종료 시 변경된 스케치 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * 저장본과 병합 후 version 조건부 저장
+     *
+     * @param postId 게시글 ID
+     * @param local  이 인스턴스의 스케치
+     * @return 병합 결과
+     */
+    private HyperLogLog mergeAndSave(String postId, HyperLogLog local) {
+        for (int attempt = 0; attempt < MAX_SAVE_ATTEMPTS; attempt++) {
+            PostViewerSketch stored = mongoTemplate.findById(postId, PostViewerSketch.class);
+
+            if (stored == null) {
+                try {
+                    mongoTemplate.insert(new Document("_id", postId)
+                            .append("registers", new Binary(local.toBytes()))
+                            .append("version", 0L)
+                            .append("updatedAt", LocalDateTime.now()), collection);
+                    return local;
+                } catch (DuplicateKeyException e) {
+                    // 다른 인스턴스가 먼저 생성 → 다시 읽어 병합
+                    continue;
+                }
+            }
+
+            HyperLogLog merged = HyperLogLog.fromBytes(stored.getRegisters());
+            if (!merged.merge(local)) {
+                // 저장본이 이미 모든 값을 포함
+                return merged;
+            }
+
+            long modified = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id")
+                            .is(postId)
+                            .and("version")
+                            .is(stored.getVersion())),
+                    new Update().set("registers", new Binary(merged.toBytes()))
+                            .set("version", stored.getVersion() + 1)
+                            .set("updatedAt", LocalDateTime.now()),
+                    collection
+            ).getModifiedCount();
+            if (modified > 0) {
+                return merged;
+            }
+        }
+        throw new IllegalStateException("sketch version conflict after " + MAX_SAVE_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * 저장본 일괄 로딩
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID별 스케치
+     */
+    private Map<String, HyperLogLog> loadStored(Collection<String> postIds) {
+        Map<String, HyperLogLog> result = new HashMap<>();
+        mongoTemplate.find(Query.query(Criteria.where("_id")
+                        .in(postIds)), PostViewerSketch.class)
+                .forEach(sketch -> result.put(sketch.getPostId(), HyperLogLog.fromBytes(sketch.getRegisters())));
+        return result;
+    }
+
+    /**
+     * 병합 결과(다른 인스턴스 값 포함)를 메모리 스케치에 반영
+     */
+    private void applyMerged(String postId, HyperLogLog merged) {
+        Segment segment = segmentFor(postId);
+        segment.lock.lock();
+        try {
+            Entry entry = segment.sketches.get(postId);
+            if (entry != null) {
+                if (entry.sketch.merge(merged)) {
+                    entry.changed();
+                }
+                entry.loaded = true;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 저장 실패한 스케치를 다음 주기 대상으로 되돌림
+     */
+    private void requeue(String postId, HyperLogLog sketch) {
+        Segment segment = segmentFor(postId);
+        segment.lock.lock();
+        try {
+            Entry entry = segment.sketches.get(postId);
+            if (entry != null) {
+                if (entry.sketch.merge(sketch)) {
+                    entry.changed();
+                }
+                entry.dirty = true;
+            } else {
+                segment.evictedDirty.merge(postId, sketch, (a, b) -> {
+                    a.merge(b);
+                    return a;
+                });
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private Segment segmentFor(String postId) {
+        int h = postId.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENTS - 1)];
+    }
+
+    /**
+     * LRU 세그먼트 (access-order, lock 으로 보호)
+     */
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> sketches;
+        // LRU 에서 밀려났지만 아직 저장되지 않은 스케치
+        private final Map<String, HyperLogLog> evictedDirty = new HashMap<>();
+
+        private Segment(int maxSketches) {
+            this.sketches = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() <= maxSketches) {
+                        return false;
+                    }
+                    if (eldest.getValue().dirty) {
+                        evictedDirty.merge(eldest.getKey(), eldest.getValue().sketch, (a, b) -> {
+                            a.merge(b);
+                            return a;
+                        });
+                    }
+                    return true;
+                }
+            };
+        }
+    }
+
+    private static final class Entry {
+        private final HyperLogLog sketch = new HyperLogLog();
+        private boolean dirty;
+        private boolean loaded;
+        // 레지스터 변경 횟수 (락 밖에서 계산한 추정값이 최신인지 확인)
+        private long version;
+        // 레지스터가 바뀌었을 때만 다시 계산 (-1 = 계산 필요)
+        private long estimate = -1;
+
+        // 레지스터가 바뀜 → 캐시한 추정값 무효화 (저장 대상 여부는 dirty 로 따로 표시)
+        private void changed() {
+            version++;
+            estimate = -1;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(sketch.copy(), version);
+        }
+    }
+
+    private record Snapshot(HyperLogLog sketch, long version) {
+    }
+}
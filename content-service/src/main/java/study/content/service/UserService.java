@@ -5,15 +5,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import study.common.lib.response.CursorPageResponse;
 import study.common.lib.response.PageResponse;
 import study.common.lib.util.BasePagingUtil;
+import study.common.lib.util.CursorPagingUtil;
+import study.common.lib.util.KeysetCursor;
+import study.common.lib.util.TotalCountCache;
+import study.content.common.concurrent.FanoutExecutor;
 import study.content.common.enums.CommentSortType;
+import study.content.common.paging.TotalCountKeys;
 import study.content.dto.comment.CommentResponse;
-import study.content.dto.post.PostResponse;
+import study.content.dto.post.PostSummaryResponse;
 import study.content.dto.user.UserStatsResponse;
 import study.content.repository.CommentRepository;
 import study.content.repository.PostRepository;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,9 +30,13 @@ public class UserService {
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final TotalCountCache totalCountCache;
+    private final FanoutExecutor fanoutExecutor;
+    private final PostLiveCounters postLiveCounters;
 
     /**
      * 사용자 기본 통계 조회
+     * 게시글 수/댓글 수 count 를 동시에 실행 (응답 시간 = 둘 중 느린 쪽)
      *
      * @param username 사용자명
      * @return 사용자별 통계(게시글, 댓글 수)
@@ -32,11 +44,13 @@ public class UserService {
     public UserStatsResponse getUserStats(String username) {
         log.info("사용자 통계 조회: username: {}", username);
 
-        // 1. 작성한 게시글 수
-        long postCount = postRepository.countByAuthorAndStatus(username, "ACTIVE");
+        // 1. 작성한 게시글 수 (별도 스레드)
+        CompletableFuture<Long> postCountFuture = fanoutExecutor.fork(
+                () -> postRepository.countByAuthorAndStatus(username, "ACTIVE"));
 
-        // 2. 작성한 댓글 수
+        // 2. 작성한 댓글 수 (요청 스레드)
         long commentCount = commentRepository.countByAuthorAndStatus(username, "ACTIVE");
+        long postCount = FanoutExecutor.join(postCountFuture);
 
         UserStatsResponse stats = UserStatsResponse.builder()
                 .username(username)
@@ -51,28 +65,26 @@ public class UserService {
 
     /**
      * 내가 작성한 게시글 목록 조회 (페이징)
+     * 조회수/좋아요 수는 게시글 목록과 같은 기준 (샤드 합계 + 반영 대기 delta 합산)
      *
      * @param username
      * @param page
      * @param size
      * @return
      */
-    public PageResponse<PostResponse> getMyPosts(String username, int page, int size) {
+    public PageResponse<PostSummaryResponse> getMyPosts(String username, int page, int size) {
         log.info("내가 쓴 글 조회: username: {}, page: {}, size: {}", username, page, size);
 
-        PageResponse<PostResponse> result = BasePagingUtil.createPageResponse(
+        PageResponse<PostSummaryResponse> result = BasePagingUtil.createCachedTotalPageResponse(
                 page, size,
                 Sort.by("createdAt")
                         .descending(),
                 pageable -> postRepository.findByAuthor(username, pageable),
-                post -> {
-                    PostResponse postResponse = PostResponse.from(post);
-
-                    long commentCount = commentRepository.countByPostId(post.getId());
-                    postResponse.setCommentCount(commentCount);
-                    return postResponse;
-                }
+                totalCountCache, TotalCountKeys.postsByAuthor(username),
+                () -> postRepository.countByAuthorAndStatus(username, "ACTIVE"),
+                PostSummaryResponse::from
         );
+        postLiveCounters.apply(result.getContent());
         log.info("내가 쓴 글 조회 완료: username: {}, 총 {}개", username, result.getTotalElements());
         return result;
     }
@@ -89,13 +101,56 @@ public class UserService {
         log.info("내가 쓴 댓글 조회: username: {}, page: {}, size: {}", username, page, size);
 
         CommentSortType sortType = CommentSortType.LATEST;
-        PageResponse<CommentResponse> result = BasePagingUtil.createPageResponse(
+        PageResponse<CommentResponse> result = BasePagingUtil.createCachedTotalPageResponse(
                 page, size,
                 sortType.toMongoSort(),
                 pageable -> commentRepository.findByAuthor(username, pageable),
+                totalCountCache, TotalCountKeys.commentsByAuthor(username),
+                () -> commentRepository.countByAuthorAndStatus(username, "ACTIVE"),
                 CommentResponse::from
         );
         log.info("내가 쓴 댓글 조회 완료: username: {}, 총 {}개", username, result.getTotalElements());
         return result;
     }
+
+    /**
+     * 내가 작성한 게시글 목록 조회 (커서 페이징)
+     * 조회수/좋아요 수는 게시글 목록과 같은 기준 (샤드 합계 + 반영 대기 delta 합산)
+     *
+     * @param username 사용자명
+     * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기
+     * @return 내가 쓴 게시글 목록 (다음 페이지 커서 포함)
+     */
+    public CursorPageResponse<PostSummaryResponse> getMyPostsByCursor(String username, String cursor, int size) {
+        log.info("내가 쓴 글 커서 조회: username: {}, cursor: {}, size: {}", username, cursor, size);
+
+        CursorPageResponse<PostSummaryResponse> result = CursorPagingUtil.createCursorPageResponse(
+                cursor, size,
+                (keyset, limit) -> postRepository.findByAuthorByCursor(username, keyset, limit),
+                post -> new KeysetCursor(post.getCreatedAt(), post.getId()),
+                PostSummaryResponse::from
+        );
+        postLiveCounters.apply(result.getContent());
+        return result;
+    }
+
+    /**
+     * 내가 작성한 댓글 목록 조회 (커서 페이징)
+     *
+     * @param username 사용자명
+     * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기
+     * @return 내가 쓴 댓글 목록 (다음 페이지 커서 포함)
+     */
+    public CursorPageResponse<CommentResponse> getMyCommentsByCursor(String username, String cursor, int size) {
+        log.info("내가 쓴 댓글 커서 조회: username: {}, cursor: {}, size: {}", username, cursor, size);
+
+        return CursorPagingUtil.createCursorPageResponse(
+                cursor, size,
+                (keyset, limit) -> commentRepository.findByAuthorByCursor(username, keyset, limit),
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()),
+                CommentResponse::from
+        );
+    }
 }
@@ -0,0 +1,249 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import study.content.common.concurrent.DeltaBuffer;
+import study.content.entity.CounterShard.CounterField;
+import study.content.entity.Post;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 상세 조회마다 Mongo에 쓰지 않고 게시글별로 메모리에 합산했다가
+ * 짧은 주기(기본 300ms)로 unordered bulkWrite 한 번에 $inc 반영
+ * <p>
+ * - 조회 시 저장된 viewCount + 반영 대기 중인 조회수를 합산
+ * - 대기 중인 게시글 수가 상한에 도달하면 flush 전용 스레드에 즉시 flush 요청 (요청 스레드는 쓰기를 기다리지 않음)
+ * - 상한의 2배를 넘으면 대기 중이 아닌 게시글의 조회는 버림 (메모리 상한, 이미 대기 중인 게시글은 합산만 하므로 계속 기록)
+ * - 핫 게시글(샤드 모드)은 게시글 문서 대신 카운터 샤드에 반영
+ * - 정상 종료 시 남은 조회수를 모두 반영
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final ShardedPostCounter shardedPostCounter;
+    private final PopularPostLeaderboard popularPostLeaderboard;
+    private final HotPostRanking hotPostRanking;
+    private final DeltaBuffer<String> buffer = new DeltaBuffer<>();
+    private final int maxPendingPosts;
+
+    // 상한 도달 시 요청 스레드 대신 flush를 수행할 전용 스레드
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSize;
+    private final DistributionSummary coalescingRatio;
+    private final Counter forcedFlushes;
+    private final Counter droppedViews;
+
+    public ViewCountBuffer(MongoTemplate mongoTemplate,
+                           ShardedPostCounter shardedPostCounter,
+                           PopularPostLeaderboard popularPostLeaderboard,
+                           HotPostRanking hotPostRanking,
+                           MeterRegistry meterRegistry,
+                           @Value("${content.view.write-behind.max-pending-posts:10000}") int maxPendingPosts) {
+        this.mongoTemplate = mongoTemplate;
+        this.shardedPostCounter = shardedPostCounter;
+        this.popularPostLeaderboard = popularPostLeaderboard;
+        this.hotPostRanking = hotPostRanking;
+        this.maxPendingPosts = maxPendingPosts;
+
+        this.flushTimer = Timer.builder("content.view.buffer.flush.latency")
+                .description("조회수 bulkWrite 소요 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("content.view.buffer.flush.batch.size")
+                .description("flush 1회당 반영한 게시글 수")
+                .register(meterRegistry);
+        this.coalescingRatio = DistributionSummary.builder("content.view.buffer.coalescing.ratio")
+                .description("flush 1회당 조회 요청 수 / 쓰기 연산 수")
+                .register(meterRegistry);
+        this.forcedFlushes = Counter.builder("content.view.buffer.forced.flush")
+                .description("대기 게시글 수 상한 도달로 인한 flush 요청 횟수")
+                .register(meterRegistry);
+        this.droppedViews = Counter.builder("content.view.buffer.dropped")
+                .description("대기 게시글 수가 상한의 2배를 넘어 버린 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("content.view.buffer.backlog", buffer, DeltaBuffer::size)
+                .description("반영 대기 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 요청 누적
+     *
+     * @param postId 게시글 ID
+     */
+    public void record(String postId) {
+        // 핫 게시글 감지 (flush 시 샤드로 분산할지 결정)
+        shardedPostCounter.recordWrite(postId);
+
+        if (buffer.size() >= maxPendingPosts * 2 && buffer.pending(postId) == 0) {
+            // flush가 따라가지 못하는 상황 → 새 게시글 키를 늘리지 않도록 조회를 버리고 flush 요청만 함
+            droppedViews.increment();
+            requestFlush();
+            return;
+        }
+
+        int backlog = buffer.add(postId, 1);
+        if (backlog >= maxPendingPosts) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 반영 대기 중인 조회수
+     *
+     * @param postId 게시글 ID
+     * @return 대기 중인 조회수
+     */
+    public long pending(String postId) {
+        return buffer.pending(postId);
+    }
+
+    /**
+     * 반영 대기 중인 조회수 스냅샷 (한 번만 캡처)
+     * 여러 게시글의 저장된 viewCount 를 먼저 읽은 뒤 같은 시점 기준으로 합산할 때 사용
+     *
+     * @return 게시글 ID → 대기 중인 조회수
+     */
+    public ToLongFunction<String> pendingSnapshot() {
+        DeltaBuffer.Snapshot<String> snapshot = buffer.snapshot();
+        return snapshot::pending;
+    }
+
+    /**
+     * 대기 중인 조회수를 반영 (기본 300ms 주기)
+     * 반영된 증가분은 인기 게시글 리더보드와 HOT 랭킹에 전달 (flush 가 끝난 뒤)
+     */
+    @Scheduled(fixedDelayString = "${content.view.write-behind.flush-interval-ms:300}")
+    public void flush() {
+        try {
+            Map<String, Long> applied = new HashMap<>();
+            DeltaBuffer.FlushResult result = flushTimer.record(() -> buffer.flush(batch -> {
+                Map<String, Long> unapplied = writeBatch(batch);
+                batch.forEach((postId, delta) -> {
+                    if (!unapplied.containsKey(postId)) {
+                        applied.put(postId, delta);
+                    }
+                });
+                return unapplied;
+            }));
+            popularPostLeaderboard.onViewsApplied(applied);
+            hotPostRanking.onViewsApplied(applied);
+
+            if (result != null && result.keys() > 0) {
+                batchSize.record(result.keys());
+                coalescingRatio.record((double) result.operations() / result.keys());
+                log.debug("조회수 반영 - 게시글: {}개, 조회: {}건", result.keys(), result.operations());
+            }
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+        log.info("조회수 버퍼 종료 - 잔여 게시글: {}개", buffer.size());
+    }
+
+    // ======================= Private 헬퍼 메서드 =======================
+
+    /**
+     * flush 전용 스레드에 flush 요청 (이미 요청되어 있으면 무시)
+     */
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            forcedFlushes.increment();
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 배치를 unordered bulkWrite로 반영 (샤드 모드 게시글은 카운터 샤드로)
+     *
+     * @param batch 게시글별 증가값
+     * @return 반영하지 못한 게시글별 증가값 (다음 flush에서 재시도)
+     */
+    private Map<String, Long> writeBatch(Map<String, Long> batch) {
+        Map<String, Long> shardDeltas = new HashMap<>();
+        List<Map.Entry<String, Long>> entries = batch.entrySet()
+                .stream()
+                .filter(entry -> {
+                    if (shardedPostCounter.isSharded(entry.getKey())) {
+                        shardDeltas.put(entry.getKey(), entry.getValue());
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+
+        Map<String, Long> unapplied = new HashMap<>(shardedPostCounter.incrementShards(shardDeltas, CounterField.VIEW_COUNT));
+        if (entries.isEmpty()) {
+            return unapplied;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+        for (Map.Entry<String, Long> entry : entries) {
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id")
+                            .is(entry.getKey())),
+                    new Update().inc("viewCount", entry.getValue())
+            );
+        }
+
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            // unordered: 실패한 연산만 재시도 대상
+            e.getErrors()
+                    .forEach(error -> {
+                        Map.Entry<String, Long> failed = entries.get(error.getIndex());
+                        unapplied.put(failed.getKey(), failed.getValue());
+                    });
+            log.warn("조회수 일부 반영 실패 - 실패: {}건", e.getErrors()
+                    .size());
+        } catch (RuntimeException e) {
+            entries.forEach(entry -> unapplied.put(entry.getKey(), entry.getValue()));
+            log.warn("조회수 반영 실패 - error: {}", e.getMessage());
+        }
+        return unapplied;
+    }
+}
@@ -0,0 +1,146 @@
+package study.content.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationalCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void 같은_세대에서는_로딩_결과를_재사용한다() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10, Duration.ofSeconds(30), Duration.ZERO, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+        String second = cache.get("a", () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1");
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void 허용_지연이_0이면_쓰기_직후_다시_로딩한다() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10, Duration.ofSeconds(30), Duration.ZERO, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+        cache.bump();
+
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    void 쓰기_이후_허용_지연까지만_이전_결과를_제공한다() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10, Duration.ofSeconds(30), Duration.ofMillis(500), now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+        now.addAndGet(100);
+        cache.bump();
+        // 이후 쓰기가 더 있어도 기준은 항목 이후 첫 쓰기 시각
+        now.addAndGet(300);
+        cache.bump();
+
+        now.addAndGet(100);
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        now.addAndGet(101);
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    void ttl_이_지나면_쓰기가_없어도_다시_로딩한다() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10, Duration.ofSeconds(1), Duration.ZERO, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+        now.addAndGet(1_001);
+
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_조회되지_않은_항목을_제거한다() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(2, Duration.ofSeconds(30), Duration.ZERO, now::get);
+
+        cache.get("a", () -> "a1");
+        cache.get("b", () -> "b1");
+        cache.get("a", () -> "a2");
+        cache.get("c", () -> "c1");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", () -> "a2")).isEqualTo("a1");
+        assertThat(cache.get("b", () -> "b2")).isEqualTo("b2");
+    }
+
+    @Test
+    void 동시_동일_요청은_로딩_한번을_공유한다() throws Exception {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10, Duration.ofSeconds(30), Duration.ZERO, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("a", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "v";
+            })));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get("a", () -> "v" + loads.incrementAndGet())));
+            }
+            // 대기 요청이 로딩에 합류할 시간
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(cache.loads()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 로딩_실패는_캐시하지_않는다() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10, Duration.ofSeconds(30), Duration.ZERO, now::get);
+
+        assertThatThrownBy(() -> cache.get("a", () -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("a", () -> "v")).isEqualTo("v");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+}
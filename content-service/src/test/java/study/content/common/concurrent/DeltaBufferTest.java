@@ -0,0 +1,180 @@
+package study.content.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaBufferTest {
+
+    @Test
+    void 동시_누적과_flush가_겹쳐도_증감값이_유실되지_않는다() throws Exception {
+        DeltaBuffer<String> buffer = new DeltaBuffer<>();
+        Map<String, AtomicLong> store = new ConcurrentHashMap<>();
+
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.add("key-" + (i % 4), 1);
+                }
+                done.countDown();
+            });
+        }
+
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush(batch -> {
+                    batch.forEach((key, delta) -> store.computeIfAbsent(key, k -> new AtomicLong())
+                            .addAndGet(delta));
+                    return Map.of();
+                });
+            }
+        });
+        flusher.start();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+
+        long persisted = store.values()
+                .stream()
+                .mapToLong(AtomicLong::get)
+                .sum();
+        long pending = buffer.pending("key-0") + buffer.pending("key-1") + buffer.pending("key-2") + buffer.pending("key-3");
+
+        assertThat(persisted + pending).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    void 반영하지_못한_항목은_다음_flush로_넘어간다() {
+        DeltaBuffer<String> buffer = new DeltaBuffer<>();
+        buffer.add("a", 3);
+        buffer.add("b", 2);
+
+        DeltaBuffer.FlushResult result = buffer.flush(batch -> Map.of("b", batch.get("b")));
+
+        assertThat(result.keys()).isEqualTo(1);
+        assertThat(buffer.pending("a")).isZero();
+        assertThat(buffer.pending("b")).isEqualTo(2);
+    }
+
+    @Test
+    void 내보내기_중_예외가_나면_배치_전체를_되돌린다() {
+        DeltaBuffer<String> buffer = new DeltaBuffer<>();
+        buffer.add("a", 5);
+
+        assertThatThrownBy(() -> buffer.flush(batch -> {
+            throw new IllegalStateException("mongo down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(buffer.pending("a")).isEqualTo(5);
+    }
+
+    @Test
+    void 반영_중에도_스냅샷_읽기는_기다리지_않고_in_flight_값을_합산한다() throws Exception {
+        DeltaBuffer<String> buffer = new DeltaBuffer<>();
+        AtomicLong stored = new AtomicLong();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch ack = new CountDownLatch(1);
+        buffer.add("a", 4);
+
+        Thread flusher = new Thread(() -> buffer.flush(batch -> {
+            writing.countDown();
+            await(ack);
+            stored.addAndGet(batch.get("a"));
+            return Map.of();
+        }));
+        flusher.start();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 저장소 응답 전: 저장값(0) + in-flight(4) + 새 대기분(1)
+        buffer.add("a", 1);
+        long during = stored.get() + buffer.snapshot()
+                .pending("a");
+
+        ack.countDown();
+        flusher.join();
+        long after = stored.get() + buffer.snapshot()
+                .pending("a");
+
+        assertThat(during).isEqualTo(5);
+        assertThat(after).isEqualTo(5);
+    }
+
+    @Test
+    void 저장소가_반영한_뒤_응답_전에_들어온_단건_조회는_배치를_한_번만_더한다() throws Exception {
+        DeltaBuffer<String> buffer = new DeltaBuffer<>();
+        AtomicLong stored = new AtomicLong(10);
+        CountDownLatch applied = new CountDownLatch(1);
+        CountDownLatch ack = new CountDownLatch(1);
+        buffer.add("a", 4);
+        assertThat(buffer.currentValue("a", stored::get)).isEqualTo(14);
+
+        // 저장소에는 반영됐지만 응답은 아직 (이 구간에 저장값 + in-flight 를 더하면 18 → 14 로 줄어듦)
+        Thread flusher = new Thread(() -> buffer.flush(batch -> {
+            stored.addAndGet(batch.get("a"));
+            applied.countDown();
+            await(ack);
+            return Map.of();
+        }));
+        flusher.start();
+        assertThat(applied.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> during = reader.submit(() -> buffer.currentValue("a", stored::get));
+            // 응답 전에는 결과를 내지 않음
+            assertThatThrownBy(() -> during.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            ack.countDown();
+            flusher.join();
+
+            assertThat(during.get(5, TimeUnit.SECONDS)).isEqualTo(14);
+            assertThat(buffer.currentValue("a", stored::get)).isEqualTo(14);
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    @Test
+    void 대기분이_없으면_flush는_저장소를_호출하지_않는다() {
+        DeltaBuffer<String> buffer = new DeltaBuffer<>();
+        AtomicBoolean called = new AtomicBoolean();
+
+        DeltaBuffer.FlushResult result = buffer.flush(batch -> {
+            called.set(true);
+            return Map.of();
+        });
+
+        assertThat(result.keys()).isZero();
+        assertThat(result.operations()).isZero();
+        assertThat(called).isFalse();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package study.content.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanoutExecutorTest {
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 항상 작업을 거절하는 실행기 (풀/동시 실행 수 상한이 가득 찬 상황)
+    private final FanoutExecutor saturated = new FanoutExecutor(task -> {
+        throw new RejectedExecutionException("full");
+    }, () -> closed.set(true));
+
+    @Test
+    void 가득_차면_선택_조회는_실패한_future_를_반환한다() {
+        CompletableFuture<String> future = saturated.submit(() -> "value");
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(() -> FanoutExecutor.join(future)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void 가득_차면_필수_조회는_호출_스레드에서_실행한다() {
+        Thread caller = Thread.currentThread();
+
+        CompletableFuture<Thread> future = saturated.fork(Thread::currentThread);
+
+        assertThat(FanoutExecutor.join(future)).isSameAs(caller);
+    }
+
+    @Test
+    void join_은_작업의_예외를_감싸지_않고_전달한다() {
+        FanoutExecutor direct = new FanoutExecutor(Runnable::run, () -> {
+        });
+
+        CompletableFuture<String> future = direct.fork(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> FanoutExecutor.join(future))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void close_하면_실행기를_정리한다() {
+        saturated.close();
+
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,45 @@
+package study.content.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyDetectorTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final HotKeyDetector<String> detector = new HotKeyDetector<>(5, 10_000, now::get);
+
+    @Test
+    void 초당_요청이_임계치를_넘으면_hot_으로_판정한다() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(detector.record("post")).isFalse();
+        }
+        assertThat(detector.record("post")).isTrue();
+        assertThat(detector.isHot("other")).isFalse();
+    }
+
+    @Test
+    void 윈도우가_바뀌면_카운트가_초기화된다() {
+        for (int i = 0; i < 4; i++) {
+            detector.record("post");
+        }
+        now.addAndGet(1_000);
+
+        assertThat(detector.record("post")).isFalse();
+    }
+
+    @Test
+    void cooldown_이_지나면_hot_이_해제되고_정리된다() {
+        for (int i = 0; i < 5; i++) {
+            detector.record("post");
+        }
+        now.addAndGet(9_999);
+        assertThat(detector.isHot("post")).isTrue();
+
+        now.addAndGet(1);
+        assertThat(detector.isHot("post")).isFalse();
+        assertThat(detector.evictIdle()).isEqualTo(1);
+    }
+}
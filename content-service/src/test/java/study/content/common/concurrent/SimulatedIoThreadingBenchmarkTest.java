@@ -0,0 +1,144 @@
+package study.content.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 동시 요청 5,000개: 플랫폼 스레드(200) vs 가상 스레드, MongoDB 없이 블로킹 I/O 를 흉내 내서 비교
+ * 요청마다 조회 3번, 조회 1번 = 커넥션(200개, 공정 세마포어) 획득 후 QUERY_MILLIS 만큼 블로킹
+ * 요청 사이에 커넥션을 잡지 않는 대기(외부 API, 메일 등)도 REMOTE_MILLIS 만큼 포함
+ * <p>
+ * 실제 Mongo 기준 측정은 VirtualThreadLoadBenchmarkTest, 이 테스트는 스레드 모델 차이만 분리해서 봄
+ * BENCHMARK_SIMULATED_IO=true 일 때만 실행, 가상 스레드 측정은 Java 21 이상에서만 실행
+ * <p>
+ * 예) BENCHMARK_SIMULATED_IO=true ./gradlew -PjavaVersion=21 :content-service:test --tests '*SimulatedIoThreadingBenchmarkTest'
+ * <p>
+ * 측정 기록 (JDK 17.0.9, 1 vCPU, 3회): platform(200) 7,261 ~ 7,470 req/s, p50 349 ~ 368ms, p99 666 ~ 684ms
+ * 가상 스레드는 JDK 21 이 없어 아직 측정하지 못함 (Java 21 에서 위 명령으로 실행해 추가)
+ * 이론상 상한: 플랫폼 = 스레드 200 / 요청당 약 26ms ≈ 7,700 req/s, 가상 = 커넥션 200 / 요청당 커넥션 점유 6ms ≈ 33,000 req/s
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_SIMULATED_IO", matches = "true")
+class SimulatedIoThreadingBenchmarkTest {
+
+    private static final int CONCURRENT_REQUESTS = 5_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int CONNECTIONS = 200;
+    private static final int QUERIES_PER_REQUEST = 3;
+    private static final long QUERY_MILLIS = 2;
+    private static final long REMOTE_MILLIS = 20;
+    // 플랫폼 스레드 이론상 상한 (스레드 200 / 요청당 약 26ms)
+    private static final double PLATFORM_THROUGHPUT_CEILING = PLATFORM_THREADS * 1_000.0 / (QUERIES_PER_REQUEST * QUERY_MILLIS + REMOTE_MILLIS);
+
+    private final Semaphore connections = new Semaphore(CONNECTIONS, true);
+
+    @Test
+    void 동시_요청_5000개_플랫폼_스레드_와_가상_스레드_비교() {
+        double platformThroughput;
+        ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        try {
+            // 워밍업 (JIT)
+            run(platform);
+            platformThroughput = report("platform(" + PLATFORM_THREADS + ")", run(platform));
+            // 스레드 수가 병목 → 이론상 상한을 넘지 않음
+            assertThat(platformThroughput).isPositive()
+                    .isLessThanOrEqualTo(PLATFORM_THROUGHPUT_CEILING);
+        } finally {
+            platform.shutdownNow();
+        }
+
+        assumeTrue(Runtime.version()
+                .feature() >= 21, "가상 스레드는 Java 21 이상 필요");
+        try (SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("bench-")) {
+            virtual.setVirtualThreads(true);
+            run(virtual);
+            double virtualThroughput = report("virtual", run(virtual));
+            // 스레드 200개에 막히지 않으므로 같은 부하에서 처리량이 플랫폼 스레드보다 높아야 함
+            assertThat(virtualThroughput).isGreaterThan(platformThroughput);
+        }
+    }
+
+    /**
+     * 요청 5,000개를 한꺼번에 제출하고 모두 끝날 때까지 대기
+     */
+    private Result run(Executor executor) {
+        long[] latencies = new long[CONCURRENT_REQUESTS];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            int index = i;
+            long submittedAt = System.nanoTime();
+            futures.add(CompletableFuture.runAsync(() -> {
+                request();
+                latencies[index] = System.nanoTime() - submittedAt;
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(elapsed, latencies);
+    }
+
+    /**
+     * 요청 1개 (커넥션을 잡는 조회 3번 + 커넥션 없이 기다리는 원격 호출 1번)
+     */
+    private void request() {
+        try {
+            for (int q = 0; q < QUERIES_PER_REQUEST; q++) {
+                connections.acquire();
+                try {
+                    TimeUnit.MILLISECONDS.sleep(QUERY_MILLIS);
+                } finally {
+                    connections.release();
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(REMOTE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 결과 출력 후 처리량(req/s) 반환 (모든 요청이 끝났는지 확인)
+     */
+    private double report(String mode, Result result) {
+        assertThat(result.sortedLatencies()).hasSize(CONCURRENT_REQUESTS);
+        // 정렬된 지연의 최솟값이 0 이면 끝나지 않은 요청이 있음
+        assertThat(result.sortedLatencies()[0]).isPositive();
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("%s - %d concurrent requests: %.0f req/s, p50 %.1fms, p99 %.1fms, max %.1fms%n",
+                mode, CONCURRENT_REQUESTS, CONCURRENT_REQUESTS / seconds,
+                millis(result.percentile(0.50)), millis(result.percentile(0.99)), millis(result.percentile(1.0)));
+        return CONCURRENT_REQUESTS / seconds;
+    }
+
+    private double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Result(long elapsedNanos, long[] sortedLatencies) {
+
+        long percentile(double p) {
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)];
+        }
+    }
+}
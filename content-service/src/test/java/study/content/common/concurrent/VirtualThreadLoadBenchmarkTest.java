@@ -0,0 +1,205 @@
+package study.content.common.concurrent;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Indexes;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Sorts.descending;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 동시 요청 5,000개: 플랫폼 스레드(Tomcat 기본 최대 200) vs 가상 스레드 처리량/지연 비교
+ * 요청마다 상세 화면과 같은 블로킹 조회 3번 (게시글 + 좋아요 여부 + 댓글 첫 페이지)
+ * 지연은 요청 제출 시점부터 측정 (스레드를 기다린 시간 포함 = 클라이언트가 보는 지연)
+ * <p>
+ * 실제 MongoDB 가 필요하므로 BENCHMARK_MONGODB_URI 환경 변수가 있을 때만 실행
+ * 가상 스레드 측정은 Java 21 이상에서만 실행 (17 에서는 플랫폼 스레드 결과만 출력)
+ * <p>
+ * 예) BENCHMARK_MONGODB_URI=mongodb://localhost:27017 ./gradlew -PjavaVersion=21 :content-service:test --tests '*VirtualThreadLoadBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MONGODB_URI", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final String DATABASE = "board_threading_benchmark";
+    private static final int CONCURRENT_REQUESTS = 5_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int MONGO_POOL_SIZE = 200;
+    private static final int POSTS = 1_000;
+    private static final int COMMENTS_PER_POST = 20;
+    private static final int COMMENT_PAGE_SIZE = 10;
+
+    private MongoClient client;
+    private MongoCollection<Document> posts;
+    private MongoCollection<Document> likes;
+    private MongoCollection<Document> comments;
+    private final List<String> postIds = new ArrayList<>(POSTS);
+
+    @BeforeAll
+    void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(System.getenv("BENCHMARK_MONGODB_URI")))
+                .applyToConnectionPoolSettings(pool -> pool.maxSize(MONGO_POOL_SIZE)
+                        .maxWaitTime(60, TimeUnit.SECONDS))
+                .build());
+        MongoDatabase database = client.getDatabase(DATABASE);
+        database.drop();
+        posts = database.getCollection("posts");
+        likes = database.getCollection("likes");
+        comments = database.getCollection("comments");
+
+        Date now = new Date();
+        List<Document> postDocs = new ArrayList<>(POSTS);
+        List<Document> commentDocs = new ArrayList<>(POSTS * COMMENTS_PER_POST);
+        List<Document> likeDocs = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            ObjectId id = new ObjectId();
+            postIds.add(id.toHexString());
+            postDocs.add(new Document("_id", id)
+                    .append("title", "post " + i)
+                    .append("content", "x".repeat(500))
+                    .append("status", "ACTIVE")
+                    .append("createdAt", now));
+            likeDocs.add(new Document("targetId", id.toHexString())
+                    .append("targetType", "POST")
+                    .append("username", "user" + (i % 100)));
+            for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                commentDocs.add(new Document("postId", id.toHexString())
+                        .append("content", "comment " + c)
+                        .append("status", "ACTIVE")
+                        .append("createdAt", new Date(now.getTime() + c)));
+            }
+        }
+        posts.insertMany(postDocs);
+        likes.insertMany(likeDocs);
+        comments.insertMany(commentDocs);
+        likes.createIndex(Indexes.ascending("targetId", "targetType", "username"));
+        comments.createIndex(Indexes.compoundIndex(Indexes.ascending("postId", "status"), Indexes.descending("createdAt")));
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE)
+                    .drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void 동시_요청_5000개_플랫폼_스레드_와_가상_스레드_비교() {
+        ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        try {
+            // 워밍업 (커넥션 풀 채우기, JIT)
+            run(platform);
+            report("platform(" + PLATFORM_THREADS + ")", run(platform));
+        } finally {
+            platform.shutdownNow();
+        }
+
+        assumeTrue(Runtime.version()
+                .feature() >= 21, "가상 스레드는 Java 21 이상 필요");
+        try (SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("bench-")) {
+            virtual.setVirtualThreads(true);
+            run(virtual);
+            report("virtual", run(virtual));
+        }
+    }
+
+    /**
+     * 요청 5,000개를 한꺼번에 제출하고 모두 끝날 때까지 대기
+     */
+    private Result run(Executor executor) {
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[CONCURRENT_REQUESTS];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            int index = i;
+            long submittedAt = System.nanoTime();
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    postDetail(postIds.get(index % POSTS), "user" + (index % 100));
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+                latencies[index] = System.nanoTime() - submittedAt;
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(elapsed, latencies, failures.get());
+    }
+
+    /**
+     * 상세 화면 요청 1개 (블로킹 조회 3번)
+     */
+    private void postDetail(String postId, String username) {
+        Document post = posts.find(eq("_id", new ObjectId(postId)))
+                .first();
+        assertThat(post).isNotNull();
+        likes.countDocuments(and(eq("targetId", postId), eq("targetType", "POST"), eq("username", username)),
+                new CountOptions().limit(1));
+        comments.find(and(eq("postId", postId), eq("status", "ACTIVE")))
+                .sort(descending("createdAt"))
+                .limit(COMMENT_PAGE_SIZE)
+                .into(new ArrayList<>());
+    }
+
+    /**
+     * 결과 출력 (모든 요청이 실패 없이 끝났는지 확인)
+     * 두 모드 모두 커넥션 풀(200)이 상한이라 처리량 우열은 단정하지 않음
+     */
+    private void report(String mode, Result result) {
+        assertThat(result.failures()).isZero();
+        // 정렬된 지연의 최솟값이 0 이면 끝나지 않은 요청이 있음
+        assertThat(result.sortedLatencies()[0]).isPositive();
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("%s - %d concurrent requests: %.0f req/s, p50 %.1fms, p99 %.1fms, max %.1fms%n",
+                mode, CONCURRENT_REQUESTS, CONCURRENT_REQUESTS / seconds,
+                millis(result.percentile(0.50)), millis(result.percentile(0.99)), millis(result.percentile(1.0)));
+    }
+
+    private double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Result(long elapsedNanos, long[] sortedLatencies, int failures) {
+
+        long percentile(double p) {
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package study.content.common.ranking;
+
+import org.junit.jupiter.api.Test;
+import study.content.common.enums.HotWindow;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HotScoreBoardTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * HOUR);
+    private final HotScoreBoard<String> board = new HotScoreBoard<>(12, now::get);
+
+    @Test
+    void 반감기가_지나면_점수가_절반이_된다() {
+        board.add("post", 100);
+        now.addAndGet(12 * HOUR);
+
+        assertThat(board.score("post", HotWindow.ALL)).isCloseTo(50.0, within(1e-9));
+    }
+
+    @Test
+    void 오래된_활동보다_최근_활동이_높은_순위가_된다() {
+        board.add("old", 300);
+        now.addAndGet(48 * HOUR);
+        board.add("new", 30);
+
+        assertThat(board.top(HotWindow.ALL, 10))
+                .extracting(HotScoreBoard.Ranked::key)
+                .containsExactly("new", "old");
+    }
+
+    @Test
+    void 구간_점수는_구간_안의_활동만_감쇠_없이_합산한다() {
+        board.add("post", 10);
+        now.addAndGet(30 * HOUR);
+        board.add("post", 1);
+
+        assertThat(board.score("post", HotWindow.DAY)).isEqualTo(1.0);
+        assertThat(board.score("post", HotWindow.WEEK)).isEqualTo(11.0);
+
+        now.addAndGet(7 * 24 * HOUR);
+        assertThat(board.score("post", HotWindow.WEEK)).isZero();
+    }
+
+    @Test
+    void 좋아요_취소로_0_이하가_되면_순위에서_빠진다() {
+        board.add("post", 5);
+        board.add("post", -5);
+
+        assertThat(board.top(HotWindow.DAY, 10)).isEmpty();
+    }
+
+    @Test
+    void rebase_후에도_점수가_유지되고_오래된_키는_정리된다() {
+        board.add("stale", 1);
+        now.addAndGet(8 * 24 * HOUR);
+        board.add("fresh", 40);
+        double before = board.score("fresh", HotWindow.ALL);
+
+        assertThat(board.maintain(0.01)).isEqualTo(1);
+        assertThat(board.score("fresh", HotWindow.ALL)).isCloseTo(before, within(1e-9));
+        assertThat(board.size()).isEqualTo(1);
+    }
+}
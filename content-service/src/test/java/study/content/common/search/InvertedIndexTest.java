@@ -0,0 +1,139 @@
+package study.content.common.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void 공백으로_구분한_항목은_모두_포함해야_한다() {
+        add("1", 1, "free", "스프링 질문", "자유게시판에 올립니다");
+        add("2", 1, "free", "스프링 후기", "몽고디비 사용기");
+
+        assertThat(search("스프링 게시판", null)).containsExactly("1");
+    }
+
+    @Test
+    void OR_는_둘_중_하나만_포함해도_매칭된다() {
+        add("1", 1, "free", "스프링 질문", "본문");
+        add("2", 1, "free", "몽고디비 질문", "본문");
+        add("3", 1, "free", "자바 질문", "본문");
+
+        assertThat(search("질문 스프링 OR 몽고디비", null)).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    void 구문은_토큰이_연속으로_등장해야_매칭된다() {
+        add("1", 1, "free", "제목", "spring boot 설정");
+        add("2", 1, "free", "제목", "boot 이후 spring 설정");
+
+        assertThat(search("\"spring boot\"", null)).containsExactly("1");
+        assertThat(search("spring boot", null)).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    void 제목과_본문에_걸친_구문은_매칭되지_않는다() {
+        add("1", 1, "free", "자유", "게시판");
+
+        assertThat(search("\"자유게시판\"", null)).isEmpty();
+    }
+
+    @Test
+    void 제목에_등장하면_본문보다_높은_순위가_된다() {
+        add("body", 1, "free", "안내", "캐시 설정 방법");
+        add("title", 1, "free", "캐시 설정", "안내");
+
+        assertThat(search("캐시", null)).containsExactly("title", "body");
+    }
+
+    @Test
+    void 카테고리로_필터링한다() {
+        add("1", 1, "free", "캐시 질문", "본문");
+        add("2", 1, "qna", "캐시 질문", "본문");
+
+        assertThat(search("캐시", "qna")).containsExactly("2");
+        assertThat(search("캐시", "unknown")).isEmpty();
+    }
+
+    @Test
+    void 수정하면_이전_내용으로는_검색되지_않고_오래된_버전은_무시한다() {
+        add("1", 1, "free", "스프링", "본문");
+        add("1", 2, "free", "몽고디비", "본문");
+
+        assertThat(index.add(InvertedIndex.prepare("1", 1, "free", "스프링", "본문"))).isFalse();
+        assertThat(search("스프링", null)).isEmpty();
+        assertThat(search("몽고디비", null)).containsExactly("1");
+    }
+
+    @Test
+    void 삭제_후_압축해도_남은_문서는_그대로_검색된다() {
+        for (int i = 0; i < 500; i++) {
+            add("post-" + i, 1, i % 2 == 0 ? "even" : "odd", "공통 제목 " + i, "공통 본문 내용 " + i);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            index.remove("post-" + i);
+        }
+        InvertedIndex.SearchHits before = index.search(SearchQuery.parse("공통 본문"), "even", 0, 1_000);
+
+        index.compact();
+
+        assertThat(index.deadDocs()).isZero();
+        assertThat(index.search(SearchQuery.parse("공통 본문"), "even", 0, 1_000)
+                .keys()).containsExactlyInAnyOrderElementsOf(before.keys());
+        assertThat(before.total()).isEqualTo(166);
+    }
+
+    @Test
+    void 페이지_구간과_전체_매칭_수를_반환한다() {
+        for (int i = 0; i < 25; i++) {
+            add("post-" + i, 1, "free", "공지", "본문");
+        }
+
+        InvertedIndex.SearchHits hits = index.search(SearchQuery.parse("공지"), null, 20, 10);
+
+        // 점수가 같으면 나중에 색인된 문서 우선
+        assertThat(hits.total()).isEqualTo(25);
+        assertThat(hits.keys()).containsExactly("post-4", "post-3", "post-2", "post-1", "post-0");
+    }
+
+    @Test
+    void 스냅샷으로_저장한_뒤_읽어도_같은_결과와_워터마크를_유지한다(@TempDir Path directory) throws IOException {
+        for (int i = 0; i < 300; i++) {
+            add("post-" + i, i, "cat-" + (i % 3), "스냅샷 제목 " + i, "긴 본문 ".repeat(i % 20) + "snapshot " + i);
+        }
+        index.remove("post-7");
+        index.advanceWatermark(12_345L);
+        Path path = directory.resolve("index.bin");
+
+        index.writeSnapshot(path);
+        InvertedIndex loaded = InvertedIndex.readSnapshot(path);
+
+        assertThat(loaded.watermark()).isEqualTo(12_345L);
+        assertThat(loaded.liveDocs()).isEqualTo(299);
+        for (String query : new String[]{"스냅샷", "\"긴 본문\"", "snapshot OR 제목"}) {
+            assertThat(loaded.search(SearchQuery.parse(query), "cat-1", 0, 1_000))
+                    .isEqualTo(index.search(SearchQuery.parse(query), "cat-1", 0, 1_000));
+        }
+        // 로딩한 인덱스에도 계속 추가 가능
+        loaded.add(InvertedIndex.prepare("new", 1, "cat-1", "스냅샷 이후", "추가"));
+        assertThat(loaded.search(SearchQuery.parse("이후"), null, 0, 10)
+                .keys()).containsExactly("new");
+    }
+
+    private void add(String key, long version, String category, String title, String content) {
+        index.add(InvertedIndex.prepare(key, version, category, title, content));
+    }
+
+    private List<String> search(String query, String category) {
+        return index.search(SearchQuery.parse(query), category, 0, 100)
+                .keys();
+    }
+}
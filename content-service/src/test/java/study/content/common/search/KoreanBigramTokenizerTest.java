@@ -0,0 +1,43 @@
+package study.content.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanBigramTokenizerTest {
+
+    @Test
+    void 한글은_bigram_과_unigram_으로_색인한다() {
+        assertThat(KoreanBigramTokenizer.indexTokens("게시판"))
+                .containsExactly("게", "시", "판", "게시", "시판");
+    }
+
+    @Test
+    void 검색어는_bigram_만_사용하고_한_글자면_unigram_을_사용한다() {
+        assertThat(KoreanBigramTokenizer.queryTokens("게시판")).containsExactly("게시", "시판");
+        assertThat(KoreanBigramTokenizer.queryTokens("글")).containsExactly("글");
+    }
+
+    @Test
+    void 조사가_붙은_본문도_검색어_토큰을_모두_포함한다() {
+        assertThat(KoreanBigramTokenizer.indexTokens("자유게시판에서 만나요"))
+                .containsAll(KoreanBigramTokenizer.queryTokens("게시판"));
+    }
+
+    @Test
+    void 영문과_숫자는_소문자_단어로_분리하고_기호는_무시한다() {
+        assertThat(KoreanBigramTokenizer.queryTokens("Spring-Boot 3.2 스프링"))
+                .containsExactly("spring", "boot", "3", "2", "스프", "프링");
+    }
+
+    @Test
+    void 전각_문자는_반각으로_정규화한다() {
+        assertThat(KoreanBigramTokenizer.queryTokens("ＪＡＶＡ")).containsExactly("java");
+    }
+
+    @Test
+    void 검색_가능한_문자가_없으면_빈_목록() {
+        assertThat(KoreanBigramTokenizer.queryTokens("  !!? ")).isEmpty();
+        assertThat(KoreanBigramTokenizer.queryTokens(null)).isEmpty();
+    }
+}
@@ -0,0 +1,46 @@
+package study.content.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlainTextTest {
+
+    @Test
+    void 태그를_제거하고_블록_경계는_공백으로_남긴다() {
+        String text = PlainText.of("<p>첫 문단</p><p><strong>둘째</strong> 문단<br>끝</p>");
+
+        assertThat(text).isEqualTo("첫 문단 둘째 문단 끝");
+    }
+
+    @Test
+    void script_와_style_내용은_버린다() {
+        String text = PlainText.of("<style>p{color:red}</style>본문<script>alert(1)</script>");
+
+        assertThat(text).isEqualTo("본문");
+    }
+
+    @Test
+    void 엔티티를_복원한다() {
+        String text = PlainText.of("a &lt;b&gt; &amp;&nbsp;c &#44608; &#x1F600; &unknown;");
+
+        assertThat(text).isEqualTo("a <b> & c 김 😀 &unknown;");
+    }
+
+    @Test
+    void 발췌문은_단어_경계에서_자르고_말줄임표를_붙인다() {
+        String html = "<p>스프링 부트에서 캐시를 적용하는 방법</p>";
+
+        assertThat(PlainText.excerpt(html, 12)).isEqualTo("스프링 부트에서 캐시를…");
+        assertThat(PlainText.excerpt(html, 11)).isEqualTo("스프링 부트에서…");
+        assertThat(PlainText.excerpt("<p>짧은 글</p>", 12)).isEqualTo("짧은 글");
+        assertThat(PlainText.excerpt(null, 12)).isEmpty();
+    }
+
+    @Test
+    void 발췌문은_이모지_중간에서_자르지_않는다() {
+        String excerpt = PlainText.excerpt("가😀나다", 2);
+
+        assertThat(excerpt).isEqualTo("가…");
+    }
+}
@@ -0,0 +1,61 @@
+package study.content.common.search;
+
+import org.junit.jupiter.api.Test;
+import study.content.common.search.PrefixSuggestIndex.Entry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixSuggestIndexTest {
+
+    @Test
+    void 겹받침과_겹모음은_낱자로_분해한다() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("  Spring   부트 ")).isEqualTo("spring ㅂㅜㅌㅡ");
+    }
+
+    @Test
+    void 입력_중인_음절도_접두사로_매칭된다() {
+        PrefixSuggestIndex index = PrefixSuggestIndex.build(List.of(
+                new Entry("1", "닭갈비 맛집", 10),
+                new Entry("2", "가방 추천", 5)
+        ), 10);
+
+        assertThat(titles(index, "달")).containsExactly("닭갈비 맛집");
+        assertThat(titles(index, "닭ㄱ")).containsExactly("닭갈비 맛집");
+        // 받침이 다음 음절 초성으로 넘어가는 입력
+        assertThat(titles(index, "갑")).containsExactly("가방 추천");
+        assertThat(titles(index, "ㄱ")).containsExactly("가방 추천");
+    }
+
+    @Test
+    void 제목_중간_단어로도_매칭된다() {
+        PrefixSuggestIndex index = PrefixSuggestIndex.build(List.of(new Entry("1", "스프링 캐시 정리", 1)), 10);
+
+        assertThat(titles(index, "캐")).containsExactly("스프링 캐시 정리");
+        assertThat(titles(index, "시 정")).isEmpty();
+    }
+
+    @Test
+    void 인기_가중치_순으로_노드별_상위_항목만_반환한다() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            entries.add(new Entry("post-" + i, "공지 " + i, i));
+        }
+        PrefixSuggestIndex index = PrefixSuggestIndex.build(entries, 3);
+
+        assertThat(titles(index, "공")).containsExactly("공지 49", "공지 48", "공지 47");
+        assertThat(titles(index, "공지 1")).containsExactly("공지 19", "공지 18", "공지 17");
+        assertThat(titles(index, "없음")).isEmpty();
+    }
+
+    private List<String> titles(PrefixSuggestIndex index, String prefix) {
+        return index.lookup(HangulJamo.decompose(prefix))
+                .stream()
+                .map(Entry::title)
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package study.content.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlighterTest {
+
+    @Test
+    void 겹치는_토큰_구간은_하나의_em_으로_감싼다() {
+        String html = SearchHighlighter.highlight("자유게시판 공지", KoreanBigramTokenizer.queryTokens("게시판"), 100);
+
+        assertThat(html).isEqualTo("자유<em>게시판</em> 공지");
+    }
+
+    @Test
+    void 대소문자를_무시하고_원문_표기를_유지한다() {
+        String html = SearchHighlighter.highlight("Spring Boot", List.of("spring"), 100);
+
+        assertThat(html).isEqualTo("<em>Spring</em> Boot");
+    }
+
+    @Test
+    void 원문의_HTML_은_이스케이프한다() {
+        String html = SearchHighlighter.highlight("<script>검색</script>", List.of("검색"), 100);
+
+        assertThat(html).isEqualTo("&lt;script&gt;<em>검색</em>&lt;/script&gt;");
+    }
+
+    @Test
+    void 긴_본문은_첫_매칭_주변만_잘라낸다() {
+        String text = "가".repeat(100) + "검색어" + "나".repeat(100);
+
+        String html = SearchHighlighter.highlight(text, List.of("검색"), 20);
+
+        assertThat(html).startsWith("…")
+                .endsWith("…")
+                .contains("<em>검색</em>");
+    }
+
+    @Test
+    void 매칭이_없으면_null() {
+        assertThat(SearchHighlighter.highlight("공지사항", List.of("검색"), 100)).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package study.content.common.sketch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 100_000, 1_000_000})
+    void 고유_개수를_2퍼센트_오차_안에서_추정한다(int cardinality) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < cardinality; i++) {
+            sketch.offer(Murmur3.hash64("user:" + i));
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(cardinality, within(Math.max(1.0, cardinality * 0.02)));
+    }
+
+    @Test
+    void 같은_조회자가_반복_조회해도_한_번만_센다() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer(Murmur3.hash64("user:tester"));
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(1);
+    }
+
+    @Test
+    void 병합_결과는_합집합을_추정한다() {
+        HyperLogLog a = new HyperLogLog();
+        HyperLogLog b = new HyperLogLog();
+        for (int i = 0; i < 50_000; i++) {
+            a.offer(Murmur3.hash64("user:" + i));
+            b.offer(Murmur3.hash64("user:" + (i + 25_000)));
+        }
+
+        a.merge(b);
+
+        assertThat((double) a.estimate()).isCloseTo(75_000, within(75_000 * 0.02));
+    }
+
+    @Test
+    void 직렬화_크기는_12KB_이고_복원하면_같은_스케치다() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 10_000; i++) {
+            sketch.offer(Murmur3.hash64("user:" + i));
+        }
+
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes).hasSize(12 * 1024);
+        assertThat(HyperLogLog.fromBytes(bytes)).isEqualTo(sketch);
+        assertThat(HyperLogLog.fromBytes(bytes)
+                .estimate()).isEqualTo(sketch.estimate());
+    }
+}
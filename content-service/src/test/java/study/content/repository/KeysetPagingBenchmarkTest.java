@@ -0,0 +1,134 @@
+package study.content.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import study.common.lib.util.KeysetCursor;
+import study.content.entity.Post;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * offset(skip/limit) vs 커서(키셋) 페이징 1,000번째 페이지 지연 비교
+ * 실제 MongoDB 가 필요하므로 BENCHMARK_MONGODB_URI 환경 변수가 있을 때만 실행
+ * <p>
+ * 예) BENCHMARK_MONGODB_URI=mongodb://localhost:27017 gradle :content-service:test --tests '*KeysetPagingBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MONGODB_URI", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPagingBenchmarkTest {
+
+    private static final String DATABASE = "board_paging_benchmark";
+    private static final int PAGE_SIZE = 20;
+    private static final int TARGET_PAGE = 1_000;
+    private static final int POSTS = (TARGET_PAGE + 1) * PAGE_SIZE;
+    private static final int RUNS = 30;
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private PostRepositoryCustomImpl repository;
+
+    @BeforeAll
+    void setUp() {
+        client = MongoClients.create(System.getenv("BENCHMARK_MONGODB_URI"));
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(Post.class);
+        repository = new PostRepositoryCustomImpl(mongoTemplate);
+
+        // 같은 createdAt 이 여러 건씩 생기도록 (동률 처리 확인)
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Document> docs = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            docs.add(new Document("_id", new ObjectId())
+                    .append("title", "post " + i)
+                    .append("content", "x".repeat(200))
+                    .append("author", "user" + (i % 50))
+                    .append("status", "ACTIVE")
+                    .append("createdAt", Date.from(base.plusSeconds(i / 3)
+                            .atZone(ZoneId.systemDefault())
+                            .toInstant())));
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class))
+                .insertMany(docs);
+        mongoTemplate.indexOps(Post.class)
+                .createIndex(new CompoundIndexDefinition(new Document("status", 1)
+                        .append("createdAt", -1)
+                        .append("_id", -1)));
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE)
+                    .drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void 천번째_페이지_offset_과_커서_지연_비교() {
+        Query offsetQuery = Query.query(Criteria.where("status")
+                        .is(Post.PostStatus.ACTIVE))
+                .with(PageRequest.of(TARGET_PAGE, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "_id")));
+
+        // 커서 모드로 999번째 페이지까지 넘겨 1,000번째 페이지 커서 확보 (동률이 있어도 중복/누락 없는지 확인)
+        KeysetCursor cursor = null;
+        int seen = 0;
+        for (int page = 0; page < TARGET_PAGE; page++) {
+            List<Post> posts = repository.findActivePostsByCursor(cursor, PAGE_SIZE);
+            seen += posts.size();
+            Post last = posts.get(posts.size() - 1);
+            cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+        }
+        assertThat(seen).isEqualTo(TARGET_PAGE * PAGE_SIZE);
+
+        KeysetCursor targetCursor = cursor;
+        List<Post> byOffset = mongoTemplate.find(offsetQuery, Post.class);
+        List<Post> byCursor = repository.findActivePostsByCursor(targetCursor, PAGE_SIZE);
+        assertThat(byCursor).extracting(Post::getId)
+                .containsExactlyElementsOf(byOffset.stream()
+                        .map(Post::getId)
+                        .toList());
+
+        double offsetMedian = medianMillis(() -> mongoTemplate.find(offsetQuery, Post.class));
+        double cursorMedian = medianMillis(() -> repository.findActivePostsByCursor(targetCursor, PAGE_SIZE));
+
+        System.out.printf("page %d (size %d, %d posts) median latency - offset: %.2fms, cursor: %.2fms%n",
+                TARGET_PAGE, PAGE_SIZE, POSTS, offsetMedian, cursorMedian);
+    }
+
+    private double medianMillis(Supplier<List<Post>> query) {
+        // 워밍업
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
@@ -0,0 +1,155 @@
+package study.content.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import study.content.common.search.KoreanBigramTokenizer;
+import study.content.entity.Post;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * $regex 스캔 vs bigram 텍스트 인덱스 검색 지연 비교 (기본 100만 건)
+ * 실제 MongoDB 가 필요하므로 BENCHMARK_MONGODB_URI 환경 변수가 있을 때만 실행
+ * <p>
+ * 예) BENCHMARK_MONGODB_URI=mongodb://localhost:27017 BENCHMARK_SEARCH_POSTS=1000000 \
+ * gradle :content-service:test --tests '*PostSearchBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MONGODB_URI", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchBenchmarkTest {
+
+    private static final String DATABASE = "board_search_benchmark";
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH = 10_000;
+    private static final int RUNS = 10;
+    private static final String KEYWORD = "게시판";
+    private static final String[] WORDS = {
+            "스프링", "몽고디비", "자바", "성능", "인덱스", "캐시", "서버", "배포", "테스트", "리뷰",
+            "질문", "답변", "공지", "모임", "후기", "추천", "개발", "프로젝트", "회고", "일정"
+    };
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private PostRepositoryCustomImpl repository;
+    private int posts;
+
+    @BeforeAll
+    void setUp() {
+        posts = Integer.parseInt(System.getenv()
+                .getOrDefault("BENCHMARK_SEARCH_POSTS", "1000000"));
+        client = MongoClients.create(System.getenv("BENCHMARK_MONGODB_URI"));
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(Post.class);
+        repository = new PostRepositoryCustomImpl(mongoTemplate);
+
+        // 1,000건 중 1건만 키워드 포함 (선택도가 높은 검색)
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class));
+        Random random = new Random(42);
+        List<Document> docs = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < posts; i++) {
+            String title = sentence(random, 4) + (i % 1_000 == 0 ? " 자유" + KEYWORD + " 모임" : "");
+            String content = sentence(random, 40);
+            docs.add(new Document("_id", new ObjectId())
+                    .append("title", title)
+                    .append("content", content)
+                    .append("titleTokens", KoreanBigramTokenizer.indexTokens(title))
+                    .append("contentTokens", KoreanBigramTokenizer.indexTokens(content))
+                    .append("status", "ACTIVE")
+                    .append("createdAt", new Date(1_700_000_000_000L + i * 1_000L)));
+            if (docs.size() == INSERT_BATCH) {
+                collection.insertMany(docs);
+                docs.clear();
+            }
+        }
+        if (!docs.isEmpty()) {
+            collection.insertMany(docs);
+        }
+        mongoTemplate.indexOps(Post.class)
+                .createIndex(TextIndexDefinition.builder()
+                        .onField("titleTokens", 5F)
+                        .onField("contentTokens")
+                        .withDefaultLanguage("none")
+                        .build());
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE)
+                    .drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void 정규식_검색과_텍스트_인덱스_검색_지연_비교() {
+        String pattern = Pattern.quote(KEYWORD);
+        Query regexQuery = Query.query(Criteria.where("status")
+                        .is(Post.PostStatus.ACTIVE)
+                        .orOperator(Criteria.where("title")
+                                .regex(pattern, "i"), Criteria.where("content")
+                                .regex(pattern, "i")))
+                .with(PageRequest.of(0, PAGE_SIZE + 1, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<String> tokens = KoreanBigramTokenizer.queryTokens(KEYWORD);
+
+        // 같은 게시글 집합을 찾는지 확인 (정렬 기준이 달라 집합으로 비교)
+        assertThat(repository.searchActivePosts(tokens, null, PageRequest.of(0, posts))
+                .getContent()).hasSize(mongoTemplate.find(Query.query(Criteria.where("title")
+                .regex(pattern)), Post.class)
+                .size());
+
+        double regexMedian = medianMillis(() -> mongoTemplate.find(regexQuery, Post.class));
+        double textMedian = medianMillis(() -> repository.searchActivePosts(tokens, null, PageRequest.of(0, PAGE_SIZE))
+                .getContent());
+
+        System.out.printf("search '%s' over %d posts median latency - regex: %.2fms, text index: %.2fms%n",
+                KEYWORD, posts, regexMedian, textMedian);
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)])
+                    .append(i % 7 == 6 ? "에서 " : " ");
+        }
+        return sb.toString()
+                .trim();
+    }
+
+    private double medianMillis(Supplier<List<Post>> query) {
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            query.get();
+        }
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
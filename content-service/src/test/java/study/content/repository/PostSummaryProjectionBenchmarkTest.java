@@ -0,0 +1,208 @@
+package study.content.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import study.content.common.search.KoreanBigramTokenizer;
+import study.content.common.search.PlainText;
+import study.content.dto.post.PostResponse;
+import study.content.dto.post.PostSummaryResponse;
+import study.content.entity.Post;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Projections.exclude;
+import static com.mongodb.client.model.Sorts.descending;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회: 전체 문서(PostResponse) vs 본문 제외 projection(PostSummaryResponse)
+ * Mongo → 서버 전송 바이트(BSON), 서버 → 클라이언트 응답 바이트(JSON), p99 지연 비교
+ * 실제 MongoDB 가 필요하므로 BENCHMARK_MONGODB_URI 환경 변수가 있을 때만 실행
+ * <p>
+ * 예) BENCHMARK_MONGODB_URI=mongodb://localhost:27017 gradle :content-service:test --tests '*PostSummaryProjectionBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MONGODB_URI", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSummaryProjectionBenchmarkTest {
+
+    private static final String DATABASE = "board_summary_benchmark";
+    private static final int POSTS = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int RUNS = 500;
+    private static final String[] WORDS = {
+            "스프링", "몽고디비", "자바", "성능", "인덱스", "캐시", "서버", "배포", "테스트", "리뷰"
+    };
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private PostRepositoryCustomImpl repository;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeAll
+    void setUp() {
+        client = MongoClients.create(System.getenv("BENCHMARK_MONGODB_URI"));
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(Post.class);
+        repository = new PostRepositoryCustomImpl(mongoTemplate);
+
+        // 본문은 에디터 HTML 약 3KB 수준
+        Random random = new Random(42);
+        List<Document> docs = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            String title = sentence(random, 5);
+            StringBuilder content = new StringBuilder();
+            for (int p = 0; p < 12; p++) {
+                content.append("<p>")
+                        .append(sentence(random, 30))
+                        .append("</p>");
+            }
+            docs.add(new Document("_id", new ObjectId())
+                    .append("title", title)
+                    .append("content", content.toString())
+                    .append("excerpt", PlainText.excerpt(content.toString(), Post.EXCERPT_LENGTH))
+                    .append("titleTokens", KoreanBigramTokenizer.indexTokens(title))
+                    .append("contentTokens", KoreanBigramTokenizer.indexTokens(content.toString()))
+                    .append("author", "user" + (i % 50))
+                    .append("viewCount", 0)
+                    .append("likeCount", 0L)
+                    .append("status", "ACTIVE")
+                    .append("createdAt", new Date(1_700_000_000_000L + i * 1_000L))
+                    .append("updatedAt", new Date(1_700_000_000_000L + i * 1_000L)));
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class))
+                .insertMany(docs);
+        mongoTemplate.indexOps(Post.class)
+                .createIndex(new CompoundIndexDefinition(new Document("status", 1)
+                        .append("createdAt", -1)
+                        .append("_id", -1)));
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE)
+                    .drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void 목록_첫_페이지_전체_문서와_요약_projection_비교() throws Exception {
+        Query fullQuery = Query.query(Criteria.where("status")
+                        .is(Post.PostStatus.ACTIVE))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(PAGE_SIZE);
+
+        // 1. Mongo → 서버 (BSON 바이트)
+        MongoCollection<RawBsonDocument> raw = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class))
+                .withDocumentClass(RawBsonDocument.class);
+        Bson sort = descending("createdAt", "_id");
+        long fullBson = bsonBytes(raw.find(eq("status", "ACTIVE"))
+                .sort(sort)
+                .limit(PAGE_SIZE));
+        long summaryBson = bsonBytes(raw.find(eq("status", "ACTIVE"))
+                .projection(exclude("content", "titleTokens", "contentTokens"))
+                .sort(sort)
+                .limit(PAGE_SIZE));
+
+        // 2. 서버 → 클라이언트 (JSON 바이트)
+        List<PostResponse> full = mongoTemplate.find(fullQuery, Post.class)
+                .stream()
+                .map(PostResponse::from)
+                .toList();
+        List<PostSummaryResponse> summaries = repository.findActivePostsByCursor(null, PAGE_SIZE)
+                .stream()
+                .map(PostSummaryResponse::from)
+                .toList();
+        assertThat(summaries).extracting(PostSummaryResponse::getId)
+                .containsExactlyElementsOf(full.stream()
+                        .map(PostResponse::getId)
+                        .toList());
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.getExcerpt()).isNotBlank());
+        int fullJson = objectMapper.writeValueAsBytes(full).length;
+        int summaryJson = objectMapper.writeValueAsBytes(summaries).length;
+
+        // 3. 조회 + 변환 + 직렬화 p99
+        double fullP99 = p99Millis(() -> serialize(mongoTemplate.find(fullQuery, Post.class)
+                .stream()
+                .map(PostResponse::from)
+                .toList()));
+        double summaryP99 = p99Millis(() -> serialize(repository.findActivePostsByCursor(null, PAGE_SIZE)
+                .stream()
+                .map(PostSummaryResponse::from)
+                .toList()));
+
+        System.out.printf("list page (size %d, %d posts)%n", PAGE_SIZE, POSTS);
+        System.out.printf("  mongo->server bson bytes - full: %d, summary: %d%n", fullBson, summaryBson);
+        System.out.printf("  server->client json bytes - full: %d, summary: %d%n", fullJson, summaryJson);
+        System.out.printf("  p99 latency - full: %.2fms, summary: %.2fms%n", fullP99, summaryP99);
+        assertThat(summaryBson).isLessThan(fullBson);
+        assertThat(summaryJson).isLessThan(fullJson);
+    }
+
+    private long bsonBytes(Iterable<RawBsonDocument> documents) {
+        long bytes = 0;
+        for (RawBsonDocument document : documents) {
+            bytes += document.getByteBuffer()
+                    .remaining();
+        }
+        return bytes;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double p99Millis(Supplier<?> query) {
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            query.get();
+        }
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(RUNS * 0.99) - 1];
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
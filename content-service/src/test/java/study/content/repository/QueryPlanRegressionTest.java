@@ -0,0 +1,285 @@
+package study.content.repository;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import study.common.lib.util.KeysetCursor;
+import study.content.entity.Comment;
+import study.content.entity.Post;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리 실행 계획 회귀 테스트
+ * 각 저장소 메서드가 실제로 보내는 명령을 가로채 explain 하고, 채택된 계획에 COLLSCAN(전체 스캔) 이나
+ * SORT(메모리 정렬) 단계가 있으면 실패 → 인덱스 선언 누락/쿼리 변경으로 인한 성능 회귀를 잡음
+ * 인덱스는 엔티티 어노테이션에서 그대로 생성 (auto-index-creation 과 동일)
+ * 실제 MongoDB 가 필요하므로 BENCHMARK_MONGODB_URI 환경 변수가 있을 때만 실행
+ * <p>
+ * 예) BENCHMARK_MONGODB_URI=mongodb://localhost:27017 gradle :content-service:test --tests '*QueryPlanRegressionTest'
+ * <p>
+ * 제외: searchActivePosts (텍스트 점수 정렬은 인덱스로 정렬할 수 없어 SORT 단계가 항상 있음)
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MONGODB_URI", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final String DATABASE = "board_query_plan";
+    private static final Set<String> EXPLAINABLE = Set.of("find", "count", "aggregate");
+    private static final Set<String> FORBIDDEN_STAGES = Set.of("COLLSCAN", "SORT");
+    // 명령에서 explain 에 넘기면 안 되는 세션/드라이버 필드
+    private static final Set<String> DRIVER_FIELDS = Set.of("$db", "lsid", "$clusterTime", "$readPreference", "txnNumber", "apiVersion");
+    private static final String AUTHOR = "user1";
+
+    private final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private PostRepository postRepository;
+    private CommentRepository commentRepository;
+
+    private String postId;
+    private String parentCommentId;
+    private List<String> postIds;
+
+    @BeforeAll
+    void setUp() {
+        CommandListener listener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (DATABASE.equals(event.getDatabaseName()) && EXPLAINABLE.contains(event.getCommandName())) {
+                    commands.add(event.getCommand()
+                            .clone());
+                }
+            }
+        };
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(System.getenv("BENCHMARK_MONGODB_URI")))
+                .addCommandListener(listener)
+                .build());
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(Post.class);
+        mongoTemplate.dropCollection(Comment.class);
+
+        // 엔티티에 선언된 인덱스만 생성
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter()
+                .getMappingContext();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        resolver.resolveIndexFor(Post.class)
+                .forEach(index -> mongoTemplate.indexOps(Post.class)
+                        .createIndex(index));
+        resolver.resolveIndexFor(Comment.class)
+                .forEach(index -> mongoTemplate.indexOps(Comment.class)
+                        .createIndex(index));
+
+        seed();
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(mongoTemplate);
+        postRepository = factory.getRepository(PostRepository.class, new PostRepositoryCustomImpl(mongoTemplate));
+        commentRepository = factory.getRepository(CommentRepository.class, new CommentRepositoryCustomImpl(mongoTemplate));
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (client != null) {
+            client.getDatabase(DATABASE)
+                    .drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void 게시글_목록_쿼리는_인덱스로_정렬한다() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 12, 0), new ObjectId().toHexString());
+        Sort latest = Sort.by("createdAt")
+                .descending();
+
+        assertIndexed(() -> postRepository.findAllActivePosts(PageRequest.of(3, 20, latest)));
+        assertIndexed(() -> postRepository.findByCategory("free", PageRequest.of(0, 20, latest)));
+        assertIndexed(() -> postRepository.findActivePosts(PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "viewCount"))));
+        assertIndexed(() -> postRepository.findActivePostsByCursor(null, 20));
+        assertIndexed(() -> postRepository.findActivePostsByCursor(cursor, 20));
+        assertIndexed(() -> postRepository.findActiveTitlesByCursor(cursor, 1000));
+    }
+
+    @Test
+    void 작성자별_게시글_쿼리는_인덱스를_사용한다() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 12, 0), new ObjectId().toHexString());
+
+        assertIndexed(() -> postRepository.findByAuthor(AUTHOR, PageRequest.of(0, 20, Sort.by("createdAt")
+                .descending())));
+        assertIndexed(() -> postRepository.findByAuthorByCursor(AUTHOR, cursor, 20));
+        assertIndexed(() -> postRepository.countByAuthorAndStatus(AUTHOR, "ACTIVE"));
+    }
+
+    @Test
+    void 게시글_단건_및_개수_쿼리는_인덱스를_사용한다() {
+        assertIndexed(() -> postRepository.countActivePosts());
+        assertIndexed(() -> postRepository.findActivePostById(postId));
+        assertIndexed(() -> postRepository.findActivePostsByIds(postIds));
+        assertIndexed(() -> postRepository.findActivePostsWithContentByIds(postIds));
+        assertIndexed(() -> postRepository.findLikeCountById(postId));
+        assertIndexed(() -> postRepository.findLikeCountsByIds(postIds));
+    }
+
+    @Test
+    void 댓글_목록_쿼리는_인덱스로_정렬한다() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 12, 0), new ObjectId().toHexString());
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            assertIndexed(() -> commentRepository.findRootCommentByPostId(postId, PageRequest.of(1, 20, Sort.by(direction, "createdAt"))));
+            assertIndexed(() -> commentRepository.findRootCommentsByCursor(postId, direction, cursor, 20));
+        }
+        assertIndexed(() -> commentRepository.findRepliesByParentId(postId, parentCommentId, PageRequest.of(0, 20)));
+        assertIndexed(() -> commentRepository.findRepliesByCursor(postId, parentCommentId, cursor, 20));
+        assertIndexed(() -> commentRepository.findByAuthor(AUTHOR, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        assertIndexed(() -> commentRepository.findByAuthorByCursor(AUTHOR, cursor, 20));
+    }
+
+    @Test
+    void 댓글_단건_개수_삭제용_쿼리는_인덱스를_사용한다() {
+        assertIndexed(() -> commentRepository.findActiveCommentById(parentCommentId));
+        assertIndexed(() -> commentRepository.countByAuthorAndStatus(AUTHOR, "ACTIVE"));
+        assertIndexed(() -> commentRepository.countRootCommentsByPostId(postId));
+        assertIndexed(() -> commentRepository.findReplyThreads(postId, List.of(parentCommentId), 3));
+        assertIndexed(() -> commentRepository.findActiveRepliesByParentId(parentCommentId));
+        assertIndexed(() -> commentRepository.findAllCommentsByPostIdIncludingDeleted(postId));
+        assertIndexed(() -> commentRepository.findAllActiveCommentsByPostId(postId));
+        assertIndexed(() -> commentRepository.findLikeCountById(parentCommentId));
+        assertIndexed(() -> commentRepository.findLikeCountsByIds(List.of(parentCommentId)));
+    }
+
+    // ======================= 헬퍼 메서드 =======================
+
+    /**
+     * 저장소 호출이 보낸 조회 명령마다 explain 후 금지 단계 확인
+     */
+    private void assertIndexed(Runnable repositoryCall) {
+        commands.clear();
+        repositoryCall.run();
+        assertThat(commands).as("조회 명령이 전송되어야 함")
+                .isNotEmpty();
+
+        for (BsonDocument command : commands) {
+            BsonDocument explainable = new BsonDocument();
+            command.forEach((key, value) -> {
+                if (!DRIVER_FIELDS.contains(key)) {
+                    explainable.append(key, value);
+                }
+            });
+            Document explain = client.getDatabase(DATABASE)
+                    .runCommand(new BsonDocument("explain", explainable)
+                            .append("verbosity", new BsonString("queryPlanner")));
+
+            List<String> stages = new ArrayList<>();
+            collectStages(explain, stages);
+            assertThat(stages).as("실행 계획: %s%n명령: %s", explain.toJson(), explainable.toJson())
+                    .isNotEmpty()
+                    .doesNotContainAnyElementsOf(FORBIDDEN_STAGES);
+        }
+    }
+
+    /**
+     * 채택된 계획의 단계 이름 수집 (rejectedPlans 제외, find/count/aggregate 형식 모두)
+     */
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            document.forEach((key, value) -> {
+                if ("rejectedPlans".equals(key)) {
+                    return;
+                }
+                if ("stage".equals(key) && value instanceof String stage) {
+                    stages.add(stage);
+                } else {
+                    collectStages(value, stages);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collectStages(item, stages));
+        }
+    }
+
+    /**
+     * 선택도가 현실적인 소량 데이터 (활성/삭제 혼합, 작성자/카테고리 분산, 댓글/대댓글)
+     */
+    private void seed() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Document> posts = new ArrayList<>();
+        postIds = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            ObjectId id = new ObjectId();
+            Date createdAt = date(base.plusMinutes(i));
+            posts.add(new Document("_id", id)
+                    .append("title", "post " + i)
+                    .append("excerpt", "excerpt " + i)
+                    .append("content", "content " + i)
+                    .append("author", "user" + (i % 50))
+                    .append("category", i % 5 == 0 ? "free" : "qna")
+                    .append("viewCount", i % 300)
+                    .append("likeCount", 0L)
+                    .append("commentCount", 0L)
+                    .append("status", i % 10 == 0 ? "DELETED" : "ACTIVE")
+                    .append("createdAt", createdAt)
+                    .append("updatedAt", createdAt));
+            if (i < 20) {
+                postIds.add(id.toHexString());
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class))
+                .insertMany(posts);
+        postId = postIds.get(1);
+
+        List<Document> comments = new ArrayList<>();
+        List<String> parents = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            ObjectId id = new ObjectId();
+            Document comment = new Document("_id", id)
+                    .append("postId", postIds.get(i % postIds.size()))
+                    .append("author", "user" + (i % 50))
+                    .append("content", "comment " + i)
+                    .append("likeCount", 0L)
+                    .append("status", i % 10 == 0 ? "DELETED" : "ACTIVE")
+                    .append("createdAt", date(base.plusSeconds(i)))
+                    .append("updatedAt", date(base.plusSeconds(i)));
+            if (i % 4 == 0 || parents.isEmpty()) {
+                parents.add(id.toHexString());
+            } else {
+                comment.append("parentCommentId", parents.get(parents.size() - 1));
+            }
+            comments.add(comment);
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Comment.class))
+                .insertMany(comments);
+        parentCommentId = parents.get(1);
+    }
+
+    private static Date date(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault())
+                .toInstant());
+    }
+}
@@ -0,0 +1,327 @@
+package study.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import study.common.lib.exception.BaseException;
+import study.common.lib.response.PageResponse;
+import study.common.lib.util.TotalCountCache;
+import study.content.common.concurrent.FanoutExecutor;
+import study.content.dto.comment.CommentRequest;
+import study.content.dto.comment.CommentResponse;
+import study.content.entity.Comment;
+import study.content.entity.Like.TargetType;
+import study.content.entity.Post;
+import study.content.repository.CommentRepository;
+import study.content.repository.CommentRepositoryCustom.ReplyThread;
+import study.content.repository.LikeRepository;
+import study.content.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CommentService 좋아요 정보 조회 테스트
+ * Repository 호출 1회 = Mongo 명령 1회로 보고, 페이지 크기와 무관하게 호출 수가 일정한지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommentServiceTest {
+
+    private static final String POST_ID = "post-1";
+    private static final String USERNAME = "tester";
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private HotPostRanking hotPostRanking;
+
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        LikeService likeService = new LikeService(likeRepository, postRepository, commentRepository, likeCountBuffer, hotPostRanking,
+                new FanoutExecutor(Runnable::run, () -> {
+                }));
+        commentService = new CommentService(commentRepository, postRepository, likeRepository, likeService, hotPostRanking,
+                new TotalCountCache(Duration.ofSeconds(30), 100));
+
+        when(postRepository.findActivePostById(POST_ID)).thenReturn(Optional.of(Post.builder()
+                .id(POST_ID)
+                .build()));
+        // 반영 대기 delta 없음 → 문서의 likeCount 그대로
+        when(likeCountBuffer.currentCount(any(), anyString(), any())).thenAnswer(invocation -> invocation.<LongSupplier>getArgument(2)
+                .getAsLong());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 최상위_댓글_조회시_Mongo_명령_수는_페이지_크기와_무관하다(int pageSize) {
+        List<Comment> comments = comments(pageSize, null);
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new PageImpl<>(comments, PageRequest.of(0, pageSize), pageSize));
+        stubLikes();
+
+        commentService.getRootComments(POST_ID, 0, pageSize, "LATEST", USERNAME);
+
+        // 게시글 확인 1 + 댓글 페이지 1 + 좋아요 여부 $in 1 (좋아요 수는 문서의 likeCount)
+        assertThat(mongoCommandCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 대댓글_조회시_Mongo_명령_수는_페이지_크기와_무관하다(int pageSize) {
+        Comment parent = comment("parent", null);
+        when(commentRepository.findActiveCommentById("parent")).thenReturn(Optional.of(parent));
+
+        List<Comment> replies = comments(pageSize, "parent");
+        when(commentRepository.findRepliesByParentId(eq(POST_ID), eq("parent"), any()))
+                .thenReturn(new PageImpl<>(replies, PageRequest.of(0, pageSize), pageSize));
+        stubLikes();
+
+        commentService.getReplies(POST_ID, "parent", 0, pageSize, USERNAME);
+
+        // 부모 댓글 확인 1 + 대댓글 페이지 1 + 좋아요 여부 $in 1 (좋아요 수는 문서의 likeCount)
+        assertThat(mongoCommandCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 좋아요_정보가_댓글별로_채워진다() {
+        List<Comment> comments = List.of(comment("comment-0", null, 5L), comment("comment-1", null, null), comment("comment-2", null, 1L));
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new PageImpl<>(comments, PageRequest.of(0, 10), 3));
+        when(likeRepository.findLikedTargetIds(any(), eq(TargetType.COMMENT), eq(USERNAME)))
+                .thenReturn(Set.of("comment-2"));
+        // comment-2 는 아직 반영되지 않은 좋아요 1개가 버퍼에 있음
+        when(likeCountBuffer.currentCount(eq(TargetType.COMMENT), eq("comment-2"), any())).thenAnswer(invocation -> invocation.<LongSupplier>getArgument(2)
+                .getAsLong() + 1);
+
+        PageResponse<CommentResponse> result = commentService.getRootComments(POST_ID, 0, 10, "LATEST", USERNAME);
+
+        assertThat(result.getContent())
+                .extracting(CommentResponse::getId, CommentResponse::getLikeCount, CommentResponse::getIsLikedByCurrentUser)
+                .containsExactly(
+                        tuple("comment-0", 5L, false),
+                        tuple("comment-1", 0L, false),
+                        tuple("comment-2", 2L, true)
+                );
+        // 좋아요 수는 스레드 조회와 같은 카운터 기준 (좋아요 컬렉션 집계 없음)
+        verify(likeRepository, never()).countByTargetIds(any(), any());
+    }
+
+    @Test
+    void 비로그인_사용자는_좋아요_여부를_조회하지_않는다() {
+        List<Comment> comments = comments(10, null);
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new PageImpl<>(comments, PageRequest.of(0, 10), 10));
+        stubLikes();
+
+        PageResponse<CommentResponse> result = commentService.getRootComments(POST_ID, 0, 10, "LATEST", null);
+
+        assertThat(result.getContent()).allMatch(comment -> !comment.getIsLikedByCurrentUser());
+        assertThat(mongoCommandCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 다음_페이지가_있으면_전체_개수는_캐시되어_count_를_반복하지_않는다() {
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new SliceImpl<>(comments(10, null), PageRequest.of(0, 10), true));
+        when(commentRepository.countRootCommentsByPostId(POST_ID)).thenReturn(25L);
+        stubLikes();
+
+        PageResponse<CommentResponse> first = commentService.getRootComments(POST_ID, 0, 10, "LATEST", USERNAME);
+        PageResponse<CommentResponse> second = commentService.getRootComments(POST_ID, 0, 10, "LATEST", USERNAME);
+
+        assertThat(first.getTotalType()).isEqualTo(PageResponse.TotalType.EXACT);
+        assertThat(second.getTotalType()).isEqualTo(PageResponse.TotalType.ESTIMATED);
+        assertThat(second.getTotalElements()).isEqualTo(25L);
+        assertThat(second.getTotalPages()).isEqualTo(3);
+        verify(commentRepository, times(1)).countRootCommentsByPostId(POST_ID);
+    }
+
+    @Test
+    void 댓글을_작성하면_전체_개수_캐시가_무효화된다() {
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new SliceImpl<>(comments(10, null), PageRequest.of(0, 10), true));
+        when(commentRepository.countRootCommentsByPostId(POST_ID)).thenReturn(25L);
+        when(commentRepository.save(any(Comment.class))).thenReturn(comment("new-comment", null));
+        stubLikes();
+
+        commentService.getRootComments(POST_ID, 0, 10, "LATEST", USERNAME);
+        commentService.createComment(new CommentRequest(POST_ID, "content", null), USERNAME);
+        PageResponse<CommentResponse> result = commentService.getRootComments(POST_ID, 0, 10, "LATEST", USERNAME);
+
+        assertThat(result.getTotalType()).isEqualTo(PageResponse.TotalType.EXACT);
+        verify(commentRepository, times(2)).countRootCommentsByPostId(POST_ID);
+    }
+
+    @Test
+    void 댓글을_작성하면_게시글_댓글_수가_1_증가한다() {
+        when(commentRepository.findActiveCommentById("parent")).thenReturn(Optional.of(comment("parent", null)));
+        when(commentRepository.save(any(Comment.class))).thenReturn(comment("reply", "parent"));
+
+        commentService.createComment(new CommentRequest(POST_ID, "content", "parent"), USERNAME);
+
+        verify(postRepository, times(1)).incrementCommentCount(POST_ID, 1);
+    }
+
+    @Test
+    void 최상위_댓글을_삭제하면_실제로_삭제된_댓글_수만큼_차감한다() {
+        Comment parent = comment("parent", null);
+        when(commentRepository.findActiveCommentById("parent")).thenReturn(Optional.of(parent));
+        when(commentRepository.findActiveRepliesByParentId("parent")).thenReturn(comments(2, "parent"));
+        // 대댓글 하나는 그 사이 다른 요청으로 삭제됨
+        when(commentRepository.softDeleteActive(anyCollection())).thenReturn(2L);
+
+        commentService.deleteComment("parent", "author");
+
+        verify(commentRepository).softDeleteActive(List.of("comment-0", "comment-1", "parent"));
+        verify(postRepository, times(1)).incrementCommentCount(POST_ID, -2);
+        // 좋아요도 대상마다가 아니라 한 번에 삭제
+        verify(likeRepository, times(1)).deleteByTargetIds(List.of("comment-0", "comment-1", "parent"), TargetType.COMMENT);
+        verify(likeRepository, never()).deleteByTargetIdAndTargetType(anyString(), any());
+    }
+
+    @Test
+    void 이미_삭제된_댓글은_댓글_수를_차감하지_않는다() {
+        when(commentRepository.findActiveCommentById("reply")).thenReturn(Optional.of(comment("reply", "parent")));
+        when(commentRepository.softDeleteActive(anyCollection())).thenReturn(0L);
+
+        commentService.deleteComment("reply", "author");
+
+        verify(postRepository, never()).incrementCommentCount(anyString(), anyLong());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 스레드_조회시_Mongo_명령_수는_페이지_크기와_무관하다(int pageSize) {
+        List<Comment> roots = comments(pageSize, null);
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new PageImpl<>(roots, PageRequest.of(0, pageSize), pageSize));
+        when(commentRepository.findReplyThreads(eq(POST_ID), anyCollection(), eq(3))).thenReturn(roots.stream()
+                .collect(Collectors.toMap(Comment::getId, root -> new ReplyThread(5L, comments(3, root.getId())))));
+        stubLikes();
+
+        commentService.getCommentThreads(POST_ID, 0, pageSize, "LATEST", 3, USERNAME);
+
+        // 댓글 페이지 1 + 대댓글 수/미리보기 집계 1 + 좋아요 여부 $in 1 (전체 개수, 댓글마다 대댓글/좋아요 조회 없음)
+        assertThat(mongoCommandCount()).isEqualTo(3);
+        verify(commentRepository, never()).countRootCommentsByPostId(anyString());
+        verify(likeRepository, never()).countByTargetIds(any(), any());
+    }
+
+    @Test
+    void 스레드는_댓글별_대댓글_수와_미리보기를_포함한다() {
+        Comment withReplies = comment("root-0", null);
+        Comment withoutReplies = comment("root-1", null);
+        when(commentRepository.findRootCommentByPostId(eq(POST_ID), any()))
+                .thenReturn(new PageImpl<>(List.of(withReplies, withoutReplies), PageRequest.of(0, 10), 2));
+        when(commentRepository.findReplyThreads(POST_ID, List.of("root-0", "root-1"), 2)).thenReturn(Map.of("root-0", new ReplyThread(5L, List.of(
+                comment("reply-0", "root-0"), comment("reply-1", "root-0")))));
+        when(likeRepository.findLikedTargetIds(List.of("root-0", "root-1", "reply-0", "reply-1"), TargetType.COMMENT, USERNAME))
+                .thenReturn(Set.of("reply-1"));
+
+        PageResponse<CommentResponse> result = commentService.getCommentThreads(POST_ID, 0, 10, "LATEST", 2, USERNAME);
+
+        assertThat(result.getContent()).extracting(CommentResponse::getId, CommentResponse::getReplyCount)
+                .containsExactly(tuple("root-0", 5L), tuple("root-1", 0L));
+        assertThat(result.getContent()
+                .get(0)
+                .getReplies()).extracting(CommentResponse::getId, CommentResponse::getIsLikedByCurrentUser)
+                .containsExactly(tuple("reply-0", false), tuple("reply-1", true));
+        assertThat(result.getContent()
+                .get(1)
+                .getReplies()).isEmpty();
+    }
+
+    @Test
+    void 스레드_조회시_댓글이_없으면_게시글_존재를_확인한다() {
+        when(commentRepository.findRootCommentByPostId(eq("missing"), any()))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+        when(postRepository.findActivePostById("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> commentService.getCommentThreads("missing", 0, 10, "LATEST", 3, USERNAME))
+                .isInstanceOf(BaseException.class);
+        verify(commentRepository, never()).findReplyThreads(anyString(), anyCollection(), anyInt());
+    }
+
+    // ======================= 헬퍼 메서드 =======================
+
+    private void stubLikes() {
+        when(likeRepository.findLikedTargetIds(any(), eq(TargetType.COMMENT), anyString())).thenReturn(Set.of());
+    }
+
+    private long mongoCommandCount() {
+        return mockingDetails(commentRepository).getInvocations()
+                .size()
+                + mockingDetails(postRepository).getInvocations()
+                .size()
+                + mockingDetails(likeRepository).getInvocations()
+                .size();
+    }
+
+    private List<Comment> comments(int count, String parentCommentId) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> comment("comment-" + i, parentCommentId))
+                .toList();
+    }
+
+    private Comment comment(String id, String parentCommentId) {
+        return comment(id, parentCommentId, 0L);
+    }
+
+    private Comment comment(String id, String parentCommentId, Long likeCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return Comment.builder()
+                .id(id)
+                .postId(POST_ID)
+                .author("author")
+                .content("content " + id)
+                .parentCommentId(parentCommentId)
+                .likeCount(likeCount)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
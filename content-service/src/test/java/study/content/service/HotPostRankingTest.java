@@ -0,0 +1,147 @@
+package study.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import study.common.lib.exception.BaseException;
+import study.content.common.enums.HotWindow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HOT 랭킹 스냅샷/커서 페이징 테스트
+ * 가중치: 조회 1, 좋아요 5, 댓글 10
+ */
+@ExtendWith(MockitoExtension.class)
+class HotPostRankingTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private HotPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new HotPostRanking(mongoTemplate, 12, 1, 5, 10, 1000);
+    }
+
+    @Test
+    void 조회_좋아요_댓글_가중치를_합산해_정렬한다() {
+        ranking.onViewsApplied(Map.of("viewed", 12L));
+        ranking.onPostLiked("liked", 1);
+        ranking.onPostLiked("liked", 1);
+        ranking.onCommentCreated("commented");
+        ranking.refresh();
+
+        assertThat(ranking.page(HotWindow.ALL, null, 10)
+                .postIds()).containsExactly("viewed", "commented", "liked");
+    }
+
+    @Test
+    void 커서로_이어지는_페이지는_같은_스냅샷_기준이다() {
+        for (int i = 0; i < 5; i++) {
+            ranking.onViewsApplied(Map.of("post" + i, (long) (10 - i)));
+        }
+        ranking.refresh();
+
+        HotPostRanking.RankingPage first = ranking.page(HotWindow.DAY, null, 2);
+        // 첫 페이지 이후 순위가 바뀌어도 다음 페이지는 기존 스냅샷 기준
+        ranking.onViewsApplied(Map.of("post4", 100L));
+        ranking.refresh();
+
+        List<String> all = new ArrayList<>(first.postIds());
+        String cursor = first.nextCursor();
+        while (cursor != null) {
+            HotPostRanking.RankingPage next = ranking.page(HotWindow.DAY, cursor, 2);
+            all.addAll(next.postIds());
+            cursor = next.nextCursor();
+        }
+
+        assertThat(all).containsExactly("post0", "post1", "post2", "post3", "post4");
+        assertThat(ranking.page(HotWindow.DAY, null, 1)
+                .postIds()).containsExactly("post4");
+    }
+
+    @Test
+    void 삭제된_게시글은_다음_스냅샷에서_제외된다() {
+        ranking.onCommentCreated("post");
+        ranking.refresh();
+        ranking.remove("post");
+        ranking.refresh();
+
+        assertThat(ranking.page(HotWindow.WEEK, null, 10)
+                .postIds()).isEmpty();
+    }
+
+    @Test
+    void 잘못된_커서는_잘못된_요청_예외가_발생한다() {
+        assertThatThrownBy(() -> ranking.page(HotWindow.ALL, "not-a-cursor", 10))
+                .isInstanceOf(BaseException.class);
+        // 구분자가 없는 커서도 인덱스 예외 없이 잘못된 요청
+        String noSeparator = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString("12".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> ranking.page(HotWindow.ALL, noSeparator, 10))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    void 다른_인스턴스가_발급한_커서는_거절한다() {
+        HotPostRanking other = new HotPostRanking(mongoTemplate, 12, 1, 5, 10, 1000);
+        for (int i = 0; i < 3; i++) {
+            ranking.onViewsApplied(Map.of("post" + i, (long) (10 - i)));
+            other.onViewsApplied(Map.of("post" + i, (long) (10 - i)));
+        }
+        ranking.refresh();
+        other.refresh();
+
+        String cursor = other.page(HotWindow.ALL, null, 1)
+                .nextCursor();
+
+        assertThatThrownBy(() -> ranking.page(HotWindow.ALL, cursor, 1))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    void 보관_세대가_지난_커서는_거절한다() {
+        for (int i = 0; i < 3; i++) {
+            ranking.onViewsApplied(Map.of("post" + i, (long) (10 - i)));
+        }
+        ranking.refresh();
+        String cursor = ranking.page(HotWindow.ALL, null, 1)
+                .nextCursor();
+        for (int i = 0; i < 20; i++) {
+            ranking.refresh();
+        }
+
+        assertThatThrownBy(() -> ranking.page(HotWindow.ALL, cursor, 1))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    void 페이지_크기는_허용_범위로_조정된다() {
+        for (int i = 0; i < 200; i++) {
+            ranking.onViewsApplied(Map.of("post" + i, (long) (1000 - i)));
+        }
+        ranking.refresh();
+
+        // 0 이면 기본 크기 (같은 위치를 가리키는 커서가 반복되지 않음), 상한을 넘으면 최대 크기
+        HotPostRanking.RankingPage empty = ranking.page(HotWindow.ALL, null, 0);
+        assertThat(empty.postIds()).hasSize(10);
+        assertThat(ranking.page(HotWindow.ALL, empty.nextCursor(), 0)
+                .postIds()).first()
+                .isEqualTo("post10");
+        assertThat(ranking.page(HotWindow.ALL, null, 10_000)
+                .postIds()).hasSize(100);
+    }
+}
@@ -0,0 +1,178 @@
+package study.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import study.common.lib.exception.BaseException;
+import study.content.common.concurrent.FanoutExecutor;
+import study.content.entity.Like.TargetType;
+import study.content.entity.Post;
+import study.content.repository.CommentRepository;
+import study.content.repository.LikeRepository;
+import study.content.repository.PostRepository;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LikeService 좋아요 설정/해제/토글 테스트
+ * likes 컬렉션을 메모리 Set 으로 흉내 내고, 카운터 증감이 실제 문서 수와 일치하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LikeServiceTest {
+
+    private static final String POST_ID = "post-1";
+    private static final String USERNAME = "tester";
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private HotPostRanking hotPostRanking;
+
+    private final Set<String> likes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong counter = new AtomicLong();
+
+    private LikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        likeService = new LikeService(likeRepository, postRepository, commentRepository, likeCountBuffer, hotPostRanking,
+                new FanoutExecutor(Runnable::run, () -> {
+                }));
+
+        when(postRepository.findActivePostById(POST_ID)).thenReturn(Optional.of(Post.builder()
+                .id(POST_ID)
+                .build()));
+        // 유니크 인덱스가 없는 것처럼 check-then-act 로 흉내 → 직렬화되지 않으면 카운터가 어긋남
+        when(likeRepository.insertIfAbsent(eq(POST_ID), eq(TargetType.POST), eq(USERNAME))).thenAnswer(invocation -> {
+            if (likes.contains(USERNAME)) {
+                return false;
+            }
+            Thread.yield();
+            return likes.add(USERNAME);
+        });
+        when(likeRepository.deleteByTargetIdAndTargetTypeAndUsername(POST_ID, TargetType.POST, USERNAME)).thenAnswer(invocation -> {
+            if (!likes.contains(USERNAME)) {
+                return 0L;
+            }
+            Thread.yield();
+            return likes.remove(USERNAME) ? 1L : 0L;
+        });
+        doAnswer(invocation -> counter.addAndGet(invocation.getArgument(2)))
+                .when(likeCountBuffer)
+                .increment(eq(TargetType.POST), eq(POST_ID), anyLong());
+    }
+
+    @Test
+    void 좋아요_설정은_여러_번_호출해도_한_번만_반영된다() {
+        likeService.like(POST_ID, TargetType.POST, USERNAME);
+        likeService.like(POST_ID, TargetType.POST, USERNAME);
+
+        assertThat(likes).containsExactly(USERNAME);
+        verify(likeCountBuffer, times(1)).increment(TargetType.POST, POST_ID, 1);
+        verify(likeRepository, never()).existsByTargetIdAndTargetTypeAndUsername(POST_ID, TargetType.POST, USERNAME);
+    }
+
+    @Test
+    void 좋아요가_없을_때_해제하면_카운터가_변하지_않는다() {
+        likeService.unlike(POST_ID, TargetType.POST, USERNAME);
+
+        assertThat(counter.get()).isZero();
+        verify(likeRepository, never()).insertIfAbsent(POST_ID, TargetType.POST, USERNAME);
+    }
+
+    @Test
+    void 토글은_삭제가_없으면_생성한다() {
+        assertThat(likeService.toggleLike(POST_ID, TargetType.POST, USERNAME)).isTrue();
+        assertThat(likeService.toggleLike(POST_ID, TargetType.POST, USERNAME)).isFalse();
+
+        assertThat(likes).isEmpty();
+        assertThat(counter.get()).isZero();
+    }
+
+    @Test
+    void 토글로_해제할_때는_대상_조회_없이_삭제만_한다() {
+        likes.add(USERNAME);
+        counter.set(1);
+
+        assertThat(likeService.toggleLike(POST_ID, TargetType.POST, USERNAME)).isFalse();
+
+        assertThat(counter.get()).isZero();
+        verify(postRepository, never()).findActivePostById(POST_ID);
+        verify(likeRepository, never()).insertIfAbsent(POST_ID, TargetType.POST, USERNAME);
+    }
+
+    @Test
+    void 없는_대상을_토글하면_좋아요를_생성하지_않는다() {
+        when(postRepository.findActivePostById("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> likeService.toggleLike("missing", TargetType.POST, USERNAME))
+                .isInstanceOf(BaseException.class);
+
+        verify(likeRepository, never()).insertIfAbsent("missing", TargetType.POST, USERNAME);
+        verify(likeCountBuffer, never()).increment(eq(TargetType.POST), eq("missing"), anyLong());
+    }
+
+    @Test
+    void 같은_사용자의_동시_요청은_직렬화되어_카운터가_문서_수와_일치한다() throws Exception {
+        int requests = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            int n = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    switch (n % 3) {
+                        case 0 -> likeService.like(POST_ID, TargetType.POST, USERNAME);
+                        case 1 -> likeService.unlike(POST_ID, TargetType.POST, USERNAME);
+                        default -> likeService.toggleLike(POST_ID, TargetType.POST, USERNAME);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(counter.get()).isEqualTo(likes.size());
+    }
+}
@@ -0,0 +1,168 @@
+package study.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import study.content.dto.post.PostSummaryResponse;
+import study.content.entity.Post;
+import study.content.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인기 게시글 리더보드 테스트
+ * 풀(상위 5개) 중 상위 3개를 스냅샷으로 제공
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PopularPostLeaderboardTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private PopularPostLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        ShardedPostCounter shardedPostCounter = new ShardedPostCounter(mongoTemplate, Long.MAX_VALUE, 16, 300_000);
+        leaderboard = new PopularPostLeaderboard(postRepository, uniqueViewerCounter, shardedPostCounter, 3, 5);
+
+        // 조회수 100, 90, ..., 60 인 게시글 5개로 시드
+        List<Post> seeded = IntStream.range(0, 5)
+                .mapToObj(i -> post("post-" + i, 100 - i * 10))
+                .toList();
+        when(postRepository.findActivePosts(any(Pageable.class))).thenReturn(seeded);
+        when(uniqueViewerCounter.estimates(anyCollection())).thenReturn(Map.of());
+
+        leaderboard.seed();
+    }
+
+    @Test
+    void 시드_후_조회수_상위_K개를_제공한다() {
+        assertThat(ids(leaderboard.snapshot())).containsExactly("post-0", "post-1", "post-2");
+    }
+
+    @Test
+    void 조회수_반영에_따라_순위가_바뀐다() {
+        leaderboard.onViewsApplied(Map.of("post-4", 50L));
+
+        assertThat(ids(leaderboard.snapshot())).containsExactly("post-4", "post-0", "post-1");
+        assertThat(leaderboard.snapshot()
+                .get(0)
+                .getViewCount()).isEqualTo(110);
+    }
+
+    @Test
+    void 풀_밖_게시글은_최저_점수를_넘을_수_있을_때만_조회해서_편입한다() {
+        when(postRepository.findActivePostsByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.contains("new-post") ? List.of(post("new-post", 200)) : List.of();
+        });
+
+        leaderboard.onViewsApplied(Map.of("new-post", 1L));
+
+        assertThat(ids(leaderboard.snapshot())).containsExactly("new-post", "post-0", "post-1");
+        verify(postRepository, times(1)).findActivePostsByIds(anyCollection());
+    }
+
+    @Test
+    void 한_번_조회한_풀_밖_게시글은_다시_조회하지_않는다() {
+        when(postRepository.findActivePostsByIds(anyCollection())).thenReturn(List.of(post("cold-post", 1)));
+
+        leaderboard.onViewsApplied(Map.of("cold-post", 1L));
+        leaderboard.onViewsApplied(Map.of("cold-post", 1L));
+
+        verify(postRepository, times(1)).findActivePostsByIds(anyCollection());
+        assertThat(ids(leaderboard.snapshot())).doesNotContain("cold-post");
+    }
+
+    @Test
+    void 삭제된_게시글은_즉시_빠진다() {
+        leaderboard.remove("post-1");
+
+        assertThat(ids(leaderboard.snapshot())).containsExactly("post-0", "post-2", "post-3");
+        verify(postRepository, never()).findActivePostsByIds(anyCollection());
+    }
+
+    @Test
+    void 시드_조회_중에_반영된_증가분은_유실되지_않는다() {
+        List<Post> reseeded = IntStream.range(0, 5)
+                .mapToObj(i -> post("post-" + i, 100 - i * 10))
+                .toList();
+        // 조회 결과(증가 전 값)를 돌려주기 전에 증가분 반영이 끼어듦
+        when(postRepository.findActivePosts(any(Pageable.class))).thenAnswer(invocation -> {
+            leaderboard.onViewsApplied(Map.of("post-4", 50L));
+            return reseeded;
+        });
+
+        leaderboard.seed();
+
+        assertThat(ids(leaderboard.snapshot())).containsExactly("post-4", "post-0", "post-1");
+        assertThat(leaderboard.snapshot()
+                .get(0)
+                .getViewCount()).isEqualTo(110);
+    }
+
+    @Test
+    void 시드_조회_중에_삭제된_게시글은_다시_들어오지_않는다() {
+        List<Post> reseeded = IntStream.range(0, 5)
+                .mapToObj(i -> post("post-" + i, 100 - i * 10))
+                .toList();
+        when(postRepository.findActivePosts(any(Pageable.class))).thenAnswer(invocation -> {
+            leaderboard.remove("post-0");
+            return reseeded;
+        });
+
+        leaderboard.seed();
+
+        assertThat(ids(leaderboard.snapshot())).containsExactly("post-1", "post-2", "post-3");
+    }
+
+    @Test
+    void 스냅샷은_불변이다() {
+        List<PostSummaryResponse> snapshot = leaderboard.snapshot();
+
+        assertThatThrownBy(() -> snapshot.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private List<String> ids(List<PostSummaryResponse> responses) {
+        return responses.stream()
+                .map(PostSummaryResponse::getId)
+                .toList();
+    }
+
+    private Post post(String id, int viewCount) {
+        return Post.builder()
+                .id(id)
+                .title(id)
+                .viewCount(viewCount)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
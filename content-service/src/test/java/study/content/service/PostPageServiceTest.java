@@ -0,0 +1,140 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import study.common.lib.exception.BaseException;
+import study.common.lib.exception.ErrorCode;
+import study.common.lib.response.PageResponse;
+import study.content.common.concurrent.FanoutExecutor;
+import study.content.dto.comment.CommentResponse;
+import study.content.dto.comment.LikeResponse;
+import study.content.dto.post.PostPageResponse;
+import study.content.dto.post.PostResponse;
+import study.content.entity.Like.TargetType;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * PostPageService 상세 화면 병렬 조회 테스트
+ * 선택 구간(좋아요 정보/댓글)이 늦거나 실패해도 게시글은 제한 시간 안에 반환되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostPageServiceTest {
+
+    private static final String POST_ID = "post-1";
+    private static final String USERNAME = "tester";
+    private static final long DEADLINE_MS = 200;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private CommentService commentService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    private PostPageService postPageService;
+
+    @BeforeEach
+    void setUp() {
+        postPageService = new PostPageService(postService, likeService, commentService,
+                new FanoutExecutor(pool, pool::shutdownNow), new SimpleMeterRegistry(), DEADLINE_MS, 10);
+
+        when(postService.getPost(POST_ID, USERNAME, USERNAME)).thenReturn(PostResponse.builder()
+                .id(POST_ID)
+                .commentCount(2L)
+                .build());
+        when(likeService.getLikeInfo(POST_ID, TargetType.POST, USERNAME)).thenReturn(LikeResponse.builder()
+                .id(POST_ID)
+                .likeCount(5L)
+                .isLikedByCurrentUser(true)
+                .build());
+        when(commentService.getCommentThreads(eq(POST_ID), eq(0), eq(10), anyString(), anyInt(), eq(USERNAME)))
+                .thenReturn(PageResponse.<CommentResponse>builder()
+                        .content(List.of(CommentResponse.builder()
+                                .id("comment-1")
+                                .build()))
+                        .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void 모든_구간이_제한_시간_안에_끝나면_함께_반환한다() {
+        PostPageResponse page = postPageService.getPostPage(POST_ID, USERNAME, USERNAME);
+
+        assertThat(page.getPost()
+                .getCommentCount()).isEqualTo(2L);
+        assertThat(page.getLikeInfo()
+                .getLikeCount()).isEqualTo(5L);
+        assertThat(page.getComments()
+                .getContent()).hasSize(1);
+        assertThat(page.getMissingSections()).isEmpty();
+    }
+
+    @Test
+    void 댓글_조회가_제한_시간을_넘기면_댓글만_빼고_반환한다() {
+        when(commentService.getCommentThreads(eq(POST_ID), eq(0), eq(10), anyString(), anyInt(), eq(USERNAME)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return PageResponse.builder()
+                            .build();
+                });
+
+        long start = System.nanoTime();
+        PostPageResponse page = postPageService.getPostPage(POST_ID, USERNAME, USERNAME);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMs).isLessThan(DEADLINE_MS + 1000);
+        assertThat(page.getPost()).isNotNull();
+        assertThat(page.getLikeInfo()).isNotNull();
+        assertThat(page.getComments()).isNull();
+        assertThat(page.getMissingSections()).containsExactly(PostPageResponse.COMMENTS);
+    }
+
+    @Test
+    void 좋아요_정보_조회가_실패하면_좋아요_정보만_빼고_반환한다() {
+        when(likeService.getLikeInfo(POST_ID, TargetType.POST, USERNAME)).thenThrow(new IllegalStateException("timeout"));
+
+        PostPageResponse page = postPageService.getPostPage(POST_ID, USERNAME, USERNAME);
+
+        assertThat(page.getLikeInfo()).isNull();
+        assertThat(page.getComments()).isNotNull();
+        assertThat(page.getMissingSections()).containsExactly(PostPageResponse.LIKE_INFO);
+    }
+
+    @Test
+    void 게시글이_없으면_예외가_그대로_전달된다() {
+        when(postService.getPost(POST_ID, USERNAME, USERNAME)).thenThrow(new BaseException(ErrorCode.POST_NOT_FOUND));
+
+        assertThatThrownBy(() -> postPageService.getPostPage(POST_ID, USERNAME, USERNAME))
+                .isInstanceOf(BaseException.class);
+    }
+}
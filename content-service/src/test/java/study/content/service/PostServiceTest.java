@@ -0,0 +1,333 @@
+package study.content.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import study.common.lib.exception.BaseException;
+import study.common.lib.response.CursorPageResponse;
+import study.common.lib.util.KeysetCursor;
+import study.common.lib.util.TotalCountCache;
+import study.content.dto.post.PostDeletionResponse;
+import study.content.dto.post.PostResponse;
+import study.content.dto.post.PostSummaryResponse;
+import study.content.entity.Like.TargetType;
+import study.content.entity.Post;
+import study.content.entity.PostDeletionJob;
+import study.content.entity.PostDeletionJob.JobStatus;
+import study.content.repository.CommentRepository;
+import study.content.repository.LikeRepository;
+import study.content.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PostService 상세 조회 조회수 테스트
+ * 조회수는 viewCount $inc 로만 반영(버퍼 합산 후 bulkWrite)되고, 유실되지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostServiceTest {
+
+    private static final String POST_ID = "post-1";
+    private static final String AUTHOR = "author";
+    private static final int CASCADE_BATCH_SIZE = 1000;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @Mock
+    private PopularPostLeaderboard popularPostLeaderboard;
+
+    @Mock
+    private HotPostRanking hotPostRanking;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostTitleSuggester postTitleSuggester;
+
+    private final AtomicInteger storedViewCount = new AtomicInteger();
+
+    private ViewCountBuffer viewCountBuffer;
+    private LikeCountBuffer likeCountBuffer;
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        // 임계치를 높게 잡아 샤드 모드로 전환되지 않게 함 (게시글 문서 $inc 경로)
+        ShardedPostCounter shardedPostCounter = new ShardedPostCounter(mongoTemplate, Long.MAX_VALUE, 16, 300_000);
+        viewCountBuffer = new ViewCountBuffer(mongoTemplate, shardedPostCounter, popularPostLeaderboard, hotPostRanking, new SimpleMeterRegistry(), 10_000);
+        likeCountBuffer = new LikeCountBuffer(mongoTemplate, shardedPostCounter, new SimpleMeterRegistry(), 1_000);
+        TotalCountCache totalCountCache = new TotalCountCache(Duration.ofSeconds(30), 100);
+        PostCascadeDeleter postCascadeDeleter = new PostCascadeDeleter(mongoTemplate, commentRepository, likeRepository, totalCountCache, CASCADE_BATCH_SIZE, CASCADE_BATCH_SIZE);
+        PostLiveCounters postLiveCounters = new PostLiveCounters(shardedPostCounter, viewCountBuffer, likeCountBuffer);
+        postService = new PostService(postRepository, likeRepository, postLiveCounters, viewCountBuffer, uniqueViewerCounter, popularPostLeaderboard, hotPostRanking,
+                totalCountCache, postSearchIndex, postTitleSuggester,
+                new SearchResultCache(new SimpleMeterRegistry(), 100, 60_000, 0), postCascadeDeleter);
+
+        when(postRepository.findActivePostById(POST_ID)).thenAnswer(invocation -> Optional.of(Post.builder()
+                .id(POST_ID)
+                .title("title")
+                .viewCount(storedViewCount.get())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()));
+
+        // bulkWrite 의 $inc viewCount 를 저장값에 반영
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Post.class))).thenReturn(bulkOperations);
+        doAnswer(invocation -> {
+            Update update = invocation.getArgument(1);
+            Number delta = (Number) update.getUpdateObject()
+                    .get("$inc", Document.class)
+                    .get("viewCount");
+            storedViewCount.addAndGet(delta.intValue());
+            return bulkOperations;
+        }).when(bulkOperations)
+                .updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    void 동시에_1000명이_조회해도_조회수가_유실되지_않는다() throws Exception {
+        int viewers = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(viewers);
+
+        for (int i = 0; i < viewers; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    postService.getPost(POST_ID, null);
+                    if (ThreadLocalRandom.current()
+                            .nextInt(10) == 0) {
+                        // 조회 도중 flush 가 겹쳐도 중복/누락 없음
+                        viewCountBuffer.flush();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        viewCountBuffer.shutdown();
+
+        assertThat(storedViewCount.get()).isEqualTo(viewers);
+        verify(postRepository, never()).save(any());
+    }
+
+    @Test
+    void 응답_조회수는_저장값과_반영_대기_조회수의_합이다() {
+        storedViewCount.set(10);
+
+        postService.getPost(POST_ID, null);
+        PostResponse response = postService.getPost(POST_ID, null);
+
+        assertThat(response.getViewCount()).isEqualTo(12);
+        assertThat(storedViewCount.get()).isEqualTo(10);
+    }
+
+    @Test
+    void 응답_좋아요_수는_반영_대기_좋아요를_포함한다() {
+        likeCountBuffer.increment(TargetType.POST, POST_ID, 3);
+
+        PostResponse response = postService.getPost(POST_ID, null);
+
+        assertThat(response.getLikeCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void 같은_게시글_조회는_bulkWrite_한_번으로_합쳐진다() {
+        for (int i = 0; i < 100; i++) {
+            postService.getPost(POST_ID, null);
+        }
+
+        viewCountBuffer.flush();
+
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        assertThat(storedViewCount.get()).isEqualTo(100);
+        assertThat(viewCountBuffer.pending(POST_ID)).isZero();
+    }
+
+    @Test
+    void 커서_페이징은_마지막_항목_위치를_다음_커서로_이어서_조회한다() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Post> posts = IntStream.range(0, 3)
+                .mapToObj(i -> Post.builder()
+                        .id("post-" + i)
+                        .title("title")
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt)
+                        .build())
+                .toList();
+        when(postRepository.findActivePostsByCursor(null, 3)).thenReturn(posts);
+        when(postRepository.findActivePostsByCursor(new KeysetCursor(createdAt, "post-1"), 3)).thenReturn(posts.subList(2, 3));
+
+        CursorPageResponse<PostSummaryResponse> first = postService.getPostsByCursor(null, 2);
+        CursorPageResponse<PostSummaryResponse> second = postService.getPostsByCursor(first.getNextCursor(), 2);
+
+        assertThat(first.getContent()).extracting(PostSummaryResponse::getId)
+                .containsExactly("post-0", "post-1");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting(PostSummaryResponse::getId)
+                .containsExactly("post-2");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_잘못된_요청_예외가_발생한다() {
+        assertThatThrownBy(() -> postService.getPostsByCursor("not-a-cursor", 10))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    void 댓글이_적은_게시글_삭제는_댓글과_좋아요를_한_번에_일괄_처리한다() {
+        stubDeletablePost(3L);
+        when(commentRepository.findActiveCommentIdsByPostId("deleted", CASCADE_BATCH_SIZE)).thenReturn(commentIds(3));
+        when(likeRepository.deleteByTargetIds(anyCollection(), eq(TargetType.COMMENT))).thenReturn(5L);
+        when(commentRepository.softDeleteActive(anyCollection())).thenReturn(3L);
+
+        PostDeletionResponse result = postService.deletePost("deleted", AUTHOR);
+
+        assertThat(result.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(result.getDeletedComments()).isEqualTo(3);
+        assertThat(result.getDeletedCommentLikes()).isEqualTo(5);
+        verify(likeRepository, times(1)).deleteByTargetIds(commentIds(3), TargetType.COMMENT);
+        verify(commentRepository, times(1)).softDeleteActive(commentIds(3));
+        // 댓글마다 좋아요 삭제/문서 저장을 하지 않음
+        verify(likeRepository, never()).deleteByTargetIdAndTargetType(anyString(), eq(TargetType.COMMENT));
+        verify(commentRepository, never()).saveAll(anyIterable());
+        verify(postRepository, never()).save(any(Post.class));
+        verify(mongoTemplate, never()).save(any(PostDeletionJob.class));
+    }
+
+    @Test
+    void 댓글이_많은_게시글_삭제는_백그라운드로_넘기고_배치마다_진행_상황을_기록한다() {
+        stubDeletablePost(2_500L);
+        when(commentRepository.findActiveCommentIdsByPostId("deleted", CASCADE_BATCH_SIZE))
+                .thenReturn(commentIds(CASCADE_BATCH_SIZE))
+                .thenReturn(commentIds(CASCADE_BATCH_SIZE))
+                .thenReturn(commentIds(500));
+        when(commentRepository.softDeleteActive(anyCollection())).thenAnswer(invocation -> {
+            Collection<?> ids = invocation.getArgument(0);
+            return (long) ids.size();
+        });
+
+        PostDeletionResponse result = postService.deletePost("deleted", AUTHOR);
+
+        // 게시글은 요청 안에서 삭제, 댓글 정리는 응답 후 진행
+        assertThat(result.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(result.getExpectedComments()).isEqualTo(2_500);
+        verify(postRepository).softDeleteActive("deleted");
+        verify(mongoTemplate).save(any(PostDeletionJob.class));
+
+        verify(commentRepository, timeout(1_000).times(3)).softDeleteActive(anyCollection());
+        verify(mongoTemplate, timeout(1_000)).updateFirst(any(Query.class), argThat(update -> JobStatus.COMPLETED.equals(update.getUpdateObject()
+                .get("$set", Document.class)
+                .get("status"))), eq(PostDeletionJob.class));
+        verify(mongoTemplate, times(3)).updateFirst(any(Query.class), argThat(update -> update.getUpdateObject()
+                .containsKey("$inc")), eq(PostDeletionJob.class));
+    }
+
+    @Test
+    void 댓글_즉시_정리가_실패하면_FAILED_작업을_남겨_재시도_대상으로_둔다() {
+        stubDeletablePost(3L);
+        when(commentRepository.findActiveCommentIdsByPostId("deleted", CASCADE_BATCH_SIZE)).thenReturn(commentIds(3));
+        when(commentRepository.softDeleteActive(anyCollection())).thenThrow(new IllegalStateException("mongo down"));
+
+        PostDeletionResponse result = postService.deletePost("deleted", AUTHOR);
+
+        assertThat(result.getStatus()).isEqualTo(JobStatus.FAILED);
+        verify(postRepository).softDeleteActive("deleted");
+        verify(mongoTemplate).save(argThat((PostDeletionJob job) -> job.getStatus() == JobStatus.FAILED
+                && "deleted".equals(job.getPostId())));
+    }
+
+    @Test
+    void 다른_요청이_먼저_삭제한_게시글은_댓글을_정리하지_않는다() {
+        stubDeletablePost(3L);
+        when(postRepository.softDeleteActive("deleted")).thenReturn(false);
+
+        assertThatThrownBy(() -> postService.deletePost("deleted", AUTHOR))
+                .isInstanceOf(RuntimeException.class);
+        verify(commentRepository, never()).findActiveCommentIdsByPostId(anyString(), anyInt());
+    }
+
+    // ======================= 헬퍼 메서드 =======================
+
+    private void stubDeletablePost(long commentCount) {
+        when(postRepository.findActivePostById("deleted")).thenReturn(Optional.of(Post.builder()
+                .id("deleted")
+                .title("title")
+                .author(AUTHOR)
+                .commentCount(commentCount)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()));
+        when(postRepository.softDeleteActive("deleted")).thenReturn(true);
+    }
+
+    private List<String> commentIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "comment-" + i)
+                .toList();
+    }
+}
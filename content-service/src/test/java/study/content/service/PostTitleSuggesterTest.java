@@ -0,0 +1,104 @@
+package study.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import study.content.common.search.PrefixSuggestIndex.Entry;
+import study.content.entity.Post;
+import study.content.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * 제목 자동완성 테스트
+ * 빌드된 트리 + 작성/수정/삭제 변경분 병합 확인
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostTitleSuggesterTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostTitleSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new PostTitleSuggester(postRepository, 10, 1_000, 100, 5);
+        when(postRepository.findActiveTitlesByCursor(isNull(), anyInt())).thenReturn(List.of(
+                post("post-1", "스프링 캐시 정리", 100, 0),
+                post("post-2", "스프링 배치 질문", 10, 10)
+        ));
+        suggester.rebuild();
+    }
+
+    @Test
+    void 인기_가중치_순으로_반환한다() {
+        assertThat(titles("스프"))
+                .containsExactly("스프링 캐시 정리", "스프링 배치 질문");
+    }
+
+    @Test
+    void 작성한_게시글은_재빌드_전에도_반환한다() {
+        suggester.onPostSaved(post("post-3", "스프링 시큐리티", 1_000, 0));
+
+        assertThat(titles("싴")).containsExactly("스프링 시큐리티");
+        assertThat(titles("스프")).first()
+                .isEqualTo("스프링 시큐리티");
+    }
+
+    @Test
+    void 수정하면_이전_제목으로는_반환하지_않는다() {
+        suggester.onPostSaved(post("post-1", "몽고디비 인덱스", 100, 0));
+
+        assertThat(titles("스프")).containsExactly("스프링 배치 질문");
+        assertThat(titles("몽고")).containsExactly("몽고디비 인덱스");
+    }
+
+    @Test
+    void 삭제한_게시글은_반환하지_않는다() {
+        suggester.onPostDeleted("post-2");
+
+        assertThat(titles("스프")).containsExactly("스프링 캐시 정리");
+    }
+
+    @Test
+    void 재빌드_후에는_재빌드_이전_변경분을_정리한다() {
+        suggester.onPostDeleted("post-2");
+        when(postRepository.findActiveTitlesByCursor(any(), anyInt())).thenReturn(List.of(
+                post("post-1", "스프링 캐시 정리", 100, 0)
+        ));
+
+        suggester.rebuild();
+
+        assertThat(titles("스프")).containsExactly("스프링 캐시 정리");
+    }
+
+    private List<String> titles(String prefix) {
+        return suggester.suggest(prefix, 10)
+                .stream()
+                .map(Entry::title)
+                .toList();
+    }
+
+    private Post post(String id, String title, int views, long likes) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .viewCount(views)
+                .likeCount(likes)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package study.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import study.content.entity.PostViewerSketch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * UniqueViewerCounter 세그먼트 락 테스트
+ * 여러 게시글을 동시에 기록/추정해도 게시글별 추정값이 섞이거나 유실되지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UniqueViewerCounterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private UniqueViewerCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(PostViewerSketch.class)).thenReturn("post_viewer_sketches");
+        when(mongoTemplate.find(any(Query.class), eq(PostViewerSketch.class))).thenReturn(List.of());
+        counter = new UniqueViewerCounter(mongoTemplate, 2_000);
+    }
+
+    @Test
+    void 여러_게시글을_동시에_기록하고_추정해도_게시글별_값이_유지된다() throws Exception {
+        int posts = 32;
+        int viewersPerPost = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(posts);
+        List<String> postIds = IntStream.range(0, posts)
+                .mapToObj(i -> "post-" + i)
+                .toList();
+
+        for (String postId : postIds) {
+            executor.execute(() -> {
+                for (int v = 0; v < viewersPerPost; v++) {
+                    counter.record(postId, "user:" + v);
+                    if (v % 100 == 0) {
+                        counter.estimates(postIds);
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Map<String, Long> estimates = counter.estimates(postIds);
+        assertThat(estimates).hasSize(posts);
+        // HLL(p=14) 표준 오차 약 0.8% → 5% 이내
+        estimates.values()
+                .forEach(estimate -> assertThat(estimate).isBetween(950L, 1_050L));
+    }
+
+    @Test
+    void 추정_후_새_조회자가_기록되면_다시_계산한다() {
+        counter.record("post-1", "user:a");
+        assertThat(counter.estimate("post-1")).isEqualTo(1L);
+
+        counter.record("post-1", "user:b");
+        counter.record("post-1", "user:a");
+
+        assertThat(counter.estimate("post-1")).isEqualTo(2L);
+    }
+}
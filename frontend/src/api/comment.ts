@@ -109,6 +109,25 @@ export const commentApi = {
         return await apiClient.get(`/api/posts/${postId}/comments`, {params})
     },
 
+    /**
+     * 특정 게시글의 댓글 스레드 조회 (댓글별 대댓글 수 + 앞쪽 대댓글 미리보기 포함)
+     * @param postId 게시글 ID
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (기본 10개)
+     * @param sort 정렬 방식 (LATEST: 최신순, OLDEST: 오래된순)
+     * @param replies 댓글별 대댓글 미리보기 개수 (최대 10개)
+     */
+    getCommentThreads: async (
+        postId: string,
+        page = 0,
+        size = 10,
+        sort: CommentSortType = 'LATEST',
+        replies = 3
+    ): Promise<ResponseVO<PageResponse<CommentResponse>>> => {
+        const params = {page, size, sort, replies}
+        return await apiClient.get(`/api/posts/${postId}/comments/thread`, {params})
+    },
+
     /**
      * 특정 댓글의 대댓글 목록 조회 (정렬 지원)
      * @param postId 게시글 ID
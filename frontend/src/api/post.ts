@@ -1,5 +1,5 @@
 import axios from "axios";
-import {LikeResponse, PageResponse, PostRequest, PostResponse, ResponseVO} from "@/types/api.ts";
+import {BulkLikeResponse, LikeResponse, PageResponse, PostDeletionResponse, PostPageResponse, PostRequest, PostResponse, PostSuggestion, PostSummaryResponse, ResponseVO} from "@/types/api.ts";
 
 // 백엔드 API 기본 설정
 const API_BASE_URL = 'http://localhost:9082'
@@ -46,7 +46,7 @@ export const postApi = {
      * @param size 페이지 크기
      * @param keyword 검색 키워드(선택)
      */
-    getPosts: async (page = 0, size = 10, keyword = ''): Promise<ResponseVO<PageResponse<PostResponse>>> => {
+    getPosts: async (page = 0, size = 10, keyword = ''): Promise<ResponseVO<PageResponse<PostSummaryResponse>>> => {
         const params: any = {page, size}
         if (keyword) {
             return await apiClient.get('/api/posts/search', {params: {...params, keyword}})
@@ -54,6 +54,15 @@ export const postApi = {
         return await apiClient.get('/api/posts', {params})
     },
 
+    /**
+     * 게시글 제목 자동완성 (입력 중인 음절도 자모 단위로 매칭)
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 개수
+     */
+    suggestTitles: async (prefix: string, size = 10): Promise<ResponseVO<PostSuggestion[]>> => {
+        return await apiClient.get('/api/posts/suggest', {params: {prefix, size}})
+    },
+
     /**
      * 게시글 상세 조회
      * @param id 게시글 ID
@@ -62,6 +71,14 @@ export const postApi = {
         return await apiClient.get(`/api/posts/${id}`)
     },
 
+    /**
+     * 게시글 상세 화면 조회 (게시글 + 좋아요 정보 + 첫 댓글 페이지)
+     * @param id 게시글 ID
+     */
+    getPostPage: async (id: string): Promise<ResponseVO<PostPageResponse>> => {
+        return await apiClient.get(`/api/posts/${id}/page`)
+    },
+
     /**
      * 게시글 생성
      * @param postData 게시글 데이터
@@ -83,10 +100,18 @@ export const postApi = {
      * 게시글 삭제
      * @param id 게시글 ID
      */
-    deletePost: async (id: string): Promise<ResponseVO<void>> => {
+    deletePost: async (id: string): Promise<ResponseVO<PostDeletionResponse>> => {
         return await apiClient.delete(`/api/posts/${id}`)
     },
 
+    /**
+     * 게시글 삭제 진행 상황 (댓글 정리가 백그라운드로 넘어간 경우)
+     * @param id 게시글 ID
+     */
+    getDeletionProgress: async (id: string): Promise<ResponseVO<PostDeletionResponse>> => {
+        return await apiClient.get(`/api/posts/${id}/deletion`)
+    },
+
     /**
      * 게시글 좋아요 토글
      * @param id 게시글 ID
@@ -103,6 +128,14 @@ export const postApi = {
         return await apiClient.post(`/api/posts/bulk-like-counts`, postIds)
     },
 
+    /**
+     * 게시글 좋아요 개수 + 내 좋아요 여부 일괄 조회
+     * @param postIds 게시글 ID 배열
+     */
+    getBulkLikeInfo: async (postIds: string[]): Promise<ResponseVO<BulkLikeResponse>> => {
+        return await apiClient.post(`/api/posts/bulk-like-info`, postIds)
+    },
+
     /**
      * 특정 게시글 좋아요 정보 조회
      * @param postId
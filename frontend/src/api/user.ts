@@ -1,6 +1,6 @@
 // 백엔드 API 기본 설정
 import axios from "axios";
-import {CommentResponse, PageResponse, PostResponse, ResponseVO, UserStatsResponse} from "@/types/api.ts";
+import {CommentResponse, PageResponse, PostSummaryResponse, ResponseVO, UserStatsResponse} from "@/types/api.ts";
 
 const API_BASE_URL = 'http://localhost:9082'
 
@@ -51,7 +51,7 @@ export const userApi = {
      * @param page
      * @param size
      */
-    getMyPosts: async (page = 0, size = 10): Promise<ResponseVO<PageResponse<PostResponse>>> => {
+    getMyPosts: async (page = 0, size = 10): Promise<ResponseVO<PageResponse<PostSummaryResponse>>> => {
         const params = {page, size}
         return await apiClient.get('/api/users/my-posts', {params})
     },
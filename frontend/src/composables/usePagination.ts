@@ -27,7 +27,14 @@ export const usePagination = (initialPageSize = 10) => {
      * @param response
      */
     const updateFromResponse = <T>(response: PageResponse<T>) => {
-        totalElements.value = response.totalElements
+        if (response.totalType === 'NONE' || response.totalPages === undefined) {
+            // 전체 개수를 세지 않는 응답: 지금까지 본 범위 + 다음 페이지 여부로 계산
+            const seen = response.page * response.size + response.content.length
+            totalElements.value = response.hasNext ? seen + 1 : seen
+            totalPages.value = response.hasNext ? response.page + 2 : response.page + 1
+            return
+        }
+        totalElements.value = response.totalElements ?? 0
         totalPages.value = response.totalPages
     }
 
@@ -43,10 +43,12 @@ export interface PageResponse<T> {
     page: number
     /* 페이지 크기 */
     size: number
-    /* 전체 요소 수 */
-    totalElements: number
-    /* 전체 페이지 수 */
-    totalPages: number
+    /* 전체 요소 수 (totalType 이 NONE 이면 없음) */
+    totalElements?: number
+    /* 전체 페이지 수 (totalType 이 NONE 이면 없음) */
+    totalPages?: number
+    /* 전체 개수 정확도 (EXACT: 정확, ESTIMATED: 캐시된 추정치, NONE: 세지 않음) */
+    totalType?: 'EXACT' | 'ESTIMATED' | 'NONE'
     /* 첫 페이지 여부 */
     first: boolean
     /* 마지막 페이지 여부 */
@@ -70,11 +72,64 @@ export interface PostResponse {
     updatedAt: string
     author: string
     viewCount?: number
+    uniqueViewers?: number   // 고유 조회자 수 (추정값)
     likeCount?: number
     commentCount?: number
     isLikedByCurrentUser?: boolean
 }
 
+/**
+ * 게시글 목록 항목 타입 (본문 대신 평문 발췌문)
+ */
+export interface PostSummaryResponse {
+    id: string
+    title: string
+    excerpt?: string         // 본문 앞부분 평문 발췌문
+    category: string
+    createdAt: string
+    updatedAt: string
+    author: string
+    viewCount?: number
+    uniqueViewers?: number   // 고유 조회자 수 (추정값)
+    highlightedTitle?: string   // 검색 결과 하이라이트 (이스케이프된 HTML, 매칭 구간 <em>)
+    highlightedContent?: string // 검색 결과 본문 스니펫 (이스케이프된 HTML)
+    likeCount?: number
+    commentCount?: number
+    isLikedByCurrentUser?: boolean
+}
+
+/**
+ * 게시글 삭제 결과 / 진행 상황 (댓글이 많으면 RUNNING 으로 응답 후 백그라운드 처리)
+ */
+export interface PostDeletionResponse {
+    postId: string
+    status: 'RUNNING' | 'COMPLETED' | 'FAILED'
+    expectedComments: number
+    deletedComments: number
+    deletedCommentLikes: number
+    startedAt: string
+    finishedAt?: string
+}
+
+/**
+ * 게시글 상세 화면 (게시글 + 좋아요 정보 + 첫 댓글 페이지)
+ * 제한 시간 안에 조회되지 않은 구간은 비어 있고 missingSections 에 이름이 들어감
+ */
+export interface PostPageResponse {
+    post: PostResponse
+    likeInfo?: LikeResponse
+    comments?: PageResponse<CommentResponse>
+    missingSections: Array<'likeInfo' | 'comments'>
+}
+
+/**
+ * 게시글 제목 자동완성 항목
+ */
+export interface PostSuggestion {
+    id: string
+    title: string
+}
+
 /**
  * 게시글 생성/수정 요청 타입
  */
@@ -106,6 +161,7 @@ export interface CommentResponse {
     canEdit?: boolean        // 수정 가능 여부
     canDelete?: boolean      // 삭제 가능 여부
     replyCount?: number      // 대댓글 개수
+    replies?: CommentResponse[] // 앞쪽 대댓글 미리보기 (스레드 조회)
 }
 
 /**
@@ -175,6 +231,16 @@ export interface LikeResponse {
     isLikedByCurrentUser: boolean
 }
 
+/**
+ * 좋아요 일괄 조회 응답 타입
+ */
+export interface BulkLikeResponse {
+    /* 대상 ID별 좋아요 개수 */
+    likeCounts: Record<string, number>
+    /* 대상 ID별 현재 사용자 좋아요 여부 (비로그인 시 없음) */
+    likedByCurrentUser?: Record<string, boolean>
+}
+
 // ======================= 사용자 타입 =======================
 
 /**